@@ -0,0 +1,109 @@
+package org.example.lecture.benchmark;
+
+import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [신청 경로 벤치마크]
+ * - 좌석 예약 전략별로 동기 신청 경로(LectureApplicationFacade.applyToLecture → ApplyLectureUsecase.execute)의 처리량 / 지연 시간을 측정.
+ * - singleSlot_*: 하나의 슬롯에 1 / 8 / 64 / 512 스레드가 동시에 신청 (락 경합)
+ * - manySlots_*: slotCount 개의 슬롯에 신청을 고르게 분산 (경합 없음에 가까운 기준선)
+ * - 정원이 차서 실패하는 비용이 섞이지 않도록 정원을 충분히 크게 두고, 매 호출마다 새 사용자 ID로 신청.
+ * - 슬롯의 좌석 상태(인메모리 카운터, 샤드 행)는 측정 전에 미리 적재하여 첫 신청의 적재 비용이 섞이지 않게 한다.
+ * - 실패(충돌 재시도 초과, 대기열 초과 등)는 벤치마크를 중단하지 않고 보조 카운터(applied / failed)로 집계하여 결과에 함께 기록.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApplyContentionBenchmark {
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL_UPDATE", "IN_MEMORY", "SHARDED"})
+    public String strategy;
+
+    @Param({"256"})
+    public int slotCount;
+
+    private ConfigurableApplicationContext context;
+    private LectureApplicationFacade lectureApplicationFacade;
+    private Long hotSlotId;
+    private List<Long> slotIds;
+    private final AtomicLong userIdSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--lecture.reservation.strategy=" + strategy);
+        lectureApplicationFacade = context.getBean(LectureApplicationFacade.class);
+        slotIds = BenchmarkContext.seedSlots(context, LocalDate.now(), slotCount, Integer.MAX_VALUE);
+        BenchmarkContext.preloadSlots(context, slotIds);
+        hotSlotId = slotIds.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object singleSlot_1Thread(ApplyOutcome outcome) {
+        return apply(hotSlotId, outcome);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object singleSlot_8Threads(ApplyOutcome outcome) {
+        return apply(hotSlotId, outcome);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object singleSlot_64Threads(ApplyOutcome outcome) {
+        return apply(hotSlotId, outcome);
+    }
+
+    @Benchmark
+    @Threads(512)
+    public Object singleSlot_512Threads(ApplyOutcome outcome) {
+        return apply(hotSlotId, outcome);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object manySlots_64Threads(ApplyOutcome outcome) {
+        return apply(slotIds.get(ThreadLocalRandom.current().nextInt(slotIds.size())), outcome);
+    }
+
+    private Object apply(Long lectureSlotId, ApplyOutcome outcome) {
+        try {
+            Object result = lectureApplicationFacade.applyToLecture(userIdSequence.incrementAndGet(), lectureSlotId);
+            outcome.applied++;
+            return result;
+        } catch (RuntimeException ex) {
+            outcome.failed++;
+            return ex;
+        }
+    }
+
+    /**
+     * 스레드별 신청 성공 / 실패 수 (JMH 보조 카운터, 반복마다 초기화)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ApplyOutcome {
+        public long applied;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            applied = 0;
+            failed = 0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.lecture.benchmark;
+
+import org.example.lecture.LectureApplication;
+import org.example.lecture.application.reservation.ReservationStrategyType;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotShardRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * [벤치마크용 애플리케이션 컨텍스트]
+ * - 임베디드 H2 메모리 DB로 애플리케이션을 기동하고, 벤치마크에 필요한 강의 / 슬롯 데이터를 적재.
+ * - 설정은 커맨드라인 인자로 전달하여 application.yml(H2 TCP 서버)보다 우선 적용.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:lecture-bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.main.banner-mode=off",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(LectureApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * 특정 날짜에 슬롯을 생성하고 카탈로그를 다시 적재
+     * @return 생성된 슬롯 ID 목록
+     */
+    static List<Long> seedSlots(ConfigurableApplicationContext context, LocalDate date, int slotCount, int capacity) {
+        LectureRepository lectureRepository = context.getBean(LectureRepository.class);
+        LectureSlotRepository lectureSlotRepository = context.getBean(LectureSlotRepository.class);
+        LectureSlotStatusRepository lectureSlotStatusRepository = context.getBean(LectureSlotStatusRepository.class);
+
+        Lecture lecture = lectureRepository.save(Lecture.builder()
+                .name("벤치마크 특강")
+                .instructor("벤치마크 강사")
+                .description("벤치마크 특강 설명")
+                .maxCapacity(capacity)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        List<LectureSlot> slots = lectureSlotRepository.saveAll(Stream.generate(() -> LectureSlot.builder()
+                        .lecture(lecture)
+                        .capacity(capacity)
+                        .date(date)
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build())
+                .limit(slotCount)
+                .toList());
+
+        lectureSlotStatusRepository.saveAll(slots.stream()
+                .map(slot -> LectureSlotStatus.builder()
+                        .lectureSlot(slot)
+                        .status(LectureSlotStatusType.OPEN)
+                        .currentApplicants(0)
+                        .lastUpdatedAt(LocalDateTime.now())
+                        .build())
+                .toList());
+
+        context.getBean(LectureCatalogService.class).reload();
+        return slots.stream().map(LectureSlot::getSlotId).toList();
+    }
+
+    /**
+     * 선택된 좌석 예약 전략으로 슬롯의 좌석 상태를 미리 적재
+     * - SHARDED 전략은 샤드 행이 만들어졌는지 확인하여, 만들 수 없으면 측정 전에 실패한다.
+     */
+    static void preloadSlots(ConfigurableApplicationContext context, List<Long> slotIds) {
+        SeatReservationEngine seatReservationEngine = context.getBean(SeatReservationEngine.class);
+        slotIds.forEach(seatReservationEngine::preload);
+        if (seatReservationEngine.getStrategyType() == ReservationStrategyType.SHARDED) {
+            LectureSlotShardRepository lectureSlotShardRepository = context.getBean(LectureSlotShardRepository.class);
+            for (Long slotId : slotIds) {
+                if (lectureSlotShardRepository.findBySlotIdOrderByShardIndex(slotId).isEmpty()) {
+                    throw new IllegalStateException("샤드 행이 생성되지 않았습니다: slotId=" + slotId);
+                }
+            }
+        }
+    }
+}
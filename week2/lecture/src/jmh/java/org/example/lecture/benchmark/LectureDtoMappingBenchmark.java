@@ -0,0 +1,60 @@
+package org.example.lecture.benchmark;
+
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
+import org.example.lecture.domain.lecture.LectureSlotStatusSnapshot;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.interfaces.dto.LectureResponseDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [조회 결과 매핑 벤치마크]
+ * - DB / 캐시 접근 없이 조회 경로의 순수 매핑 비용만 측정.
+ * - mergeCatalogAndStatus: 카탈로그 슬롯 + 상태 스냅샷 → LectureSlotDetail
+ * - toResponseDTOs: LectureSlotDetail → LectureResponseDTO
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LectureDtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<CatalogSlot> catalogSlots;
+    private List<LectureSlotStatusSnapshot> statuses;
+    private List<LectureSlotDetail> details;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogLecture lecture = new CatalogLecture(1L, "벤치마크 특강", "벤치마크 강사", "벤치마크 특강 설명", 30);
+        catalogSlots = new ArrayList<>(size);
+        statuses = new ArrayList<>(size);
+        for (long slotId = 1; slotId <= size; slotId++) {
+            catalogSlots.add(new CatalogSlot(slotId, lecture, LocalDate.now(), 30, LocalDateTime.now()));
+            statuses.add(new LectureSlotStatusSnapshot(slotId, slotId, LectureSlotStatusType.OPEN, 10, LocalDateTime.now()));
+        }
+        details = mergeCatalogAndStatus();
+    }
+
+    @Benchmark
+    public List<LectureSlotDetail> mergeCatalogAndStatus() {
+        List<LectureSlotDetail> merged = new ArrayList<>(catalogSlots.size());
+        for (int i = 0; i < catalogSlots.size(); i++) {
+            merged.add(LectureSlotDetail.of(catalogSlots.get(i), statuses.get(i)));
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public List<LectureResponseDTO> toResponseDTOs() {
+        return details.stream().map(LectureResponseDTO::from).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.lecture.benchmark;
+
+import org.example.lecture.application.usecase.QueryLectureDetailsUsecase;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [날짜별 강의 목록 조회 벤치마크]
+ * - QueryLectureDetailsUsecase.execute(date)를 날짜당 슬롯 수(카탈로그 크기)별로 측정.
+ * - cacheEnabled=false는 조인 쿼리 한 번으로 조회하는 경로, true는 카탈로그 + 슬롯 상태 캐시 경로.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LectureListingQueryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int slotsPerDate;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private QueryLectureDetailsUsecase queryLectureDetailsUsecase;
+    private final LocalDate date = LocalDate.now();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--lecture.query.cache.enabled=" + cacheEnabled);
+        queryLectureDetailsUsecase = context.getBean(QueryLectureDetailsUsecase.class);
+        BenchmarkContext.seedSlots(context, date, slotsPerDate, 30);
+        // 다른 날짜의 슬롯도 적재하여 카탈로그 전체 크기가 조회 날짜보다 크도록 구성
+        BenchmarkContext.seedSlots(context, date.plusDays(1), slotsPerDate, 30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<?> listByDate_1Thread() {
+        return queryLectureDetailsUsecase.execute(date);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<?> listByDate_8Threads() {
+        return queryLectureDetailsUsecase.execute(date);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.lecture.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.application.service.LectureSlotStatusService;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
+import org.example.lecture.domain.lecture.LectureSlotStatusSnapshot;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * [날짜별 강의 슬롯 목록 캐시]
+ * - 특정 날짜의 강의 슬롯 목록 조회를 읽기 관통(read-through) 방식으로 캐싱.
+ * - 거의 바뀌지 않는 강의 / 슬롯 정보는 강의 카탈로그(LectureCatalogService)에서,
+ *   자주 바뀌는 신청자 수 / 상태는 슬롯 ID 키의 캐시에서 읽어 합친다.
+ * - 신청자 수 / 상태는 SlotStatusChangedEvent로 즉시 갱신(patch)되며,
+ *   이벤트를 놓치더라도 status-staleness-ms 가 지나면 만료되어 DB에서 다시 읽는다.
+ */
+@Component
+public class LectureSlotListingCache {
+
+    private final LectureSlotStatusService lectureSlotStatusService;
+    private final LectureCatalogService lectureCatalogService;
+    private final boolean enabled;
+    private final Cache<Long, LectureSlotStatusSnapshot> statusBySlotId;
+
+    public LectureSlotListingCache(LectureSlotStatusService lectureSlotStatusService,
+                                   LectureCatalogService lectureCatalogService,
+                                   @Value("${lecture.query.cache.enabled:true}") boolean enabled,
+                                   @Value("${lecture.query.cache.maximum-slots:100000}") long maximumSlots,
+                                   @Value("${lecture.query.cache.status-staleness-ms:1000}") long statusStalenessMs) {
+        this.lectureSlotStatusService = lectureSlotStatusService;
+        this.lectureCatalogService = lectureCatalogService;
+        this.enabled = enabled;
+        this.statusBySlotId = Caffeine.newBuilder()
+                .maximumSize(maximumSlots)
+                .expireAfterWrite(Duration.ofMillis(statusStalenessMs))
+                .build();
+    }
+
+    /**
+     * 특정 날짜의 강의 슬롯 상세 목록 조회
+     * - 카탈로그에 슬롯이 있고 모든 슬롯의 상태가 캐시에 있으면 DB를 조회하지 않는다.
+     * - 하나라도 상태가 만료되었으면 해당 날짜의 슬롯 상태를 한 번에 다시 읽는다.
+     */
+    public List<LectureSlotDetail> getSlotDetailsByDate(LocalDate date) {
+        if (!enabled) {
+            return lectureSlotStatusService.getSlotDetailsByDate(date);
+        }
+
+        List<CatalogSlot> slots = lectureCatalogService.getSlotsByDate(date);
+        if (!slots.isEmpty()) {
+            List<LectureSlotDetail> merged = mergeCachedStatus(slots);
+            if (merged != null) {
+                return merged;
+            }
+        }
+        return load(date, slots);
+    }
+
+    /**
+     * 슬롯 상태 변경 이벤트 반영
+     * - 트랜잭션 안에서 발행된 경우 커밋 이후에만 반영하여 롤백된 변경이 노출되지 않도록 한다.
+     * - 커밋 순서가 뒤바뀌어 도착해도 신청자 수가 줄어드는 방향으로는 덮어쓰지 않는다.
+     * - 캐시에 없는 슬롯은 다음 조회 시 DB에서 읽으므로 무시.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotStatusChanged(SlotStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        statusBySlotId.asMap().computeIfPresent(event.slotId(),
+                (slotId, current) -> event.currentApplicants() >= current.currentApplicants() ? current.apply(event) : current);
+    }
+
+    /**
+     * 좌석 반납 이벤트 반영
+     * - 취소로 신청자 수가 줄어든 변경이므로 현재 캐시 값보다 작더라도 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatReleased(SeatReleasedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        statusBySlotId.asMap().computeIfPresent(event.slotId(), (slotId, current) -> current.apply(event));
+    }
+
+    public void invalidateAll() {
+        statusBySlotId.invalidateAll();
+    }
+
+    /**
+     * 날짜의 슬롯 상태를 DB에서 읽어 캐시에 반영
+     * - 상태가 있는 슬롯 구성이 카탈로그와 다르면(슬롯 추가 / 삭제) 해당 날짜의 카탈로그도 다시 읽는다.
+     */
+    private List<LectureSlotDetail> load(LocalDate date, List<CatalogSlot> slots) {
+        Map<Long, LectureSlotStatusSnapshot> statuses = lectureSlotStatusService.getSlotStatusesByDate(date).stream()
+                .collect(Collectors.toMap(LectureSlotStatusSnapshot::slotId, Function.identity(), (first, second) -> first));
+        statusBySlotId.putAll(statuses);
+
+        Set<Long> catalogSlotIds = slots.stream().map(CatalogSlot::slotId).collect(Collectors.toSet());
+        if (!catalogSlotIds.equals(statuses.keySet())) {
+            slots = lectureCatalogService.reloadDate(date);
+        }
+
+        List<LectureSlotDetail> details = new ArrayList<>(slots.size());
+        for (CatalogSlot slot : slots) {
+            LectureSlotStatusSnapshot status = statuses.get(slot.slotId());
+            if (status != null) {
+                details.add(LectureSlotDetail.of(slot, status));
+            }
+        }
+        return details;
+    }
+
+    /**
+     * 카탈로그의 슬롯 정보에 캐시된 상태를 합친다. 상태가 없는 슬롯이 있으면 null 반환.
+     */
+    private List<LectureSlotDetail> mergeCachedStatus(List<CatalogSlot> slots) {
+        List<LectureSlotDetail> details = new ArrayList<>(slots.size());
+        for (CatalogSlot slot : slots) {
+            LectureSlotStatusSnapshot status = statusBySlotId.getIfPresent(slot.slotId());
+            if (status == null) {
+                return null;
+            }
+            details.add(LectureSlotDetail.of(slot, status));
+        }
+        return details;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.lecture.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.application.ApplicationAppliedEvent;
+import org.example.lecture.domain.application.UserApplicationSummary;
+import org.example.lecture.domain.application.UserApplicationsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * [사용자별 신청 완료 내역 캐시]
+ * - 사용자의 신청 완료 내역을 읽기 관통(read-through) 방식으로 캐싱하여, 다시 조회하는 사용자는 조인 없이 응답.
+ * - 새 신청이 완료되면 ApplicationAppliedEvent로 캐시된 목록에 바로 추가(강의 / 슬롯 정보는 카탈로그에서 읽음).
+ * - 취소 / 대기 승격처럼 목록이 다르게 바뀌면 해당 사용자의 캐시를 제거하여 다음 조회 시 DB에서 다시 읽는다.
+ */
+@Component
+public class UserApplicationHistoryCache {
+
+    private final ApplicationService applicationService;
+    private final LectureCatalogService lectureCatalogService;
+    private final boolean enabled;
+    private final Cache<Long, List<UserApplicationSummary>> completedByUserId;
+
+    public UserApplicationHistoryCache(ApplicationService applicationService,
+                                       LectureCatalogService lectureCatalogService,
+                                       @Value("${lecture.query.user-history-cache.enabled:true}") boolean enabled,
+                                       @Value("${lecture.query.user-history-cache.maximum-users:100000}") long maximumUsers,
+                                       @Value("${lecture.query.user-history-cache.ttl-ms:600000}") long ttlMs) {
+        this.applicationService = applicationService;
+        this.lectureCatalogService = lectureCatalogService;
+        this.enabled = enabled;
+        this.completedByUserId = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    /**
+     * 사용자의 신청 완료 내역 조회
+     * - 캐시에 없으면 조인 쿼리 한 번으로 읽어 캐시에 보관 (신청 내역이 없는 사용자도 빈 목록으로 보관).
+     */
+    public List<UserApplicationSummary> getCompletedApplications(Long userId) {
+        if (!enabled) {
+            return applicationService.getCompletedApplicationSummaries(userId);
+        }
+        return completedByUserId.get(userId, applicationService::getCompletedApplicationSummaries);
+    }
+
+    /**
+     * 신청 완료 이벤트 반영
+     * - 트랜잭션 안에서 발행된 경우 커밋 이후에만 반영하여 롤백된 신청이 노출되지 않도록 한다.
+     * - 캐시에 없는 사용자는 다음 조회 시 DB에서 읽으므로 무시.
+     * - 진행 중인 조회가 있으면 compute가 그 조회를 기다린 뒤 읽은 목록에 추가하므로, 커밋 전에 읽은 목록이 캐시에 남지 않는다.
+     * - 커밋 직후 DB에서 읽어 이미 목록에 포함된 신청은 다시 추가하지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationApplied(ApplicationAppliedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            completedByUserId.asMap().compute(event.userId(), (userId, current) -> current == null ? null
+                    : append(current, UserApplicationSummary.applied(event, lectureCatalogService.getSlot(event.slotId()))));
+        } catch (RuntimeException ex) {
+            // 카탈로그에서 슬롯을 찾지 못하면 목록을 갱신하지 않고 다음 조회 시 DB에서 다시 읽는다
+            completedByUserId.invalidate(event.userId());
+        }
+    }
+
+    /**
+     * 사용자 신청 내역 변경 이벤트 반영 (취소 / 대기 승격)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserApplicationsChanged(UserApplicationsChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        completedByUserId.invalidate(event.userId());
+    }
+
+    public void invalidateAll() {
+        completedByUserId.invalidateAll();
+    }
+
+    private static List<UserApplicationSummary> append(List<UserApplicationSummary> current, UserApplicationSummary summary) {
+        if (current.stream().anyMatch(cached -> cached.applicationId().equals(summary.applicationId()))) {
+            return current;
+        }
+        List<UserApplicationSummary> updated = new ArrayList<>(current.size() + 1);
+        updated.addAll(current);
+        updated.add(summary);
+        updated.sort(Comparator.comparing(UserApplicationSummary::applicationId));
+        return List.copyOf(updated);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Application 도메인 예외]
+ * - 특정 강의 슬롯의 신청 대기열이 가득 차 더 이상 신청을 받을 수 없을 때 발생하는 예외.
+ */
+public class ApplyQueueFullException extends RuntimeException {
+    public ApplyQueueFullException(Long slotId, int maxPending) {
+        super("신청이 몰려 잠시 후 다시 시도해 주세요. Slot ID: " + slotId + ", 최대 대기 건수: " + maxPending);
+    }
+}
@@ -4,7 +4,7 @@ package org.example.lecture.application.exception;
  * [Lecture 도메인 예외]
  * - 강의 슬롯이 정원 초과된 상태일 때 발생하는 예외.
  */
-public class CapacityExceededException extends RuntimeException {
+public class CapacityExceededException extends IllegalStateException {
     public CapacityExceededException(String message) {
         super(message);
     }
@@ -1,5 +1,7 @@
 package org.example.lecture.application.exception;
 
+import java.util.Collection;
+
 /**
  * [Application 도메인 예외]
  * - 동일한 강의에 대해 사용자가 중복 신청을 시도했을 때 발생하는 예외.
@@ -8,4 +10,8 @@ public class DuplicateApplicationException extends RuntimeException {
     public DuplicateApplicationException(Long userId, Long lectureId) {
         super("사용자 ID: " + userId + "가 이미 강의 ID: " + lectureId + "에 신청했습니다.");
     }
+
+    public DuplicateApplicationException(Long userId, Collection<Long> slotIds) {
+        super("사용자 ID: " + userId + "가 이미 신청한 강의 슬롯이 포함되어 있습니다. 슬롯 ID: " + slotIds);
+    }
 }
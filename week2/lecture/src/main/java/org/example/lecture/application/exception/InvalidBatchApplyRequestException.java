@@ -0,0 +1,11 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Application 도메인 예외]
+ * - 일괄 신청 요청의 슬롯 목록이 비어 있거나, 비어 있는 슬롯 ID가 있거나, 최대 개수를 넘을 때 발생하는 예외.
+ */
+public class InvalidBatchApplyRequestException extends RuntimeException {
+    public InvalidBatchApplyRequestException(String message) {
+        super(message);
+    }
+}
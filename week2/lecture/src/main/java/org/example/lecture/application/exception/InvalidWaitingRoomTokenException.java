@@ -0,0 +1,11 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Application 도메인 예외]
+ * - 대기실 토큰이 없거나, 만료 / 사용되었거나, 다른 사용자 또는 강의 슬롯의 토큰일 때 발생하는 예외.
+ */
+public class InvalidWaitingRoomTokenException extends RuntimeException {
+    public InvalidWaitingRoomTokenException(String token) {
+        super("유효하지 않은 대기실 토큰입니다. Token: " + token);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Lecture 도메인 예외]
+ * - 강의 슬롯의 신청이 마감(CLOSED)된 상태일 때 발생하는 예외.
+ */
+public class LectureSlotClosedException extends IllegalStateException {
+    public LectureSlotClosedException(String message) {
+        super(message);
+    }
+
+    public LectureSlotClosedException(Long slotId) {
+        super("해당 강의 슬롯의 신청이 마감되었습니다. Slot ID: " + slotId);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Lecture 도메인 예외]
+ * - 동시 수정 충돌로 인해 재시도 한도 내에 좌석 예약을 완료하지 못했을 때 발생하는 예외.
+ */
+public class SeatReservationConflictException extends RuntimeException {
+    public SeatReservationConflictException(Long slotId, int attempts) {
+        super("동시 신청이 많아 좌석 예약에 실패했습니다. 잠시 후 다시 시도해 주세요. Slot ID: " + slotId + ", 시도 횟수: " + attempts);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Application 도메인 예외]
+ * - 대기실 토큰의 입장 순서가 아직 되지 않았는데 신청할 때 발생하는 예외.
+ */
+public class WaitingRoomNotAdmittedException extends RuntimeException {
+    public WaitingRoomNotAdmittedException(Long slotId, long position) {
+        super("아직 입장 순서가 아닙니다. 잠시 후 다시 시도해 주세요. Slot ID: " + slotId + ", 남은 순위: " + position);
+    }
+
+    public WaitingRoomNotAdmittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.lecture.application.exception;
+
+/**
+ * [Application 도메인 예외]
+ * - 사용자가 해당 강의 슬롯의 대기자 명단에 없을 때 발생하는 예외.
+ */
+public class WaitlistEntryNotFoundException extends RuntimeException {
+    public WaitlistEntryNotFoundException(Long userId, Long lectureSlotId) {
+        super("사용자 ID: " + userId + "는 강의 슬롯 ID: " + lectureSlotId + "의 대기자 명단에 없습니다.");
+    }
+}
@@ -1,27 +1,257 @@
 package org.example.lecture.application.facade;
 
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.WaitingRoomNotAdmittedException;
+import org.example.lecture.application.idempotency.ApplyIdempotencyCache;
+import org.example.lecture.application.reservation.OptimisticLockRetryExecutor;
+import org.example.lecture.application.sequencer.SlotApplySequencer;
+import org.example.lecture.application.sequencer.SlotContentionTracker;
 import org.example.lecture.application.usecase.ApplyLectureUsecase;
+import org.example.lecture.application.usecase.BatchApplyLectureUsecase;
+import org.example.lecture.application.usecase.BatchApplyMode;
+import org.example.lecture.application.usecase.CancelLectureApplicationUsecase;
+import org.example.lecture.application.usecase.WaitlistLectureUsecase;
+import org.example.lecture.application.waitingroom.WaitingRoom;
+import org.example.lecture.application.waitingroom.WaitingRoomToken;
 import org.example.lecture.domain.application.Application;
 import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.interfaces.dto.BatchApplyResponseDTO;
 import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.example.lecture.interfaces.dto.SlotContentionResponseDTO;
+import org.example.lecture.interfaces.dto.WaitingRoomTokenResponseDTO;
+import org.example.lecture.interfaces.dto.WaitlistPositionResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * [ 특강 신청 퍼사드 ]
  * - ApplyLectureUsecase를 호출하여 특정 강의에 대한 신청 로직을 관리
+ * - 정원 초과 / 마감으로 알려진 슬롯의 신청은 신청 대기열에 넣거나 트랜잭션을 열기 전에 거절
+ * - 낙관적 락 충돌이 발생하면 신청 트랜잭션 전체를 재시도
+ * - 시퀀서가 활성화되어 있거나 인기 슬롯으로 승격된 슬롯이면 슬롯별 단일 작성자 대기열을 거쳐 가상 스레드에서 신청을 처리
+ * - 그룹 커밋이 가능하면 좌석 확보 후 신청 INSERT를 배치 커밋에 맡기고, 커밋이 끝난 뒤 응답
+ * - 대기자 명단이 활성화되어 있으면 정원 초과 신청을 대기자로 등록하고, 빈 좌석은 대기 순서대로 승격
+ * - CancelLectureApplicationUsecase를 호출하여 신청 취소와 좌석 반납을 처리
+ * - 대기실이 활성화되어 있으면 입장이 허용된 토큰을 가진 신청만 받는다
+ * - Idempotency-Key로 재시도된 신청에는 처음 신청의 결과를 그대로 돌려준다
+ * - BatchApplyLectureUsecase를 호출하여 여러 슬롯의 일괄 신청을 처리
 */
 @Service
 public class LectureApplicationFacade {
     private final ApplyLectureUsecase applyLectureUsecase;
+    private final BatchApplyLectureUsecase batchApplyLectureUsecase;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+    private final WaitlistLectureUsecase waitlistLectureUsecase;
+    private final CancelLectureApplicationUsecase cancelLectureApplicationUsecase;
+    private final SlotApplySequencer slotApplySequencer;
+    private final WaitingRoom waitingRoom;
+    private final ApplyIdempotencyCache applyIdempotencyCache;
+    private final SlotContentionTracker slotContentionTracker;
+    private final boolean sequencerEnabled;
 
-    public LectureApplicationFacade(ApplyLectureUsecase applyLectureUsecase) {
+    public LectureApplicationFacade(ApplyLectureUsecase applyLectureUsecase,
+                                    BatchApplyLectureUsecase batchApplyLectureUsecase,
+                                    OptimisticLockRetryExecutor optimisticLockRetryExecutor,
+                                    WaitlistLectureUsecase waitlistLectureUsecase,
+                                    CancelLectureApplicationUsecase cancelLectureApplicationUsecase,
+                                    SlotApplySequencer slotApplySequencer,
+                                    WaitingRoom waitingRoom,
+                                    ApplyIdempotencyCache applyIdempotencyCache,
+                                    SlotContentionTracker slotContentionTracker,
+                                    @Value("${lecture.apply.sequencer.enabled:false}") boolean sequencerEnabled) {
         this.applyLectureUsecase = applyLectureUsecase;
+        this.batchApplyLectureUsecase = batchApplyLectureUsecase;
+        this.optimisticLockRetryExecutor = optimisticLockRetryExecutor;
+        this.waitlistLectureUsecase = waitlistLectureUsecase;
+        this.cancelLectureApplicationUsecase = cancelLectureApplicationUsecase;
+        this.slotApplySequencer = slotApplySequencer;
+        this.waitingRoom = waitingRoom;
+        this.applyIdempotencyCache = applyIdempotencyCache;
+        this.slotContentionTracker = slotContentionTracker;
+        this.sequencerEnabled = sequencerEnabled;
     }
 
     //
     public LectureApplicationResponseDTO applyToLecture(Long userId, Long lectureSlotId) {
-        return applyLectureUsecase.execute(userId, lectureSlotId);
+        if (applyLectureUsecase.supportsGroupCommit()) {
+            return join(applyWithGroupCommit(userId, lectureSlotId));
+        }
+        return applyOrWait(userId, lectureSlotId,
+                () -> optimisticLockRetryExecutor.execute(lectureSlotId, () -> applyLectureUsecase.execute(userId, lectureSlotId)),
+                Function.identity());
+    }
+
+    /**
+     * [비동기 특강 신청]
+     * - 시퀀서 활성화 시: 슬롯별 대기열에 신청을 넣고, 처리 결과를 CompletableFuture로 돌려준다.
+     * - 비활성화 시: 호출 스레드에서 바로 신청을 처리한 결과를 완료된 CompletableFuture로 감싼다.
+     * - 대기실이 활성화되어 있으면 입장이 허용된 토큰을 먼저 소모하고, 허용되지 않은 신청은 대기열에 넣기 전에 거절한다.
+     *   신청이 실패하면(대기열 초과, 락 타임아웃 등) 토큰을 되돌려, 다시 줄을 서지 않고 같은 토큰으로 재시도할 수 있다.
+     * - 멱등성 키가 있으면 같은 키로 처리했거나 처리 중인 신청의 결과를 DB를 거치지 않고 돌려준다.
+     */
+    public CompletableFuture<LectureApplicationResponseDTO> applyToLectureAsync(Long userId, Long lectureSlotId,
+                                                                                String waitingRoomToken, String idempotencyKey) {
+        return applyIdempotencyCache.execute(userId, lectureSlotId, idempotencyKey,
+                () -> submitApply(userId, lectureSlotId, waitingRoomToken));
+    }
+
+    private CompletableFuture<LectureApplicationResponseDTO> submitApply(Long userId, Long lectureSlotId, String waitingRoomToken) {
+        applyLectureUsecase.rejectIfUnavailable(lectureSlotId);
+        Optional<WaitingRoomToken> admission = waitingRoom.enter(waitingRoomToken, userId, lectureSlotId);
+        if (admission.isEmpty()) {
+            return dispatchApply(userId, lectureSlotId);
+        }
+
+        WaitingRoomToken token = admission.get();
+        CompletableFuture<LectureApplicationResponseDTO> result;
+        try {
+            result = dispatchApply(userId, lectureSlotId);
+        } catch (RuntimeException ex) {
+            waitingRoom.restore(token);
+            throw ex;
+        }
+        // 실패가 호출자에게 전달되기 전에 토큰을 되돌려, 바로 재시도해도 토큰을 사용할 수 있게 한다
+        return result.whenComplete((response, ex) -> {
+            if (ex != null) {
+                waitingRoom.restore(token);
+            }
+        });
+    }
+
+    private CompletableFuture<LectureApplicationResponseDTO> dispatchApply(Long userId, Long lectureSlotId) {
+        boolean groupCommit = applyLectureUsecase.supportsGroupCommit();
+        boolean hot = slotContentionTracker.recordArrival(lectureSlotId);
+        if (sequencerEnabled || hot) {
+            if (groupCommit) {
+                // 시퀀서는 좌석 확보와 배치 등록까지만 직렬로 처리하고, 커밋 대기는 시퀀서 밖에서 이루어진다
+                return slotApplySequencer.submit(lectureSlotId, () -> applyWithGroupCommit(userId, lectureSlotId))
+                        .thenCompose(Function.identity());
+            }
+            return slotApplySequencer.submit(lectureSlotId, () -> applyToLecture(userId, lectureSlotId));
+        }
+        try {
+            if (groupCommit) {
+                return applyWithGroupCommit(userId, lectureSlotId);
+            }
+            return CompletableFuture.completedFuture(applyToLecture(userId, lectureSlotId));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * [일괄 특강 신청]
+     * - 여러 강의 슬롯을 한 번에 신청하고 슬롯별 결과를 반환.
+     * - 대기실 토큰은 슬롯 하나에만 유효하므로, 대기실이 활성화되어 있는 동안에는 일괄 신청을 받지 않는다.
+     */
+    public BatchApplyResponseDTO applyToLectures(Long userId, List<Long> lectureSlotIds, BatchApplyMode mode) {
+        if (waitingRoom.isEnabled()) {
+            throw new WaitingRoomNotAdmittedException("대기실이 운영 중이므로 일괄 신청을 받을 수 없습니다. 슬롯별로 대기실을 거쳐 신청해 주세요.");
+        }
+        return batchApplyLectureUsecase.execute(userId, lectureSlotIds, mode);
+    }
+
+    /**
+     * [특강 신청 취소]
+     * - 신청 완료를 취소하면 좌석을 반납하고 다음 대기자를 승격, 대기 신청을 취소하면 대기열에서 제거.
+     */
+    public LectureApplicationResponseDTO cancelApplication(Long userId, Long applicationId) {
+        return cancelLectureApplicationUsecase.execute(userId, applicationId);
+    }
+
+    /**
+     * [대기 순위 조회]
+     * - 특정 사용자의 강의 슬롯 대기 순위와 전체 대기자 수를 반환.
+     */
+    public WaitlistPositionResponseDTO getWaitlistPosition(Long userId, Long lectureSlotId) {
+        return waitlistLectureUsecase.getPosition(userId, lectureSlotId);
+    }
+
+    /**
+     * [대기실 입장]
+     * - 강의 슬롯 대기실의 순번 토큰을 발급.
+     */
+    public WaitingRoomTokenResponseDTO enterWaitingRoom(Long userId, Long lectureSlotId) {
+        return WaitingRoomTokenResponseDTO.from(waitingRoom.issue(userId, lectureSlotId));
+    }
+
+    /**
+     * [대기실 순위 조회]
+     * - 토큰의 입장까지 남은 순위와 입장 허용 여부를 반환.
+     */
+    public WaitingRoomTokenResponseDTO getWaitingRoomStatus(String token) {
+        return WaitingRoomTokenResponseDTO.from(waitingRoom.getStatus(token));
+    }
+
+    /**
+     * [대기실 순위 구독]
+     * - 입장이 허용될 때까지 순위가 갱신될 때마다 전달.
+     */
+    public void subscribeWaitingRoom(String token, Consumer<WaitingRoomTokenResponseDTO> subscriber) {
+        waitingRoom.subscribe(token, status -> subscriber.accept(WaitingRoomTokenResponseDTO.from(status)));
+    }
+
+    public void unsubscribeWaitingRoom(String token) {
+        waitingRoom.unsubscribe(token);
+    }
+
+    /**
+     * [슬롯 경합 상태 조회]
+     * - 추적 중인 슬롯의 유입률 / 평균 락 대기 시간과 인기 슬롯 승격 여부를 반환.
+     */
+    public List<SlotContentionResponseDTO> getSlotContention() {
+        return slotContentionTracker.getStatuses().stream()
+                .map(SlotContentionResponseDTO::from)
+                .toList();
+    }
+
+    private CompletableFuture<LectureApplicationResponseDTO> applyWithGroupCommit(Long userId, Long lectureSlotId) {
+        return applyOrWait(userId, lectureSlotId,
+                () -> applyLectureUsecase.executeWithGroupCommit(userId, lectureSlotId),
+                CompletableFuture::completedFuture);
+    }
+
+    /**
+     * [대기자 명단을 고려한 신청]
+     * - 대기자가 있는 슬롯은 빈 좌석을 먼저 대기 순서대로 승격시키고, 그래도 대기자가 남아 있으면 새 신청도 맨 뒤에 대기시킨다.
+     *   (먼저 기다린 대기자보다 새 신청이 좌석을 가져가지 않도록 함)
+     * - 정원 초과로 좌석을 확보하지 못한 신청은 거절하지 않고 대기자로 등록.
+     */
+    private <T> T applyOrWait(Long userId, Long lectureSlotId, Supplier<T> apply,
+                              Function<LectureApplicationResponseDTO, T> waiting) {
+        // 대기열에서 기다리는 동안 정원이 찼을 수 있으므로 처리 직전에 다시 확인
+        applyLectureUsecase.rejectIfUnavailable(lectureSlotId);
+        if (!waitlistLectureUsecase.isEnabled()) {
+            return apply.get();
+        }
+        if (waitlistLectureUsecase.promoteWaiting(lectureSlotId) > 0) {
+            return waiting.apply(waitlistLectureUsecase.enqueue(userId, lectureSlotId));
+        }
+        try {
+            return apply.get();
+        } catch (CapacityExceededException ex) {
+            return waiting.apply(waitlistLectureUsecase.enqueue(userId, lectureSlotId));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
     }
 
 }
@@ -1,37 +1,45 @@
 package org.example.lecture.application.facade;
 
 import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.stream.SlotStatusBroadcaster;
 import org.example.lecture.application.usecase.QueryLectureDetailsUsecase;
 import org.example.lecture.application.usecase.QueryUserCompletedApplicationsUsecase;
-import org.example.lecture.domain.lecture.LectureSlot;
-import org.example.lecture.domain.lecture.LectureSlotStatus;
-import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
 import org.example.lecture.interfaces.dto.LectureResponseDTO;
+import org.example.lecture.interfaces.dto.LectureSlotPageResponseDTO;
+import org.example.lecture.interfaces.dto.SlotStatusDeltaResponseDTO;
 import org.example.lecture.interfaces.dto.UserApplicationResponseDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * [ 강의 조회 퍼사드 ]
  * - QueryLectureDetailsUsecase, QueryUserApplicationsUsecase 등을 호출하여 강의와 신청 내역 조회를 담당.
+ * - SlotStatusBroadcaster를 통해 날짜별 슬롯 상태 변경 스트림 구독을 담당.
  */
 @Service
 public class LectureQueryFacade {
-    private final LectureSlotRepository lectureSlotRepository;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final LectureSlotStatusRepository lectureSlotStatusRepository;
     private final QueryLectureDetailsUsecase queryLectureDetailsUsecase;
     private final QueryUserCompletedApplicationsUsecase queryUserCompletedApplicationsUsecase;
+    private final SlotStatusBroadcaster slotStatusBroadcaster;
 
-    public LectureQueryFacade(LectureSlotRepository lectureSlotRepository, LectureSlotStatusRepository lectureSlotStatusRepository, QueryLectureDetailsUsecase queryLectureDetailsUsecase, QueryUserCompletedApplicationsUsecase queryUserCompletedApplicationsUsecase) {
-        this.lectureSlotRepository = lectureSlotRepository;
+    public LectureQueryFacade(LectureSlotStatusRepository lectureSlotStatusRepository, QueryLectureDetailsUsecase queryLectureDetailsUsecase, QueryUserCompletedApplicationsUsecase queryUserCompletedApplicationsUsecase,
+                              SlotStatusBroadcaster slotStatusBroadcaster) {
         this.lectureSlotStatusRepository = lectureSlotStatusRepository;
         this.queryLectureDetailsUsecase = queryLectureDetailsUsecase;
         this.queryUserCompletedApplicationsUsecase = queryUserCompletedApplicationsUsecase;
+        this.slotStatusBroadcaster = slotStatusBroadcaster;
     }
 
     /**
@@ -43,6 +51,21 @@ public class LectureQueryFacade {
         return queryLectureDetailsUsecase.execute(date);
     }
 
+    /**
+     * [ 특정 날짜의 슬롯 상태 스트림 구독 ]
+     * - 현재 슬롯 상태 전체를 먼저 전달하고, 이후 신청자 수 / 상태가 바뀐 슬롯만 모아서 전달합니다.
+     * @return 구독 해지에 사용할 구독 ID
+     */
+    public long subscribeSlotStatuses(LocalDate date, Consumer<List<SlotStatusDeltaResponseDTO>> listener) {
+        return slotStatusBroadcaster.subscribe(date, deltas -> listener.accept(deltas.stream()
+                .map(SlotStatusDeltaResponseDTO::from)
+                .toList()));
+    }
+
+    public void unsubscribeSlotStatuses(long subscriptionId) {
+        slotStatusBroadcaster.unsubscribe(subscriptionId);
+    }
+
     /**
      * [ 3. 특강 신청 완료 목록 조회 API => 특정 사용자의 신청 완료 목록 조회]
      * @param userId 사용자 ID
@@ -60,20 +83,47 @@ public class LectureQueryFacade {
 
     /**
      * 모든 강의의 현재 상태를 조회하고, LectureResponseDTO 리스트로 반환
+     * - 강의 / 슬롯 / 슬롯 상태를 한 번의 조인 쿼리로 조회 (슬롯별 상태 조회 쿼리 없음)
      */
+    @Transactional(readOnly = true)
     public List<LectureResponseDTO> getAllLectures() {
-        // 모든 강의 슬롯을 조회
-        List<LectureSlot> lectureSlots = lectureSlotRepository.findAll();
+        return lectureSlotStatusRepository.findAllDetails().stream()
+                .map(LectureResponseDTO::from)
+                .collect(Collectors.toList());
+    }
 
-        return lectureSlots.stream()
-                .map(slot -> {
-                    // 강의 슬롯의 상태 정보 조회
-                    LectureSlotStatus slotStatus = lectureSlotStatusRepository.findByLectureSlot(slot)
-                            .orElseThrow(() -> new IllegalArgumentException("강의 슬롯 상태 정보를 찾을 수 없습니다."));
+    /**
+     * 강의 슬롯 목록을 슬롯 ID 순으로 한 페이지씩 조회 (키셋 페이지네이션)
+     * - cursor 다음 슬롯부터 size건을 반환하며, 응답의 nextCursor로 다음 페이지를 조회한다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ 500)
+     */
+    @Transactional(readOnly = true)
+    public LectureSlotPageResponseDTO getLecturesPage(Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<LectureSlotDetail> details = lectureSlotStatusRepository.findDetailsAfter(cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+        boolean hasNext = details.size() > pageSize;
+        List<LectureResponseDTO> items = details.stream()
+                .limit(pageSize)
+                .map(LectureResponseDTO::from)
+                .toList();
+        return LectureSlotPageResponseDTO.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getLectureSlotId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
-                    // 최신 상태를 반영하여 LectureResponseDTO 생성
-                    return LectureResponseDTO.from(slot, slotStatus);
-                })
-                .collect(Collectors.toList());
+    /**
+     * 모든 강의 슬롯을 DB 커서에서 읽는 대로 한 건씩 전달
+     * - 전체 목록을 메모리에 만들지 않으므로 카탈로그 크기와 관계없이 메모리 사용량이 일정하다.
+     * - 전달이 끝날 때까지 읽기 전용 트랜잭션(DB 연결)이 유지된다.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllLectures(Consumer<LectureResponseDTO> consumer) {
+        try (Stream<LectureSlotDetail> details = lectureSlotStatusRepository.streamAllDetails()) {
+            details.map(LectureResponseDTO::from).forEach(consumer);
+        }
     }
 }
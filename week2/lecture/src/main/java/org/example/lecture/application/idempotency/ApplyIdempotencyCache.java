@@ -0,0 +1,71 @@
+package org.example.lecture.application.idempotency;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * [신청 멱등성 캐시]
+ * - Idempotency-Key 헤더로 들어온 신청의 결과를 (사용자, 슬롯, 키) 단위로 보관하여,
+ *   타임아웃 후 재시도한 요청에는 DB를 거치지 않고 처음 신청의 응답을 그대로 돌려준다.
+ * - 처리 중인 신청도 결과(CompletableFuture)로 보관하므로, 동시에 도착한 재시도는 진행 중인 신청의 결과를 함께 기다린다.
+ * - 실패한 신청은 보관하지 않아 같은 키로 다시 시도할 수 있으며, 보관된 결과는 ttl-ms가 지나거나 maximum-keys를 넘으면 제거된다.
+ */
+@Component
+public class ApplyIdempotencyCache {
+
+    private final boolean enabled;
+    private final AsyncCache<IdempotencyKey, LectureApplicationResponseDTO> responses;
+
+    public ApplyIdempotencyCache(@Value("${lecture.apply.idempotency.enabled:true}") boolean enabled,
+                                 @Value("${lecture.apply.idempotency.maximum-keys:100000}") long maximumKeys,
+                                 @Value("${lecture.apply.idempotency.ttl-ms:600000}") long ttlMs) {
+        this.enabled = enabled;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .buildAsync();
+    }
+
+    /**
+     * 같은 키로 처리했거나 처리 중인 신청이 있으면 그 결과를, 없으면 신청을 처리한 결과를 반환.
+     * - 키가 없거나 비활성화 시에는 매번 신청을 처리한다.
+     */
+    public CompletableFuture<LectureApplicationResponseDTO> execute(Long userId, Long lectureSlotId, String idempotencyKey,
+                                                                    Supplier<CompletableFuture<LectureApplicationResponseDTO>> apply) {
+        if (!enabled || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return apply.get();
+        }
+
+        CompletableFuture<LectureApplicationResponseDTO> response = new CompletableFuture<>();
+        CompletableFuture<LectureApplicationResponseDTO> previous =
+                responses.asMap().putIfAbsent(new IdempotencyKey(userId, lectureSlotId, idempotencyKey), response);
+        if (previous != null) {
+            return previous;
+        }
+
+        // 신청은 캐시 갱신 밖에서 처리하고, 결과를 보관한 CompletableFuture로 전달 (실패하면 캐시에서 자동으로 제거됨)
+        try {
+            apply.get().whenComplete((result, ex) -> {
+                if (ex != null) {
+                    response.completeExceptionally(ex);
+                } else {
+                    response.complete(result);
+                }
+            });
+        } catch (RuntimeException ex) {
+            response.completeExceptionally(ex);
+            throw ex;
+        }
+        return response;
+    }
+
+    private record IdempotencyKey(Long userId, Long lectureSlotId, String key) {
+    }
+}
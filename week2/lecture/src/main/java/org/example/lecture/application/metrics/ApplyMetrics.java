@@ -0,0 +1,178 @@
+package org.example.lecture.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.exception.SeatReservationConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [신청 경로 메트릭]
+ * - 신청 처리 구간별 소요 시간을 슬롯(slot)과 결과(outcome) 태그를 가진 타이머로 기록.
+ *   - lecture.apply: 신청 전체 (ApplyLectureUsecase.execute, 트랜잭션 커밋까지 포함)
+ *   - lecture.reservation: 좌석 확보 (예약 전략, strategy 태그 추가 / 기존 대시보드 호환을 위해 result(success / failure) 태그 유지)
+ *   - lecture.reservation.lock.wait: 비관적 락 획득 대기
+ *   - lecture.application.insert: 신청 INSERT (applyToLectureSlot)
+ * - 결과 태그: success / full / closed / duplicate / timeout / conflict / error
+ * - lecture.apply와 락 대기 타이머만 고정된 SLO 구간(SLO_BUCKETS)의 히스토그램을 내보내, Prometheus에서 슬롯별 p99와
+ *   락 타임아웃 비율을 계산할 수 있다. 좌석 확보 / INSERT 타이머는 히스토그램 없이 횟수 / 합계 / 최댓값만 기록하여,
+ *   슬롯 × 결과 태그 조합마다 늘어나는 시계열 수를 제한한다.
+ * - 슬롯 태그 값은 max-slot-tags 개까지만 슬롯 ID로 기록하고, 이후 슬롯은 "other"로 묶어 메트릭 수가 무한히 늘지 않게 한다.
+ * - 예열 dry run처럼 실제 신청이 아닌 실행은 runUnrecorded로 감싸 어떤 구간도 기록하지 않는다.
+ */
+@Component
+public class ApplyMetrics {
+
+    public static final String APPLY = "lecture.apply";
+    public static final String RESERVATION = "lecture.reservation";
+    public static final String LOCK_WAIT = "lecture.reservation.lock.wait";
+    public static final String INSERT = "lecture.application.insert";
+
+    static final String OTHER_SLOT = "other";
+
+    /**
+     * 히스토그램 구간 (자동 백분위 히스토그램의 약 70개 구간 대신 신청 지연 판단에 필요한 구간만 사용)
+     */
+    static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofMillis(2500), Duration.ofSeconds(5)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final int maxSlotTags;
+    private final Set<Long> taggedSlotIds = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Boolean> unrecorded = ThreadLocal.withInitial(() -> false);
+
+    public ApplyMetrics(MeterRegistry meterRegistry,
+                        @Value("${lecture.metrics.max-slot-tags:1000}") int maxSlotTags) {
+        this.meterRegistry = meterRegistry;
+        this.maxSlotTags = maxSlotTags;
+    }
+
+    /**
+     * 구간 측정 시작 (기록 제외 구간이면 null을 반환하여 이후 기록이 모두 생략된다)
+     */
+    public Timer.Sample start() {
+        return unrecorded.get() ? null : Timer.start(meterRegistry);
+    }
+
+    /**
+     * 현재 스레드에서 action을 실행하는 동안 신청 경로 메트릭을 기록하지 않는다.
+     */
+    public void runUnrecorded(Runnable action) {
+        boolean previous = unrecorded.get();
+        unrecorded.set(true);
+        try {
+            action.run();
+        } finally {
+            unrecorded.set(previous);
+        }
+    }
+
+    /**
+     * 신청 전체 소요 시간 기록
+     * - 트랜잭션 안에서 호출되면 커밋 / 롤백이 끝난 뒤에 기록하여, 커밋까지 락을 잡고 있는 시간도 포함한다.
+     * - 본문은 성공했지만 커밋에 실패한 경우 error로 기록.
+     */
+    public void recordApply(Timer.Sample sample, Long lectureSlotId, Throwable failure) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stop(sample, APPLY, "강의 신청 소요 시간", lectureSlotId, outcome(failure), true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                String outcome = failure == null && status != STATUS_COMMITTED ? "error" : outcome(failure);
+                stop(sample, APPLY, "강의 신청 소요 시간", lectureSlotId, outcome, true);
+            }
+        });
+    }
+
+    public void recordReservation(Timer.Sample sample, Long lectureSlotId, String strategy, Throwable failure) {
+        if (sample == null) {
+            return;
+        }
+        sample.stop(timer(RESERVATION, "좌석 예약 소요 시간", lectureSlotId, outcome(failure), false)
+                .tag("strategy", strategy)
+                .tag("result", failure == null ? "success" : "failure")
+                .register(meterRegistry));
+    }
+
+    /**
+     * @return 락 획득 대기 시간 (나노초)
+     */
+    public long recordLockWait(Timer.Sample sample, Long lectureSlotId, Throwable failure) {
+        return stop(sample, LOCK_WAIT, "비관적 락 획득 대기 시간", lectureSlotId, outcome(failure), true);
+    }
+
+    public void recordInsert(Timer.Sample sample, Long lectureSlotId, Throwable failure) {
+        stop(sample, INSERT, "신청 INSERT 소요 시간", lectureSlotId, outcome(failure), false);
+    }
+
+    /**
+     * 실패 원인을 결과 태그 값으로 분류 (래핑된 예외는 원인까지 확인, 일괄 신청의 슬롯별 실패 사유로도 사용)
+     */
+    public static String outcome(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CapacityExceededException) {
+                return "full";
+            }
+            if (cause instanceof LectureSlotClosedException) {
+                return "closed";
+            }
+            if (cause instanceof DuplicateApplicationException) {
+                return "duplicate";
+            }
+            if (cause instanceof PessimisticLockingFailureException || cause instanceof QueryTimeoutException
+                    || cause instanceof LockTimeoutException || cause instanceof PessimisticLockException
+                    || cause instanceof TransactionTimedOutException) {
+                return "timeout";
+            }
+            if (cause instanceof SeatReservationConflictException) {
+                return "conflict";
+            }
+        }
+        return failure == null ? "success" : "error";
+    }
+
+    private long stop(Timer.Sample sample, String name, String description, Long lectureSlotId, String outcome, boolean histogram) {
+        if (sample == null) {
+            return 0;
+        }
+        return sample.stop(timer(name, description, lectureSlotId, outcome, histogram).register(meterRegistry));
+    }
+
+    private Timer.Builder timer(String name, String description, Long lectureSlotId, String outcome, boolean histogram) {
+        Timer.Builder builder = Timer.builder(name)
+                .description(description)
+                .tag("slot", slotTag(lectureSlotId))
+                .tag("outcome", outcome);
+        return histogram ? builder.serviceLevelObjectives(SLO_BUCKETS) : builder;
+    }
+
+    private String slotTag(Long lectureSlotId) {
+        if (lectureSlotId == null) {
+            return OTHER_SLOT;
+        }
+        if (taggedSlotIds.contains(lectureSlotId)
+                || (taggedSlotIds.size() < maxSlotTags && taggedSlotIds.add(lectureSlotId))) {
+            return lectureSlotId.toString();
+        }
+        return OTHER_SLOT;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * [조건부 UPDATE 좌석 예약 전략]
+ * - "current_applicants < capacity" 조건을 건 UPDATE 한 문장으로 좌석을 확보하고, 정원 도달 시 FULL로 전환.
+ * - 신청자 수 변경은 요청 트랜잭션에 포함되므로, 실패 시 트랜잭션 롤백으로 함께 되돌아간다.
+ */
+@Component
+public class ConditionalUpdateSeatReservationStrategy implements SeatReservationStrategy {
+
+    private final LectureSlotService lectureSlotService;
+
+    public ConditionalUpdateSeatReservationStrategy(LectureSlotService lectureSlotService) {
+        this.lectureSlotService = lectureSlotService;
+    }
+
+    @Override
+    public ReservationStrategyType type() {
+        return ReservationStrategyType.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public SeatReservation reserve(Long lectureSlotId) {
+        return lectureSlotService.reserveSeatWithConditionalUpdate(lectureSlotId);
+    }
+
+    @Override
+    public void rollback(Long lectureSlotId) {
+        // 요청 트랜잭션 롤백으로 처리됨
+    }
+
+    @Override
+    public Optional<SeatReservation> release(Long lectureSlotId) {
+        return lectureSlotService.releaseSeat(lectureSlotId);
+    }
+}
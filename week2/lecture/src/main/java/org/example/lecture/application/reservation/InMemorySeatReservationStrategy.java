@@ -0,0 +1,157 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [인메모리 좌석 예약 전략]
+ * - 슬롯별 잔여 좌석 카운터(AtomicInteger CAS)로 DB 락 없이 신청을 수락/거절.
+ * - 카운터는 슬롯 최초 예약 시 카탈로그의 정원과 DB 상태로 초기화되며, 이후 신청자 수는 SlotStatusAsyncWriter가 반영 시점의 카운터 값을 읽어 비동기로 반영.
+ * - 단일 인스턴스 기준으로 카운터가 정원의 기준(source of truth)이 된다.
+ * - 카운터 초기화는 DB를 읽으므로 호출 측은 요청 트랜잭션을 열기 전에 preload로 적재를 끝내야 한다.
+ *   적재는 슬롯마다 한 스레드만 수행하고(나머지는 결과를 기다림) 맵의 락 밖에서 진행하여 다른 슬롯의 예약을 막지 않는다.
+ */
+@Component
+public class InMemorySeatReservationStrategy implements SeatReservationStrategy {
+
+    private final LectureSlotRepository lectureSlotRepository;
+    private final LectureSlotStatusRepository lectureSlotStatusRepository;
+    private final SlotStatusAsyncWriter slotStatusAsyncWriter;
+    private final LectureCatalogService lectureCatalogService;
+    private final Map<Long, CompletableFuture<SlotSeatCounter>> counters = new ConcurrentHashMap<>();
+
+    public InMemorySeatReservationStrategy(LectureSlotRepository lectureSlotRepository,
+                                           LectureSlotStatusRepository lectureSlotStatusRepository,
+                                           SlotStatusAsyncWriter slotStatusAsyncWriter,
+                                           LectureCatalogService lectureCatalogService) {
+        this.lectureSlotRepository = lectureSlotRepository;
+        this.lectureSlotStatusRepository = lectureSlotStatusRepository;
+        this.slotStatusAsyncWriter = slotStatusAsyncWriter;
+        this.lectureCatalogService = lectureCatalogService;
+    }
+
+    @Override
+    public ReservationStrategyType type() {
+        return ReservationStrategyType.IN_MEMORY;
+    }
+
+    @Override
+    public SeatReservation reserve(Long lectureSlotId) {
+        SlotSeatCounter counter = counter(lectureSlotId);
+
+        if (counter.isClosed()) {
+            throw new LectureSlotClosedException("강의 신청이 마감되었습니다.");
+        }
+
+        int currentApplicants = counter.tryAcquire();
+        if (currentApplicants < 0) {
+            throw new CapacityExceededException("강의 정원이 초과되었습니다.");
+        }
+
+        LectureSlotStatusType status = currentApplicants >= counter.capacity()
+                ? LectureSlotStatusType.FULL
+                : LectureSlotStatusType.OPEN;
+        slotStatusAsyncWriter.submit(lectureSlotId, counter::snapshot);
+
+        return new SeatReservation(counter.lectureSlot(), currentApplicants, status);
+    }
+
+    @Override
+    public void rollback(Long lectureSlotId) {
+        CompletableFuture<SlotSeatCounter> loaded = counters.get(lectureSlotId);
+        if (loaded == null) {
+            return;
+        }
+        SlotSeatCounter counter = loaded.join();
+        if (counter.release() >= 0) {
+            slotStatusAsyncWriter.submit(lectureSlotId, counter::snapshot);
+        }
+    }
+
+    /**
+     * 인메모리 카운터에 좌석을 반납하고, 반납 후 신청자 수 / 상태를 비동기로 DB에 반영.
+     * - 카운터에 신청자가 없으면 아무것도 반영하지 않고 빈 값을 반환.
+     */
+    @Override
+    public Optional<SeatReservation> release(Long lectureSlotId) {
+        SlotSeatCounter counter = counter(lectureSlotId);
+        int currentApplicants = counter.release();
+        if (currentApplicants < 0) {
+            return Optional.empty();
+        }
+        LectureSlotStatusType status = counter.status();
+        slotStatusAsyncWriter.submit(lectureSlotId, counter::snapshot);
+        return Optional.of(new SeatReservation(counter.lectureSlot(), currentApplicants, status));
+    }
+
+    @Override
+    public void preload(Long lectureSlotId) {
+        counter(lectureSlotId);
+    }
+
+    @Override
+    public boolean requiresRequestTransaction() {
+        return false;
+    }
+
+    /**
+     * 슬롯의 인메모리 카운터를 제거하여 다음 예약 시 DB 상태로 다시 초기화되도록 함
+     */
+    public void evict(Long lectureSlotId) {
+        counters.remove(lectureSlotId);
+    }
+
+    /**
+     * 슬롯의 카운터를 반환하고, 없으면 적재
+     * - 먼저 자리를 차지한 스레드만 적재하고, 같은 슬롯의 다른 스레드는 그 결과를 기다린다.
+     * - 적재에 실패하면 자리를 비워 다음 호출이 다시 적재하도록 한다.
+     */
+    private SlotSeatCounter counter(Long lectureSlotId) {
+        CompletableFuture<SlotSeatCounter> counter = counters.get(lectureSlotId);
+        if (counter == null) {
+            CompletableFuture<SlotSeatCounter> loading = new CompletableFuture<>();
+            counter = counters.putIfAbsent(lectureSlotId, loading);
+            if (counter == null) {
+                counter = loading;
+                try {
+                    loading.complete(loadCounter(lectureSlotId));
+                } catch (RuntimeException ex) {
+                    counters.remove(lectureSlotId, loading);
+                    loading.completeExceptionally(ex);
+                }
+            }
+        }
+        try {
+            return counter.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private SlotSeatCounter loadCounter(Long lectureSlotId) {
+        int capacity = lectureCatalogService.getSlot(lectureSlotId).capacity();
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId)
+                .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
+        // 신청 INSERT의 외래 키로만 사용하므로 슬롯은 조회하지 않고 참조만 보관
+        LectureSlot lectureSlot = lectureSlotRepository.getReferenceById(lectureSlotId);
+        return new SlotSeatCounter(lectureSlot, capacity, slotStatus.getCurrentApplicants(), slotStatus.getStatus());
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.lecture.application.reservation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.SeatReservationConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * [낙관적 락 재시도 실행기]
+ * - 트랜잭션 경계 바깥에서 작업을 실행하고, 버전 충돌(OptimisticLockException)이 발생하면
+ *   지수 백오프(+지터) 후 최대 횟수까지 재시도.
+ * - 재시도 횟수는 lecture.reservation.retries, 재시도 소진은 lecture.reservation.retry.exhausted 메트릭으로 기록.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticLockRetryExecutor(MeterRegistry meterRegistry,
+                                       @Value("${lecture.reservation.optimistic.max-attempts:10}") int maxAttempts,
+                                       @Value("${lecture.reservation.optimistic.backoff-ms:5}") long backoffMs,
+                                       @Value("${lecture.reservation.optimistic.max-backoff-ms:100}") long maxBackoffMs) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retryCounter = Counter.builder("lecture.reservation.retries")
+                .description("낙관적 락 충돌로 인한 좌석 예약 재시도 횟수")
+                .tag("strategy", ReservationStrategyType.OPTIMISTIC.name())
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("lecture.reservation.retry.exhausted")
+                .description("재시도 한도를 모두 소진하여 실패한 좌석 예약 횟수")
+                .tag("strategy", ReservationStrategyType.OPTIMISTIC.name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lectureSlotId 예약할 강의 슬롯 ID (실패 메시지 용도)
+     * @param action        트랜잭션 단위 작업 (충돌 시 전체가 다시 실행됨)
+     */
+    public <T> T execute(Long lectureSlotId, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("낙관적 락 재시도 한도를 초과했습니다. Slot ID: {}, 시도 횟수: {}", lectureSlotId, attempt);
+                    throw new SeatReservationConflictException(lectureSlotId, attempt);
+                }
+                retryCounter.increment();
+                backoff(lectureSlotId, attempt);
+            }
+        }
+    }
+
+    private void backoff(Long lectureSlotId, int attempt) {
+        long delay = Math.min(backoffMs << Math.min(attempt - 1, 16), maxBackoffMs);
+        long jitter = delay > 0 ? ThreadLocalRandom.current().nextLong(delay + 1) : 0;
+        try {
+            Thread.sleep(delay / 2 + jitter / 2);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SeatReservationConflictException(lectureSlotId, attempt);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * [낙관적 락 좌석 예약 전략]
+ * - LectureSlotStatus의 @Version 컬럼으로 충돌을 감지하며, 경합이 없는 슬롯은 락 대기 / 락 타임아웃 비용을 지불하지 않는다.
+ * - 충돌 시 요청 트랜잭션 전체가 롤백되고, OptimisticLockRetryExecutor가 백오프 후 재시도한다.
+ */
+@Component
+public class OptimisticSeatReservationStrategy implements SeatReservationStrategy {
+
+    private final LectureSlotService lectureSlotService;
+
+    public OptimisticSeatReservationStrategy(LectureSlotService lectureSlotService) {
+        this.lectureSlotService = lectureSlotService;
+    }
+
+    @Override
+    public ReservationStrategyType type() {
+        return ReservationStrategyType.OPTIMISTIC;
+    }
+
+    @Override
+    public SeatReservation reserve(Long lectureSlotId) {
+        return lectureSlotService.reserveSeatWithOptimisticLock(lectureSlotId);
+    }
+
+    @Override
+    public void rollback(Long lectureSlotId) {
+        // 요청 트랜잭션 롤백으로 처리됨
+    }
+
+    @Override
+    public Optional<SeatReservation> release(Long lectureSlotId) {
+        return lectureSlotService.releaseSeat(lectureSlotId);
+    }
+}
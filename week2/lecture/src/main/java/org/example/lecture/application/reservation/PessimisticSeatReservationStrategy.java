@@ -0,0 +1,42 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * [비관적 락 좌석 예약 전략]
+ * - LectureSlotService.reserveSlotWithLock의 PESSIMISTIC_WRITE 락 기반 예약을 그대로 사용.
+ * - 신청자 수 변경은 요청 트랜잭션에 포함되므로, 실패 시 트랜잭션 롤백으로 함께 되돌아간다.
+ */
+@Component
+public class PessimisticSeatReservationStrategy implements SeatReservationStrategy {
+
+    private final LectureSlotService lectureSlotService;
+
+    public PessimisticSeatReservationStrategy(LectureSlotService lectureSlotService) {
+        this.lectureSlotService = lectureSlotService;
+    }
+
+    @Override
+    public ReservationStrategyType type() {
+        return ReservationStrategyType.PESSIMISTIC;
+    }
+
+    @Override
+    public SeatReservation reserve(Long lectureSlotId) {
+        return lectureSlotService.reserveSeatWithLock(lectureSlotId);
+    }
+
+    @Override
+    public void rollback(Long lectureSlotId) {
+        // 요청 트랜잭션 롤백으로 처리됨
+    }
+
+    @Override
+    public Optional<SeatReservation> release(Long lectureSlotId) {
+        return lectureSlotService.releaseSeat(lectureSlotId);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.lecture.application.reservation;
+
+import lombok.Getter;
+
+@Getter
+public enum ReservationStrategyType {
+    PESSIMISTIC("비관적 락"),          // lecture_slot_status 행에 PESSIMISTIC_WRITE 락을 걸고 예약
+    OPTIMISTIC("낙관적 락"),           // @Version 컬럼으로 충돌을 감지하고, 충돌 시 백오프 후 재시도
+    CONDITIONAL_UPDATE("조건부 UPDATE"), // 잔여 좌석이 있을 때만 증가시키는 UPDATE 한 문장으로 예약
+    IN_MEMORY("인메모리 카운터"),      // 슬롯별 원자적 잔여 좌석 카운터로 예약, DB 반영은 비동기
+    SHARDED("샤드 카운터");            // 슬롯 정원을 N개의 샤드 행으로 나누어 해시로 고른 샤드에 조건부 UPDATE, 부족하면 다른 샤드에서 확보
+
+    private final String description;
+
+    ReservationStrategyType(String description) {
+        this.description = description;
+    }
+}
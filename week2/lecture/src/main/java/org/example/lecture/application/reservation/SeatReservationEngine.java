@@ -0,0 +1,110 @@
+package org.example.lecture.application.reservation;
+
+import io.micrometer.core.instrument.Timer;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * [좌석 예약 엔진]
+ * - 설정(lecture.reservation.strategy)으로 선택된 좌석 예약 전략에 예약 / 롤백을 위임.
+ * - 기본값은 기존과 동일한 비관적 락(PESSIMISTIC) 전략.
+ * - 전략별 예약 소요 시간을 lecture.reservation 타이머(strategy, result, slot, outcome 태그)로 기록하여 전략 / 슬롯 간 비교에 사용.
+ * - 예약에 성공하면 SlotStatusChangedEvent를, 좌석을 반납하면 SeatReleasedEvent를 발행하여
+ *   조회 캐시 등이 변경된 신청자 수 / 상태를 반영하도록 한다.
+ * - 정원 초과 / 마감으로 거절되거나 확보한 좌석을 되돌리면 슬롯 상태 게이트에 바로 알린다.
+ */
+@Service
+public class SeatReservationEngine {
+
+    private final Map<ReservationStrategyType, SeatReservationStrategy> strategies = new EnumMap<>(ReservationStrategyType.class);
+    private final ReservationStrategyType strategyType;
+    private final ApplyMetrics applyMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotStateGate slotStateGate;
+
+    public SeatReservationEngine(List<SeatReservationStrategy> strategies,
+                                 ApplyMetrics applyMetrics,
+                                 ApplicationEventPublisher eventPublisher,
+                                 SlotStateGate slotStateGate,
+                                 @Value("${lecture.reservation.strategy:PESSIMISTIC}") ReservationStrategyType strategyType) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.type(), strategy));
+        if (!this.strategies.containsKey(strategyType)) {
+            throw new IllegalArgumentException("등록되지 않은 좌석 예약 전략입니다: " + strategyType);
+        }
+        this.strategyType = strategyType;
+        this.applyMetrics = applyMetrics;
+        this.eventPublisher = eventPublisher;
+        this.slotStateGate = slotStateGate;
+    }
+
+    public ReservationStrategyType getStrategyType() {
+        return strategyType;
+    }
+
+    public SeatReservation reserve(Long lectureSlotId) {
+        Timer.Sample sample = applyMetrics.start();
+        RuntimeException failure = null;
+        try {
+            SeatReservation reservation = strategies.get(strategyType).reserve(lectureSlotId);
+            eventPublisher.publishEvent(SlotStatusChangedEvent.from(lectureSlotId, reservation));
+            return reservation;
+        } catch (CapacityExceededException ex) {
+            failure = ex;
+            slotStateGate.record(lectureSlotId, LectureSlotStatusType.FULL);
+            throw ex;
+        } catch (LectureSlotClosedException ex) {
+            failure = ex;
+            slotStateGate.record(lectureSlotId, LectureSlotStatusType.CLOSED);
+            throw ex;
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            applyMetrics.recordReservation(sample, lectureSlotId, strategyType.name(), failure);
+        }
+    }
+
+    /**
+     * 신청 취소로 확정된 좌석을 반납
+     * - 실제로 반납한 좌석이 있을 때만 SeatReleasedEvent를 발행.
+     * @return 반납 결과, 반납한 좌석이 없으면 빈 값
+     */
+    public Optional<SeatReservation> release(Long lectureSlotId) {
+        Optional<SeatReservation> release = strategies.get(strategyType).release(lectureSlotId);
+        release.ifPresent(seat -> eventPublisher.publishEvent(SeatReleasedEvent.from(lectureSlotId, seat)));
+        return release;
+    }
+
+    public void rollback(Long lectureSlotId) {
+        strategies.get(strategyType).rollback(lectureSlotId);
+        // 이미 알린 FULL 상태가 되돌린 좌석 때문에 틀릴 수 있으므로 기록을 지운다
+        slotStateGate.record(lectureSlotId, LectureSlotStatusType.OPEN);
+    }
+
+    /**
+     * 선택된 전략으로 슬롯의 좌석 상태를 미리 적재 (신청 시작 전 예열)
+     */
+    public void preload(Long lectureSlotId) {
+        strategies.get(strategyType).preload(lectureSlotId);
+    }
+
+    /**
+     * 선택된 전략이 요청 트랜잭션 안에서 좌석을 확보해야 하는지 여부
+     */
+    public boolean requiresRequestTransaction() {
+        return strategies.get(strategyType).requiresRequestTransaction();
+    }
+}
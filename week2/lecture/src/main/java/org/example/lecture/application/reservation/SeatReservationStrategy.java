@@ -0,0 +1,54 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.domain.lecture.SeatReservation;
+
+import java.util.Optional;
+
+/**
+ * [좌석 예약 전략]
+ * - 강의 슬롯의 잔여 좌석을 확보하는 방식을 추상화한 인터페이스.
+ * - 정원 초과 시 CapacityExceededException, 마감 시 LectureSlotClosedException을 던진다.
+ */
+public interface SeatReservationStrategy {
+
+    ReservationStrategyType type();
+
+    /**
+     * 강의 슬롯의 좌석 한 개를 예약.
+     * @param lectureSlotId 예약할 강의 슬롯 ID
+     * @return 예약 결과
+     */
+    SeatReservation reserve(Long lectureSlotId);
+
+    /**
+     * 예약 이후 신청 처리가 실패했을 때 확보한 좌석을 되돌림.
+     * - 요청 트랜잭션 롤백으로 함께 되돌아가는 전략은 아무 작업도 하지 않는다.
+     * @param lectureSlotId 되돌릴 강의 슬롯 ID
+     */
+    void rollback(Long lectureSlotId);
+
+    /**
+     * 신청 취소로 확정된 좌석 한 개를 반납.
+     * - 정원 초과(FULL) 상태였다면 다시 신청 가능(OPEN) 상태가 된다.
+     * - 신청자가 없어 반납할 좌석이 없으면 아무것도 바꾸지 않고 빈 값을 반환.
+     * @param lectureSlotId 좌석을 반납할 강의 슬롯 ID
+     * @return 반납 결과 (반납 후 신청자 수 / 상태), 반납한 좌석이 없으면 빈 값
+     */
+    Optional<SeatReservation> release(Long lectureSlotId);
+
+    /**
+     * 신청 시작 전에 슬롯의 좌석 상태를 미리 적재 (첫 예약이 DB 조회를 기다리지 않도록).
+     * - 메모리에 상태를 두지 않는 전략은 아무 작업도 하지 않는다.
+     * @param lectureSlotId 적재할 강의 슬롯 ID
+     */
+    default void preload(Long lectureSlotId) {
+    }
+
+    /**
+     * 좌석 확보가 요청 트랜잭션에 포함되어야 하는지 여부.
+     * - false인 전략은 신청 INSERT를 요청 트랜잭션 밖(그룹 커밋 등)에서 처리해도 되며, 실패 시 rollback으로 좌석을 되돌린다.
+     */
+    default boolean requiresRequestTransaction() {
+        return true;
+    }
+}
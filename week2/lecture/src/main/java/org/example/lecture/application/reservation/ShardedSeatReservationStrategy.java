@@ -0,0 +1,355 @@
+package org.example.lecture.application.reservation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotShard;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotShardRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * [샤드 카운터 좌석 예약 전략]
+ * - 슬롯 정원을 N개의 샤드 행(lecture_slot_shard)으로 나누고, 호출 스레드의 해시로 고른 샤드에 조건부 UPDATE로 좌석을 확보.
+ * - 고른 샤드가 가득 차 있으면 다음 샤드들을 차례로 시도(work-stealing)하며, 모든 샤드가 가득 차면 정원 초과.
+ * - 샤드별 신청자 수는 샤드 정원을 넘지 않고 샤드 정원의 합이 슬롯 정원이므로, 전체 신청자 수도 정원을 넘지 않는다.
+ * - 한 슬롯의 쓰기가 N개의 행으로 나뉘어, 하나의 행 락 / 카운터에 모든 신청이 줄 서지 않는다.
+ * - 샤드 행은 슬롯을 처음 적재할 때 별도 트랜잭션으로 만들고, lecture_slot_status의 신청자 수 / 상태는 커밋 후
+ *   반영 시점의 샤드 행 합계로 비동기 반영 (여러 인스턴스가 같은 샤드 행을 나누어 쓰므로 이 인스턴스의 값은 쓰지 않는다).
+ * - 첫 적재는 별도 커넥션이 필요하므로, 호출 측은 요청 트랜잭션을 열기 전에 preload로 적재를 끝내야 한다.
+ *   적재는 슬롯마다 한 스레드만 수행하고(나머지는 결과를 기다림) 맵의 락 밖에서 진행하여 다른 슬롯의 예약을 막지 않는다.
+ * - 샤드 UPDATE는 요청 트랜잭션에 포함되므로, 신청이 실패하면 트랜잭션 롤백으로 함께 되돌아간다.
+ * - 마감(CLOSED) 여부는 적재 시점 값을 믿지 않고 샤드 UPDATE마다 lecture_slot_status에서 다시 확인한다.
+ * - 다른 전략은 lecture_slot_status만 갱신하므로, 다른 전략으로 기동하면 샤드 행 합계를 lecture_slot_status에 반영한 뒤
+ *   샤드 행을 지운다. 다시 SHARDED로 기동하면 그 사이의 신청이 반영된 lecture_slot_status에서 샤드 행을 새로 나눈다.
+ *   따라서 전략 전환은 모든 인스턴스를 함께 재기동해야 하며, SHARDED와 다른 전략의 인스턴스를 동시에 운영하지 않는다.
+ */
+@Slf4j
+@Component
+public class ShardedSeatReservationStrategy implements SeatReservationStrategy {
+
+    private final LectureSlotRepository lectureSlotRepository;
+    private final LectureSlotStatusRepository lectureSlotStatusRepository;
+    private final LectureSlotShardRepository lectureSlotShardRepository;
+    private final SlotStatusAsyncWriter slotStatusAsyncWriter;
+    private final LectureCatalogService lectureCatalogService;
+    private final TransactionTemplate newTransactionTemplate;
+    private final int shards;
+    private final ReservationStrategyType selectedStrategyType;
+    private final Map<Long, CompletableFuture<ShardedSlot>> slots = new ConcurrentHashMap<>();
+
+    public ShardedSeatReservationStrategy(LectureSlotRepository lectureSlotRepository,
+                                          LectureSlotStatusRepository lectureSlotStatusRepository,
+                                          LectureSlotShardRepository lectureSlotShardRepository,
+                                          SlotStatusAsyncWriter slotStatusAsyncWriter,
+                                          LectureCatalogService lectureCatalogService,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${lecture.reservation.sharded.shards:8}") int shards,
+                                          @Value("${lecture.reservation.strategy:PESSIMISTIC}") ReservationStrategyType selectedStrategyType) {
+        this.lectureSlotRepository = lectureSlotRepository;
+        this.lectureSlotStatusRepository = lectureSlotStatusRepository;
+        this.lectureSlotShardRepository = lectureSlotShardRepository;
+        this.slotStatusAsyncWriter = slotStatusAsyncWriter;
+        this.lectureCatalogService = lectureCatalogService;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shards = shards;
+        this.selectedStrategyType = selectedStrategyType;
+    }
+
+    /**
+     * SHARDED가 아닌 전략으로 기동하면 남은 샤드 행을 lecture_slot_status에 반영하고 지운다.
+     * - 샤드 행을 그대로 두면, 다시 SHARDED로 기동했을 때 다른 전략으로 받은 신청이 빠진 샤드 행을 재사용하여 정원을 넘길 수 있다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void retireShardsUnlessSelected() {
+        if (selectedStrategyType == ReservationStrategyType.SHARDED) {
+            return;
+        }
+        Integer reconciled = newTransactionTemplate.execute(tx -> {
+            int updated = lectureSlotStatusRepository.updateAllApplicantsFromShards(LocalDateTime.now());
+            lectureSlotShardRepository.deleteAllInBatch();
+            return updated;
+        });
+        if (reconciled != null && reconciled > 0) {
+            log.info("샤드 행 정리: {}개 슬롯의 신청자 수를 샤드 합계로 반영하고 샤드 행을 삭제했습니다.", reconciled);
+        }
+    }
+
+    @Override
+    public ReservationStrategyType type() {
+        return ReservationStrategyType.SHARDED;
+    }
+
+    @Override
+    public SeatReservation reserve(Long lectureSlotId) {
+        ShardedSlot slot = slot(lectureSlotId);
+        int shardIndex = acquire(lectureSlotId, slot);
+        if (shardIndex < 0) {
+            // 샤드 UPDATE는 마감된 슬롯에서도 실패하므로, 실패한 경우에만 슬롯 상태를 다시 읽어 사유를 구분
+            boolean closed = lectureSlotStatusRepository.findBySlotId(lectureSlotId)
+                    .map(slotStatus -> slotStatus.getStatus() == LectureSlotStatusType.CLOSED)
+                    .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
+            slot.closed = closed;
+            if (closed) {
+                slot.clearExhausted();
+                throw new LectureSlotClosedException("강의 신청이 마감되었습니다.");
+            }
+            throw new CapacityExceededException("강의 정원이 초과되었습니다.");
+        }
+        slot.closed = false;
+
+        // 아직 커밋되지 않은 다른 예약은 포함되지 않은 신청자 수 (정원 보장은 샤드 UPDATE가 담당)
+        int currentApplicants = Math.min(slot.committedApplicants.get() + 1, slot.capacity);
+        afterCompletion(() -> {
+            slot.committedApplicants.incrementAndGet();
+            slotStatusAsyncWriter.submitShardTotal(lectureSlotId);
+        }, slot::clearExhausted);
+        return new SeatReservation(slot.lectureSlot, currentApplicants, slot.status(currentApplicants));
+    }
+
+    @Override
+    public void rollback(Long lectureSlotId) {
+        // 요청 트랜잭션 롤백으로 처리됨 (롤백 후 샤드의 정원 초과 기록은 afterCompletion에서 지운다)
+    }
+
+    /**
+     * 해시로 고른 샤드부터 신청자가 있는 샤드를 찾아 좌석 한 개를 반납
+     * - 신청자가 있는 샤드가 없으면 아무것도 반납하지 않고 빈 값을 반환.
+     */
+    @Override
+    public Optional<SeatReservation> release(Long lectureSlotId) {
+        ShardedSlot slot = slot(lectureSlotId);
+        int committedApplicants = slot.committedApplicants.get();
+        int start = slot.home();
+        for (int i = 0; i < slot.shardCount(); i++) {
+            int shardIndex = (start + i) % slot.shardCount();
+            if (lectureSlotShardRepository.decrementIfPositive(lectureSlotId, shardIndex) > 0) {
+                afterCompletion(() -> {
+                    slot.exhausted.set(shardIndex, 0);
+                    slot.committedApplicants.updateAndGet(value -> Math.max(0, value - 1));
+                    slotStatusAsyncWriter.submitShardTotal(lectureSlotId);
+                }, () -> { });
+                int currentApplicants = Math.max(0, committedApplicants - 1);
+                return Optional.of(new SeatReservation(slot.lectureSlot, currentApplicants, slot.status(currentApplicants)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void preload(Long lectureSlotId) {
+        slot(lectureSlotId);
+    }
+
+    /**
+     * 슬롯의 메모리 상태를 제거하여 다음 예약 시 샤드 행에서 다시 읽도록 함
+     */
+    public void evict(Long lectureSlotId) {
+        slots.remove(lectureSlotId);
+    }
+
+    /**
+     * 해시로 고른 샤드부터 좌석을 확보
+     * - 가득 찬 것으로 기록된 샤드는 먼저 건너뛰고, 나머지가 모두 실패한 경우에만 다시 시도하여 기록이 틀렸을 때도 좌석을 놓치지 않는다.
+     * @return 좌석을 확보한 샤드 번호 (모든 샤드가 가득 찼으면 -1)
+     */
+    private int acquire(Long lectureSlotId, ShardedSlot slot) {
+        int start = slot.home();
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < slot.shardCount(); i++) {
+                int shardIndex = (start + i) % slot.shardCount();
+                boolean knownExhausted = slot.exhausted.get(shardIndex) == 1;
+                if (knownExhausted != (pass == 1)) {
+                    continue;
+                }
+                if (lectureSlotShardRepository.incrementIfAvailable(lectureSlotId, shardIndex) > 0) {
+                    return shardIndex;
+                }
+                slot.exhausted.set(shardIndex, 1);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 슬롯의 메모리 상태를 반환하고, 없으면 적재
+     * - 먼저 자리를 차지한 스레드만 적재하고, 같은 슬롯의 다른 스레드는 그 결과를 기다린다.
+     * - 적재에 실패하면 자리를 비워 다음 호출이 다시 적재하도록 한다.
+     */
+    private ShardedSlot slot(Long lectureSlotId) {
+        CompletableFuture<ShardedSlot> slot = slots.get(lectureSlotId);
+        if (slot == null) {
+            CompletableFuture<ShardedSlot> loading = new CompletableFuture<>();
+            slot = slots.putIfAbsent(lectureSlotId, loading);
+            if (slot == null) {
+                slot = loading;
+                try {
+                    loading.complete(loadSlot(lectureSlotId));
+                } catch (RuntimeException ex) {
+                    slots.remove(lectureSlotId, loading);
+                    loading.completeExceptionally(ex);
+                }
+            }
+        }
+        try {
+            return slot.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private ShardedSlot loadSlot(Long lectureSlotId) {
+        int capacity = lectureCatalogService.getSlot(lectureSlotId).capacity();
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId)
+                .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
+        List<LectureSlotShard> shardRows = loadOrCreateShards(lectureSlotId, capacity, slotStatus.getCurrentApplicants());
+
+        // 신청 INSERT의 외래 키로만 사용하므로 슬롯은 조회하지 않고 참조만 보관
+        LectureSlot lectureSlot = lectureSlotRepository.getReferenceById(lectureSlotId);
+        ShardedSlot slot = new ShardedSlot(lectureSlot, capacity, slotStatus.getStatus() == LectureSlotStatusType.CLOSED, shardRows.size());
+        for (LectureSlotShard shard : shardRows) {
+            slot.committedApplicants.addAndGet(shard.getCurrentApplicants());
+            if (shard.getCurrentApplicants() >= shard.getCapacity()) {
+                slot.exhausted.set(shard.getShardIndex(), 1);
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * 슬롯의 샤드 행을 읽고, 없으면 정원과 현재 신청자 수를 샤드에 나누어 생성
+     * - 요청 트랜잭션과 무관하게 남도록 별도 트랜잭션에서 커밋하며, 다른 인스턴스가 먼저 만들었으면 그 행을 다시 읽는다.
+     */
+    private List<LectureSlotShard> loadOrCreateShards(Long lectureSlotId, int capacity, int currentApplicants) {
+        try {
+            return newTransactionTemplate.execute(tx -> {
+                List<LectureSlotShard> existing = lectureSlotShardRepository.findBySlotIdOrderByShardIndex(lectureSlotId);
+                if (!existing.isEmpty()) {
+                    return existing;
+                }
+                return lectureSlotShardRepository.saveAllAndFlush(split(lectureSlotId, capacity, currentApplicants));
+            });
+        } catch (DataIntegrityViolationException ex) {
+            return newTransactionTemplate.execute(tx -> lectureSlotShardRepository.findBySlotIdOrderByShardIndex(lectureSlotId));
+        }
+    }
+
+    /**
+     * 정원을 샤드 수로 고르게 나누고(나머지는 앞 샤드부터 1씩), 현재 신청자 수는 앞 샤드부터 채운다.
+     * - 샤드 수는 정원을 넘지 않도록 줄여서 정원이 0인 샤드가 생기지 않게 한다.
+     */
+    List<LectureSlotShard> split(Long lectureSlotId, int capacity, int currentApplicants) {
+        int shardCount = Math.max(1, Math.min(shards, capacity));
+        int remainingApplicants = Math.min(currentApplicants, capacity);
+        List<LectureSlotShard> shardRows = new ArrayList<>(shardCount);
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            int shardCapacity = capacity / shardCount + (shardIndex < capacity % shardCount ? 1 : 0);
+            int shardApplicants = Math.min(shardCapacity, remainingApplicants);
+            remainingApplicants -= shardApplicants;
+            shardRows.add(LectureSlotShard.builder()
+                    .slotId(lectureSlotId)
+                    .shardIndex(shardIndex)
+                    .capacity(shardCapacity)
+                    .currentApplicants(shardApplicants)
+                    .build());
+        }
+        return shardRows;
+    }
+
+    /**
+     * 요청 트랜잭션이 끝난 뒤 결과에 따라 메모리 상태를 갱신 (트랜잭션 밖이면 바로 커밋된 것으로 처리)
+     */
+    private static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 슬롯 하나의 메모리 상태
+     * - committedApplicants: 이 인스턴스에서 커밋된 예약만 반영한 신청자 수 (응답 / 이벤트의 신청자 수 추정용, DB 반영에는 쓰지 않음)
+     * - exhausted: 가득 찬 것으로 확인된 샤드 표시 (반납 / 롤백 시 해제되며, 좌석 확보의 기준은 항상 샤드 UPDATE)
+     * - closed: 마지막으로 확인한 마감 여부 (응답의 상태 표시용, 예약 가능 여부는 샤드 UPDATE가 판단)
+     */
+    private static final class ShardedSlot {
+        private final LectureSlot lectureSlot;
+        private final int capacity;
+        private volatile boolean closed;
+        private final AtomicInteger committedApplicants = new AtomicInteger();
+        private final AtomicIntegerArray exhausted;
+
+        private ShardedSlot(LectureSlot lectureSlot, int capacity, boolean closed, int shardCount) {
+            this.lectureSlot = lectureSlot;
+            this.capacity = capacity;
+            this.closed = closed;
+            this.exhausted = new AtomicIntegerArray(shardCount);
+        }
+
+        private int shardCount() {
+            return exhausted.length();
+        }
+
+        /**
+         * 호출 스레드의 해시로 고른 첫 시도 샤드 (LongAdder처럼 스레드마다 다른 샤드에서 시작하도록 분산)
+         */
+        private int home() {
+            long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+            return Math.floorMod((int) (hash ^ (hash >>> 32)), shardCount());
+        }
+
+        private LectureSlotStatusType status(int currentApplicants) {
+            if (closed) {
+                return LectureSlotStatusType.CLOSED;
+            }
+            return currentApplicants >= capacity ? LectureSlotStatusType.FULL : LectureSlotStatusType.OPEN;
+        }
+
+        private void clearExhausted() {
+            for (int i = 0; i < exhausted.length(); i++) {
+                exhausted.set(i, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter.SlotStatusSnapshot;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [슬롯별 잔여 좌석 카운터]
+ * - 잔여 좌석 수를 AtomicInteger로 보관하고, CAS로 감소시켜 락 없이 선착순 예약을 처리.
+ * - 잔여 좌석은 항상 DB의 신청자 수로 초기화하고, 정원 전에 FULL로 적재된 슬롯(수동 마감 등)은 별도 표시로 다룬다.
+ *   표시가 있는 동안은 신청을 받지 않고, 좌석이 반납되면 조건부 UPDATE의 FULL → OPEN 전환과 같이 표시를 해제한다.
+ */
+class SlotSeatCounter {
+
+    private final LectureSlot lectureSlot;
+    private final int capacity;
+    private final boolean closed;
+    private final AtomicInteger remaining;
+    private volatile boolean markedFull;
+
+    SlotSeatCounter(LectureSlot lectureSlot, int capacity, int currentApplicants, LectureSlotStatusType status) {
+        this.lectureSlot = lectureSlot;
+        this.capacity = capacity;
+        this.closed = status == LectureSlotStatusType.CLOSED;
+        this.remaining = new AtomicInteger(Math.max(capacity - currentApplicants, 0));
+        this.markedFull = status == LectureSlotStatusType.FULL;
+    }
+
+    LectureSlot lectureSlot() {
+        return lectureSlot;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 잔여 좌석 한 개를 확보.
+     * @return 확보 후 신청자 수, 잔여 좌석이 없으면 -1
+     */
+    int tryAcquire() {
+        if (markedFull) {
+            return -1;
+        }
+        while (true) {
+            int current = remaining.get();
+            if (current <= 0) {
+                return -1;
+            }
+            if (remaining.compareAndSet(current, current - 1)) {
+                return capacity - (current - 1);
+            }
+        }
+    }
+
+    /**
+     * 확보했던 좌석 한 개를 반납.
+     * @return 반납 후 신청자 수, 반납할 좌석이 없으면(신청자 0명) -1
+     */
+    int release() {
+        while (true) {
+            int current = remaining.get();
+            if (current >= capacity) {
+                return -1;
+            }
+            if (remaining.compareAndSet(current, current + 1)) {
+                markedFull = false;
+                return capacity - (current + 1);
+            }
+        }
+    }
+
+    LectureSlotStatusType status() {
+        return status(remaining.get());
+    }
+
+    /**
+     * 같은 시점의 신청자 수 / 상태 (잔여 좌석을 한 번만 읽어 두 값이 어긋나지 않게 함)
+     */
+    SlotStatusSnapshot snapshot() {
+        int current = remaining.get();
+        return new SlotStatusSnapshot(capacity - current, status(current));
+    }
+
+    private LectureSlotStatusType status(int remainingSeats) {
+        if (closed) {
+            return LectureSlotStatusType.CLOSED;
+        }
+        return remainingSeats <= 0 || markedFull ? LectureSlotStatusType.FULL : LectureSlotStatusType.OPEN;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.lecture.application.reservation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * [슬롯 상태 게이트]
+ * - 정원 초과(FULL) / 마감(CLOSED)으로 알려진 슬롯의 신청을 트랜잭션 / 락 / 신청 대기열 없이 메모리에서 바로 거절.
+ * - 예약 엔진이 발행하는 좌석 예약 / 반납 이벤트와 예약 엔진의 거절 결과로 갱신된다.
+ * - 기록된 상태는 ttl-ms 동안만 유지되어, 커밋 순서가 뒤바뀌는 등으로 상태를 잘못 알고 있더라도 그 시간 안에 DB 확인으로 돌아간다.
+ * - 상태를 모르는 슬롯은 항상 통과시키며, 대기자 명단이 활성화되어 있으면 FULL 슬롯의 신청도 대기자 등록을 위해 통과시킨다.
+ */
+@Component
+public class SlotStateGate {
+
+    private final boolean enabled;
+    private final boolean waitlistEnabled;
+    private final Cache<Long, LectureSlotStatusType> closedSlots;
+
+    public SlotStateGate(@Value("${lecture.apply.slot-gate.enabled:true}") boolean enabled,
+                         @Value("${lecture.apply.slot-gate.ttl-ms:1000}") long ttlMs,
+                         @Value("${lecture.waitlist.enabled:false}") boolean waitlistEnabled) {
+        this.enabled = enabled;
+        this.waitlistEnabled = waitlistEnabled;
+        this.closedSlots = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    /**
+     * 신청을 받을 수 없는 슬롯으로 알려져 있으면 예외를 던진다.
+     * @throws CapacityExceededException 정원 초과로 알려진 슬롯인 경우 (대기자 명단 비활성화 시)
+     * @throws LectureSlotClosedException 마감으로 알려진 슬롯인 경우
+     */
+    public void check(Long lectureSlotId) {
+        if (!enabled) {
+            return;
+        }
+        LectureSlotStatusType status = closedSlots.getIfPresent(lectureSlotId);
+        if (status == LectureSlotStatusType.CLOSED) {
+            throw new LectureSlotClosedException("강의 신청이 마감되었습니다.");
+        }
+        if (status == LectureSlotStatusType.FULL && !waitlistEnabled) {
+            throw new CapacityExceededException("강의 정원이 초과되었습니다.");
+        }
+    }
+
+    /**
+     * 슬롯 상태 기록. 신청 가능(OPEN) 상태면 기록을 지워 다음 신청이 통과하도록 한다.
+     */
+    public void record(Long lectureSlotId, LectureSlotStatusType status) {
+        if (status.isAvailable()) {
+            closedSlots.invalidate(lectureSlotId);
+        } else {
+            closedSlots.put(lectureSlotId, status);
+        }
+    }
+
+    /**
+     * 슬롯 상태 변경 이벤트 반영 (트랜잭션 안에서 발행된 경우 커밋 이후에만 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotStatusChanged(SlotStatusChangedEvent event) {
+        record(event.slotId(), event.status());
+    }
+
+    /**
+     * 좌석 반납 이벤트 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatReleased(SeatReleasedEvent event) {
+        record(event.slotId(), event.status());
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.lecture.application.reservation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * [슬롯 상태 비동기 영속화]
+ * - 인메모리에서 확정된 신청자 수 / 상태를 모아 두었다가 주기적으로 lecture_slot_status에 반영.
+ * - 같은 슬롯에 대한 변경은 하나로 합쳐서(coalescing) 한 번만 UPDATE 한다.
+ * - 변경 시점의 값이 아니라 슬롯의 상태 출처(인메모리 카운터 등)를 보관했다가 반영 시점에 다시 읽으므로,
+ *   늦게 도착한 이전 값이 최신 값을 덮어쓰지 않는다.
+ * - 저널이 활성화되면 변경을 먼저 로컬 저널에 기록(그룹 fsync)하여, DB에 반영되기 전에 종료되더라도 재기동 시 재생으로 복구한다.
+ * - 샤드 카운터 슬롯은 이 인스턴스의 값이 아니라 반영 시점의 샤드 행 합계를 DB에서 다시 계산하여 반영한다 (여러 인스턴스 공유).
+ */
+@Slf4j
+@Component
+public class SlotStatusAsyncWriter {
+
+    private final LectureSlotStatusRepository lectureSlotStatusRepository;
+    private final SlotStatusJournal slotStatusJournal;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, PendingSlotStatus> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final long flushIntervalMs;
+
+    public SlotStatusAsyncWriter(LectureSlotStatusRepository lectureSlotStatusRepository,
+                                 SlotStatusJournal slotStatusJournal,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${lecture.reservation.in-memory.flush-interval-ms:100}") long flushIntervalMs) {
+        this.lectureSlotStatusRepository = lectureSlotStatusRepository;
+        this.slotStatusJournal = slotStatusJournal;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-status-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    /**
+     * 저널에 남아 있는 (이전 실행에서 DB에 반영되지 못한) 변경을 복구한 뒤 주기적인 반영을 시작
+     * - 예약 전략이 슬롯 상태를 처음 읽기 전에 복구되도록 빈 초기화 시점에 수행.
+     */
+    @PostConstruct
+    public void start() {
+        recover();
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    void recover() {
+        Map<Long, SlotStatusJournal.JournalEntry> entries = slotStatusJournal.replay();
+        if (entries.isEmpty()) {
+            return;
+        }
+        entries.values().forEach(entry -> pending.put(entry.slotId(), new PendingSlotStatus(
+                () -> new SlotStatusSnapshot(entry.currentApplicants(), entry.status()), entry.lastUpdatedAt())));
+        log.info("슬롯 상태 저널에서 {}개 슬롯의 변경을 복구합니다.", entries.size());
+        flush();
+    }
+
+    /**
+     * 슬롯을 영속화 대기열에 등록 (이미 등록되어 있으면 출처만 갱신)
+     * - 신청자 수 / 상태는 DB 반영 시점에 source에서 다시 읽으므로, 호출 순서가 뒤바뀌어도 최신 값이 반영된다.
+     * - 저널이 활성화되어 있으면 등록 시점에 읽은 값을 저널에 기록하고 fsync가 끝날 때까지 대기 (같은 시점의 다른 변경들과 fsync를 함께 수행).
+     * - 대기열 갱신과 저널 등록(값 읽기 포함)을 슬롯 단위로 원자적으로 수행하여, 슬롯의 마지막 저널 기록이 마지막 변경 이후의 값이 되도록 한다.
+     * @param source 슬롯의 현재 신청자 수 / 상태를 읽는 출처
+     */
+    public void submit(Long slotId, Supplier<SlotStatusSnapshot> source) {
+        LocalDateTime lastUpdatedAt = LocalDateTime.now();
+        CompletableFuture<?>[] journaled = new CompletableFuture<?>[1];
+        pending.compute(slotId, (id, previous) -> {
+            SlotStatusSnapshot snapshot = source.get();
+            journaled[0] = slotStatusJournal.append(slotId, snapshot.currentApplicants(), snapshot.status(), lastUpdatedAt);
+            return new PendingSlotStatus(source, lastUpdatedAt);
+        });
+        try {
+            journaled[0].join();
+        } catch (CompletionException ex) {
+            // 저널 기록 실패는 내구성만 낮아지므로, 대기열의 DB 반영은 그대로 진행
+            log.warn("슬롯 상태 저널 기록에 실패했습니다. Slot ID: {}", slotId, ex.getCause());
+        }
+    }
+
+    /**
+     * 샤드 카운터 슬롯을 영속화 대기열에 등록
+     * - 신청자 수 / 상태는 반영 시점에 lecture_slot_shard 행의 합계로 한 문장 안에서 다시 계산하므로,
+     *   같은 샤드 행을 쓰는 다른 인스턴스의 예약도 함께 반영되고 서로의 값을 덮어쓰지 않는다.
+     * - 샤드 행은 요청 트랜잭션과 함께 커밋되어 이미 영속화되어 있으므로 저널에는 기록하지 않는다.
+     */
+    public void submitShardTotal(Long slotId) {
+        pending.put(slotId, new PendingSlotStatus(null, LocalDateTime.now()));
+    }
+
+    /**
+     * 대기 중인 변경 사항을 DB에 반영
+     * - 반영 전에 저널 세그먼트를 전환하고, 모든 변경이 반영되면 전환 이전 세그먼트를 삭제.
+     * - 주기 작업 / 종료 / 테스트에서 동시에 호출될 수 있으므로 한 번에 하나씩 수행 (세그먼트 삭제 시점 보장).
+     */
+    public synchronized void flush() {
+        List<Path> sealedSegments = slotStatusJournal.rotate();
+        boolean failed = false;
+        for (Long slotId : pending.keySet()) {
+            PendingSlotStatus slotStatus = pending.remove(slotId);
+            if (slotStatus == null) {
+                continue;
+            }
+            try {
+                if (slotStatus.fromShards()) {
+                    transactionTemplate.executeWithoutResult(tx -> lectureSlotStatusRepository.updateApplicantsFromShards(
+                            slotId, slotStatus.lastUpdatedAt()));
+                    continue;
+                }
+                SlotStatusSnapshot snapshot = slotStatus.source().get();
+                transactionTemplate.executeWithoutResult(tx -> lectureSlotStatusRepository.updateApplicants(
+                        slotId, snapshot.currentApplicants(), snapshot.status(), slotStatus.lastUpdatedAt()));
+            } catch (RuntimeException ex) {
+                // 반영 실패 시 더 최신 값이 없다면 다음 주기에 다시 시도
+                pending.putIfAbsent(slotId, slotStatus);
+                failed = true;
+                log.warn("슬롯 상태 비동기 반영에 실패했습니다. Slot ID: {}", slotId, ex);
+            }
+        }
+        // 반영에 실패한 변경이 있으면 다음 주기에 함께 삭제되도록 세그먼트를 남겨 둔다
+        if (!failed) {
+            slotStatusJournal.delete(sealedSegments);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * 반영 시점에 읽은 슬롯의 신청자 수 / 상태
+     */
+    public record SlotStatusSnapshot(int currentApplicants, LectureSlotStatusType status) {
+    }
+
+    /**
+     * 반영 대기 중인 슬롯 (source가 없으면 샤드 행의 합계로 반영)
+     */
+    private record PendingSlotStatus(Supplier<SlotStatusSnapshot> source, LocalDateTime lastUpdatedAt) {
+
+        private boolean fromShards() {
+            return source == null;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package org.example.lecture.application.reservation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * [슬롯 상태 저널]
+ * - 비동기 반영 대기 중인 슬롯 신청자 수 / 상태 변경을 로컬 추가 전용(append-only) 파일에 먼저 기록.
+ * - 기록 요청은 작성 스레드가 모아서 한 번의 write + fsync(FileChannel.force)로 처리(그룹 fsync)하므로,
+ *   동시에 들어온 변경들이 fsync 한 번의 비용을 나누어 부담한다.
+ * - 저널은 세그먼트 파일 단위로 관리: DB 반영 직전에 새 세그먼트로 전환(rotate)하고, 반영이 끝난 이전 세그먼트는 삭제.
+ * - 재기동 시 남아 있는 세그먼트를 순서대로 재생하여 슬롯별 마지막 값을 복원 (중간에 잘린 레코드 이후는 무시).
+ */
+@Slf4j
+@Component
+public class SlotStatusJournal {
+
+    // slotId(8) + currentApplicants(4) + status(1) + lastUpdatedAt(8) + crc32(4)
+    static final int RECORD_BYTES = 25;
+    private static final String SEGMENT_PREFIX = "slot-status-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final CompletableFuture<Void> DISABLED = CompletableFuture.completedFuture(null);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock segmentLock = new ReentrantLock();
+    private final Thread writerThread;
+    private FileChannel channel;
+    private long segmentSequence;
+    private volatile boolean running;
+
+    public SlotStatusJournal(@Value("${lecture.reservation.journal.enabled:false}") boolean enabled,
+                             @Value("${lecture.reservation.journal.directory:data/slot-status-journal}") String directory,
+                             @Value("${lecture.reservation.journal.max-batch-size:512}") int maxBatchSize) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.maxBatchSize = maxBatchSize;
+        this.writerThread = new Thread(this::run, "slot-status-journal");
+        this.writerThread.setDaemon(true);
+        if (enabled) {
+            try {
+                Files.createDirectories(this.directory);
+                List<Path> segments = segments();
+                this.segmentSequence = segments.isEmpty() ? 0 : sequenceOf(segments.get(segments.size() - 1));
+                openNextSegment();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("슬롯 상태 저널을 열 수 없습니다. 경로: " + this.directory, ex);
+            }
+            this.running = true;
+            this.writerThread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 슬롯 상태 변경을 저널 기록 대기열에 등록.
+     * @return 변경이 포함된 그룹이 fsync 되면 완료되는 CompletableFuture (비활성화 시 바로 완료)
+     */
+    public CompletableFuture<Void> append(Long slotId, int currentApplicants, LectureSlotStatusType status,
+                                          LocalDateTime lastUpdatedAt) {
+        if (!running) {
+            return DISABLED;
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        queue.offer(new PendingRecord(new JournalEntry(slotId, currentApplicants, status, lastUpdatedAt), future));
+        return future;
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트로 전환.
+     * - 전환 이후의 기록은 새 세그먼트에만 들어가므로, 반환된 세그먼트들은 지금 대기 중인 변경을 DB에 반영한 뒤 삭제할 수 있다.
+     * @return 전환 전까지 기록된(새 세그먼트를 제외한) 세그먼트 목록
+     */
+    public List<Path> rotate() {
+        if (!running) {
+            return List.of();
+        }
+        segmentLock.lock();
+        try {
+            channel.close();
+            openNextSegment();
+            Path current = segmentPath(segmentSequence);
+            return segments().stream().filter(segment -> !segment.equals(current)).toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("슬롯 상태 저널 세그먼트를 전환할 수 없습니다.", ex);
+        } finally {
+            segmentLock.unlock();
+        }
+    }
+
+    /**
+     * DB 반영이 끝난 세그먼트를 삭제
+     */
+    public void delete(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException ex) {
+                log.warn("슬롯 상태 저널 세그먼트를 삭제하지 못했습니다. 파일: {}", segment, ex);
+            }
+        }
+    }
+
+    /**
+     * 남아 있는 세그먼트를 순서대로 재생하여 슬롯별 마지막 상태를 반환 (재기동 시 DB에 반영되지 못한 변경 복구용)
+     */
+    public Map<Long, JournalEntry> replay() {
+        Map<Long, JournalEntry> latest = new LinkedHashMap<>();
+        if (!enabled) {
+            return latest;
+        }
+        try {
+            for (Path segment : segments()) {
+                for (JournalEntry entry : read(segment)) {
+                    latest.put(entry.slotId(), entry);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("슬롯 상태 저널을 재생할 수 없습니다.", ex);
+        }
+        return latest;
+    }
+
+    /**
+     * 세그먼트의 레코드를 읽음. 크기가 모자라거나 체크섬이 맞지 않는 레코드(쓰는 도중 종료된 꼬리)부터는 버린다.
+     */
+    static List<JournalEntry> read(Path segment) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        while (buffer.remaining() >= RECORD_BYTES) {
+            int start = buffer.position();
+            long slotId = buffer.getLong();
+            int currentApplicants = buffer.getInt();
+            byte status = buffer.get();
+            long lastUpdatedAt = buffer.getLong();
+            int checksum = buffer.getInt();
+            if (checksum != checksum(buffer.array(), start) || status < 0 || status >= LectureSlotStatusType.values().length) {
+                log.warn("슬롯 상태 저널의 손상된 레코드 이후를 무시합니다. 파일: {}, 위치: {}", segment, start);
+                break;
+            }
+            entries.add(new JournalEntry(slotId, currentApplicants, LectureSlotStatusType.values()[status],
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(lastUpdatedAt), ZoneOffset.UTC)));
+        }
+        return entries;
+    }
+
+    private void run() {
+        List<PendingRecord> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 이전 fsync 동안 쌓인 기록을 한 번에 모아서 쓴다
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        List<PendingRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    void write(List<PendingRecord> batch) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * batch.size());
+        for (PendingRecord pending : batch) {
+            encode(pending.entry(), buffer);
+        }
+        buffer.flip();
+
+        segmentLock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            batch.forEach(pending -> pending.future().complete(null));
+        } catch (IOException ex) {
+            log.warn("슬롯 상태 저널 기록에 실패했습니다. 건수: {}", batch.size(), ex);
+            batch.forEach(pending -> pending.future().completeExceptionally(ex));
+        } finally {
+            segmentLock.unlock();
+        }
+    }
+
+    private static void encode(JournalEntry entry, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(entry.slotId());
+        buffer.putInt(entry.currentApplicants());
+        buffer.put((byte) entry.status().ordinal());
+        buffer.putLong(entry.lastUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        buffer.putInt(checksum(buffer.array(), start));
+    }
+
+    private static int checksum(byte[] bytes, int recordStart) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, recordStart, RECORD_BYTES - Integer.BYTES);
+        return (int) crc.getValue();
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentSequence++;
+        channel = FileChannel.open(segmentPath(segmentSequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%019d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        segmentLock.lock();
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("슬롯 상태 저널을 닫지 못했습니다.", ex);
+        } finally {
+            segmentLock.unlock();
+        }
+    }
+
+    /**
+     * 저널에 기록된 슬롯 상태 변경 한 건
+     */
+    public record JournalEntry(Long slotId, int currentApplicants, LectureSlotStatusType status, LocalDateTime lastUpdatedAt) {
+    }
+
+    record PendingRecord(JournalEntry entry, CompletableFuture<Void> future) {
+    }
+}
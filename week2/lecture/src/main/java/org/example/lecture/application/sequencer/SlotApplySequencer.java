@@ -0,0 +1,118 @@
+package org.example.lecture.application.sequencer;
+
+import jakarta.annotation.PreDestroy;
+import org.example.lecture.application.exception.ApplyQueueFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * [슬롯별 단일 작성자(single-writer) 신청 시퀀서]
+ * - 신청 요청을 강의 슬롯별 대기열에 넣고, 슬롯마다 한 번에 하나의 작업만 실행되도록 직렬화.
+ * - 서로 다른 슬롯의 대기열은 가상 스레드에서 병렬로 처리.
+ * - 인기 슬롯에 몰린 요청은 DB 락 대기열이 아닌 메모리 대기열에서 순서를 기다리므로,
+ *   Tomcat 스레드와 DB 커넥션이 같은 행 락에 묶이지 않는다.
+ */
+@Component
+public class SlotApplySequencer {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, SlotLane> lanes = new ConcurrentHashMap<>();
+    private final int maxPendingPerSlot;
+
+    public SlotApplySequencer(@Value("${lecture.apply.sequencer.max-pending-per-slot:10000}") int maxPendingPerSlot) {
+        this.maxPendingPerSlot = maxPendingPerSlot;
+    }
+
+    /**
+     * 슬롯의 대기열에 작업을 등록.
+     * @param lectureSlotId 강의 슬롯 ID
+     * @param task          슬롯 내에서 직렬로 실행할 작업
+     * @return 작업 결과가 채워질 CompletableFuture
+     * @throws ApplyQueueFullException 슬롯의 대기 작업 수가 한도를 넘은 경우
+     */
+    public <T> CompletableFuture<T> submit(Long lectureSlotId, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable laneTask = () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        };
+        // 대기열 등록은 맵 항목 갱신 안에서 수행하여, 비워진 대기열을 제거하는 작업과 겹치지 않게 한다.
+        SlotLane lane = lanes.compute(lectureSlotId, (id, current) -> {
+            SlotLane target = current == null ? new SlotLane(id) : current;
+            if (target.pending.get() >= maxPendingPerSlot) {
+                throw new ApplyQueueFullException(id, maxPendingPerSlot);
+            }
+            target.pending.incrementAndGet();
+            target.tasks.offer(laneTask);
+            return target;
+        });
+        lane.schedule();
+        return future;
+    }
+
+    /**
+     * 현재 유지 중인 슬롯 대기열 수 (테스트 확인용)
+     */
+    int laneCount() {
+        return lanes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * 슬롯 하나의 대기열. running 플래그로 동시에 하나의 드레인 작업만 실행되도록 보장.
+     * - 대기 작업을 모두 처리하면 맵에서 제거되어, 한 번이라도 신청이 들어온 슬롯마다 대기열이 계속 쌓이지 않는다.
+     */
+    private class SlotLane {
+        private final Long lectureSlotId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private SlotLane(Long lectureSlotId) {
+            this.lectureSlotId = lectureSlotId;
+        }
+
+        private void schedule() {
+            if (running.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+            running.set(false);
+            // 플래그를 내린 사이 새로 들어온 작업이 있으면 다시 드레인
+            if (!tasks.isEmpty()) {
+                schedule();
+                return;
+            }
+            // 등록과 같은 맵 항목 갱신 안에서 확인하므로, 대기 작업이 없을 때만 제거된다
+            lanes.computeIfPresent(lectureSlotId, (id, current) -> current == this && pending.get() == 0 ? null : current);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.lecture.application.sequencer;
+
+import java.time.LocalDateTime;
+
+/**
+ * [슬롯 경합 상태]
+ * - 직전 측정 구간의 신청 유입률 / 평균 락 대기 시간과, 시퀀서 경로로 승격되었는지 여부.
+ *
+ * @param slotId             강의 슬롯 ID
+ * @param hot                시퀀서 경로로 승격된 인기 슬롯 여부
+ * @param arrivalsPerSecond  직전 구간의 초당 신청 유입 수
+ * @param averageLockWaitMs  직전 구간의 평균 락 획득 대기 시간 (밀리초)
+ * @param hotSince           승격 시각 (승격되지 않았으면 null)
+ */
+public record SlotContentionStatus(Long slotId, boolean hot, double arrivalsPerSecond, double averageLockWaitMs,
+                                   LocalDateTime hotSince) {
+}
@@ -0,0 +1,179 @@
+package org.example.lecture.application.sequencer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [슬롯 경합 추적기 - 인기 슬롯 감지]
+ * - 슬롯별 신청 유입 수와 비관적 락 대기 시간(LectureSlotService)을 모아, 측정 구간(window-ms)마다 유입률 / 평균 락 대기 시간을 계산.
+ * - 유입률이나 락 대기 시간이 승격 기준을 넘은 슬롯은 인기(hot) 슬롯으로 승격되어, 신청이 슬롯별 시퀀서(메모리 대기열)를 거쳐 직렬로 처리된다.
+ * - 인기 슬롯은 유입률과 락 대기 시간이 모두 강등 기준 아래로 cool-down-windows 구간 연속 유지되면 다시 일반 경로로 강등.
+ * - 일반 경로와 시퀀서 경로 모두 좌석은 같은 예약 전략(DB)으로 확보하므로, 전환 중에 두 경로의 신청이 섞여도 정원은 지켜진다.
+ */
+@Slf4j
+@Component
+public class SlotContentionTracker {
+
+    private final boolean enabled;
+    private final long windowMs;
+    private final double promoteArrivalsPerSecond;
+    private final double promoteLockWaitMs;
+    private final double demoteArrivalsPerSecond;
+    private final int coolDownWindows;
+    private final Map<Long, SlotContention> slots = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public SlotContentionTracker(@Value("${lecture.apply.hot-slot.enabled:true}") boolean enabled,
+                                 @Value("${lecture.apply.hot-slot.window-ms:1000}") long windowMs,
+                                 @Value("${lecture.apply.hot-slot.promote-arrivals-per-second:50}") double promoteArrivalsPerSecond,
+                                 @Value("${lecture.apply.hot-slot.promote-lock-wait-ms:20}") double promoteLockWaitMs,
+                                 @Value("${lecture.apply.hot-slot.demote-arrivals-per-second:10}") double demoteArrivalsPerSecond,
+                                 @Value("${lecture.apply.hot-slot.cool-down-windows:5}") int coolDownWindows) {
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.promoteArrivalsPerSecond = promoteArrivalsPerSecond;
+        this.promoteLockWaitMs = promoteLockWaitMs;
+        this.demoteArrivalsPerSecond = demoteArrivalsPerSecond;
+        this.coolDownWindows = coolDownWindows;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-contention-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::evaluate, windowMs, windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 슬롯에 신청이 들어왔음을 기록
+     * @return 슬롯이 인기 슬롯으로 승격되어 있으면 true
+     */
+    public boolean recordArrival(Long lectureSlotId) {
+        if (!enabled) {
+            return false;
+        }
+        SlotContention contention = slots.computeIfAbsent(lectureSlotId, SlotContention::new);
+        contention.arrivals.increment();
+        return contention.hot;
+    }
+
+    /**
+     * 슬롯의 비관적 락 획득 대기 시간을 기록
+     */
+    public void recordLockWait(Long lectureSlotId, long waitNanos) {
+        if (!enabled) {
+            return;
+        }
+        SlotContention contention = slots.computeIfAbsent(lectureSlotId, SlotContention::new);
+        contention.lockWaitNanos.add(waitNanos);
+        contention.lockWaits.increment();
+    }
+
+    public boolean isHot(Long lectureSlotId) {
+        SlotContention contention = slots.get(lectureSlotId);
+        return contention != null && contention.hot;
+    }
+
+    /**
+     * 측정 구간을 마감하고 슬롯별 승격 / 강등을 판정
+     * - 인기 슬롯이 아니면서 구간 동안 신청이 없던 슬롯은 추적 대상에서 제거하여 기록이 무한히 늘지 않게 한다.
+     */
+    public void evaluate() {
+        for (SlotContention contention : slots.values()) {
+            long arrivals = contention.arrivals.sumThenReset();
+            long lockWaits = contention.lockWaits.sumThenReset();
+            long lockWaitNanos = contention.lockWaitNanos.sumThenReset();
+            contention.arrivalsPerSecond = arrivals * 1000.0 / windowMs;
+            contention.averageLockWaitMs = lockWaits == 0 ? 0 : lockWaitNanos / 1_000_000.0 / lockWaits;
+
+            if (!contention.hot) {
+                if (contention.arrivalsPerSecond >= promoteArrivalsPerSecond || contention.averageLockWaitMs >= promoteLockWaitMs) {
+                    promote(contention);
+                } else if (arrivals == 0 && lockWaits == 0) {
+                    slots.remove(contention.slotId, contention);
+                }
+                continue;
+            }
+
+            if (contention.arrivalsPerSecond < demoteArrivalsPerSecond && contention.averageLockWaitMs < promoteLockWaitMs) {
+                if (++contention.coolWindows >= coolDownWindows) {
+                    demote(contention);
+                }
+            } else {
+                contention.coolWindows = 0;
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 슬롯의 경합 상태 (인기 슬롯 먼저, 유입률 높은 순)
+     */
+    public List<SlotContentionStatus> getStatuses() {
+        return slots.values().stream()
+                .map(SlotContention::toStatus)
+                .sorted(Comparator.comparing(SlotContentionStatus::hot).reversed()
+                        .thenComparing(Comparator.comparingDouble(SlotContentionStatus::arrivalsPerSecond).reversed()))
+                .toList();
+    }
+
+    private void promote(SlotContention contention) {
+        contention.hot = true;
+        contention.coolWindows = 0;
+        contention.hotSince = LocalDateTime.now();
+        log.info("인기 슬롯으로 승격합니다. Slot ID: {}, 초당 유입: {}, 평균 락 대기(ms): {}",
+                contention.slotId, contention.arrivalsPerSecond, contention.averageLockWaitMs);
+    }
+
+    private void demote(SlotContention contention) {
+        contention.hot = false;
+        contention.coolWindows = 0;
+        contention.hotSince = null;
+        log.info("인기 슬롯에서 일반 경로로 강등합니다. Slot ID: {}", contention.slotId);
+    }
+
+    /**
+     * 슬롯 하나의 경합 측정값. 카운터는 요청 스레드가, 나머지 필드는 판정 스레드만 갱신한다.
+     */
+    private static class SlotContention {
+        private final Long slotId;
+        private final LongAdder arrivals = new LongAdder();
+        private final LongAdder lockWaits = new LongAdder();
+        private final LongAdder lockWaitNanos = new LongAdder();
+        private volatile boolean hot;
+        private volatile double arrivalsPerSecond;
+        private volatile double averageLockWaitMs;
+        private volatile LocalDateTime hotSince;
+        private int coolWindows;
+
+        private SlotContention(Long slotId) {
+            this.slotId = slotId;
+        }
+
+        private SlotContentionStatus toStatus() {
+            return new SlotContentionStatus(slotId, hot, arrivalsPerSecond, averageLockWaitMs, hotSince);
+        }
+    }
+}
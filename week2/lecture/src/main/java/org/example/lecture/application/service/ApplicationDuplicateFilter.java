@@ -0,0 +1,101 @@
+package org.example.lecture.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [슬롯별 중복 신청 블룸 필터]
+ * - 슬롯마다 (사용자 ID) 집합을 비트 배열 기반 블룸 필터로 기억하여, 반복 클릭 같은 명백한 중복 신청을 빠르게 걸러낸다.
+ * - "없음" 판정은 필터가 기록한 신청에 대해서만 정확하다. 필터는 기동 시 비어 있고 오래 쓰이지 않은 슬롯의 필터는 제거되므로,
+ *   그 이전의 신청은 "없음"으로 판정될 수 있다. 이 경우 DB 중복 조회 없이 INSERT를 시도하고 중복은 유니크 제약 위반으로 걸러진다.
+ * - "있을 수 있음" 판정은 오탐일 수 있으므로 호출자가 DB(유니크 인덱스)로 한 번 더 확인해야 한다.
+ * - 슬롯마다 비트 배열(기본 8 KiB)을 가지므로, 보관하는 슬롯 수를 제한하여 메모리 사용량의 상한을 둔다.
+ */
+@Component
+public class ApplicationDuplicateFilter {
+
+    private final boolean enabled;
+    private final int bitsPerSlot;
+    private final int hashFunctions;
+    private final Cache<Long, AtomicLongArray> filters;
+
+    public ApplicationDuplicateFilter(@Value("${lecture.application.duplicate-filter.enabled:true}") boolean enabled,
+                                      @Value("${lecture.application.duplicate-filter.bits-per-slot:65536}") int bitsPerSlot,
+                                      @Value("${lecture.application.duplicate-filter.hash-functions:3}") int hashFunctions,
+                                      @Value("${lecture.application.duplicate-filter.maximum-slots:1024}") long maximumSlots) {
+        if (bitsPerSlot <= 0 || hashFunctions <= 0) {
+            throw new IllegalArgumentException("블룸 필터의 비트 수와 해시 함수 수는 1 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.bitsPerSlot = bitsPerSlot;
+        this.hashFunctions = hashFunctions;
+        this.filters = Caffeine.newBuilder()
+                .maximumSize(maximumSlots)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자가 슬롯에 이미 신청했을 가능성이 있는지 확인
+     * @return false이면 필터에 기록된 신청 없음, true이면 DB 확인 필요 (필터 비활성화 시 항상 true)
+     */
+    public boolean mightContain(Long slotId, Long userId) {
+        if (!enabled) {
+            return true;
+        }
+        AtomicLongArray bits = filters.getIfPresent(slotId);
+        if (bits == null) {
+            return false;
+        }
+        long hash = mix(userId);
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(hash, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 사용자의 슬롯 신청을 필터에 기록
+     */
+    public void put(Long slotId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        AtomicLongArray bits = filters.get(slotId, id -> new AtomicLongArray((bitsPerSlot + 63) >>> 6));
+        long hash = mix(userId);
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(hash, i);
+            long mask = 1L << index;
+            bits.getAndAccumulate(index >>> 6, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    /**
+     * 이중 해싱(h1 + i * h2)으로 i번째 비트 위치 계산
+     */
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return Math.floorMod(h1 + i * h2, bitsPerSlot);
+    }
+
+    /**
+     * 연속된 사용자 ID도 고르게 퍼지도록 64비트 해시로 섞는다 (SplitMix64 finalizer)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
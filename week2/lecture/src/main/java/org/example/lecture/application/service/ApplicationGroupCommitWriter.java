@@ -0,0 +1,154 @@
+package org.example.lecture.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.domain.application.Application;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * [신청 그룹 커밋 작성기]
+ * - 수락된 신청을 짧은 시간(max-wait-ms) 또는 최대 건수(max-batch-size)만큼 모아
+ *   하나의 트랜잭션 / 하나의 JDBC 배치로 INSERT 한 뒤, 커밋이 끝나면 호출자에게 결과를 알린다.
+ * - 배치 중 한 건이라도 실패하면(중복 신청 등) 건별 트랜잭션으로 다시 저장하여 실패한 건만 예외로 완료.
+ * - 신청 ID는 시퀀스(pooled) 방식으로 미리 할당되므로 IDENTITY와 달리 JDBC 배치가 비활성화되지 않는다.
+ */
+@Slf4j
+@Component
+public class ApplicationGroupCommitWriter {
+
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingApplication> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    public ApplicationGroupCommitWriter(ApplicationRepository applicationRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${lecture.application.group-commit.enabled:false}") boolean enabled,
+                                        @Value("${lecture.application.group-commit.max-batch-size:50}") int maxBatchSize,
+                                        @Value("${lecture.application.group-commit.max-wait-ms:5}") long maxWaitMs) {
+        this.applicationRepository = applicationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.writerThread = new Thread(this::run, "application-group-commit");
+        this.writerThread.setDaemon(true);
+        if (enabled) {
+            this.running = true;
+            this.writerThread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 신청 INSERT를 다음 그룹 커밋에 등록.
+     * @param applicationFactory 저장할 신청 엔티티 생성 함수 (배치 실패 시 건별 재시도를 위해 새 엔티티를 만들 수 있어야 함)
+     * @return 커밋이 완료되면 저장된 신청으로 완료되는 CompletableFuture
+     */
+    public CompletableFuture<Application> submit(Supplier<Application> applicationFactory) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("신청 그룹 커밋 작성기가 실행 중이 아닙니다."));
+        }
+        CompletableFuture<Application> future = new CompletableFuture<>();
+        queue.offer(new PendingApplication(applicationFactory, future));
+        return future;
+    }
+
+    private void run() {
+        List<PendingApplication> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingApplication first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 건이 도착한 시점부터 max-wait-ms 동안, 최대 max-batch-size 건까지 모은다
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingApplication next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException ex) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료 시 남은 요청 처리
+        List<PendingApplication> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    void flush(List<PendingApplication> batch) {
+        try {
+            List<Application> saved = transactionTemplate.execute(status -> {
+                List<Application> applications = batch.stream()
+                        .map(pending -> pending.applicationFactory().get())
+                        .toList();
+                List<Application> result = applicationRepository.saveAll(applications);
+                applicationRepository.flush();
+                return result;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(saved.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.debug("신청 그룹 커밋에 실패하여 건별 저장으로 전환합니다. 배치 크기: {}", batch.size(), batchFailure);
+            batch.forEach(this::saveIndividually);
+        }
+    }
+
+    private void saveIndividually(PendingApplication pending) {
+        try {
+            Application saved = transactionTemplate.execute(status ->
+                    applicationRepository.saveAndFlush(pending.applicationFactory().get()));
+            pending.future().complete(saved);
+        } catch (RuntimeException ex) {
+            pending.future().completeExceptionally(ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    record PendingApplication(Supplier<Application> applicationFactory, CompletableFuture<Application> future) {
+    }
+}
@@ -1,25 +1,53 @@
 package org.example.lecture.application.service;
 
+import io.micrometer.core.instrument.Timer;
 import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.metrics.ApplyMetrics;
 import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.application.ApplicationAppliedEvent;
 import org.example.lecture.domain.application.ApplicationStatusType;
+import org.example.lecture.domain.application.UserApplicationSummary;
+import org.example.lecture.domain.application.UserApplicationsChangedEvent;
 import org.example.lecture.domain.lecture.LectureSlot;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
 import org.example.lecture.infrastructure.application.ApplicationRepository;
 import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class ApplicationService {
 
+    // (user_id, slot_id) 유니크 제약 이름 (Application 엔티티 / schema.sql과 동일)
+    private static final String USER_SLOT_UNIQUE_CONSTRAINT = "uk_application_user_slot";
+
     private final ApplicationRepository applicationRepository;
+    private final ApplicationGroupCommitWriter applicationGroupCommitWriter;
+    private final ApplicationDuplicateFilter applicationDuplicateFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplyMetrics applyMetrics;
 
-    public ApplicationService(ApplicationRepository applicationRepository) {
+    public ApplicationService(ApplicationRepository applicationRepository,
+                              ApplicationGroupCommitWriter applicationGroupCommitWriter,
+                              ApplicationDuplicateFilter applicationDuplicateFilter,
+                              ApplicationEventPublisher eventPublisher,
+                              ApplyMetrics applyMetrics) {
         this.applicationRepository = applicationRepository;
+        this.applicationGroupCommitWriter = applicationGroupCommitWriter;
+        this.applicationDuplicateFilter = applicationDuplicateFilter;
+        this.eventPublisher = eventPublisher;
+        this.applyMetrics = applyMetrics;
     }
 
     /**
@@ -38,18 +66,77 @@ public class ApplicationService {
         return applications;
     }
 
+    /**
+     * 특정 사용자의 신청 완료 내역을 강의 / 슬롯 정보와 함께 조회 (조인 한 번, 엔티티 로딩 없음)
+     * @param userId 사용자 ID
+     * @return 신청 완료 내역 (없으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<UserApplicationSummary> getCompletedApplicationSummaries(Long userId) {
+        return applicationRepository.findCompletedSummariesByUserId(userId);
+    }
+
+    /**
+     * 특정 사용자의 신청 내역을 조회
+     * @param userId        사용자 ID
+     * @param applicationId 신청 ID
+     * @throws ApplicationNotFoundException 신청이 없거나 다른 사용자의 신청일 때 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public Application getApplication(Long userId, Long applicationId) {
+        return applicationRepository.findById(applicationId)
+                .filter(application -> application.getUserId().equals(userId))
+                .orElseThrow(() -> new ApplicationNotFoundException(
+                        "해당 사용자 (" + userId + ")의 신청 내역 (" + applicationId + ")이 존재하지 않습니다."));
+    }
+
+    /**
+     * [신청 취소]
+     * - 신청이 기대한 상태일 때만 삭제하여, 대기 신청의 승격과 취소가 동시에 일어나도 한쪽만 반영되도록 한다.
+     * - 취소한 사용자는 다시 신청할 수 있다. (블룸 필터의 기록은 남지만 유니크 인덱스 재확인으로 통과)
+     * - 신청 완료를 취소한 경우 사용자의 신청 내역 변경 이벤트를 발행.
+     * @param userId        신청자 ID
+     * @param applicationId 취소할 신청 ID
+     * @param status        취소 시점에 기대하는 신청 상태
+     * @return 취소 여부
+     */
+    @Transactional
+    public boolean cancel(Long userId, Long applicationId, ApplicationStatusType status) {
+        if (applicationRepository.deleteIfStatus(applicationId, status) == 0) {
+            return false;
+        }
+        if (status == ApplicationStatusType.APPLIED) {
+            eventPublisher.publishEvent(new UserApplicationsChangedEvent(userId));
+        }
+        return true;
+    }
+
     /**
      * [강의 신청 처리 및 상태 저장]
      * - 강의 슬롯에 대한 신청 상태를 저장.
+     * - 중복 신청은 (user_id, slot_id) 유니크 제약으로 판정하므로, INSERT 전에 중복 조회 쿼리를 실행하지 않는다.
+     * - 블룸 필터가 "이미 신청했을 수 있음"으로 판정한 경우에만 유니크 인덱스로 한 번 더 확인하여 반복 클릭을 INSERT 전에 거절.
+     * - 소요 시간은 lecture.application.insert 타이머로 기록 (중복 신청은 outcome=duplicate).
      * @param userId       신청자 ID
      * @param lectureSlot  신청할 강의 슬롯
+     * @throws DuplicateApplicationException 이미 해당 강의 슬롯에 신청한 경우
      */
     @Transactional
     public Application applyToLectureSlot(Long userId, LectureSlot lectureSlot) {
-        // 동일 사용자가 동일 강의에 중복 신청하지 않도록 체크
-        if (applicationRepository.existsByUserIdAndLectureSlot(userId, lectureSlot)) {
-            throw new IllegalStateException("이미 해당 강의에 신청되었습니다.");
+        Timer.Sample sample = applyMetrics.start();
+        try {
+            Application saved = insertApplied(userId, lectureSlot);
+            applyMetrics.recordInsert(sample, lectureSlot.getSlotId(), null);
+            return saved;
+        } catch (RuntimeException ex) {
+            applyMetrics.recordInsert(sample, lectureSlot.getSlotId(), ex);
+            throw ex;
         }
+    }
+
+    private Application insertApplied(Long userId, LectureSlot lectureSlot) {
+        // 반복 클릭 등 명백한 중복 신청은 INSERT 전에 거절
+        rejectKnownDuplicate(userId, lectureSlot);
 
         // 신청 엔티티 생성 및 저장
         Application application = new Application(userId, lectureSlot);
@@ -57,7 +144,170 @@ public class ApplicationService {
         // 강의 슬롯의 정원이 다 차지 않았을 경우, 상태를 신청 완료로 변경
         application.apply();
 
-        return applicationRepository.save(application);
+        try {
+            // 유니크 제약 위반을 이 자리에서 감지하기 위해 즉시 flush
+            Application saved = applicationRepository.saveAndFlush(application);
+            applicationDuplicateFilter.put(lectureSlot.getSlotId(), userId);
+            eventPublisher.publishEvent(ApplicationAppliedEvent.from(lectureSlot.getSlotId(), saved));
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateDuplicate(ex, userId, lectureSlot);
+        }
+    }
+
+    /**
+     * [대기자 명단 등록]
+     * - 정원이 찬 강의 슬롯에 대기 순번을 가진 WAITING 신청을 저장 (대기열의 DB 기록).
+     * - 중복 신청 판정은 applyToLectureSlot과 동일하게 (user_id, slot_id) 유니크 제약으로 처리.
+     * @param userId          신청자 ID
+     * @param lectureSlot     대기할 강의 슬롯
+     * @param waitingSequence 슬롯 내 대기 순번
+     * @throws DuplicateApplicationException 이미 해당 강의 슬롯에 신청 / 대기 중인 경우
+     */
+    @Transactional
+    public Application applyAsWaiting(Long userId, LectureSlot lectureSlot, long waitingSequence) {
+        rejectKnownDuplicate(userId, lectureSlot);
+
+        Application application = new Application(userId, lectureSlot, waitingSequence);
+
+        try {
+            Application saved = applicationRepository.saveAndFlush(application);
+            applicationDuplicateFilter.put(lectureSlot.getSlotId(), userId);
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateDuplicate(ex, userId, lectureSlot);
+        }
+    }
+
+    /**
+     * [대기 신청 승격]
+     * - 대기 중인 신청을 신청 완료 상태로 전환하고, 사용자의 신청 내역 변경 이벤트를 발행.
+     * @param userId        신청자 ID
+     * @param applicationId 승격할 신청 ID
+     * @return 승격 여부 (이미 대기 상태가 아니면 false)
+     */
+    @Transactional
+    public boolean promoteWaiting(Long userId, Long applicationId) {
+        if (applicationRepository.promoteWaiting(applicationId) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new UserApplicationsChangedEvent(userId));
+        return true;
+    }
+
+    /**
+     * [일괄 신청 저장]
+     * - 여러 강의 슬롯의 신청을 saveAll + flush 한 번으로 저장 (신청 ID가 시퀀스로 미리 할당되므로 한 번의 JDBC 배치 INSERT).
+     * - 이미 신청한 슬롯이 포함되면 유니크 제약 위반으로 전체가 실패하며 DuplicateApplicationException으로 변환.
+     * @param userId       신청자 ID
+     * @param lectureSlots 신청할 강의 슬롯 목록
+     * @return 저장된 신청 목록 (lectureSlots와 같은 순서)
+     */
+    @Transactional
+    public List<Application> applyToLectureSlots(Long userId, List<LectureSlot> lectureSlots) {
+        Timer.Sample sample = applyMetrics.start();
+        List<Application> applications = lectureSlots.stream()
+                .map(lectureSlot -> {
+                    Application application = new Application(userId, lectureSlot);
+                    application.apply();
+                    return application;
+                })
+                .toList();
+        try {
+            List<Application> saved = applicationRepository.saveAll(applications);
+            applicationRepository.flush();
+            for (int i = 0; i < saved.size(); i++) {
+                Long slotId = lectureSlots.get(i).getSlotId();
+                applicationDuplicateFilter.put(slotId, userId);
+                eventPublisher.publishEvent(ApplicationAppliedEvent.from(slotId, saved.get(i)));
+                applyMetrics.recordInsert(sample, slotId, null);
+            }
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            List<Long> slotIds = lectureSlots.stream().map(LectureSlot::getSlotId).toList();
+            RuntimeException failure = isUserSlotViolation(ex) ? new DuplicateApplicationException(userId, slotIds) : ex;
+            slotIds.forEach(slotId -> applyMetrics.recordInsert(sample, slotId, failure));
+            throw failure;
+        }
+    }
+
+    /**
+     * 주어진 슬롯 중 사용자가 이미 신청한 슬롯 ID 목록 (일괄 신청의 중복 사전 확인)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findAppliedSlotIds(Long userId, Collection<Long> lectureSlotIds) {
+        return applicationRepository.findSlotIdsByUserIdAndSlotIdIn(userId, lectureSlotIds);
+    }
+
+    /**
+     * [강의 신청 처리 - 그룹 커밋]
+     * - 중복 신청 여부를 확인한 뒤, 신청 INSERT를 그룹 커밋 작성기에 등록.
+     * - 반환된 CompletableFuture는 신청이 포함된 배치가 커밋된 뒤에 완료된다.
+     * @param userId       신청자 ID
+     * @param lectureSlot  신청할 강의 슬롯
+     */
+    public CompletableFuture<Application> applyToLectureSlotGroupCommit(Long userId, LectureSlot lectureSlot) {
+        try {
+            // 반복 클릭 등 명백한 중복 신청은 INSERT 전에 거절
+            rejectKnownDuplicate(userId, lectureSlot);
+        } catch (DuplicateApplicationException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return applicationGroupCommitWriter.submit(() -> {
+                    Application application = new Application(userId, lectureSlot);
+                    application.apply();
+                    return application;
+                })
+                .handle((application, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        throw cause instanceof DataIntegrityViolationException violation
+                                ? translateDuplicate(violation, userId, lectureSlot)
+                                : cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+                    }
+                    applicationDuplicateFilter.put(lectureSlot.getSlotId(), userId);
+                    eventPublisher.publishEvent(ApplicationAppliedEvent.from(lectureSlot.getSlotId(), application));
+                    return application;
+                });
+    }
+
+    /**
+     * 그룹 커밋으로 신청을 저장할 수 있는지 여부
+     */
+    public boolean isGroupCommitEnabled() {
+        return applicationGroupCommitWriter.isEnabled();
+    }
+
+    /**
+     * 블룸 필터가 중복 가능성을 알린 경우에만 유니크 인덱스로 확인하여 중복 신청을 거절
+     */
+    private void rejectKnownDuplicate(Long userId, LectureSlot lectureSlot) {
+        if (applicationDuplicateFilter.mightContain(lectureSlot.getSlotId(), userId)
+                && applicationRepository.existsByUserIdAndLectureSlot(userId, lectureSlot)) {
+            throw new DuplicateApplicationException(userId, lectureSlot.getSlotId());
+        }
+    }
+
+    /**
+     * (user_id, slot_id) 유니크 제약 위반은 중복 신청 예외로 변환, 그 외 무결성 위반은 그대로 전달
+     */
+    private RuntimeException translateDuplicate(DataIntegrityViolationException ex, Long userId, LectureSlot lectureSlot) {
+        if (isUserSlotViolation(ex)) {
+            applicationDuplicateFilter.put(lectureSlot.getSlotId(), userId);
+            return new DuplicateApplicationException(userId, lectureSlot.getSlotId());
+        }
+        return ex;
+    }
+
+    private static boolean isUserSlotViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(USER_SLOT_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package org.example.lecture.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.domain.lecture.LectureCatalog;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * [강의 카탈로그 서비스]
+ * - 애플리케이션 기동 시 모든 강의 / 강의 슬롯 정보를 불변 스냅샷(LectureCatalog)으로 적재.
+ * - 조회 / 신청 경로는 강의 / 슬롯 정보를 DB 대신 이 스냅샷에서 읽는다.
+ * - 스냅샷은 AtomicReference로 통째로 교체되므로 읽는 쪽에서는 락 없이 항상 일관된 스냅샷을 본다.
+ * - 스냅샷에 없는 슬롯을 요청하면 해당 슬롯만 DB에서 읽어 새 스냅샷에 합친다.
+ */
+@Slf4j
+@Service
+public class LectureCatalogService {
+
+    private final LectureSlotRepository lectureSlotRepository;
+    private final AtomicReference<LectureCatalog> catalog = new AtomicReference<>(LectureCatalog.empty());
+
+    public LectureCatalogService(LectureSlotRepository lectureSlotRepository) {
+        this.lectureSlotRepository = lectureSlotRepository;
+    }
+
+    /**
+     * 모든 강의 / 강의 슬롯 정보를 다시 읽어 스냅샷을 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        LectureCatalog loaded = LectureCatalog.of(lectureSlotRepository.findAllWithLecture());
+        catalog.set(loaded);
+        log.info("강의 카탈로그 적재 완료 - 슬롯 {}건", loaded.slotCount());
+    }
+
+    /**
+     * 특정 날짜의 슬롯 정보만 DB에서 다시 읽어 스냅샷에 반영
+     * @return 갱신된 해당 날짜의 슬롯 목록
+     */
+    public List<CatalogSlot> reloadDate(LocalDate date) {
+        List<CatalogSlot> slots = lectureSlotRepository.findWithLectureByDate(date).stream()
+                .map(CatalogSlot::from)
+                .toList();
+        return catalog.updateAndGet(current -> current.withDate(date, slots)).getSlotsByDate(date);
+    }
+
+    /**
+     * 강의 슬롯 정보 조회
+     * @throws LectureSlotNotFoundException 카탈로그와 DB 모두에 슬롯이 없는 경우
+     */
+    public CatalogSlot getSlot(Long slotId) {
+        return catalog.get().findSlot(slotId).orElseGet(() -> loadSlot(slotId));
+    }
+
+    /**
+     * 특정 날짜의 강의 슬롯 목록 조회 (카탈로그에 있는 슬롯만, 슬롯 ID 순)
+     */
+    public List<CatalogSlot> getSlotsByDate(LocalDate date) {
+        return catalog.get().getSlotsByDate(date);
+    }
+
+    private CatalogSlot loadSlot(Long slotId) {
+        CatalogSlot slot = lectureSlotRepository.findWithLectureBySlotId(slotId)
+                .map(CatalogSlot::from)
+                .orElseThrow(() -> new LectureSlotNotFoundException(slotId));
+        catalog.updateAndGet(current -> current.withSlots(List.of(slot)));
+        return slot;
+    }
+}
@@ -1,9 +1,16 @@
 package org.example.lecture.application.service;
 
+import io.micrometer.core.instrument.Timer;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
 import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.sequencer.SlotContentionTracker;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
 import org.example.lecture.domain.lecture.LectureSlot;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
 import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReservation;
 import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
 import org.springframework.stereotype.Service;
@@ -11,17 +18,27 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class LectureSlotService {
 
     private final LectureSlotRepository lectureSlotRepository;
     private final LectureSlotStatusRepository lectureSlotStatusRepository;
+    private final LectureCatalogService lectureCatalogService;
+    private final ApplyMetrics applyMetrics;
+    private final SlotContentionTracker slotContentionTracker;
 
     public LectureSlotService(LectureSlotRepository lectureSlotRepository,
-                              LectureSlotStatusRepository lectureSlotStatusRepository) {
+                              LectureSlotStatusRepository lectureSlotStatusRepository,
+                              LectureCatalogService lectureCatalogService,
+                              ApplyMetrics applyMetrics,
+                              SlotContentionTracker slotContentionTracker) {
         this.lectureSlotRepository = lectureSlotRepository;
         this.lectureSlotStatusRepository = lectureSlotStatusRepository;
+        this.lectureCatalogService = lectureCatalogService;
+        this.applyMetrics = applyMetrics;
+        this.slotContentionTracker = slotContentionTracker;
     }
 
     /**
@@ -32,6 +49,16 @@ public class LectureSlotService {
         return lectureSlotRepository.findByDate(date);
     }
 
+    /**
+     * [강의 슬롯 참조 조회]
+     * - 카탈로그로 슬롯의 존재를 확인한 뒤, 신청 INSERT의 외래 키로만 쓰도록 조회 쿼리 없이 참조(프록시)를 반환.
+     * @throws LectureSlotNotFoundException 강의 슬롯이 존재하지 않을 때
+     */
+    public LectureSlot getLectureSlotReference(Long lectureSlotId) {
+        lectureCatalogService.getSlot(lectureSlotId);
+        return lectureSlotRepository.getReferenceById(lectureSlotId);
+    }
+
     /**
      * [특정 강의 슬롯에 대한 선착순 정원 예약 - 비관적 락 적용]
      * - 데이터베이스의 PESSIMISTIC_WRITE 락을 사용하여 동시성 제어를 구현.
@@ -41,26 +68,116 @@ public class LectureSlotService {
      */
     @Transactional
     public LectureSlot reserveSlotWithLock(Long lectureSlotId) {
+        return reserveSeatWithLock(lectureSlotId).lectureSlot();
+    }
+
+    /**
+     * [특정 강의 슬롯에 대한 선착순 정원 예약 - 비관적 락 적용, 예약 결과 반환]
+     * - reserveSlotWithLock과 동일하게 동작하며, 예약 직후의 신청자 수와 슬롯 상태를 함께 반환.
+     * - 정원은 강의 카탈로그에서 읽고, 강의 슬롯은 참조(프록시)만 사용하여 슬롯 조회 쿼리가 발생하지 않는다.
+     * - 락 획득 대기 시간은 lecture.reservation.lock.wait 타이머로 기록하고 (락 타임아웃은 outcome=timeout),
+     *   인기 슬롯 판정을 위해 슬롯 경합 추적기에도 전달.
+     *
+     * @param lectureSlotId 예약할 강의 슬롯 ID
+     * @return 예약 결과 (강의 슬롯, 현재 신청자 수, 슬롯 상태)
+     */
+    @Transactional
+    public SeatReservation reserveSeatWithLock(Long lectureSlotId) {
         // 비관적 락을 사용하여 강의 슬롯 상태를 조회
-        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId)
+        LectureSlotStatus slotStatus = findStatusWithLock(lectureSlotId)
                 .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
 
-        // 강의 슬롯 정보 조회
-        LectureSlot lectureSlot = lectureSlotRepository.findById(lectureSlotId)
+        // 강의 슬롯 정보는 카탈로그에서 조회
+        CatalogSlot catalogSlot = lectureCatalogService.getSlot(lectureSlotId);
+        LectureSlot lectureSlot = lectureSlotRepository.getReferenceById(lectureSlotId);
+
+        return applyReservation(slotStatus, lectureSlot, catalogSlot.capacity());
+    }
+
+    /**
+     * [특정 강의 슬롯에 대한 선착순 정원 예약 - 낙관적 락 적용]
+     * - 락 없이 슬롯 상태를 조회한 뒤, @Version 컬럼으로 동시 수정 여부를 검증.
+     * - 다른 트랜잭션이 먼저 수정했다면 flush 시점에 ObjectOptimisticLockingFailureException이 발생하며,
+     *   재시도는 트랜잭션 바깥(OptimisticLockRetryExecutor)에서 수행.
+     *
+     * @param lectureSlotId 예약할 강의 슬롯 ID
+     * @return 예약 결과 (강의 슬롯, 현재 신청자 수, 슬롯 상태)
+     */
+    @Transactional
+    public SeatReservation reserveSeatWithOptimisticLock(Long lectureSlotId) {
+        // 락 없이 강의 슬롯 상태를 조회
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId)
                 .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
 
+        CatalogSlot catalogSlot = lectureCatalogService.getSlot(lectureSlotId);
+        SeatReservation reservation = applyReservation(slotStatus, slotStatus.getLectureSlot(), catalogSlot.capacity());
+
+        // 버전 충돌을 커밋 전에 감지하기 위해 즉시 flush
+        lectureSlotStatusRepository.flush();
+        return reservation;
+    }
+
+    /**
+     * [특정 강의 슬롯에 대한 선착순 정원 예약 - 조건부 UPDATE 적용]
+     * - 상태 조회 → 슬롯 조회 → 수정 → 저장의 read-modify-write 대신,
+     *   잔여 좌석이 있을 때만 신청자 수를 증가시키는 UPDATE 한 문장으로 예약을 확정.
+     * - 명시적인 락을 잡지 않으며, 갱신된 행 수로 성공 여부를 판단.
+     *
+     * @param lectureSlotId 예약할 강의 슬롯 ID
+     * @return 예약 결과 (강의 슬롯, 현재 신청자 수, 슬롯 상태)
+     */
+    @Transactional
+    public SeatReservation reserveSeatWithConditionalUpdate(Long lectureSlotId) {
+        int updated = lectureSlotStatusRepository.incrementApplicantsIfAvailable(lectureSlotId);
+
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId)
+                .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
+
+        // 갱신된 행이 없으면 마감 / 정원 초과로 판단
+        if (updated == 0) {
+            if (slotStatus.getStatus() == LectureSlotStatusType.CLOSED) {
+                throw new LectureSlotClosedException("강의 신청이 마감되었습니다.");
+            }
+            throw new CapacityExceededException("강의 정원이 초과되었습니다.");
+        }
+
+        return new SeatReservation(slotStatus.getLectureSlot(), slotStatus.getCurrentApplicants(), slotStatus.getStatus());
+    }
+
+    /**
+     * [특정 강의 슬롯의 좌석 반납 - 조건부 UPDATE 적용]
+     * - 신청 취소로 확보했던 좌석을 반납하며, 신청자 수 감소와 FULL → OPEN 전환을 UPDATE 한 문장으로 처리.
+     * - 슬롯 상태 행을 미리 잠그지 않으므로 같은 슬롯의 예약을 오래 막지 않는다.
+     * - 갱신된 행이 없으면(신청자 없음) 반납한 좌석이 없으므로 빈 값을 반환.
+     *
+     * @param lectureSlotId 좌석을 반납할 강의 슬롯 ID
+     * @return 반납 결과 (강의 슬롯, 반납 후 신청자 수, 슬롯 상태), 반납한 좌석이 없으면 빈 값
+     */
+    @Transactional
+    public Optional<SeatReservation> releaseSeat(Long lectureSlotId) {
+        int updated = lectureSlotStatusRepository.decrementApplicantsIfPositive(lectureSlotId);
+
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId)
+                .orElseThrow(() -> new LectureSlotNotFoundException(lectureSlotId));
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new SeatReservation(slotStatus.getLectureSlot(), slotStatus.getCurrentApplicants(), slotStatus.getStatus()));
+    }
+
+    private SeatReservation applyReservation(LectureSlotStatus slotStatus, LectureSlot lectureSlot, int capacity) {
         // 강의 슬롯 상태 검증
         if (slotStatus.getStatus() == LectureSlotStatusType.FULL) {
-            throw new IllegalStateException("강의 정원이 초과되었습니다.");
+            throw new CapacityExceededException("강의 정원이 초과되었습니다.");
         } else if (slotStatus.getStatus() == LectureSlotStatusType.CLOSED) {
-            throw new IllegalStateException("강의 신청이 마감되었습니다.");
+            throw new LectureSlotClosedException("강의 신청이 마감되었습니다.");
         }
 
         // 신청자 수 증가
-        slotStatus.incrementApplicants();
+        slotStatus.incrementApplicants(capacity);
 
         // 상태 변경: 정원이 꽉 찼으면 FULL, 남아있으면 OPEN으로 상태를 유지
-        if (slotStatus.getCurrentApplicants() >= lectureSlot.getCapacity()) {
+        if (slotStatus.getCurrentApplicants() >= capacity) {
             slotStatus.changeStatus(LectureSlotStatusType.FULL);
         } else {
             slotStatus.changeStatus(LectureSlotStatusType.OPEN);
@@ -69,7 +186,29 @@ public class LectureSlotService {
         // 변경된 상태 저장
         lectureSlotStatusRepository.save(slotStatus);
 
-        // 강의 슬롯 정보 반환
-        return lectureSlot;
+        // 예약 결과 반환
+        return new SeatReservation(lectureSlot, slotStatus.getCurrentApplicants(), slotStatus.getStatus());
+    }
+
+    private Optional<LectureSlotStatus> findStatusWithLock(Long lectureSlotId) {
+        Timer.Sample sample = applyMetrics.start();
+        try {
+            Optional<LectureSlotStatus> slotStatus = lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId);
+            recordLockWait(sample, lectureSlotId, null);
+            return slotStatus;
+        } catch (RuntimeException ex) {
+            recordLockWait(sample, lectureSlotId, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * 락 대기 시간을 메트릭과 경합 추적기에 기록 (메트릭 기록 제외 구간이면 경합 판정에서도 제외)
+     */
+    private void recordLockWait(Timer.Sample sample, Long lectureSlotId, Throwable failure) {
+        if (sample == null) {
+            return;
+        }
+        slotContentionTracker.recordLockWait(lectureSlotId, applyMetrics.recordLockWait(sample, lectureSlotId, failure));
     }
 }
@@ -1,10 +1,15 @@
 package org.example.lecture.application.service;
 
 import org.example.lecture.application.exception.LectureSlotStatusNotFoundException;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusSnapshot;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -24,4 +29,31 @@ public class LectureSlotStatusService {
         return lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(slotId)
                 .orElseThrow(() -> new LectureSlotStatusNotFoundException(slotId));
     }
+
+    /**
+     * [2. 특강 선택 API => 특정 날짜의 강의 슬롯 상세 조회]
+     * - 강의 / 슬롯 / 슬롯 상태를 한 번의 조인 쿼리로 조회하며, 조회 경로에서는 락을 걸지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<LectureSlotDetail> getSlotDetailsByDate(LocalDate date) {
+        return lectureSlotStatusRepository.findDetailsByDate(date);
+    }
+
+    /**
+     * [2. 특강 선택 API => 특정 날짜의 슬롯 상태 조회]
+     * - 강의 / 슬롯 정보 없이 신청자 수 / 상태만 조회 (강의 / 슬롯 정보는 카탈로그에서 얻는다).
+     */
+    @Transactional(readOnly = true)
+    public List<LectureSlotStatusSnapshot> getSlotStatusesByDate(LocalDate date) {
+        return lectureSlotStatusRepository.findStatusSnapshotsByDate(date);
+    }
+
+    /**
+     * [대기자 수 증감]
+     * - 대기자 등록 시 +1, 대기 신청 승격 시 -1.
+     */
+    @Transactional
+    public void adjustWaitingList(Long slotId, int delta) {
+        lectureSlotStatusRepository.adjustWaitingList(slotId, delta);
+    }
 }
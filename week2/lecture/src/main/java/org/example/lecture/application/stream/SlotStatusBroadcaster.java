@@ -0,0 +1,164 @@
+package org.example.lecture.application.stream;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.cache.LectureSlotListingCache;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * [슬롯 상태 브로드캐스터]
+ * - 슬롯 상태 변경 / 좌석 반납 이벤트를 받아 날짜별 구독자에게 변경분(슬롯 ID, 신청자 수, 상태)을 전달.
+ * - 같은 슬롯의 변경은 전달 주기(flush-interval-ms) 동안 최신 값 하나로 합쳐서(coalescing) 한 번만 전달한다.
+ * - 구독 시작 시 해당 날짜의 전체 슬롯 상태를 먼저 전달하므로, 클라이언트는 목록을 반복 조회하지 않아도 된다.
+ * - 구독자가 없으면 이벤트를 모으지 않는다.
+ */
+@Slf4j
+@Component
+public class SlotStatusBroadcaster {
+
+    private final LectureCatalogService lectureCatalogService;
+    private final LectureSlotListingCache lectureSlotListingCache;
+    private final Map<Long, SlotStatusDelta> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptionIds = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+
+    public SlotStatusBroadcaster(LectureCatalogService lectureCatalogService,
+                                 LectureSlotListingCache lectureSlotListingCache,
+                                 @Value("${lecture.query.stream.flush-interval-ms:200}") long flushIntervalMs) {
+        this.lectureCatalogService = lectureCatalogService;
+        this.lectureSlotListingCache = lectureSlotListingCache;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-status-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 특정 날짜의 슬롯 상태 변경을 구독. 현재 슬롯 상태 전체를 바로 한 번 전달한다.
+     * - 구독을 먼저 등록한 뒤 스냅샷을 읽으므로, 등록 이후의 변경은 스냅샷 다음의 변경분으로 빠짐없이 전달된다.
+     * - 스냅샷은 날짜별 슬롯 목록 캐시에서 읽으므로, 등록 전에 일어났지만 캐시에 반영되지 않은 변경
+     *   (캐시에 없던 슬롯, 다른 인스턴스의 변경, 아직 DB에 반영되지 않은 비동기 변경)은
+     *   최대 status-staleness-ms(비동기 반영 전략은 여기에 반영 주기까지) 이전 값일 수 있으며, 해당 슬롯의 다음 변경분에서 바로잡힌다.
+     * @return 구독 해지에 사용할 구독 ID
+     */
+    public long subscribe(LocalDate date, Consumer<List<SlotStatusDelta>> listener) {
+        long subscriptionId = subscriptionIds.incrementAndGet();
+        Subscriber subscriber = new Subscriber(date, listener, new ReentrantLock());
+        // 먼저 등록하여 스냅샷을 읽는 동안의 변경을 놓치지 않고, 스냅샷 전달이 끝날 때까지 변경분 전달을 막는다
+        subscriber.lock().lock();
+        try {
+            subscribers.put(subscriptionId, subscriber);
+            List<SlotStatusDelta> snapshot = lectureSlotListingCache.getSlotDetailsByDate(date).stream()
+                    .map(detail -> new SlotStatusDelta(detail.slotId(), detail.currentApplicants(), detail.status()))
+                    .toList();
+            listener.accept(snapshot);
+        } catch (RuntimeException ex) {
+            subscribers.remove(subscriptionId);
+            throw ex;
+        } finally {
+            subscriber.lock().unlock();
+        }
+        return subscriptionId;
+    }
+
+    public void unsubscribe(long subscriptionId) {
+        subscribers.remove(subscriptionId);
+    }
+
+    /**
+     * 슬롯 상태 변경 이벤트 반영 (트랜잭션 안에서 발행된 경우 커밋 이후에만 반영)
+     * - 커밋 순서가 뒤바뀌어 도착해도 모아 둔 변경분의 신청자 수가 줄어드는 방향으로는 덮어쓰지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotStatusChanged(SlotStatusChangedEvent event) {
+        publish(new SlotStatusDelta(event.slotId(), event.currentApplicants(), event.status()), false);
+    }
+
+    /**
+     * 좌석 반납 이벤트 반영
+     * - 취소로 신청자 수가 줄어든 변경이므로 모아 둔 변경분보다 작더라도 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatReleased(SeatReleasedEvent event) {
+        publish(new SlotStatusDelta(event.slotId(), event.currentApplicants(), event.status()), true);
+    }
+
+    /**
+     * 모아 둔 변경분을 날짜별로 나누어 해당 날짜의 구독자에게 전달.
+     * - 전달에 실패한 구독자(연결 종료 등)는 구독을 해지한다.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, List<SlotStatusDelta>> deltasByDate = new HashMap<>();
+        for (Long slotId : pending.keySet()) {
+            SlotStatusDelta delta = pending.remove(slotId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                LocalDate date = lectureCatalogService.getSlot(slotId).date();
+                deltasByDate.computeIfAbsent(date, key -> new ArrayList<>()).add(delta);
+            } catch (RuntimeException ex) {
+                log.warn("슬롯 상태 변경분 전달 실패. slotId={}", slotId, ex);
+            }
+        }
+
+        subscribers.forEach((subscriptionId, subscriber) -> {
+            List<SlotStatusDelta> deltas = deltasByDate.get(subscriber.date());
+            if (deltas == null) {
+                return;
+            }
+            subscriber.lock().lock();
+            try {
+                subscriber.listener().accept(deltas);
+            } catch (RuntimeException ex) {
+                subscribers.remove(subscriptionId);
+            } finally {
+                subscriber.lock().unlock();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void publish(SlotStatusDelta delta, boolean released) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (released) {
+            pending.put(delta.slotId(), delta);
+            return;
+        }
+        pending.merge(delta.slotId(), delta,
+                (current, next) -> next.currentApplicants() >= current.currentApplicants() ? next : current);
+    }
+
+    private record Subscriber(LocalDate date, Consumer<List<SlotStatusDelta>> listener, ReentrantLock lock) {
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.lecture.application.stream;
+
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+
+/**
+ * [슬롯 상태 변경분]
+ * - 스트림 구독자에게 전달되는 슬롯의 최신 신청자 수 / 상태.
+ */
+public record SlotStatusDelta(Long slotId, int currentApplicants, LectureSlotStatusType status) {
+}
@@ -1,43 +1,149 @@
 package org.example.lecture.application.usecase;
 
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.reservation.SlotStateGate;
 import org.example.lecture.application.service.ApplicationService;
-import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.application.service.LectureCatalogService;
 import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
 import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.SeatReservation;
 import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * - 강의 신청을 수행하고, 중복 신청 방지, 강의 상태 확인, 정원 관리 등을 담당.
  */
+@Slf4j
 @Service
 public class ApplyLectureUsecase {
 
     private final ApplicationService applicationService;
-    private final LectureSlotService lectureSlotService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final LectureCatalogService lectureCatalogService;
+    private final SlotStateGate slotStateGate;
+    private final ApplyMetrics applyMetrics;
 
-    public ApplyLectureUsecase(ApplicationService applicationService, LectureSlotService lectureSlotService) {
+    public ApplyLectureUsecase(ApplicationService applicationService, SeatReservationEngine seatReservationEngine,
+                               LectureCatalogService lectureCatalogService, SlotStateGate slotStateGate,
+                               ApplyMetrics applyMetrics) {
         this.applicationService = applicationService;
-        this.lectureSlotService = lectureSlotService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.lectureCatalogService = lectureCatalogService;
+        this.slotStateGate = slotStateGate;
+        this.applyMetrics = applyMetrics;
+    }
+
+    @PostConstruct
+    void warnIfGroupCommitUnavailable() {
+        if (applicationService.isGroupCommitEnabled() && seatReservationEngine.requiresRequestTransaction()) {
+            log.warn("{} 예약 전략은 요청 트랜잭션 안에서 좌석을 확보하므로 신청 그룹 커밋을 사용하지 않습니다.",
+                    seatReservationEngine.getStrategyType());
+        }
+    }
+
+    /**
+     * 신청 INSERT를 그룹 커밋으로 처리할 수 있는지 여부
+     * - 좌석 확보가 요청 트랜잭션에 묶이지 않는 전략(IN_MEMORY)에서만 사용.
+     */
+    public boolean supportsGroupCommit() {
+        return applicationService.isGroupCommitEnabled() && !seatReservationEngine.requiresRequestTransaction();
+    }
+
+    /**
+     * 정원 초과 / 마감으로 알려진 슬롯의 신청을 트랜잭션을 열거나 락을 잡기 전에 거절하고, 받을 수 있으면 좌석 상태를 미리 적재.
+     * - 신청 트랜잭션(execute)을 시작하기 전에 호출해야 효과가 있다.
+     * - 샤드 행 생성처럼 별도 커넥션이 필요한 첫 적재를 요청 트랜잭션 밖에서 끝내, 커넥션을 쥔 채 다른 커넥션을 기다리지 않게 한다.
+     */
+    public void rejectIfUnavailable(Long lectureSlotId) {
+        slotStateGate.check(lectureSlotId);
+        seatReservationEngine.preload(lectureSlotId);
     }
 
+    /**
+     * 좌석을 확보하고 신청을 저장. 전체 소요 시간은 커밋까지 포함하여 lecture.apply 타이머로 기록.
+     */
     @Transactional
     public LectureApplicationResponseDTO execute(Long userId, Long lectureSlotId) {
-        // 1. 강의 슬롯을 비관적 락으로 예약하여 동시성 문제 방지
-        LectureSlot lectureSlot = lectureSlotService.reserveSlotWithLock(lectureSlotId);
+        Timer.Sample sample = applyMetrics.start();
+        try {
+            LectureApplicationResponseDTO response = apply(userId, lectureSlotId);
+            applyMetrics.recordApply(sample, lectureSlotId, null);
+            return response;
+        } catch (RuntimeException ex) {
+            applyMetrics.recordApply(sample, lectureSlotId, ex);
+            throw ex;
+        }
+    }
+
+    private LectureApplicationResponseDTO apply(Long userId, Long lectureSlotId) {
+        // 1. 설정된 좌석 예약 전략(비관적 락 / 인메모리 카운터)으로 좌석을 확보하여 동시성 문제 방지
+        SeatReservation reservation = seatReservationEngine.reserve(lectureSlotId);
+        LectureSlot lectureSlot = reservation.lectureSlot();
 
         // 2. LectureApplicationService를 통해 신청 처리 및 상태 업데이트
-        Application application = applicationService.applyToLectureSlot(userId, lectureSlot);
+        Application application;
+        try {
+            application = applicationService.applyToLectureSlot(userId, lectureSlot);
+        } catch (RuntimeException ex) {
+            // 신청 처리 실패 시 확보한 좌석을 되돌림
+            seatReservationEngine.rollback(lectureSlotId);
+            throw ex;
+        }
+
+        return toResponse(userId, lectureSlotId, application);
+    }
+
+    /**
+     * [그룹 커밋 신청]
+     * - 좌석을 확보한 뒤 신청 INSERT를 그룹 커밋 작성기에 넘기고 바로 반환하여,
+     *   같은 슬롯의 다음 신청이 배치 커밋을 기다리지 않고 좌석 확보를 진행할 수 있게 한다.
+     * - 반환된 CompletableFuture는 신청이 포함된 배치가 커밋된 뒤에 완료되며, 실패 시 확보한 좌석을 되돌린다.
+     */
+    public CompletableFuture<LectureApplicationResponseDTO> executeWithGroupCommit(Long userId, Long lectureSlotId) {
+        Timer.Sample sample = applyMetrics.start();
+        SeatReservation reservation;
+        try {
+            reservation = seatReservationEngine.reserve(lectureSlotId);
+        } catch (RuntimeException ex) {
+            applyMetrics.recordApply(sample, lectureSlotId, ex);
+            throw ex;
+        }
+        LectureSlot lectureSlot = reservation.lectureSlot();
+
+        return applicationService.applyToLectureSlotGroupCommit(userId, lectureSlot)
+                .handle((application, ex) -> {
+                    applyMetrics.recordApply(sample, lectureSlotId, ex);
+                    if (ex != null) {
+                        seatReservationEngine.rollback(lectureSlotId);
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        throw cause instanceof RuntimeException runtimeException
+                                ? runtimeException
+                                : new CompletionException(cause);
+                    }
+                    return toResponse(userId, lectureSlotId, application);
+                });
+    }
 
+    private LectureApplicationResponseDTO toResponse(Long userId, Long lectureSlotId, Application application) {
+        // 강의 / 슬롯 정보는 카탈로그에서 조회 (지연 로딩 쿼리 없음)
+        CatalogSlot catalogSlot = lectureCatalogService.getSlot(lectureSlotId);
 
         // 성공 응답 DTO 생성
         return LectureApplicationResponseDTO.builder()
                 .applicationId(application.getApplicationId())
                 .userId(userId)
-                .lectureId(lectureSlot.getLecture().getLectureId())
-                .lectureName(lectureSlot.getLecture().getName())
-                .slotDate(lectureSlot.getDate())
+                .lectureId(catalogSlot.lecture().lectureId())
+                .lectureName(catalogSlot.lecture().name())
+                .slotDate(catalogSlot.date())
                 .status(application.getCurrentStatus().name())
                 .message("신청이 성공적으로 완료되었습니다.")
                 .build();
@@ -0,0 +1,320 @@
+package org.example.lecture.application.usecase;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.exception.InvalidBatchApplyRequestException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.exception.LectureSlotStatusNotFoundException;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.reservation.OptimisticLockRetryExecutor;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.reservation.SlotStateGate;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.interfaces.dto.BatchApplyResponseDTO;
+import org.example.lecture.interfaces.dto.BatchApplySlotResultDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [일괄 특강 신청]
+ * - 한 사용자의 여러 강의 슬롯 신청을 하나의 트랜잭션에서 처리.
+ * - 좌석은 항상 슬롯 ID 오름차순으로 확보하므로, 슬롯 순서를 다르게 보낸 동시 요청끼리 락을 엇갈려 잡아 교착 상태에 빠지지 않는다.
+ * - 신청 INSERT는 saveAll + flush 한 번으로 모아서 하나의 JDBC 배치로 저장.
+ * - ALL_OR_NOTHING: 한 슬롯이라도 실패하면 해당 예외를 그대로 던지고 아무 신청도 남기지 않는다.
+ * - BEST_EFFORT: 실패한 슬롯을 빼고 남은 슬롯으로 트랜잭션을 다시 실행하여, 신청 가능한 슬롯만 신청한다 (세이브포인트 대신 재실행).
+ */
+@Slf4j
+@Service
+public class BatchApplyLectureUsecase {
+
+    private final ApplicationService applicationService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final LectureCatalogService lectureCatalogService;
+    private final SlotStateGate slotStateGate;
+    private final WaitlistLectureUsecase waitlistLectureUsecase;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+    private final ApplyMetrics applyMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSlots;
+
+    public BatchApplyLectureUsecase(ApplicationService applicationService,
+                                    SeatReservationEngine seatReservationEngine,
+                                    LectureCatalogService lectureCatalogService,
+                                    SlotStateGate slotStateGate,
+                                    WaitlistLectureUsecase waitlistLectureUsecase,
+                                    OptimisticLockRetryExecutor optimisticLockRetryExecutor,
+                                    ApplyMetrics applyMetrics,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${lecture.apply.batch.max-slots:20}") int maxSlots) {
+        this.applicationService = applicationService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.lectureCatalogService = lectureCatalogService;
+        this.slotStateGate = slotStateGate;
+        this.waitlistLectureUsecase = waitlistLectureUsecase;
+        this.optimisticLockRetryExecutor = optimisticLockRetryExecutor;
+        this.applyMetrics = applyMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxSlots = maxSlots;
+    }
+
+    /**
+     * @param userId         신청자 ID
+     * @param lectureSlotIds 신청할 강의 슬롯 ID 목록 (중복은 한 번만 신청)
+     * @param requestedMode  일괄 신청 방식 (null이면 ALL_OR_NOTHING)
+     * @return 슬롯 ID 오름차순의 슬롯별 신청 결과
+     * @throws InvalidBatchApplyRequestException 슬롯 목록이 비어 있거나 최대 개수를 넘는 경우
+     */
+    public BatchApplyResponseDTO execute(Long userId, List<Long> lectureSlotIds, BatchApplyMode requestedMode) {
+        BatchApplyMode mode = requestedMode != null ? requestedMode : BatchApplyMode.ALL_OR_NOTHING;
+        List<Long> slotIds = normalize(lectureSlotIds);
+        SlotOutcomes outcomes = new SlotOutcomes(slotIds);
+        try {
+            apply(userId, slotIds, mode, outcomes);
+        } catch (RuntimeException ex) {
+            outcomes.failRemaining(ex);
+            throw ex;
+        }
+        return toResponse(userId, mode, slotIds, outcomes.applied, outcomes.failures);
+    }
+
+    private void apply(Long userId, List<Long> slotIds, BatchApplyMode mode, SlotOutcomes outcomes) {
+        boolean allOrNothing = mode == BatchApplyMode.ALL_OR_NOTHING;
+
+        // 1. 정원 초과 / 마감으로 알려진 슬롯과 이미 신청한 슬롯은 트랜잭션을 열기 전에 거절 (나머지는 좌석 상태 적재)
+        List<Long> candidates = new ArrayList<>(slotIds.size());
+        for (Long slotId : slotIds) {
+            try {
+                rejectIfUnavailable(slotId);
+                candidates.add(slotId);
+            } catch (RuntimeException ex) {
+                if (allOrNothing) {
+                    throw ex;
+                }
+                outcomes.fail(slotId, ex);
+            }
+        }
+        excludeDuplicates(userId, candidates, allOrNothing, outcomes);
+
+        // 2. 남은 슬롯의 좌석 확보 + 신청 저장. BEST_EFFORT는 실패한 슬롯을 빼고 다시 실행
+        while (!candidates.isEmpty()) {
+            List<Long> attempt = List.copyOf(candidates);
+            try {
+                List<Application> applications = optimisticLockRetryExecutor.execute(attempt.get(0),
+                        () -> reserveAndApply(userId, attempt));
+                for (int i = 0; i < attempt.size(); i++) {
+                    outcomes.apply(attempt.get(i), applications.get(i));
+                }
+                return;
+            } catch (SlotApplyException ex) {
+                if (allOrNothing) {
+                    throw ex.getCause();
+                }
+                outcomes.fail(ex.getSlotId(), ex.getCause());
+                candidates.remove(ex.getSlotId());
+            } catch (DuplicateApplicationException ex) {
+                if (allOrNothing) {
+                    throw ex;
+                }
+                // 사전 확인 이후 다른 요청이 먼저 신청한 슬롯이 있으므로 다시 조회하여 제외
+                if (!excludeDuplicates(userId, candidates, false, outcomes)) {
+                    attempt.forEach(slotId -> outcomes.fail(slotId, ex));
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                if (allOrNothing) {
+                    throw ex;
+                }
+                log.warn("일괄 신청 처리에 실패했습니다. User ID: {}, Slot IDs: {}", userId, attempt, ex);
+                attempt.forEach(slotId -> outcomes.fail(slotId, ex));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 후보 슬롯 중 이미 신청한 슬롯을 제외
+     * @return 제외한 슬롯이 있는지 여부
+     */
+    private boolean excludeDuplicates(Long userId, List<Long> candidates, boolean allOrNothing,
+                                      SlotOutcomes outcomes) {
+        if (candidates.isEmpty()) {
+            return false;
+        }
+        List<Long> duplicates = applicationService.findAppliedSlotIds(userId, candidates);
+        if (duplicates.isEmpty()) {
+            return false;
+        }
+        if (allOrNothing) {
+            throw new DuplicateApplicationException(userId, duplicates);
+        }
+        duplicates.forEach(slotId -> outcomes.fail(slotId, new DuplicateApplicationException(userId, slotId)));
+        candidates.removeAll(duplicates);
+        return true;
+    }
+
+    /**
+     * 신청을 받을 수 없는 슬롯이면 예외를 던지고, 받을 수 있으면 좌석 상태를 미리 적재.
+     * - 대기자가 남아 있는 슬롯은 먼저 기다린 대기자보다 일괄 신청이 좌석을 가져가지 않도록 정원 초과로 처리.
+     * - 샤드 행 생성처럼 별도 커넥션이 필요한 첫 적재를 트랜잭션 밖에서 끝내, 앞 슬롯의 락과 커넥션을 쥔 채 기다리지 않게 한다.
+     */
+    private void rejectIfUnavailable(Long slotId) {
+        slotStateGate.check(slotId);
+        if (waitlistLectureUsecase.isEnabled() && waitlistLectureUsecase.promoteWaiting(slotId) > 0) {
+            throw new CapacityExceededException("대기자가 있는 강의 슬롯입니다. Slot ID: " + slotId);
+        }
+        seatReservationEngine.preload(slotId);
+    }
+
+    /**
+     * 하나의 트랜잭션에서 슬롯 ID 오름차순으로 좌석을 확보하고 신청을 한 번에 저장.
+     * - 트랜잭션이 실패하면 요청 트랜잭션 밖에서 확보한 좌석(IN_MEMORY 등)을 되돌린다.
+     */
+    private List<Application> reserveAndApply(Long userId, List<Long> slotIds) {
+        List<Long> reserved = new ArrayList<>(slotIds.size());
+        try {
+            return transactionTemplate.execute(status -> {
+                List<LectureSlot> lectureSlots = new ArrayList<>(slotIds.size());
+                for (Long slotId : slotIds) {
+                    lectureSlots.add(reserve(slotId));
+                    reserved.add(slotId);
+                }
+                return applicationService.applyToLectureSlots(userId, lectureSlots);
+            });
+        } catch (RuntimeException ex) {
+            reserved.forEach(seatReservationEngine::rollback);
+            throw ex;
+        }
+    }
+
+    private LectureSlot reserve(Long slotId) {
+        try {
+            return seatReservationEngine.reserve(slotId).lectureSlot();
+        } catch (CapacityExceededException | LectureSlotClosedException
+                 | LectureSlotNotFoundException | LectureSlotStatusNotFoundException ex) {
+            throw new SlotApplyException(slotId, ex);
+        }
+    }
+
+    private List<Long> normalize(List<Long> lectureSlotIds) {
+        if (lectureSlotIds == null || lectureSlotIds.isEmpty()) {
+            throw new InvalidBatchApplyRequestException("신청할 강의 슬롯을 하나 이상 지정해야 합니다.");
+        }
+        if (lectureSlotIds.stream().anyMatch(slotId -> slotId == null)) {
+            throw new InvalidBatchApplyRequestException("강의 슬롯 ID는 비어 있을 수 없습니다.");
+        }
+        List<Long> slotIds = lectureSlotIds.stream().distinct().sorted().toList();
+        if (slotIds.size() > maxSlots) {
+            throw new InvalidBatchApplyRequestException("한 번에 신청할 수 있는 강의 슬롯은 최대 " + maxSlots + "개입니다.");
+        }
+        return slotIds;
+    }
+
+    private BatchApplyResponseDTO toResponse(Long userId, BatchApplyMode mode, List<Long> slotIds,
+                                             Map<Long, Application> applied, Map<Long, RuntimeException> failures) {
+        List<BatchApplySlotResultDTO> results = slotIds.stream()
+                .map(slotId -> toResult(slotId, applied.get(slotId), failures.get(slotId)))
+                .toList();
+        return BatchApplyResponseDTO.builder()
+                .userId(userId)
+                .mode(mode)
+                .appliedCount(applied.size())
+                .failedCount(slotIds.size() - applied.size())
+                .results(results)
+                .build();
+    }
+
+    private BatchApplySlotResultDTO toResult(Long slotId, Application application, RuntimeException failure) {
+        BatchApplySlotResultDTO.BatchApplySlotResultDTOBuilder builder = BatchApplySlotResultDTO.builder()
+                .lectureSlotId(slotId);
+        // 강의 / 슬롯 정보는 카탈로그에서 조회 (존재하지 않는 슬롯은 생략)
+        if (!(failure instanceof LectureSlotNotFoundException)) {
+            CatalogSlot catalogSlot = lectureCatalogService.getSlot(slotId);
+            builder.lectureId(catalogSlot.lecture().lectureId())
+                    .lectureName(catalogSlot.lecture().name())
+                    .slotDate(catalogSlot.date());
+        }
+        if (application != null) {
+            return builder.applicationId(application.getApplicationId())
+                    .status(BatchApplySlotResultDTO.APPLIED)
+                    .message("신청이 성공적으로 완료되었습니다.")
+                    .build();
+        }
+        return builder.status(BatchApplySlotResultDTO.FAILED)
+                .reason(ApplyMetrics.outcome(failure))
+                .message(failure != null ? failure.getMessage() : null)
+                .build();
+    }
+
+    /**
+     * 슬롯별 신청 결과와 소요 시간
+     * - 슬롯마다 따로 측정을 시작하고, 결과가 정해지는 시점(사전 거절 / 신청 커밋 / 실패)에 한 번만 lecture.apply로 기록한다.
+     */
+    private final class SlotOutcomes {
+        private final Map<Long, Timer.Sample> samples = new HashMap<>();
+        private final Map<Long, Application> applied = new HashMap<>();
+        private final Map<Long, RuntimeException> failures = new HashMap<>();
+
+        private SlotOutcomes(List<Long> slotIds) {
+            slotIds.forEach(slotId -> samples.put(slotId, applyMetrics.start()));
+        }
+
+        private void apply(Long slotId, Application application) {
+            applied.put(slotId, application);
+            record(slotId, null);
+        }
+
+        private void fail(Long slotId, RuntimeException failure) {
+            failures.put(slotId, failure);
+            record(slotId, failure);
+        }
+
+        /**
+         * 결과가 정해지지 않은 슬롯을 모두 실패로 기록 (ALL_OR_NOTHING 실패 시)
+         */
+        private void failRemaining(RuntimeException failure) {
+            List.copyOf(samples.keySet()).forEach(slotId -> record(slotId, failure));
+        }
+
+        private void record(Long slotId, Throwable failure) {
+            Timer.Sample sample = samples.remove(slotId);
+            if (sample != null) {
+                applyMetrics.recordApply(sample, slotId, failure);
+            }
+        }
+    }
+
+    /**
+     * 특정 슬롯 때문에 일괄 신청 트랜잭션이 실패했음을 알리는 내부 예외 (BEST_EFFORT에서 해당 슬롯만 제외하기 위함)
+     */
+    private static class SlotApplyException extends RuntimeException {
+        private final Long slotId;
+
+        SlotApplyException(Long slotId, RuntimeException cause) {
+            super(cause.getMessage(), cause, false, false);
+            this.slotId = slotId;
+        }
+
+        Long getSlotId() {
+            return slotId;
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.lecture.application.usecase;
+
+/**
+ * [일괄 신청 방식]
+ * - ALL_OR_NOTHING: 한 슬롯이라도 신청할 수 없으면 전체를 신청하지 않는다.
+ * - BEST_EFFORT: 신청할 수 없는 슬롯만 제외하고 나머지를 신청한다.
+ */
+public enum BatchApplyMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -0,0 +1,95 @@
+package org.example.lecture.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.application.ApplicationStatusType;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * - 강의 신청 취소를 수행하고, 반납된 좌석을 다음 대기자에게 넘기는 것을 담당.
+ * - 신청 완료 취소: 신청 삭제와 좌석 반납을 처리한 뒤, 커밋 후 대기자를 승격 (실제로 반납한 좌석이 없으면 승격하지 않음).
+ *   좌석 반납이 DB에 기록되는 전략은 신청 삭제와 한 트랜잭션으로 반납하고,
+ *   롤백되지 않는 전략(인메모리 카운터)은 신청 삭제가 커밋된 뒤에 반납하여 커밋 실패 시 좌석이 초과 배정되지 않도록 한다.
+ * - 대기 취소: 좌석 변화 없이 대기 신청만 삭제하고 대기열에서 제거.
+ */
+@Slf4j
+@Service
+public class CancelLectureApplicationUsecase {
+
+    private static final String CANCELED_STATUS = "CANCELED";
+
+    private final ApplicationService applicationService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final WaitlistLectureUsecase waitlistLectureUsecase;
+    private final LectureCatalogService lectureCatalogService;
+    private final TransactionTemplate transactionTemplate;
+
+    public CancelLectureApplicationUsecase(ApplicationService applicationService,
+                                           SeatReservationEngine seatReservationEngine,
+                                           WaitlistLectureUsecase waitlistLectureUsecase,
+                                           LectureCatalogService lectureCatalogService,
+                                           PlatformTransactionManager transactionManager) {
+        this.applicationService = applicationService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.waitlistLectureUsecase = waitlistLectureUsecase;
+        this.lectureCatalogService = lectureCatalogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public LectureApplicationResponseDTO execute(Long userId, Long applicationId) {
+        Application application = applicationService.getApplication(userId, applicationId);
+        Long lectureSlotId = application.getLectureSlot().getSlotId();
+
+        // 1. 대기 중인 신청은 대기열에서만 제거 (그 사이 승격되었다면 신청 완료 취소로 진행)
+        if (application.isWaiting() && waitlistLectureUsecase.cancelWaiting(userId, lectureSlotId, applicationId)) {
+            return toResponse(userId, lectureSlotId, applicationId, "대기 신청이 취소되었습니다.");
+        }
+
+        // 2. 신청 삭제와 좌석 반납 (좌석 상태의 첫 적재는 트랜잭션 밖에서)
+        seatReservationEngine.preload(lectureSlotId);
+        boolean releaseInTransaction = seatReservationEngine.requiresRequestTransaction();
+        boolean released = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!applicationService.cancel(userId, applicationId, ApplicationStatusType.APPLIED)) {
+                throw new ApplicationNotFoundException("이미 취소된 신청입니다. 신청 ID: " + applicationId);
+            }
+            return releaseInTransaction && seatReservationEngine.release(lectureSlotId).isPresent();
+        }));
+        if (!releaseInTransaction) {
+            released = seatReservationEngine.release(lectureSlotId).isPresent();
+        }
+        if (!released) {
+            log.warn("취소한 신청의 좌석이 슬롯 신청자 수에 남아 있지 않아 반납하지 않았습니다. Slot ID: {}, 신청 ID: {}", lectureSlotId, applicationId);
+        }
+
+        // 3. 반납된 좌석은 다음 대기자에게 (취소는 이미 커밋되었으므로 승격 실패는 기록만 하고 취소 결과를 반환)
+        if (released && waitlistLectureUsecase.isEnabled()) {
+            try {
+                waitlistLectureUsecase.promoteWaiting(lectureSlotId);
+            } catch (RuntimeException ex) {
+                log.warn("취소 후 대기자 승격에 실패했습니다. Slot ID: {}", lectureSlotId, ex);
+            }
+        }
+        return toResponse(userId, lectureSlotId, applicationId, "신청이 취소되었습니다.");
+    }
+
+    private LectureApplicationResponseDTO toResponse(Long userId, Long lectureSlotId, Long applicationId, String message) {
+        CatalogSlot catalogSlot = lectureCatalogService.getSlot(lectureSlotId);
+        return LectureApplicationResponseDTO.builder()
+                .applicationId(applicationId)
+                .userId(userId)
+                .lectureId(catalogSlot.lecture().lectureId())
+                .lectureName(catalogSlot.lecture().name())
+                .slotDate(catalogSlot.date())
+                .status(CANCELED_STATUS)
+                .message(message)
+                .build();
+    }
+}
@@ -1,25 +1,25 @@
 package org.example.lecture.application.usecase;
 
+import org.example.lecture.application.cache.UserApplicationHistoryCache;
 import org.example.lecture.application.exception.ApplicationNotFoundException;
-import org.example.lecture.application.service.ApplicationService;
-import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.application.UserApplicationSummary;
 import org.example.lecture.interfaces.dto.UserApplicationResponseDTO;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * - 특정 사용자의 신청 내역을 조회하고, 각 신청 내역에 대한 정보를 반환.
+ * - 신청 내역은 강의 / 슬롯 정보와 함께 한 번의 조인 쿼리로 읽고, 사용자별 캐시가 켜져 있으면 다시 조회할 때는 DB를 거치지 않는다.
  */
 @Service
 public class QueryUserCompletedApplicationsUsecase {
 
-    private final ApplicationService applicationService;
+    private final UserApplicationHistoryCache userApplicationHistoryCache;
 
-    public QueryUserCompletedApplicationsUsecase(ApplicationService applicationService) {
-        this.applicationService = applicationService;
+    public QueryUserCompletedApplicationsUsecase(UserApplicationHistoryCache userApplicationHistoryCache) {
+        this.userApplicationHistoryCache = userApplicationHistoryCache;
     }
 
     /**
@@ -28,27 +28,15 @@ public class QueryUserCompletedApplicationsUsecase {
      * @return UserApplicationResponseDTO 리스트
      * @throws ApplicationNotFoundException 사용자의 신청 내역이 없을 때 예외 발생
      */
-    @Transactional(readOnly = true)
     public List<UserApplicationResponseDTO> execute(Long userId) {
-        try {
-            // 사용자의 신청 내역을 조회
-            List<Application> applications = applicationService.getCompletedApplicationsByUserId(userId);
-
-            // 신청 내역을 DTO로 변환하여 반환
-            return applications.stream()
-                    .map(application -> UserApplicationResponseDTO.builder()
-                            .applicationId(application.getApplicationId())
-                            .lectureId(application.getLectureSlot().getLecture().getLectureId())
-                            .lectureName(application.getLectureSlot().getLecture().getName())
-                            .instructor(application.getLectureSlot().getLecture().getInstructor())
-                            .description(application.getLectureSlot().getLecture().getDescription())
-                            .slotDate(application.getLectureSlot().getDate())
-                            .applicationDate(application.getCreatedAt())
-                            .currentStatus(application.getCurrentStatus().name())  // 상태 값
-                            .build())
-                    .collect(Collectors.toList());
-        } catch (ApplicationNotFoundException ex) {
+        List<UserApplicationSummary> applications = userApplicationHistoryCache.getCompletedApplications(userId);
+
+        if (applications.isEmpty()) {
             throw new ApplicationNotFoundException("신청 완료된 강의 목록을 찾을 수 없습니다. 사용자 ID: " + userId);
         }
+
+        return applications.stream()
+                .map(UserApplicationResponseDTO::from)
+                .collect(Collectors.toList());
     }
 }
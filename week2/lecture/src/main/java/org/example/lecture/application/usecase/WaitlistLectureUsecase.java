@@ -0,0 +1,170 @@
+package org.example.lecture.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.exception.WaitlistEntryNotFoundException;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.application.service.LectureSlotStatusService;
+import org.example.lecture.application.waitlist.LectureWaitlist;
+import org.example.lecture.application.waitlist.WaitlistEntry;
+import org.example.lecture.domain.application.ApplicationStatusType;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.example.lecture.interfaces.dto.WaitlistPositionResponseDTO;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * - 정원이 찬 강의 슬롯의 대기자 등록, 빈 좌석에 대한 대기자 승격, 대기 순위 조회를 담당.
+ * - 대기 신청 INSERT와 대기자 수 증가, 승격과 좌석 확보는 각각 하나의 트랜잭션으로 처리.
+ */
+@Slf4j
+@Service
+public class WaitlistLectureUsecase {
+
+    private final ApplicationService applicationService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final LectureSlotService lectureSlotService;
+    private final LectureSlotStatusService lectureSlotStatusService;
+    private final LectureCatalogService lectureCatalogService;
+    private final LectureWaitlist lectureWaitlist;
+    private final TransactionTemplate transactionTemplate;
+
+    public WaitlistLectureUsecase(ApplicationService applicationService,
+                                  SeatReservationEngine seatReservationEngine,
+                                  LectureSlotService lectureSlotService,
+                                  LectureSlotStatusService lectureSlotStatusService,
+                                  LectureCatalogService lectureCatalogService,
+                                  LectureWaitlist lectureWaitlist,
+                                  PlatformTransactionManager transactionManager) {
+        this.applicationService = applicationService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.lectureSlotService = lectureSlotService;
+        this.lectureSlotStatusService = lectureSlotStatusService;
+        this.lectureCatalogService = lectureCatalogService;
+        this.lectureWaitlist = lectureWaitlist;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return lectureWaitlist.isEnabled();
+    }
+
+    /**
+     * [대기자 등록]
+     * - 대기 순번을 가진 WAITING 신청을 저장하고 슬롯의 대기자 수를 늘린 뒤, 메모리 대기열의 맨 뒤에 추가.
+     */
+    public LectureApplicationResponseDTO enqueue(Long userId, Long lectureSlotId) {
+        WaitlistEntry entry = lectureWaitlist.enqueue(lectureSlotId, userId, sequence -> transactionTemplate.execute(status -> {
+            LectureSlot lectureSlot = lectureSlotService.getLectureSlotReference(lectureSlotId);
+            Long applicationId = applicationService.applyAsWaiting(userId, lectureSlot, sequence).getApplicationId();
+            lectureSlotStatusService.adjustWaitingList(lectureSlotId, 1);
+            return applicationId;
+        }));
+
+        long position = lectureWaitlist.getPosition(lectureSlotId, userId).orElse(1);
+        CatalogSlot catalogSlot = lectureCatalogService.getSlot(lectureSlotId);
+        return LectureApplicationResponseDTO.builder()
+                .applicationId(entry.applicationId())
+                .userId(userId)
+                .lectureId(catalogSlot.lecture().lectureId())
+                .lectureName(catalogSlot.lecture().name())
+                .slotDate(catalogSlot.date())
+                .status(ApplicationStatusType.WAITING.name())
+                .waitingPosition(position)
+                .message("정원이 초과되어 대기자 명단에 등록되었습니다. 대기 순위: " + position)
+                .build();
+    }
+
+    /**
+     * [대기자 승격]
+     * - 빈 좌석이 남아 있는 동안 맨 앞 대기자부터 좌석을 확보하고 신청 완료로 전환.
+     * - 이미 대기 상태가 아닌 신청은 좌석을 확보하지 않고 대기열에서만 제거.
+     * - 좌석 상태의 첫 적재는 승격 트랜잭션을 열기 전에 끝낸다.
+     * - 승격 트랜잭션이 커밋되지 않으면(대기자 수 갱신 / 커밋 실패) 확보한 좌석을 되돌려, 롤백되지 않는 인메모리 카운터의 좌석이 새지 않게 한다.
+     * - 슬롯 락을 잡은 채 호출되므로 실패해도 재시도하지 않고 승격을 멈추며, 예외를 호출한 신청 / 취소 요청으로 전파하지 않는다.
+     *   (남은 대기자는 다음 좌석 반환 / 신청 시 다시 승격을 시도)
+     * @return 남은 대기자 수
+     */
+    public int promoteWaiting(Long lectureSlotId) {
+        return lectureWaitlist.promote(lectureSlotId, entry -> {
+            try {
+                seatReservationEngine.preload(lectureSlotId);
+                transactionTemplate.execute(status -> promote(lectureSlotId, entry));
+                return true;
+            } catch (CapacityExceededException | LectureSlotClosedException ex) {
+                return false;
+            } catch (RuntimeException ex) {
+                log.warn("대기자 승격에 실패했습니다. Slot ID: {}, Application ID: {}", lectureSlotId, entry.applicationId(), ex);
+                return false;
+            }
+        });
+    }
+
+    /**
+     * [대기 취소]
+     * - 대기 신청을 삭제하고 슬롯의 대기자 수를 줄인 뒤, 메모리 대기열에서도 제거.
+     * - 승격과 같은 슬롯 락 안에서 처리되므로, 이미 승격된 신청이면 아무것도 하지 않고 false를 반환.
+     * @return 대기 취소 여부
+     */
+    public boolean cancelWaiting(Long userId, Long lectureSlotId, Long applicationId) {
+        return lectureWaitlist.cancel(lectureSlotId, userId, () -> Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!applicationService.cancel(userId, applicationId, ApplicationStatusType.WAITING)) {
+                return false;
+            }
+            lectureSlotStatusService.adjustWaitingList(lectureSlotId, -1);
+            return true;
+        })));
+    }
+
+    /**
+     * [대기 순위 조회]
+     * - 메모리 대기열의 대기 순번으로 계산하므로 신청 테이블을 조회하지 않는다 (슬롯 대기열이 아직 없으면 처음 한 번만 복원하여 보관).
+     * @throws WaitlistEntryNotFoundException 사용자가 대기자 명단에 없을 때
+     * @throws LectureSlotNotFoundException 카탈로그에 없는 슬롯일 때
+     */
+    public WaitlistPositionResponseDTO getPosition(Long userId, Long lectureSlotId) {
+        long position = lectureWaitlist.getPosition(lectureSlotId, userId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(userId, lectureSlotId));
+        return WaitlistPositionResponseDTO.builder()
+                .lectureSlotId(lectureSlotId)
+                .userId(userId)
+                .position(position)
+                .waitingCount(lectureWaitlist.size(lectureSlotId))
+                .build();
+    }
+
+    private boolean promote(Long lectureSlotId, WaitlistEntry entry) {
+        // 대기 상태인 신청만 승격 (좌석이 없으면 아래 예약에서 예외가 발생하여 승격도 함께 롤백)
+        if (!applicationService.promoteWaiting(entry.userId(), entry.applicationId())) {
+            return false;
+        }
+        seatReservationEngine.reserve(lectureSlotId);
+        rollbackSeatUnlessCommitted(lectureSlotId);
+        lectureSlotStatusService.adjustWaitingList(lectureSlotId, -1);
+        return true;
+    }
+
+    /**
+     * 승격 트랜잭션이 커밋되지 않고 끝나면 확보한 좌석을 되돌린다 (트랜잭션에 포함되는 전략은 롤백으로 이미 되돌아가므로 아무 작업도 하지 않음)
+     */
+    private void rollbackSeatUnlessCommitted(Long lectureSlotId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    seatReservationEngine.rollback(lectureSlotId);
+                }
+            }
+        });
+    }
+}
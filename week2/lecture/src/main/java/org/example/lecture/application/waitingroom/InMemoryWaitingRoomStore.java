@@ -0,0 +1,83 @@
+package org.example.lecture.application.waitingroom;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * [인메모리 대기실 저장소]
+ * - 단일 인스턴스용 WaitingRoomStore 구현. 여러 인스턴스로 확장할 때는 Redis 구현으로 교체한다.
+ * - 토큰은 발급 후 token-ttl-ms가 지나면 만료되어 입장 순서가 와도 사용할 수 없다.
+ * - 슬롯별 순번 커서도 token-ttl-ms 동안 접근이 없으면 제거한다. 마지막 발급 후 token-ttl-ms가 지났다면
+ *   그 슬롯의 토큰은 모두 만료되었으므로, 순번을 처음부터 다시 발급해도 기존 토큰과 겹치지 않는다.
+ */
+@Component
+public class InMemoryWaitingRoomStore implements WaitingRoomStore {
+
+    private final Cache<Long, SlotCursor> cursors;
+    private final Cache<String, WaitingRoomToken> tokens;
+
+    public InMemoryWaitingRoomStore(@Value("${lecture.waiting-room.token-ttl-ms:600000}") long tokenTtlMs) {
+        this.cursors = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(tokenTtlMs))
+                .build();
+        this.tokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(tokenTtlMs))
+                .build();
+    }
+
+    @Override
+    public long nextSequence(Long lectureSlotId) {
+        return cursor(lectureSlotId).issued().incrementAndGet();
+    }
+
+    @Override
+    public long admittedSequence(Long lectureSlotId) {
+        SlotCursor cursor = cursors.getIfPresent(lectureSlotId);
+        return cursor == null ? 0 : cursor.admitted().get();
+    }
+
+    @Override
+    public long admit(Long lectureSlotId, long count) {
+        SlotCursor cursor = cursor(lectureSlotId);
+        return cursor.admitted().updateAndGet(admitted -> Math.min(admitted + count, cursor.issued().get()));
+    }
+
+    @Override
+    public Set<Long> waitingSlotIds() {
+        return cursors.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().admitted().get() < entry.getValue().issued().get())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void saveToken(WaitingRoomToken token) {
+        tokens.put(token.token(), token);
+    }
+
+    @Override
+    public Optional<WaitingRoomToken> findToken(String token) {
+        return Optional.ofNullable(tokens.getIfPresent(token));
+    }
+
+    @Override
+    public boolean removeToken(String token) {
+        return tokens.asMap().remove(token) != null;
+    }
+
+    private SlotCursor cursor(Long lectureSlotId) {
+        return cursors.get(lectureSlotId, id -> new SlotCursor(new AtomicLong(), new AtomicLong()));
+    }
+
+    private record SlotCursor(AtomicLong issued, AtomicLong admitted) {
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.lecture.application.waitingroom;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.exception.InvalidWaitingRoomTokenException;
+import org.example.lecture.application.exception.WaitingRoomNotAdmittedException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * [신청 대기실]
+ * - 신청이 몰리는 시점에 사용자에게 슬롯별 순번 토큰을 발급하고, 슬롯마다 초당 admits-per-second명씩만 입장을 허용.
+ * - 입장이 허용된 토큰만 신청 유스케이스에 도달하므로, 몰린 요청 수와 관계없이 DB에 가해지는 신청 부하가 일정하게 유지된다.
+ * - 토큰은 한 번의 신청에만 사용할 수 있으며, 입장 순서는 구독자에게 입장 허용 주기마다 전달된다.
+ * - 비활성화 시 토큰 없이 바로 신청할 수 있다.
+ */
+@Slf4j
+@Component
+public class WaitingRoom {
+
+    private final WaitingRoomStore waitingRoomStore;
+    private final LectureCatalogService lectureCatalogService;
+    private final boolean enabled;
+    private final long admissionIntervalMs;
+    private final long admitsPerTick;
+    private final Map<String, Consumer<WaitingRoomStatus>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public WaitingRoom(WaitingRoomStore waitingRoomStore,
+                       LectureCatalogService lectureCatalogService,
+                       @Value("${lecture.waiting-room.enabled:false}") boolean enabled,
+                       @Value("${lecture.waiting-room.admits-per-second:100}") long admitsPerSecond,
+                       @Value("${lecture.waiting-room.admission-interval-ms:100}") long admissionIntervalMs) {
+        this.waitingRoomStore = waitingRoomStore;
+        this.lectureCatalogService = lectureCatalogService;
+        this.enabled = enabled;
+        this.admissionIntervalMs = admissionIntervalMs;
+        // 입장 허용 주기마다 초당 허용 인원을 나누어 입장시킨다 (주기당 최소 1명)
+        this.admitsPerTick = Math.max(1, admitsPerSecond * admissionIntervalMs / 1000);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waiting-room-admission");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::admitWaiting, admissionIntervalMs, admissionIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 슬롯 대기실에 입장하여 순번 토큰을 발급받는다.
+     * - 비활성화 시에는 저장하지 않고 입장이 허용된 상태만 돌려준다.
+     */
+    public WaitingRoomStatus issue(Long userId, Long lectureSlotId) {
+        lectureCatalogService.getSlot(lectureSlotId);
+        String token = UUID.randomUUID().toString();
+        if (!enabled) {
+            return new WaitingRoomStatus(token, lectureSlotId, userId, 0, true);
+        }
+
+        WaitingRoomToken waitingRoomToken = new WaitingRoomToken(token, lectureSlotId, userId, waitingRoomStore.nextSequence(lectureSlotId));
+        waitingRoomStore.saveToken(waitingRoomToken);
+        return status(waitingRoomToken);
+    }
+
+    /**
+     * 토큰의 현재 입장 순위 조회
+     * @throws InvalidWaitingRoomTokenException 발급되지 않았거나 만료 / 사용된 토큰인 경우
+     */
+    public WaitingRoomStatus getStatus(String token) {
+        return status(findToken(token));
+    }
+
+    /**
+     * [신청 입장 확인]
+     * - 입장이 허용된 토큰이면 토큰을 소모하고 통과시킨다. 비활성화 시에는 항상 통과.
+     * - 소모한 토큰을 돌려주므로, 신청이 실패하면 restore로 되돌려 같은 토큰으로 다시 신청할 수 있다.
+     * @return 소모한 토큰 (비활성화 시 empty)
+     * @throws InvalidWaitingRoomTokenException 토큰이 없거나, 다른 사용자 / 슬롯의 토큰이거나, 이미 사용된 경우
+     * @throws WaitingRoomNotAdmittedException 아직 입장 순서가 되지 않은 경우
+     */
+    public Optional<WaitingRoomToken> enter(String token, Long userId, Long lectureSlotId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        WaitingRoomToken waitingRoomToken = findToken(token);
+        if (!waitingRoomToken.userId().equals(userId) || !waitingRoomToken.lectureSlotId().equals(lectureSlotId)) {
+            throw new InvalidWaitingRoomTokenException(token);
+        }
+        WaitingRoomStatus status = status(waitingRoomToken);
+        if (!status.admitted()) {
+            throw new WaitingRoomNotAdmittedException(lectureSlotId, status.position());
+        }
+        if (!waitingRoomStore.removeToken(token)) {
+            throw new InvalidWaitingRoomTokenException(token);
+        }
+        return Optional.of(waitingRoomToken);
+    }
+
+    /**
+     * 신청이 완료되지 못한 토큰을 되돌린다. 입장 허용 순번은 그대로이므로 대기열 뒤로 밀리지 않고 바로 다시 신청할 수 있다.
+     */
+    public void restore(WaitingRoomToken token) {
+        waitingRoomStore.saveToken(token);
+    }
+
+    /**
+     * 토큰의 입장 순위 변화를 구독. 현재 순위를 바로 한 번 전달하고, 이후 입장 허용 주기마다 전달한다.
+     * - 입장이 허용되거나 토큰이 만료되면 구독이 자동으로 해지된다.
+     */
+    public void subscribe(String token, Consumer<WaitingRoomStatus> subscriber) {
+        WaitingRoomStatus status = getStatus(token);
+        subscriber.accept(status);
+        if (!status.admitted()) {
+            subscribers.put(token, subscriber);
+        }
+    }
+
+    public void unsubscribe(String token) {
+        subscribers.remove(token);
+    }
+
+    /**
+     * 입장을 기다리는 슬롯마다 주기당 허용 인원만큼 입장 허용 순번을 앞당기고, 구독자에게 순위를 전달.
+     */
+    public void admitWaiting() {
+        try {
+            for (Long lectureSlotId : waitingRoomStore.waitingSlotIds()) {
+                waitingRoomStore.admit(lectureSlotId, admitsPerTick);
+            }
+            subscribers.forEach(this::publish);
+        } catch (RuntimeException ex) {
+            log.warn("대기실 입장 처리 실패", ex);
+        }
+    }
+
+    private void publish(String token, Consumer<WaitingRoomStatus> subscriber) {
+        WaitingRoomToken waitingRoomToken = waitingRoomStore.findToken(token).orElse(null);
+        if (waitingRoomToken == null) {
+            subscribers.remove(token, subscriber);
+            return;
+        }
+        WaitingRoomStatus status = status(waitingRoomToken);
+        try {
+            subscriber.accept(status);
+        } catch (RuntimeException ex) {
+            // 연결이 끊긴 구독자는 제거하고, 클라이언트는 조회 API로 순위를 확인할 수 있다
+            subscribers.remove(token, subscriber);
+            return;
+        }
+        if (status.admitted()) {
+            subscribers.remove(token, subscriber);
+        }
+    }
+
+    private WaitingRoomToken findToken(String token) {
+        if (token == null) {
+            throw new InvalidWaitingRoomTokenException(null);
+        }
+        return waitingRoomStore.findToken(token)
+                .orElseThrow(() -> new InvalidWaitingRoomTokenException(token));
+    }
+
+    private WaitingRoomStatus status(WaitingRoomToken token) {
+        return WaitingRoomStatus.of(token, waitingRoomStore.admittedSequence(token.lectureSlotId()));
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.lecture.application.waitingroom;
+
+/**
+ * [대기실 토큰 상태]
+ * - position: 입장까지 남은 순위 (1이면 다음 차례, 입장이 허용되면 0)
+ * - admitted: 입장이 허용되어 신청할 수 있는지 여부
+ */
+public record WaitingRoomStatus(String token, Long lectureSlotId, Long userId, long position, boolean admitted) {
+
+    static WaitingRoomStatus of(WaitingRoomToken token, long admittedSequence) {
+        long position = Math.max(token.sequence() - admittedSequence, 0);
+        return new WaitingRoomStatus(token.token(), token.lectureSlotId(), token.userId(), position, position == 0);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.lecture.application.waitingroom;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * [대기실 저장소]
+ * - 슬롯별 발급 순번 / 입장 허용 순번과 발급된 토큰을 보관.
+ * - 연산은 Redis 등 외부 저장소의 원자적 명령(INCR, SET EX, DEL 등)에 그대로 대응되도록 정의한다.
+ */
+public interface WaitingRoomStore {
+
+    /**
+     * 슬롯의 다음 발급 순번 (1부터 시작)
+     */
+    long nextSequence(Long lectureSlotId);
+
+    /**
+     * 슬롯에서 입장이 허용된 마지막 순번
+     */
+    long admittedSequence(Long lectureSlotId);
+
+    /**
+     * 입장 허용 순번을 최대 count만큼 앞당긴다 (발급된 순번을 넘지 않음).
+     * @return 앞당긴 뒤의 입장 허용 순번
+     */
+    long admit(Long lectureSlotId, long count);
+
+    /**
+     * 입장을 기다리는 토큰이 있는 슬롯 ID 목록
+     */
+    Set<Long> waitingSlotIds();
+
+    void saveToken(WaitingRoomToken token);
+
+    Optional<WaitingRoomToken> findToken(String token);
+
+    /**
+     * 토큰을 제거. 이미 제거되었거나 만료된 토큰이면 false (동시에 같은 토큰을 사용하면 한 요청만 true).
+     */
+    boolean removeToken(String token);
+}
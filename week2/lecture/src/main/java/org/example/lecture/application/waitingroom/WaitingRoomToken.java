@@ -0,0 +1,9 @@
+package org.example.lecture.application.waitingroom;
+
+/**
+ * [대기실 토큰]
+ * - 강의 슬롯 대기실에 입장한 사용자에게 발급되는 토큰.
+ * - sequence는 슬롯별 발급 순번이며, 슬롯의 입장 허용 순번 이하가 되면 신청할 수 있다.
+ */
+public record WaitingRoomToken(String token, Long lectureSlotId, Long userId, long sequence) {
+}
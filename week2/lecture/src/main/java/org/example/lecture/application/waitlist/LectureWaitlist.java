@@ -0,0 +1,147 @@
+package org.example.lecture.application.waitlist;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * [강의 슬롯 대기자 명단]
+ * - 정원이 찬 슬롯의 신청을 슬롯별 FIFO 대기열에 보관하고, 좌석이 생기면 등록 순서대로 승격.
+ * - 대기열은 메모리에 두고, 각 대기자는 대기 순번을 가진 WAITING 신청으로 DB에 기록된다.
+ * - 슬롯 대기열은 처음 사용될 때 DB의 WAITING 신청으로 복원되므로 재기동 후에도 순서가 유지된다.
+ * - 단일 인스턴스 기준으로 메모리 대기열이 대기 순서의 기준이 된다.
+ * - 대기열은 조회를 포함해 슬롯이 처음 사용될 때 한 번 복원하여 보관하며, 카탈로그에 있는 슬롯만 대상으로 하므로
+ *   보관하는 대기열 수는 카탈로그의 슬롯 수를 넘지 않는다. 이후의 대기 순위 / 대기자 수 조회는 신청 테이블을 읽지 않는다.
+ *   복원은 슬롯마다 한 스레드만 수행하고(나머지는 결과를 기다림) 맵의 락 밖에서 진행한다.
+ */
+@Component
+public class LectureWaitlist {
+
+    private final ApplicationRepository applicationRepository;
+    private final LectureCatalogService lectureCatalogService;
+    private final boolean enabled;
+    private final int maxWaitingPerSlot;
+    private final Map<Long, CompletableFuture<SlotWaitlist>> waitlists = new ConcurrentHashMap<>();
+
+    public LectureWaitlist(ApplicationRepository applicationRepository,
+                           LectureCatalogService lectureCatalogService,
+                           @Value("${lecture.waitlist.enabled:false}") boolean enabled,
+                           @Value("${lecture.waitlist.max-waiting-per-slot:1000}") int maxWaitingPerSlot) {
+        this.applicationRepository = applicationRepository;
+        this.lectureCatalogService = lectureCatalogService;
+        this.enabled = enabled;
+        this.maxWaitingPerSlot = maxWaitingPerSlot;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 슬롯의 대기자 수
+     * @throws LectureSlotNotFoundException 카탈로그에 없는 슬롯인 경우
+     */
+    public int size(Long lectureSlotId) {
+        return waitlist(lectureSlotId).size();
+    }
+
+    /**
+     * 슬롯 대기열의 맨 뒤에 대기자를 등록.
+     * @param journal 대기 순번을 받아 대기 신청을 DB에 기록하고 신청 ID를 반환
+     * @throws CapacityExceededException 슬롯의 대기자 수가 한도에 도달한 경우
+     * @throws LectureSlotNotFoundException 카탈로그에 없는 슬롯인 경우
+     */
+    public WaitlistEntry enqueue(Long lectureSlotId, Long userId, LongFunction<Long> journal) {
+        return waitlist(lectureSlotId).enqueue(userId, maxWaitingPerSlot, journal);
+    }
+
+    /**
+     * 슬롯 대기열의 맨 앞부터 순서대로 승격.
+     * @param promoter 대기자를 승격하고 true를 반환하면 대기열에서 제거, false를 반환하면 중단
+     * @return 남은 대기자 수
+     */
+    public int promote(Long lectureSlotId, Predicate<WaitlistEntry> promoter) {
+        SlotWaitlist waitlist = waitlist(lectureSlotId);
+        if (waitlist.size() == 0) {
+            return 0;
+        }
+        return waitlist.promote(promoter);
+    }
+
+    /**
+     * 대기자의 대기를 취소. 승격과 같은 슬롯 락 안에서 처리되므로 취소 중인 대기자가 승격되지 않는다.
+     * @param journal 대기 신청을 DB에서 삭제하고 삭제 여부를 반환
+     * @return 취소 여부 (이미 승격된 경우 false)
+     */
+    public boolean cancel(Long lectureSlotId, Long userId, BooleanSupplier journal) {
+        return waitlist(lectureSlotId).cancel(userId, journal);
+    }
+
+    /**
+     * 사용자의 대기 순위 (1부터 시작, 대기 중이 아니면 empty)
+     * @throws LectureSlotNotFoundException 카탈로그에 없는 슬롯인 경우
+     */
+    public OptionalLong getPosition(Long lectureSlotId, Long userId) {
+        return waitlist(lectureSlotId).position(userId);
+    }
+
+    /**
+     * 슬롯 대기열을 제거하여 다음 사용 시 DB에서 다시 복원되도록 함
+     */
+    public void evict(Long lectureSlotId) {
+        waitlists.remove(lectureSlotId);
+    }
+
+    /**
+     * 슬롯 대기열을 반환하고, 없으면 카탈로그에서 슬롯을 확인한 뒤 DB에서 복원
+     * - 먼저 자리를 차지한 스레드만 복원하고, 같은 슬롯의 다른 스레드는 그 결과를 기다린다.
+     * - 복원에 실패하면 자리를 비워 다음 호출이 다시 복원하도록 한다.
+     */
+    private SlotWaitlist waitlist(Long lectureSlotId) {
+        CompletableFuture<SlotWaitlist> waitlist = waitlists.get(lectureSlotId);
+        if (waitlist == null) {
+            CompletableFuture<SlotWaitlist> loading = new CompletableFuture<>();
+            waitlist = waitlists.putIfAbsent(lectureSlotId, loading);
+            if (waitlist == null) {
+                waitlist = loading;
+                try {
+                    lectureCatalogService.getSlot(lectureSlotId);
+                    loading.complete(load(lectureSlotId));
+                } catch (RuntimeException ex) {
+                    waitlists.remove(lectureSlotId, loading);
+                    loading.completeExceptionally(ex);
+                }
+            }
+        }
+        return join(waitlist);
+    }
+
+    private static SlotWaitlist join(CompletableFuture<SlotWaitlist> waitlist) {
+        try {
+            return waitlist.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private SlotWaitlist load(Long lectureSlotId) {
+        return new SlotWaitlist(applicationRepository.findWaitingBySlotId(lectureSlotId).stream()
+                .map(application -> new WaitlistEntry(application.getApplicationId(), application.getUserId(), application.getWaitingSequence()))
+                .toList());
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.lecture.application.waitlist;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * [슬롯별 대기열]
+ * - 대기 순번 순서의 FIFO(ArrayDeque)와 사용자별 대기 순번을 함께 보관하여 등록 / 승격은 O(1).
+ * - 대기 순번은 빈틈 없이 증가하고 승격은 항상 맨 앞에서 일어나므로, 대기 순위는 (내 순번 - 맨 앞 순번 + 1)로 바로 계산.
+ * - 중간 대기자의 취소는 대기열에서 바로 빼지 않고 취소된 순번으로만 기록했다가 맨 앞에 도달할 때 제거하며,
+ *   대기 순위 계산 시 앞쪽의 취소된 순번 수만큼 당겨준다. (앞쪽에 취소된 순번이 k개 남아 있으면 순위 계산은 O(k))
+ * - 등록 / 승격은 DB 기록이 끝날 때까지 슬롯 단위 락을 잡아 메모리와 DB의 순서가 어긋나지 않도록 한다.
+ *   (가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 사용)
+ */
+class SlotWaitlist {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<WaitlistEntry> queue = new ArrayDeque<>();
+    private final Map<Long, Long> sequenceByUser = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Long> canceledSequences = new ConcurrentSkipListSet<>();
+    private volatile long headSequence;
+    private long nextSequence;
+
+    /**
+     * DB에 기록된 대기 신청(대기 순번 순)으로 대기열을 복원
+     * - 재기동 전에 취소된 대기자의 순번은 DB에 남지 않아 복원된 순번 사이에 빈틈이 생기므로,
+     *   빈 순번을 취소된 순번으로 기록하여 대기 순위 계산에서 빠지도록 한다.
+     */
+    SlotWaitlist(List<WaitlistEntry> entries) {
+        long sequence = 1;
+        for (WaitlistEntry entry : entries) {
+            if (!queue.isEmpty()) {
+                for (long missing = sequence; missing < entry.sequence(); missing++) {
+                    canceledSequences.add(missing);
+                }
+            }
+            queue.addLast(entry);
+            sequenceByUser.put(entry.userId(), entry.sequence());
+            sequence = entry.sequence() + 1;
+        }
+        this.nextSequence = sequence;
+        this.headSequence = queue.isEmpty() ? sequence : queue.peekFirst().sequence();
+    }
+
+    int size() {
+        return sequenceByUser.size();
+    }
+
+    /**
+     * 다음 대기 순번으로 대기자를 등록.
+     * - 대기자 수 한도도 같은 락 안에서 확인하여 동시 등록으로 한도를 넘지 않도록 한다.
+     * @param journal 대기 순번을 받아 대기 신청을 DB에 기록하고 신청 ID를 반환 (실패 시 순번은 소비되지 않음)
+     * @throws CapacityExceededException 대기자 수가 한도에 도달한 경우
+     */
+    WaitlistEntry enqueue(Long userId, int maxWaiting, LongFunction<Long> journal) {
+        lock.lock();
+        try {
+            if (sequenceByUser.size() >= maxWaiting) {
+                throw new CapacityExceededException("강의 정원과 대기자 명단이 모두 찼습니다.");
+            }
+            long sequence = nextSequence;
+            Long applicationId = journal.apply(sequence);
+
+            WaitlistEntry entry = new WaitlistEntry(applicationId, userId, sequence);
+            queue.addLast(entry);
+            sequenceByUser.put(userId, sequence);
+            nextSequence = sequence + 1;
+            if (queue.size() == 1) {
+                headSequence = sequence;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 맨 앞 대기자부터 순서대로 승격.
+     * @param promoter 대기자를 승격하고 true를 반환하면 대기열에서 제거, false를 반환하면 (빈 좌석 없음) 중단
+     * @return 남은 대기자 수
+     */
+    int promote(Predicate<WaitlistEntry> promoter) {
+        lock.lock();
+        try {
+            WaitlistEntry head;
+            while ((head = queue.peekFirst()) != null && promoter.test(head)) {
+                queue.pollFirst();
+                sequenceByUser.remove(head.userId(), head.sequence());
+                advanceHead();
+            }
+            return sequenceByUser.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기자의 대기를 취소.
+     * @param journal 대기 신청을 DB에서 삭제하고 삭제 여부를 반환 (이미 승격 / 취소된 경우 false)
+     * @return 취소 여부
+     */
+    boolean cancel(Long userId, BooleanSupplier journal) {
+        lock.lock();
+        try {
+            if (!journal.getAsBoolean()) {
+                return false;
+            }
+            Long sequence = sequenceByUser.remove(userId);
+            if (sequence != null) {
+                canceledSequences.add(sequence);
+                advanceHead();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 대기 순위 (1부터 시작, 대기 중이 아니면 empty)
+     * - 취소된 순번이 없으면 O(1)이고, 있으면 내 순번보다 앞선 취소된 순번 k개를 세므로 O(k).
+     *   (맨 앞에 도달한 취소 순번은 바로 정리되므로 k는 대기 중인 취소 건수를 넘지 않는다)
+     */
+    OptionalLong position(Long userId) {
+        Long sequence = sequenceByUser.get(userId);
+        if (sequence == null) {
+            return OptionalLong.empty();
+        }
+        long canceledAhead = canceledSequences.isEmpty() ? 0 : canceledSequences.headSet(sequence).size();
+        return OptionalLong.of(Math.max(sequence - headSequence + 1 - canceledAhead, 1));
+    }
+
+    /**
+     * 맨 앞에 도달한 취소된 대기자를 제거하고 맨 앞 순번을 갱신
+     * - 맨 앞 순번보다 앞선 취소된 순번(복원 시 기록한 빈 순번 포함)은 더 이상 순위 계산에 쓰이지 않으므로 함께 정리.
+     */
+    private void advanceHead() {
+        WaitlistEntry head;
+        while ((head = queue.peekFirst()) != null && canceledSequences.remove(head.sequence())) {
+            queue.pollFirst();
+        }
+        headSequence = head != null ? head.sequence() : nextSequence;
+        canceledSequences.headSet(headSequence).clear();
+    }
+}
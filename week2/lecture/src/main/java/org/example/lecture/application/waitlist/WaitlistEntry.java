@@ -0,0 +1,8 @@
+package org.example.lecture.application.waitlist;
+
+/**
+ * [대기열 항목]
+ * - 대기 중인 신청 한 건 (WAITING 상태의 신청 ID, 사용자 ID, 슬롯 내 대기 순번).
+ */
+public record WaitlistEntry(Long applicationId, Long userId, long sequence) {
+}
@@ -0,0 +1,201 @@
+package org.example.lecture.application.warmup;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.application.usecase.ApplyLectureUsecase;
+import org.example.lecture.application.usecase.QueryLectureDetailsUsecase;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [신청 시작 전 예열]
+ * - 신청 시작 시각(openAt)이 lead-time-ms 이내로 다가온 슬롯을 주기적으로 찾아, 첫 신청들이 콜드 스타트 비용을 치르지 않도록 미리 준비.
+ * - 슬롯 / 강의를 카탈로그에, 신청자 수 / 상태를 목록 캐시와 좌석 예약 전략(인메모리 / 샤드)에 적재.
+ * - 신청 / 조회 경로를 항상 롤백되는 트랜잭션 안에서 반복 실행(dry run)하여, 실제 트래픽 전에 해당 코드가 JIT 컴파일되도록 한다.
+ * - 커넥션 풀은 최소 유휴 커넥션 수를 최대 크기로 올려, 풀이 스스로 커넥션을 미리 채우도록 한다.
+ */
+@Slf4j
+@Component
+public class SlotWarmUp {
+
+    // dry run 신청에 사용하는 사용자 ID (실제 사용자 ID와 겹치지 않는 음수)
+    static final Long DRY_RUN_USER_ID = -1L;
+
+    private final LectureSlotRepository lectureSlotRepository;
+    private final LectureCatalogService lectureCatalogService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final ApplyLectureUsecase applyLectureUsecase;
+    private final ApplicationService applicationService;
+    private final QueryLectureDetailsUsecase queryLectureDetailsUsecase;
+    private final ApplyMetrics applyMetrics;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long leadTimeMs;
+    private final long checkIntervalMs;
+    private final int dryRunIterations;
+    private final Set<Long> warmedSlots = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slot-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SlotWarmUp(LectureSlotRepository lectureSlotRepository,
+                      LectureCatalogService lectureCatalogService,
+                      SeatReservationEngine seatReservationEngine,
+                      ApplyLectureUsecase applyLectureUsecase,
+                      ApplicationService applicationService,
+                      QueryLectureDetailsUsecase queryLectureDetailsUsecase,
+                      ApplyMetrics applyMetrics,
+                      DataSource dataSource,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${lecture.warm-up.enabled:false}") boolean enabled,
+                      @Value("${lecture.warm-up.lead-time-ms:300000}") long leadTimeMs,
+                      @Value("${lecture.warm-up.check-interval-ms:30000}") long checkIntervalMs,
+                      @Value("${lecture.warm-up.dry-run-iterations:100}") int dryRunIterations) {
+        this.lectureSlotRepository = lectureSlotRepository;
+        this.lectureCatalogService = lectureCatalogService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.applyLectureUsecase = applyLectureUsecase;
+        this.applicationService = applicationService;
+        this.queryLectureDetailsUsecase = queryLectureDetailsUsecase;
+        this.applyMetrics = applyMetrics;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.leadTimeMs = leadTimeMs;
+        this.checkIntervalMs = checkIntervalMs;
+        this.dryRunIterations = dryRunIterations;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::warmUpSafely, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 신청 시작 시각이 지금부터 lead-time-ms 이내인 슬롯 중 아직 예열하지 않은 슬롯을 예열
+     * @return 이번에 예열한 슬롯 수
+     */
+    public int warmUpUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        int warmed = 0;
+        for (LectureSlot slot : lectureSlotRepository.findOpeningBetween(now, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leadTimeMs)))) {
+            if (!warmedSlots.add(slot.getSlotId())) {
+                continue;
+            }
+            try {
+                warmUp(slot.getSlotId(), slot.getDate());
+                warmed++;
+            } catch (RuntimeException ex) {
+                // 다음 주기에 다시 시도
+                warmedSlots.remove(slot.getSlotId());
+                log.warn("강의 슬롯 예열에 실패했습니다. Slot ID: {}", slot.getSlotId(), ex);
+            }
+        }
+        if (warmed > 0) {
+            primeConnectionPool();
+            log.info("신청 시작 전 강의 슬롯 {}개를 예열했습니다.", warmed);
+        }
+        return warmed;
+    }
+
+    /**
+     * 슬롯 하나를 예열: 캐시 / 좌석 상태 적재 후 신청 / 조회 경로 dry run
+     */
+    public void warmUp(Long lectureSlotId, LocalDate date) {
+        // 1. 슬롯 / 강의는 카탈로그에, 좌석 상태는 예약 전략에 적재
+        lectureCatalogService.reloadDate(date);
+        seatReservationEngine.preload(lectureSlotId);
+
+        // 2. 조회(목록 캐시 적재 포함) / 신청 경로 dry run (신청이 거절되는 슬롯이면 조회만 반복)
+        boolean applicable = true;
+        for (int i = 0; i < dryRunIterations; i++) {
+            queryLectureDetailsUsecase.execute(date);
+            if (applicable) {
+                applicable = dryRunApply(lectureSlotId);
+            }
+        }
+    }
+
+    /**
+     * 신청 경로를 항상 롤백되는 트랜잭션 안에서 실행.
+     * - 좌석 확보가 요청 트랜잭션에 묶이지 않는 전략(IN_MEMORY)은 좌석을 실제로 차지하므로 신청 INSERT만 실행한다.
+     * - 롤백되므로 신청 / 좌석 변경은 남지 않고, 커밋 후 이벤트(캐시 / 상태 게이트 갱신)도 발행되지 않는다.
+     * - 신청 경로 메트릭 / 경합 추적에는 기록하지 않아 실제 슬롯의 지연 시간 / 오류율에 섞이지 않는다.
+     * @return 신청 경로가 거절 없이 실행되었는지 여부
+     */
+    boolean dryRunApply(Long lectureSlotId) {
+        try {
+            applyMetrics.runUnrecorded(() -> transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                if (seatReservationEngine.requiresRequestTransaction()) {
+                    applyLectureUsecase.execute(DRY_RUN_USER_ID, lectureSlotId);
+                } else {
+                    applicationService.applyToLectureSlot(DRY_RUN_USER_ID, lectureSlotRepository.getReferenceById(lectureSlotId));
+                }
+            }));
+            return true;
+        } catch (RuntimeException ex) {
+            log.debug("강의 슬롯 신청 dry run이 거절되었습니다. Slot ID: {}", lectureSlotId, ex);
+            return false;
+        }
+    }
+
+    /**
+     * 커넥션 풀(Hikari)의 최소 유휴 커넥션 수를 최대 크기로 올려, 첫 신청들이 물리 커넥션 생성을 기다리지 않게 한다.
+     * - 커넥션을 직접 빌리지 않고 풀의 유지 작업이 백그라운드에서 채우므로, 예열 중에도 요청 스레드의 커넥션을 빼앗지 않는다.
+     * - Hikari가 아닌 커넥션 풀이면 아무것도 하지 않는다.
+     */
+    void primeConnectionPool() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return;
+            }
+            HikariConfigMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariConfigMXBean();
+            if (pool.getMinimumIdle() < pool.getMaximumPoolSize()) {
+                log.info("커넥션 풀의 최소 유휴 커넥션 수를 {}에서 {}로 올립니다.", pool.getMinimumIdle(), pool.getMaximumPoolSize());
+                pool.setMinimumIdle(pool.getMaximumPoolSize());
+            }
+        } catch (SQLException ex) {
+            log.warn("커넥션 풀 예열에 실패했습니다.", ex);
+        }
+    }
+
+    private void warmUpSafely() {
+        try {
+            warmUpUpcoming();
+        } catch (RuntimeException ex) {
+            log.warn("신청 시작 전 예열에 실패했습니다.", ex);
+        }
+    }
+}
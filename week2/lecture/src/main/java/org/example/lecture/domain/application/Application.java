@@ -10,13 +10,19 @@ import org.example.lecture.domain.lecture.LectureSlot;
  * 강의 신청 엔티티
  */
 @Entity
-@Table(name = "application")
+@Table(name = "application", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_application_user_slot", columnNames = {"user_id", "slot_id"})
+}, indexes = {
+        @Index(name = "idx_application_slot_waiting", columnList = "slot_id, waiting_seq"),
+        @Index(name = "idx_application_user_status", columnList = "user_id, current_status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_seq_generator")
+    @SequenceGenerator(name = "application_seq_generator", sequenceName = "application_seq", allocationSize = 50)
     @Column(name = "application_id", nullable = false)
     private Long applicationId;
 
@@ -31,6 +37,9 @@ public class Application {
     @Column(name = "current_status", nullable = false)
     private ApplicationStatusType currentStatus;  // 신청 상태
 
+    @Column(name = "waiting_seq")
+    private Long waitingSequence;                 // 대기 순번 (WAITING 상태에서만 값이 있음)
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -41,9 +50,20 @@ public class Application {
         this.createdAt = LocalDateTime.now();
     }
 
+    // 정원이 찬 슬롯의 대기자 명단에 등록되는 신청 (대기 순번 부여)
+    public Application(Long userId, LectureSlot slot, long waitingSequence) {
+        this(userId, slot);
+        this.waitingSequence = waitingSequence;
+    }
+
     // 상태 변경 검증: 신청 상태로 전환
     public void apply() {
         this.currentStatus = ApplicationStatusType.apply();
+        this.waitingSequence = null;
+    }
+
+    public boolean isWaiting() {
+        return this.currentStatus == ApplicationStatusType.WAITING;
     }
 
 }
\ No newline at end of file
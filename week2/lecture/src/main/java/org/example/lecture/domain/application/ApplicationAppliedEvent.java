@@ -0,0 +1,19 @@
+package org.example.lecture.domain.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * [신청 완료 이벤트]
+ * - 새 신청이 신청 완료(APPLIED) 상태로 저장되었을 때 발행되는 도메인 이벤트.
+ *
+ * @param userId        신청자 ID
+ * @param applicationId 신청 ID
+ * @param slotId        신청한 강의 슬롯 ID
+ * @param appliedAt     신청 시각 (신청 생성 시각)
+ */
+public record ApplicationAppliedEvent(Long userId, Long applicationId, Long slotId, LocalDateTime appliedAt) {
+
+    public static ApplicationAppliedEvent from(Long slotId, Application application) {
+        return new ApplicationAppliedEvent(application.getUserId(), application.getApplicationId(), slotId, application.getCreatedAt());
+    }
+}
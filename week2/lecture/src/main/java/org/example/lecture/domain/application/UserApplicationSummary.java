@@ -0,0 +1,31 @@
+package org.example.lecture.domain.application;
+
+import org.example.lecture.domain.lecture.LectureCatalog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [사용자 신청 내역 조회 모델]
+ * - application, lecture_slot, lecture를 한 번에 조인하여 읽어 온 읽기 전용 프로젝션.
+ * - 엔티티를 로딩하지 않으므로 신청마다 슬롯 / 강의를 지연 로딩하는 N+1이 발생하지 않는다.
+ */
+public record UserApplicationSummary(
+        Long applicationId,
+        Long lectureId,
+        String lectureName,
+        String instructor,
+        String description,
+        LocalDate slotDate,
+        LocalDateTime applicationDate,
+        ApplicationStatusType currentStatus) {
+
+    /**
+     * 카탈로그의 강의 / 슬롯 정보로 신청 완료 내역 생성 (신청 직후 캐시 갱신 용도)
+     */
+    public static UserApplicationSummary applied(ApplicationAppliedEvent event, LectureCatalog.CatalogSlot slot) {
+        LectureCatalog.CatalogLecture lecture = slot.lecture();
+        return new UserApplicationSummary(event.applicationId(), lecture.lectureId(), lecture.name(), lecture.instructor(),
+                lecture.description(), slot.date(), event.appliedAt(), ApplicationStatusType.APPLIED);
+    }
+}
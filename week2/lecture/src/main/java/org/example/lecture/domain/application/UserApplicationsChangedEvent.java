@@ -0,0 +1,10 @@
+package org.example.lecture.domain.application;
+
+/**
+ * [사용자 신청 내역 변경 이벤트]
+ * - 신청 완료 취소, 대기 신청 승격처럼 사용자의 신청 완료 목록이 새 신청 추가 이외의 방식으로 바뀌었을 때 발행되는 도메인 이벤트.
+ *
+ * @param userId 신청 내역이 바뀐 사용자 ID
+ */
+public record UserApplicationsChangedEvent(Long userId) {
+}
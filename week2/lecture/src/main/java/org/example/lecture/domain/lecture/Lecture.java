@@ -2,15 +2,20 @@ package org.example.lecture.domain.lecture;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
  * [강의 정보 엔티티]
  * - 강의 정보를 관리하는 읽기 전용 엔티티 클래스 (불변 객체 - 수정, 삭제 불가)
+ * - 수정되지 않으므로 2차 캐시(lecture 영역)에 READ_ONLY로 보관.
  */
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "lecture")
 @Table(name = "lecture")
 @Getter
 @Builder
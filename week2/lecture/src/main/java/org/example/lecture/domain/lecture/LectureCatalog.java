@@ -0,0 +1,99 @@
+package org.example.lecture.domain.lecture;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * [강의 카탈로그 스냅샷]
+ * - 읽기 전용인 강의 / 강의 슬롯 정보를 ID별, 날짜별로 색인해 둔 불변 객체.
+ * - 엔티티가 아닌 값(record)만 보관하므로 영속성 컨텍스트, 지연 로딩과 무관하게 어느 스레드에서나 읽을 수 있다.
+ * - 변경이 필요하면 기존 스냅샷을 수정하지 않고 새 스냅샷을 만들어 교체한다.
+ */
+public final class LectureCatalog {
+
+    private static final LectureCatalog EMPTY = new LectureCatalog(Map.of());
+
+    private final Map<Long, CatalogSlot> slotsById;
+    private final Map<LocalDate, List<CatalogSlot>> slotsByDate;
+
+    private LectureCatalog(Map<Long, CatalogSlot> slotsById) {
+        this.slotsById = Map.copyOf(slotsById);
+        this.slotsByDate = slotsById.values().stream()
+                .sorted(Comparator.comparing(CatalogSlot::slotId))
+                .collect(Collectors.groupingBy(CatalogSlot::date, Collectors.toUnmodifiableList()));
+    }
+
+    public static LectureCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Lecture가 함께 로딩된 강의 슬롯 목록으로 카탈로그 생성
+     */
+    public static LectureCatalog of(Collection<LectureSlot> lectureSlots) {
+        return EMPTY.withSlots(lectureSlots.stream().map(CatalogSlot::from).toList());
+    }
+
+    public Optional<CatalogSlot> findSlot(Long slotId) {
+        return Optional.ofNullable(slotsById.get(slotId));
+    }
+
+    /**
+     * 특정 날짜의 강의 슬롯 목록 (슬롯 ID 오름차순)
+     */
+    public List<CatalogSlot> getSlotsByDate(LocalDate date) {
+        return slotsByDate.getOrDefault(date, List.of());
+    }
+
+    public int slotCount() {
+        return slotsById.size();
+    }
+
+    /**
+     * 주어진 슬롯을 추가(같은 ID는 교체)한 새 카탈로그 반환
+     */
+    public LectureCatalog withSlots(Collection<CatalogSlot> slots) {
+        Map<Long, CatalogSlot> merged = new HashMap<>(slotsById);
+        slots.forEach(slot -> merged.put(slot.slotId(), slot));
+        return new LectureCatalog(merged);
+    }
+
+    /**
+     * 특정 날짜의 슬롯 목록을 주어진 슬롯으로 통째로 교체한 새 카탈로그 반환
+     */
+    public LectureCatalog withDate(LocalDate date, Collection<CatalogSlot> slots) {
+        Map<Long, CatalogSlot> merged = new HashMap<>(slotsById);
+        merged.values().removeIf(slot -> slot.date().equals(date));
+        slots.forEach(slot -> merged.put(slot.slotId(), slot));
+        return new LectureCatalog(merged);
+    }
+
+    /**
+     * 카탈로그의 강의 정보
+     */
+    public record CatalogLecture(Long lectureId, String name, String instructor, String description, int maxCapacity) {
+
+        public static CatalogLecture from(Lecture lecture) {
+            return new CatalogLecture(lecture.getLectureId(), lecture.getName(), lecture.getInstructor(),
+                    lecture.getDescription(), lecture.getMaxCapacity());
+        }
+    }
+
+    /**
+     * 카탈로그의 강의 슬롯 정보
+     */
+    public record CatalogSlot(Long slotId, CatalogLecture lecture, LocalDate date, int capacity, LocalDateTime updatedAt) {
+
+        public static CatalogSlot from(LectureSlot lectureSlot) {
+            return new CatalogSlot(lectureSlot.getSlotId(), CatalogLecture.from(lectureSlot.getLecture()),
+                    lectureSlot.getDate(), lectureSlot.getCapacity(), lectureSlot.getUpdatedAt());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.example.lecture.domain.lecture;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,9 +12,14 @@ import java.time.LocalDateTime;
 /**
  * [특정 날짜의 강의 정원 정보 엔티티]
  * - 특정 날짜에 진행되는 강의의 정원 정보를 관리하는 엔티티
+ * - 생성 후 수정되지 않으므로 2차 캐시(lecture-slot 영역)에 READ_ONLY로 보관 (자주 바뀌는 신청자 수 / 상태는 LectureSlotStatus에 분리).
  */
 @Entity
-@Table(name = "lecture_slot")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "lecture-slot")
+@Table(name = "lecture_slot", indexes = {
+        @Index(name = "idx_lecture_slot_open_at", columnList = "open_at")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -34,6 +41,9 @@ public final class LectureSlot {
     @Column(name = "capacity", nullable = false, columnDefinition = "INT DEFAULT 30")
     private int capacity;   // 수용 가능 인원
 
+    @Column(name = "open_at")
+    private LocalDateTime openAt;   // 신청 시작 시각 (없으면 신청 시작 전 예열 대상에서 제외)
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,35 @@
+package org.example.lecture.domain.lecture;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [강의 슬롯 상세 조회 모델]
+ * - lecture, lecture_slot, lecture_slot_status를 한 번에 조인하여 읽어 온 읽기 전용 프로젝션.
+ * - 엔티티를 로딩하지 않으므로 지연 로딩(N+1)과 영속성 컨텍스트 관리 비용이 발생하지 않는다.
+ */
+public record LectureSlotDetail(
+        Long lectureId,
+        String name,
+        String instructor,
+        String description,
+        int maxCapacity,
+        Long slotId,
+        LocalDate slotDate,
+        int capacity,
+        LocalDateTime slotUpdatedAt,
+        Long statusId,
+        LectureSlotStatusType status,
+        int currentApplicants,
+        LocalDateTime statusUpdatedAt) {
+
+    /**
+     * 카탈로그의 강의 / 슬롯 정보와 슬롯 상태 스냅샷을 합쳐 상세 정보 생성
+     */
+    public static LectureSlotDetail of(LectureCatalog.CatalogSlot slot, LectureSlotStatusSnapshot status) {
+        LectureCatalog.CatalogLecture lecture = slot.lecture();
+        return new LectureSlotDetail(lecture.lectureId(), lecture.name(), lecture.instructor(), lecture.description(),
+                lecture.maxCapacity(), slot.slotId(), slot.date(), slot.capacity(), slot.updatedAt(),
+                status.statusId(), status.status(), status.currentApplicants(), status.lastUpdatedAt());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.lecture.domain.lecture;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * [강의 슬롯 정원 샤드 엔티티]
+ * - 한 슬롯의 정원을 N개로 나누어 담은 하위 카운터 (SHARDED 좌석 예약 전략 전용).
+ * - 샤드별 정원(capacity)의 합은 슬롯 정원과 같고, 각 샤드의 신청자 수는 자기 정원을 넘지 않으므로 전체 신청자 수도 정원을 넘지 않는다.
+ * - 좌석 예약은 샤드 행마다 따로 UPDATE 되므로, 한 슬롯에 몰린 쓰기가 N개의 행으로 나뉜다.
+ */
+@Entity
+@Table(name = "lecture_slot_shard", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lecture_slot_shard", columnNames = {"slot_id", "shard_index"})
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public final class LectureSlotShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long shardId;
+
+    // 슬롯이 삭제되어도 남는 행은 다시 쓰이지 않으므로(슬롯 ID는 재사용되지 않음) 외래 키 없이 ID만 보관
+    @Column(name = "slot_id", nullable = false)
+    private Long slotId;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(nullable = false)
+    private int capacity;           // 샤드에 할당된 정원
+
+    @Column(nullable = false)
+    private int currentApplicants;  // 샤드의 현재 신청자 수
+}
@@ -23,7 +23,7 @@ public final class LectureSlotStatus {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long statusId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "slot_id", nullable = false)
     private LectureSlot lectureSlot;
 
@@ -34,22 +34,37 @@ public final class LectureSlotStatus {
     @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
     private int currentApplicants;  // 현재 신청자 수
 
+    // 엔티티 저장 시 덮어쓰지 않도록 UPDATE 대상에서 제외 (대기자 등록 / 승격 시 증감 UPDATE로만 변경)
+    @Builder.Default
+    @Column(name = "waiting_list", nullable = false, updatable = false)
+    private int waitingList = 0;    // 대기자 수
+
     @Builder.Default
     @Column(nullable = false)
     private LocalDateTime lastUpdatedAt = LocalDateTime.now();
 
+    @Version
+    @Column(name = "version")
+    private Long version;           // 낙관적 락 버전
+
     public LectureSlotStatus(LectureSlot lectureSlot, LectureSlotStatusType status, int currentApplicants, int waitingList, int canceledApplicants) {
         this.lectureSlot = lectureSlot;
         this.status = status;
         this.currentApplicants = currentApplicants;
+        this.waitingList = waitingList;
         this.lastUpdatedAt = LocalDateTime.now();
     }
     // 신청자 수 증가 메서드
     public void incrementApplicants() {
+        incrementApplicants(lectureSlot.getCapacity());
+    }
+
+    // 신청자 수 증가 메서드 (정원을 외부에서 전달받아 강의 슬롯을 로딩하지 않음)
+    public void incrementApplicants(int capacity) {
         if (this.status.isAvailable()) {
             this.currentApplicants++;
-            if (this.currentApplicants >= lectureSlot.getCapacity()) {
-                this.status = LectureSlotStatusType.FULL;  // 정원 초과로 상태 변경
+            if (this.currentApplicants >= capacity) {
+                changeStatus(LectureSlotStatusType.FULL);  // 정원 초과로 상태 변경
             }
             this.lastUpdatedAt = LocalDateTime.now();
         }
@@ -0,0 +1,30 @@
+package org.example.lecture.domain.lecture;
+
+import java.time.LocalDateTime;
+
+/**
+ * [강의 슬롯 상태 스냅샷]
+ * - 슬롯의 신청자 수 / 상태만 담는 읽기 전용 프로젝션.
+ * - 강의 / 슬롯 정보는 카탈로그에서 얻고, 자주 바뀌는 상태 정보만 DB 또는 캐시에서 읽을 때 사용.
+ */
+public record LectureSlotStatusSnapshot(
+        Long slotId,
+        Long statusId,
+        LectureSlotStatusType status,
+        int currentApplicants,
+        LocalDateTime lastUpdatedAt) {
+
+    /**
+     * 상태 변경 이벤트의 값으로 갱신한 사본 반환
+     */
+    public LectureSlotStatusSnapshot apply(SlotStatusChangedEvent event) {
+        return new LectureSlotStatusSnapshot(slotId, statusId, event.status(), event.currentApplicants(), event.changedAt());
+    }
+
+    /**
+     * 좌석 반납 이벤트의 값으로 갱신한 사본 반환
+     */
+    public LectureSlotStatusSnapshot apply(SeatReleasedEvent event) {
+        return new LectureSlotStatusSnapshot(slotId, statusId, event.status(), event.currentApplicants(), event.changedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.lecture.domain.lecture;
+
+import java.time.LocalDateTime;
+
+/**
+ * [좌석 반납 이벤트]
+ * - 신청 취소로 좌석이 반납되어 슬롯의 신청자 수가 줄었을 때 발행되는 도메인 이벤트.
+ * - 예약으로 늘어나는 SlotStatusChangedEvent와 구분하여, 읽기 모델이 줄어든 신청자 수도 반영할 수 있게 한다.
+ *
+ * @param slotId            좌석이 반납된 강의 슬롯 ID
+ * @param currentApplicants 반납 후 현재 신청자 수
+ * @param status            반납 후 슬롯 상태 (OPEN, CLOSED)
+ * @param changedAt         변경 시각
+ */
+public record SeatReleasedEvent(Long slotId, int currentApplicants, LectureSlotStatusType status, LocalDateTime changedAt) {
+
+    public static SeatReleasedEvent from(Long slotId, SeatReservation release) {
+        return new SeatReleasedEvent(slotId, release.currentApplicants(), release.status(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.lecture.domain.lecture;
+
+/**
+ * [좌석 예약 결과]
+ * - 좌석 예약 전략이 신청을 수락했을 때, 예약된 슬롯과 예약 직후의 신청자 수 / 슬롯 상태를 담는 값 객체.
+ *
+ * @param lectureSlot       예약된 강의 슬롯 (신청의 외래 키로 사용하는 참조이며, 강의 / 슬롯 정보는 카탈로그에서 조회)
+ * @param currentApplicants 예약 직후의 현재 신청자 수
+ * @param status            예약 직후의 슬롯 상태 (OPEN, FULL)
+ */
+public record SeatReservation(LectureSlot lectureSlot, int currentApplicants, LectureSlotStatusType status) {
+}
@@ -0,0 +1,21 @@
+package org.example.lecture.domain.lecture;
+
+import java.time.LocalDateTime;
+
+/**
+ * [슬롯 상태 변경 이벤트]
+ * - 좌석 예약으로 슬롯의 신청자 수 / 상태가 바뀌었을 때, 또는 LectureSlotStatus의 상태가 전이되었을 때 발행되는 도메인 이벤트.
+ * - 조회 캐시 등 읽기 모델이 DB를 다시 읽지 않고 변경된 값만 반영(patch)하고, 슬롯 상태 게이트가 신청 가능 여부를 갱신하는 데 사용.
+ *
+ * @param slotId            변경된 강의 슬롯 ID
+ * @param currentApplicants 변경 후 현재 신청자 수
+ * @param status            변경 후 슬롯 상태 (OPEN, FULL, CLOSED)
+ * @param changedAt         변경 시각
+ */
+public record SlotStatusChangedEvent(Long slotId, int currentApplicants, LectureSlotStatusType status, LocalDateTime changedAt) {
+
+    public static SlotStatusChangedEvent from(Long slotId, SeatReservation reservation) {
+        return new SlotStatusChangedEvent(slotId,
+                reservation.currentApplicants(), reservation.status(), LocalDateTime.now());
+    }
+}
@@ -2,9 +2,14 @@ package org.example.lecture.infrastructure.application;
 
 import org.example.lecture.domain.application.Application;
 import org.example.lecture.domain.application.ApplicationStatusType;
+import org.example.lecture.domain.application.UserApplicationSummary;
 import org.example.lecture.domain.lecture.LectureSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +22,61 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     List<Application> findByUserIdAndCurrentStatus(Long userId, ApplicationStatusType status);
 
+    /**
+     * 특정 사용자의 신청 완료 내역을 강의 / 슬롯 정보와 함께 한 번의 조인 쿼리로 조회
+     * - (user_id, current_status) 인덱스를 사용.
+     * @param userId 사용자 ID
+     * @return 신청 ID 순으로 정렬된 신청 완료 내역
+     */
+    @Query("SELECT new org.example.lecture.domain.application.UserApplicationSummary(" +
+            "a.applicationId, l.lectureId, l.name, l.instructor, l.description, ls.date, a.createdAt, a.currentStatus) " +
+            "FROM Application a JOIN a.lectureSlot ls JOIN ls.lecture l " +
+            "WHERE a.userId = :userId " +
+            "AND a.currentStatus = org.example.lecture.domain.application.ApplicationStatusType.APPLIED " +
+            "ORDER BY a.applicationId")
+    List<UserApplicationSummary> findCompletedSummariesByUserId(@Param("userId") Long userId);
+
     boolean existsByUserIdAndLectureSlot(Long userId, LectureSlot lectureSlot);
+
+    /**
+     * 주어진 슬롯 중 사용자가 이미 신청(신청 완료 / 대기)한 슬롯 ID 조회
+     * - (user_id, slot_id) 유니크 인덱스로 판정하므로 일괄 신청의 중복 사전 확인에 사용.
+     */
+    @Query("SELECT a.lectureSlot.slotId FROM Application a WHERE a.userId = :userId AND a.lectureSlot.slotId IN :slotIds")
+    List<Long> findSlotIdsByUserIdAndSlotIdIn(@Param("userId") Long userId, @Param("slotIds") Collection<Long> slotIds);
+
+    /**
+     * 특정 강의 슬롯의 대기 중인 신청을 대기 순번 순으로 조회 (인메모리 대기열 복원 용도)
+     * - (slot_id, waiting_seq) 인덱스를 사용.
+     * @param slotId 강의 슬롯 ID
+     * @return 대기 순번 순으로 정렬된 WAITING 신청 목록
+     */
+    @Query("SELECT a FROM Application a WHERE a.lectureSlot.slotId = :slotId " +
+            "AND a.currentStatus = org.example.lecture.domain.application.ApplicationStatusType.WAITING " +
+            "ORDER BY a.waitingSequence")
+    List<Application> findWaitingBySlotId(@Param("slotId") Long slotId);
+
+    /**
+     * 대기 중인 신청을 신청 완료 상태로 승격하는 조건부 UPDATE
+     * - 아직 WAITING 상태인 경우에만 갱신하므로, 이미 처리된 대기 신청은 승격되지 않는다.
+     * @param applicationId 신청 ID
+     * @return 갱신된 행 수 (1: 승격 성공, 0: 대기 상태가 아님)
+     */
+    @Modifying
+    @Query("UPDATE Application a SET a.currentStatus = org.example.lecture.domain.application.ApplicationStatusType.APPLIED, " +
+            "a.waitingSequence = null " +
+            "WHERE a.applicationId = :applicationId " +
+            "AND a.currentStatus = org.example.lecture.domain.application.ApplicationStatusType.WAITING")
+    int promoteWaiting(@Param("applicationId") Long applicationId);
+
+    /**
+     * 신청이 주어진 상태일 때만 삭제하는 조건부 DELETE (신청 취소)
+     * - 대기 신청의 승격과 취소가 겹쳐도 둘 중 하나만 성공하도록 상태를 조건으로 건다.
+     * @param applicationId 신청 ID
+     * @param status        삭제할 때 기대하는 신청 상태
+     * @return 삭제된 행 수 (1: 취소 성공, 0: 이미 취소되었거나 상태가 바뀜)
+     */
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.applicationId = :applicationId AND a.currentStatus = :status")
+    int deleteIfStatus(@Param("applicationId") Long applicationId, @Param("status") ApplicationStatusType status);
 }
@@ -1,22 +1,28 @@
 package org.example.lecture.infrastructure.lecture;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.lecture.domain.lecture.LectureSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 /**
  * LectureSlot 엔티티를 관리하는 JPA 레파지토리
  */
 public interface LectureSlotRepository extends JpaRepository<LectureSlot, Long> {
 
-    // 특정 날짜에 해당하는 강의 슬롯 목록 조회
+    // 특정 날짜에 해당하는 강의 슬롯 목록 조회 (쿼리 캐시 사용, lecture_slot 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<LectureSlot> findByDate(LocalDate date);
 
     /**
@@ -28,5 +34,39 @@ public interface LectureSlotRepository extends JpaRepository<LectureSlot, Long>
     @Query("SELECT ls FROM LectureSlot ls WHERE ls.slotId = :slotId")
     Optional<LectureSlot> findBySlotIdWithPessimisticLock(Long slotId);
 
+    /**
+     * Lecture를 함께 페치 조인하여 강의 슬롯을 조회
+     * - 영속성 컨텍스트 밖(인메모리 좌석 카운터 등)에서 slot.getLecture()를 사용할 수 있도록 한 번에 로딩.
+     * @param slotId 조회할 강의 슬롯 ID
+     * @return Lecture가 로딩된 강의 슬롯
+     */
+    @Query("SELECT ls FROM LectureSlot ls JOIN FETCH ls.lecture WHERE ls.slotId = :slotId")
+    Optional<LectureSlot> findWithLectureBySlotId(@Param("slotId") Long slotId);
+
+    /**
+     * Lecture를 함께 페치 조인하여 특정 날짜의 강의 슬롯 목록을 조회 (쿼리 캐시 사용)
+     * @param date 조회할 날짜
+     * @return Lecture가 로딩된 강의 슬롯 목록
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("SELECT ls FROM LectureSlot ls JOIN FETCH ls.lecture WHERE ls.date = :date")
+    List<LectureSlot> findWithLectureByDate(@Param("date") LocalDate date);
+
+    /**
+     * Lecture를 함께 페치 조인하여 모든 강의 슬롯을 조회 (강의 카탈로그 적재용)
+     * @return Lecture가 로딩된 강의 슬롯 목록
+     */
+    @Query("SELECT ls FROM LectureSlot ls JOIN FETCH ls.lecture")
+    List<LectureSlot> findAllWithLecture();
+
+    /**
+     * 신청 시작 시각이 주어진 구간에 있는 강의 슬롯 목록을 조회 (신청 시작 전 예열 대상)
+     * @param from 구간 시작 (포함하지 않음)
+     * @param to   구간 끝 (포함)
+     * @return 신청 시작 시각 순으로 정렬된 강의 슬롯 목록
+     */
+    @Query("SELECT ls FROM LectureSlot ls WHERE ls.openAt > :from AND ls.openAt <= :to ORDER BY ls.openAt")
+    List<LectureSlot> findOpeningBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
 }
 
@@ -0,0 +1,40 @@
+package org.example.lecture.infrastructure.lecture;
+
+import org.example.lecture.domain.lecture.LectureSlotShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * LectureSlotShard 엔티티를 관리하는 레파지토리
+ */
+@Repository
+public interface LectureSlotShardRepository extends JpaRepository<LectureSlotShard, Long> {
+
+    List<LectureSlotShard> findBySlotIdOrderByShardIndex(Long slotId);
+
+    /**
+     * 샤드에 잔여 좌석이 있고 슬롯이 마감(CLOSED)되지 않았을 때만 신청자 수를 1 증가시키는 조건부 UPDATE
+     * - 마감 여부는 매번 lecture_slot_status에서 확인하므로, 적재 이후에 마감 / 재개된 슬롯도 바로 반영된다.
+     * @return 갱신된 행 수 (1: 예약 성공, 0: 샤드 정원 초과 / 마감)
+     */
+    @Modifying
+    @Query("UPDATE LectureSlotShard s SET s.currentApplicants = s.currentApplicants + 1 " +
+            "WHERE s.slotId = :slotId AND s.shardIndex = :shardIndex AND s.currentApplicants < s.capacity " +
+            "AND NOT EXISTS (SELECT st.statusId FROM LectureSlotStatus st WHERE st.lectureSlot.slotId = :slotId " +
+            "AND st.status = org.example.lecture.domain.lecture.LectureSlotStatusType.CLOSED)")
+    int incrementIfAvailable(@Param("slotId") Long slotId, @Param("shardIndex") int shardIndex);
+
+    /**
+     * 샤드에 신청자가 있을 때만 신청자 수를 1 감소시키는 조건부 UPDATE (좌석 반납)
+     * @return 갱신된 행 수 (1: 반납 성공, 0: 샤드에 신청자 없음)
+     */
+    @Modifying
+    @Query("UPDATE LectureSlotShard s SET s.currentApplicants = s.currentApplicants - 1 " +
+            "WHERE s.slotId = :slotId AND s.shardIndex = :shardIndex AND s.currentApplicants > 0")
+    int decrementIfPositive(@Param("slotId") Long slotId, @Param("shardIndex") int shardIndex);
+}
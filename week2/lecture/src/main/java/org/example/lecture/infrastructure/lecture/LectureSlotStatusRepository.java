@@ -3,16 +3,25 @@ package org.example.lecture.infrastructure.lecture;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusSnapshot;
 import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * LectureSlotStatus 엔티티를 관리하는 레파지토리
@@ -22,10 +31,197 @@ public interface LectureSlotStatusRepository extends JpaRepository<LectureSlotSt
 
     Optional<LectureSlotStatus> findByLectureSlot(LectureSlot lectureSlot);
 
+    /**
+     * 비관적 락(SELECT ... FOR UPDATE)을 걸고 강의 슬롯 ID로 슬롯 상태를 조회
+     * - 반납 / 조건부 UPDATE / 인메모리 적재와 같은 슬롯 상태 행을 잠그도록 상태 ID가 아닌 슬롯 ID로 찾는다.
+     * @param slotId 강의 슬롯 ID
+     * @return 강의 슬롯 상태
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({
             @QueryHint(name = "javax.persistence.lock.timeout", value = "3000") // 타임아웃 설정 (밀리초)
     })
-    @Query("SELECT l FROM LectureSlotStatus l WHERE l.statusId = :slotId")
+    @Query("SELECT l FROM LectureSlotStatus l WHERE l.lectureSlot.slotId = :slotId")
     Optional<LectureSlotStatus> findBySlotIdWithPessimisticLock(@Param("slotId") Long slotId);
-}
\ No newline at end of file
+
+    /**
+     * 락 없이 강의 슬롯 ID로 슬롯 상태를 조회
+     * @param slotId 강의 슬롯 ID
+     * @return 강의 슬롯 상태
+     */
+    @Query("SELECT l FROM LectureSlotStatus l WHERE l.lectureSlot.slotId = :slotId")
+    Optional<LectureSlotStatus> findBySlotId(@Param("slotId") Long slotId);
+
+    /**
+     * 특정 날짜의 강의 / 강의 슬롯 / 슬롯 상태를 한 번의 조인 쿼리로 조회 (락 없음)
+     * @param date 조회할 날짜
+     * @return 강의 슬롯 상세 프로젝션 목록 (슬롯 ID 순)
+     */
+    @Query("SELECT new org.example.lecture.domain.lecture.LectureSlotDetail(" +
+            "l.lectureId, l.name, l.instructor, l.description, l.maxCapacity, " +
+            "ls.slotId, ls.date, ls.capacity, ls.updatedAt, " +
+            "st.statusId, st.status, st.currentApplicants, st.lastUpdatedAt) " +
+            "FROM LectureSlotStatus st JOIN st.lectureSlot ls JOIN ls.lecture l " +
+            "WHERE ls.date = :date ORDER BY ls.slotId")
+    List<LectureSlotDetail> findDetailsByDate(@Param("date") LocalDate date);
+
+    /**
+     * 모든 강의 / 강의 슬롯 / 슬롯 상태를 한 번의 조인 쿼리로 조회 (락 없음)
+     * @return 강의 슬롯 상세 프로젝션 목록 (슬롯 ID 순)
+     */
+    @Query("SELECT new org.example.lecture.domain.lecture.LectureSlotDetail(" +
+            "l.lectureId, l.name, l.instructor, l.description, l.maxCapacity, " +
+            "ls.slotId, ls.date, ls.capacity, ls.updatedAt, " +
+            "st.statusId, st.status, st.currentApplicants, st.lastUpdatedAt) " +
+            "FROM LectureSlotStatus st JOIN st.lectureSlot ls JOIN ls.lecture l " +
+            "ORDER BY ls.slotId")
+    List<LectureSlotDetail> findAllDetails();
+
+    /**
+     * 슬롯 ID가 afterSlotId보다 큰 강의 슬롯 상세를 슬롯 ID 순으로 limit건 조회 (키셋 페이지네이션, 락 없음)
+     * - OFFSET 없이 슬롯 ID 인덱스에서 바로 시작 위치를 찾으므로 뒤쪽 페이지도 조회 비용이 일정하다.
+     * @param afterSlotId 이전 페이지의 마지막 슬롯 ID (처음이면 0)
+     * @param limit 조회할 최대 건수
+     * @return 강의 슬롯 상세 프로젝션 목록 (슬롯 ID 순)
+     */
+    @Query("SELECT new org.example.lecture.domain.lecture.LectureSlotDetail(" +
+            "l.lectureId, l.name, l.instructor, l.description, l.maxCapacity, " +
+            "ls.slotId, ls.date, ls.capacity, ls.updatedAt, " +
+            "st.statusId, st.status, st.currentApplicants, st.lastUpdatedAt) " +
+            "FROM LectureSlotStatus st JOIN st.lectureSlot ls JOIN ls.lecture l " +
+            "WHERE ls.slotId > :afterSlotId " +
+            "ORDER BY ls.slotId")
+    List<LectureSlotDetail> findDetailsAfter(@Param("afterSlotId") Long afterSlotId, Limit limit);
+
+    /**
+     * 모든 강의 슬롯 상세를 JDBC 커서로 한 행씩 읽는 스트림 (락 없음)
+     * - 결과 전체를 목록으로 만들지 않으므로 카탈로그 크기와 관계없이 메모리 사용량이 일정하다.
+     * - 스트림을 다 읽을 때까지 트랜잭션이 유지되어야 하며, 사용 후 반드시 닫아야 한다.
+     * @return 강의 슬롯 상세 프로젝션 스트림 (슬롯 ID 순)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.lecture.domain.lecture.LectureSlotDetail(" +
+            "l.lectureId, l.name, l.instructor, l.description, l.maxCapacity, " +
+            "ls.slotId, ls.date, ls.capacity, ls.updatedAt, " +
+            "st.statusId, st.status, st.currentApplicants, st.lastUpdatedAt) " +
+            "FROM LectureSlotStatus st JOIN st.lectureSlot ls JOIN ls.lecture l " +
+            "ORDER BY ls.slotId")
+    Stream<LectureSlotDetail> streamAllDetails();
+
+    /**
+     * 특정 날짜의 슬롯 상태만 조회 (락 없음)
+     * - 강의 / 슬롯 정보는 카탈로그에서 얻으므로 lecture 테이블은 조인하지 않는다.
+     * @param date 조회할 날짜
+     * @return 슬롯 상태 스냅샷 목록 (슬롯 ID 순)
+     */
+    @Query("SELECT new org.example.lecture.domain.lecture.LectureSlotStatusSnapshot(" +
+            "ls.slotId, st.statusId, st.status, st.currentApplicants, st.lastUpdatedAt) " +
+            "FROM LectureSlotStatus st JOIN st.lectureSlot ls " +
+            "WHERE ls.date = :date " +
+            "ORDER BY ls.slotId")
+    List<LectureSlotStatusSnapshot> findStatusSnapshotsByDate(@Param("date") LocalDate date);
+
+    /**
+     * 잔여 좌석이 있을 때만 신청자 수를 1 증가시키는 원자적 조건부 UPDATE
+     * - 정원에 도달하면 같은 문장에서 상태를 FULL로 전환.
+     * - 별도의 SELECT ... FOR UPDATE 없이 한 문장으로 검증과 증가를 처리.
+     * - 영속성 컨텍스트에 이미 올라온 슬롯 상태가 갱신 전 값으로 남지 않도록, 실행 전에 flush 하고 실행 후에 비운다.
+     * @param slotId 강의 슬롯 ID
+     * @return 갱신된 행 수 (1: 예약 성공, 0: 정원 초과 / 마감 / 슬롯 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE lecture_slot_status s " +
+            "SET current_applicants = s.current_applicants + 1, " +
+            "    status = CASE WHEN s.current_applicants + 1 >= (SELECT ls.capacity FROM lecture_slot ls WHERE ls.slot_id = s.slot_id) " +
+            "                  THEN 'FULL' ELSE s.status END, " +
+            "    last_updated_at = CURRENT_TIMESTAMP, " +
+            "    version = s.version + 1 " +
+            "WHERE s.slot_id = :slotId " +
+            "  AND s.status = 'OPEN' " +
+            "  AND s.current_applicants < (SELECT ls.capacity FROM lecture_slot ls WHERE ls.slot_id = s.slot_id)",
+            nativeQuery = true)
+    int incrementApplicantsIfAvailable(@Param("slotId") Long slotId);
+
+    /**
+     * 신청자가 있을 때만 신청자 수를 1 감소시키는 원자적 조건부 UPDATE (좌석 반납)
+     * - 정원 초과(FULL) 상태였다면 같은 문장에서 신청 가능(OPEN) 상태로 되돌린다.
+     * - 행을 먼저 잠그고 읽지 않으므로, 행 락은 이 UPDATE 한 문장 동안만 유지된다.
+     * - 영속성 컨텍스트에 이미 올라온 슬롯 상태가 갱신 전 값으로 남지 않도록, 실행 전에 flush 하고 실행 후에 비운다.
+     * @param slotId 강의 슬롯 ID
+     * @return 갱신된 행 수 (1: 반납 성공, 0: 신청자 없음 / 슬롯 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE lecture_slot_status s " +
+            "SET current_applicants = s.current_applicants - 1, " +
+            "    status = CASE WHEN s.status = 'FULL' THEN 'OPEN' ELSE s.status END, " +
+            "    last_updated_at = CURRENT_TIMESTAMP, " +
+            "    version = s.version + 1 " +
+            "WHERE s.slot_id = :slotId " +
+            "  AND s.current_applicants > 0",
+            nativeQuery = true)
+    int decrementApplicantsIfPositive(@Param("slotId") Long slotId);
+
+    /**
+     * 인메모리에서 확정된 신청자 수와 상태를 그대로 반영 (비동기 영속화 용도)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE LectureSlotStatus l SET l.currentApplicants = :currentApplicants, l.status = :status, l.lastUpdatedAt = :lastUpdatedAt, " +
+            "l.version = l.version + 1 " +
+            "WHERE l.lectureSlot.slotId = :slotId")
+    int updateApplicants(@Param("slotId") Long slotId,
+                         @Param("currentApplicants") int currentApplicants,
+                         @Param("status") LectureSlotStatusType status,
+                         @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt);
+
+    /**
+     * 슬롯의 신청자 수를 샤드 행(lecture_slot_shard)의 합계로 다시 계산하여 반영 (SHARDED 전략의 비동기 영속화 용도)
+     * - 합계를 읽고 쓰는 것을 한 문장으로 처리하므로, 여러 인스턴스가 같은 슬롯을 반영해도 서로의 예약을 덮어쓰지 않는다.
+     * - 마감(CLOSED) 상태는 유지하고, 나머지는 합계가 정원에 도달했는지로 FULL / OPEN을 정한다.
+     * - 샤드 행이 아직 없는 슬롯은 갱신하지 않는다.
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE lecture_slot_status s " +
+            "SET current_applicants = (SELECT SUM(sh.current_applicants) FROM lecture_slot_shard sh WHERE sh.slot_id = s.slot_id), " +
+            "    status = CASE WHEN s.status = 'CLOSED' THEN 'CLOSED' " +
+            "                  WHEN (SELECT SUM(sh.current_applicants) FROM lecture_slot_shard sh WHERE sh.slot_id = s.slot_id) " +
+            "                       >= (SELECT ls.capacity FROM lecture_slot ls WHERE ls.slot_id = s.slot_id) THEN 'FULL' " +
+            "                  ELSE 'OPEN' END, " +
+            "    last_updated_at = :lastUpdatedAt, " +
+            "    version = s.version + 1 " +
+            "WHERE s.slot_id = :slotId " +
+            "  AND EXISTS (SELECT 1 FROM lecture_slot_shard sh WHERE sh.slot_id = s.slot_id)",
+            nativeQuery = true)
+    int updateApplicantsFromShards(@Param("slotId") Long slotId, @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt);
+
+    /**
+     * 샤드 행이 있는 모든 슬롯의 신청자 수 / 상태를 샤드 행 합계로 반영 (SHARDED가 아닌 전략으로 기동할 때 샤드 행을 정리하기 전 용도)
+     * - 상태 계산은 updateApplicantsFromShards와 같다.
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE lecture_slot_status s " +
+            "SET current_applicants = (SELECT SUM(sh.current_applicants) FROM lecture_slot_shard sh WHERE sh.slot_id = s.slot_id), " +
+            "    status = CASE WHEN s.status = 'CLOSED' THEN 'CLOSED' " +
+            "                  WHEN (SELECT SUM(sh.current_applicants) FROM lecture_slot_shard sh WHERE sh.slot_id = s.slot_id) " +
+            "                       >= (SELECT ls.capacity FROM lecture_slot ls WHERE ls.slot_id = s.slot_id) THEN 'FULL' " +
+            "                  ELSE 'OPEN' END, " +
+            "    last_updated_at = :lastUpdatedAt, " +
+            "    version = s.version + 1 " +
+            "WHERE EXISTS (SELECT 1 FROM lecture_slot_shard sh WHERE sh.slot_id = s.slot_id)",
+            nativeQuery = true)
+    int updateAllApplicantsFromShards(@Param("lastUpdatedAt") LocalDateTime lastUpdatedAt);
+
+    /**
+     * 대기자 수를 증감 (대기자 등록 시 +1, 승격 시 -1)
+     * - 좌석 수와 무관한 값이므로 버전을 올리지 않아 좌석 예약의 낙관적 락과 충돌하지 않는다.
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE LectureSlotStatus l SET l.waitingList = l.waitingList + :delta WHERE l.lectureSlot.slotId = :slotId")
+    int adjustWaitingList(@Param("slotId") Long slotId, @Param("delta") int delta);
+}
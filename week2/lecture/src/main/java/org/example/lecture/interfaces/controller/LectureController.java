@@ -1,41 +1,141 @@
 package org.example.lecture.interfaces.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.exception.ApplyQueueFullException;
 import org.example.lecture.application.exception.CapacityExceededException;
 import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.exception.InvalidBatchApplyRequestException;
+import org.example.lecture.application.exception.InvalidWaitingRoomTokenException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.exception.SeatReservationConflictException;
+import org.example.lecture.application.exception.WaitingRoomNotAdmittedException;
+import org.example.lecture.application.exception.WaitlistEntryNotFoundException;
 import org.example.lecture.application.facade.LectureApplicationFacade;
 import org.example.lecture.application.facade.LectureQueryFacade;
 import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.interfaces.dto.BatchApplyRequestDTO;
+import org.example.lecture.interfaces.dto.BatchApplyResponseDTO;
 import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
 import org.example.lecture.interfaces.dto.LectureResponseDTO;
+import org.example.lecture.interfaces.dto.LectureSlotPageResponseDTO;
+import org.example.lecture.interfaces.dto.SlotContentionResponseDTO;
 import org.example.lecture.interfaces.dto.UserApplicationResponseDTO;
+import org.example.lecture.interfaces.dto.WaitingRoomTokenResponseDTO;
+import org.example.lecture.interfaces.dto.WaitlistPositionResponseDTO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/lectures")
 public class LectureController {
 
+    static final String WAITING_ROOM_TOKEN_HEADER = "X-Waiting-Room-Token";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final long WAITING_ROOM_STREAM_TIMEOUT_MS = 600_000;
+    private static final long SLOT_STREAM_TIMEOUT_MS = 1_800_000;
+
     private final LectureQueryFacade lectureQueryFacade;
     private final LectureApplicationFacade lectureApplicationFacade;
+    private final ObjectMapper objectMapper;
 
-    public LectureController(LectureQueryFacade lectureQueryFacade, LectureApplicationFacade lectureApplicationFacade) {
+    public LectureController(LectureQueryFacade lectureQueryFacade, LectureApplicationFacade lectureApplicationFacade, ObjectMapper objectMapper) {
         this.lectureQueryFacade = lectureQueryFacade;
         this.lectureApplicationFacade = lectureApplicationFacade;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * [1. 특강 신청 API]
      * - 특정 사용자가 특정 강의에 신청을 수행.
+     * - 신청은 슬롯별 대기열에서 비동기로 처리되며, 처리가 끝나면 응답을 반환.
+     * - 대기실이 활성화되어 있으면 입장이 허용된 대기실 토큰을 X-Waiting-Room-Token 헤더로 전달해야 한다.
+     * - Idempotency-Key 헤더를 전달하면 같은 키로 재시도한 신청에는 처음 신청의 결과를 그대로 반환.
      */
 
     @PostMapping("/slots/{lectureSlotId}/apply")
-    public ResponseEntity<LectureApplicationResponseDTO> applyToLecture(@RequestParam Long userId, @PathVariable Long lectureSlotId) {
-        LectureApplicationResponseDTO responseDTO = lectureApplicationFacade.applyToLecture(userId, lectureSlotId);
-        return ResponseEntity.ok(responseDTO);
+    public CompletableFuture<ResponseEntity<LectureApplicationResponseDTO>> applyToLecture(@RequestParam Long userId, @PathVariable Long lectureSlotId,
+                                                                                            @RequestHeader(value = WAITING_ROOM_TOKEN_HEADER, required = false) String waitingRoomToken,
+                                                                                            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return lectureApplicationFacade.applyToLectureAsync(userId, lectureSlotId, waitingRoomToken, idempotencyKey)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * [일괄 특강 신청 API]
+     * - 특정 사용자가 여러 강의 슬롯을 한 번에 신청하고, 슬롯별 신청 결과를 반환.
+     * - ALL_OR_NOTHING(기본값): 한 슬롯이라도 신청할 수 없으면 아무것도 신청하지 않고 해당 사유의 오류를 반환.
+     * - BEST_EFFORT: 신청할 수 없는 슬롯만 실패로 표시하고 나머지는 신청.
+     */
+    @PostMapping("/apply:batch")
+    public ResponseEntity<BatchApplyResponseDTO> applyToLectures(@RequestParam Long userId, @RequestBody BatchApplyRequestDTO request) {
+        return ResponseEntity.ok(lectureApplicationFacade.applyToLectures(userId, request.getSlotIds(), request.getMode()));
+    }
+
+    /**
+     * [대기실 입장 API]
+     * - 강의 슬롯 대기실의 순번 토큰을 발급. 입장이 허용되면 토큰으로 신청할 수 있다.
+     */
+    @PostMapping("/slots/{lectureSlotId}/waiting-room")
+    public ResponseEntity<WaitingRoomTokenResponseDTO> enterWaitingRoom(@RequestParam Long userId, @PathVariable Long lectureSlotId) {
+        return ResponseEntity.ok(lectureApplicationFacade.enterWaitingRoom(userId, lectureSlotId));
+    }
+
+    /**
+     * [대기실 순위 조회 API]
+     * - 토큰의 입장까지 남은 순위와 입장 허용 여부를 조회 (폴링용).
+     */
+    @GetMapping("/waiting-room/{token}")
+    public ResponseEntity<WaitingRoomTokenResponseDTO> getWaitingRoomStatus(@PathVariable String token) {
+        return ResponseEntity.ok(lectureApplicationFacade.getWaitingRoomStatus(token));
+    }
+
+    /**
+     * [대기실 순위 스트림 API]
+     * - 입장이 허용될 때까지 순위가 갱신될 때마다 SSE로 전달하고, 입장이 허용되면 스트림을 닫는다.
+     */
+    @GetMapping(value = "/waiting-room/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWaitingRoomStatus(@PathVariable String token) {
+        SseEmitter emitter = new SseEmitter(WAITING_ROOM_STREAM_TIMEOUT_MS);
+        emitter.onCompletion(() -> lectureApplicationFacade.unsubscribeWaitingRoom(token));
+        emitter.onTimeout(() -> lectureApplicationFacade.unsubscribeWaitingRoom(token));
+        emitter.onError(ex -> lectureApplicationFacade.unsubscribeWaitingRoom(token));
+        lectureApplicationFacade.subscribeWaitingRoom(token, status -> {
+            send(emitter, "position", status);
+            if (status.isAdmitted()) {
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * [특강 신청 취소 API]
+     * - 사용자의 신청을 취소. 신청 완료였다면 좌석을 반납하고, 대기자가 있으면 다음 대기자가 바로 신청 완료된다.
+     */
+    @DeleteMapping("/applications/{applicationId}")
+    public ResponseEntity<LectureApplicationResponseDTO> cancelApplication(@RequestParam Long userId, @PathVariable Long applicationId) {
+        return ResponseEntity.ok(lectureApplicationFacade.cancelApplication(userId, applicationId));
+    }
+
+    /**
+     * [특강 대기 순위 조회 API]
+     * - 정원이 찬 강의 슬롯의 대기자 명단에서 사용자의 대기 순위를 조회.
+     */
+    @GetMapping("/slots/{lectureSlotId}/waitlist/position")
+    public ResponseEntity<WaitlistPositionResponseDTO> getWaitlistPosition(@RequestParam Long userId, @PathVariable Long lectureSlotId) {
+        return ResponseEntity.ok(lectureApplicationFacade.getWaitlistPosition(userId, lectureSlotId));
     }
 
     // 예외 처리: 중복 신청
@@ -48,6 +148,46 @@ public class LectureController {
     public ResponseEntity<String> handleCapacityExceededException(CapacityExceededException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
+    // 예외 처리: 신청 마감
+    @ExceptionHandler(LectureSlotClosedException.class)
+    public ResponseEntity<String> handleLectureSlotClosedException(LectureSlotClosedException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+    // 예외 처리: 슬롯 신청 대기열 초과
+    @ExceptionHandler(ApplyQueueFullException.class)
+    public ResponseEntity<String> handleApplyQueueFullException(ApplyQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+    // 예외 처리: 신청 내역 없음
+    @ExceptionHandler(ApplicationNotFoundException.class)
+    public ResponseEntity<String> handleApplicationNotFoundException(ApplicationNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+    }
+    // 예외 처리: 대기자 명단에 없음
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    public ResponseEntity<String> handleWaitlistEntryNotFoundException(WaitlistEntryNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+    }
+    // 예외 처리: 유효하지 않은 대기실 토큰
+    @ExceptionHandler(InvalidWaitingRoomTokenException.class)
+    public ResponseEntity<String> handleInvalidWaitingRoomTokenException(InvalidWaitingRoomTokenException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+    }
+    // 예외 처리: 대기실 입장 순서가 되지 않음
+    @ExceptionHandler(WaitingRoomNotAdmittedException.class)
+    public ResponseEntity<String> handleWaitingRoomNotAdmittedException(WaitingRoomNotAdmittedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ex.getMessage());
+    }
+    // 예외 처리: 잘못된 일괄 신청 요청 (빈 슬롯 목록, 최대 개수 초과 등)
+    @ExceptionHandler(InvalidBatchApplyRequestException.class)
+    public ResponseEntity<String> handleInvalidBatchApplyRequestException(InvalidBatchApplyRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+    // 예외 처리: 동시 수정 충돌로 좌석 예약 실패
+    @ExceptionHandler(SeatReservationConflictException.class)
+    public ResponseEntity<String> handleSeatReservationConflictException(SeatReservationConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
 
     /**
      * [2. 특강 선택 API]
@@ -59,6 +199,22 @@ public class LectureController {
         return ResponseEntity.ok(availableSlots);
     }
 
+    /**
+     * [특강 슬롯 상태 스트림 API]
+     * - 특정 날짜의 슬롯 상태를 SSE로 전달. 연결 직후 전체 슬롯 상태를, 이후에는 신청자 수 / 상태가 바뀐 슬롯만 모아서 전달.
+     * - 잔여 좌석 확인을 위해 슬롯 목록을 반복 조회하는 대신 사용.
+     * - 연결이 끊기면(완료 / 타임아웃 / 전송 오류) 바로 구독을 해지하여, 다음 전달 실패까지 구독이 남지 않게 한다.
+     */
+    @GetMapping(value = "/slots/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLectureSlotStatusesByDate(@RequestParam("date") LocalDate date) {
+        SseEmitter emitter = new SseEmitter(SLOT_STREAM_TIMEOUT_MS);
+        long subscriptionId = lectureQueryFacade.subscribeSlotStatuses(date, deltas -> send(emitter, "slots", deltas));
+        emitter.onCompletion(() -> lectureQueryFacade.unsubscribeSlotStatuses(subscriptionId));
+        emitter.onTimeout(() -> lectureQueryFacade.unsubscribeSlotStatuses(subscriptionId));
+        emitter.onError(ex -> lectureQueryFacade.unsubscribeSlotStatuses(subscriptionId));
+        return emitter;
+    }
+
     /**
      * [3. 특정 사용자의 신청 완료된 강의 목록 조회 API]
      * - 사용자의 신청 내역을 조회하고 강의 정보를 반환.
@@ -79,4 +235,53 @@ public class LectureController {
         List<LectureResponseDTO> allLectures = lectureQueryFacade.getAllLectures();
         return ResponseEntity.ok(allLectures);
     }
+
+    /**
+     * [5. 강의 정보 페이지 조회 API]
+     * - 강의 슬롯 목록을 슬롯 ID 순으로 한 페이지씩 조회. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다.
+     */
+    @GetMapping("/all/page")
+    public ResponseEntity<LectureSlotPageResponseDTO> getLecturesPage(@RequestParam(required = false) Long cursor,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(lectureQueryFacade.getLecturesPage(cursor, size));
+    }
+
+    /**
+     * [6. 모든 강의 정보 스트리밍 조회 API]
+     * - /all과 같은 JSON 배열을 DB 커서에서 읽는 대로 응답에 써서, 카탈로그 크기와 관계없이 서버 메모리 사용량이 일정하다.
+     */
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllLectures() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                lectureQueryFacade.streamAllLectures(lecture -> {
+                    try {
+                        generator.writeObject(lecture);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * [관리자 - 슬롯 경합 상태 조회 API]
+     * - 슬롯별 신청 유입률 / 평균 락 대기 시간과, 슬롯별 시퀀서 경로로 승격된 인기 슬롯 여부를 조회.
+     */
+    @GetMapping("/admin/slots/contention")
+    public ResponseEntity<List<SlotContentionResponseDTO>> getSlotContention() {
+        return ResponseEntity.ok(lectureApplicationFacade.getSlotContention());
+    }
+
+    private static void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
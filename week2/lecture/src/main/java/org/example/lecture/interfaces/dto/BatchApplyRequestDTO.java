@@ -0,0 +1,20 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.lecture.application.usecase.BatchApplyMode;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchApplyRequestDTO {
+
+    private List<Long> slotIds;           // 신청할 강의 슬롯 ID 목록
+    @Builder.Default
+    private BatchApplyMode mode = BatchApplyMode.ALL_OR_NOTHING;  // 일괄 신청 방식 (기본값: 전체 성공 또는 전체 실패)
+}
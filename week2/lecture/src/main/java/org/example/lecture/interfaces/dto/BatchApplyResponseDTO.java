@@ -0,0 +1,18 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.lecture.application.usecase.BatchApplyMode;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BatchApplyResponseDTO {
+
+    private Long userId;                            // 사용자 ID
+    private BatchApplyMode mode;                    // 일괄 신청 방식
+    private int appliedCount;                       // 신청에 성공한 슬롯 수
+    private int failedCount;                        // 신청에 실패한 슬롯 수
+    private List<BatchApplySlotResultDTO> results;  // 슬롯별 결과 (슬롯 ID 오름차순)
+}
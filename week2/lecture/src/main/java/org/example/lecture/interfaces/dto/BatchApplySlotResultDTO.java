@@ -0,0 +1,25 @@
+package org.example.lecture.interfaces.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchApplySlotResultDTO {
+
+    public static final String APPLIED = "APPLIED";
+    public static final String FAILED = "FAILED";
+
+    private Long lectureSlotId;           // 강의 슬롯 ID
+    private Long applicationId;           // 신청 ID (신청 성공 시)
+    private Long lectureId;               // 강의 ID
+    private String lectureName;           // 강의 이름
+    private LocalDate slotDate;           // 슬롯 날짜
+    private String status;                // 슬롯별 결과 (APPLIED, FAILED)
+    private String reason;                // 실패 사유 (full, closed, duplicate, conflict 등)
+    private String message;               // 성공/실패 메시지
+}
@@ -17,5 +17,6 @@ public class LectureApplicationResponseDTO {
     private String lectureName;           // 강의 이름
     private LocalDate slotDate;           // 신청한 슬롯 날짜
     private String status;                // 신청 상태 (APPLIED, WAITING 등)
+    private Long waitingPosition;         // 대기 순위 (WAITING 상태일 때만)
     private String message;               // 성공/실패 메시지
 }
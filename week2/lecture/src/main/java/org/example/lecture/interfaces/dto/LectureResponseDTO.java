@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
 import org.example.lecture.domain.lecture.LectureSlotStatusType;
 
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class LectureResponseDTO {
     private Long statusId;                  // 상태 ID
+    private Long lectureSlotId;             // 강의 슬롯 ID
     private Long lectureId;                 // 강의 ID
     private String name;                    // 강의 이름
     private String instructor;              // 강사 이름
@@ -30,6 +32,7 @@ public class LectureResponseDTO {
     public static LectureResponseDTO from(LectureSlot slot, LectureSlotStatus slotStatus) {
         return LectureResponseDTO.builder()
                 .statusId(slotStatus.getStatusId())
+                .lectureSlotId(slot.getSlotId())
                 .lectureId(slot.getLecture().getLectureId())
                 .name(slot.getLecture().getName())
                 .instructor(slot.getLecture().getInstructor())
@@ -42,4 +45,22 @@ public class LectureResponseDTO {
                 .lastUpdatedAt(slotStatus.getLastUpdatedAt())
                 .build();
     }
+
+    // 조인 프로젝션으로 읽어 온 슬롯 상세 정보로 DTO를 생성하는 정적 팩토리 메서드
+    public static LectureResponseDTO from(LectureSlotDetail detail) {
+        return LectureResponseDTO.builder()
+                .statusId(detail.statusId())
+                .lectureSlotId(detail.slotId())
+                .lectureId(detail.lectureId())
+                .name(detail.name())
+                .instructor(detail.instructor())
+                .description(detail.description())
+                .maxCapacity(detail.maxCapacity())
+                .slotDate(detail.slotDate())
+                .capacity(detail.capacity())
+                .status(detail.status())
+                .currentApplicants(detail.currentApplicants())
+                .lastUpdatedAt(detail.statusUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LectureSlotPageResponseDTO {
+
+    private List<LectureResponseDTO> items;   // 슬롯 ID 순 강의 슬롯 목록
+    private Long nextCursor;                  // 다음 페이지 조회 시 cursor로 전달할 값 (마지막 페이지면 null)
+    private boolean hasNext;                  // 다음 페이지 존재 여부
+}
@@ -0,0 +1,28 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.lecture.application.sequencer.SlotContentionStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SlotContentionResponseDTO {
+
+    private Long lectureSlotId;           // 강의 슬롯 ID
+    private boolean hot;                  // 인기 슬롯 승격 여부 (true면 슬롯별 시퀀서 경로로 처리)
+    private double arrivalsPerSecond;     // 직전 측정 구간의 초당 신청 유입 수
+    private double averageLockWaitMs;     // 직전 측정 구간의 평균 락 대기 시간 (밀리초)
+    private LocalDateTime hotSince;       // 승격 시각
+
+    public static SlotContentionResponseDTO from(SlotContentionStatus status) {
+        return SlotContentionResponseDTO.builder()
+                .lectureSlotId(status.slotId())
+                .hot(status.hot())
+                .arrivalsPerSecond(status.arrivalsPerSecond())
+                .averageLockWaitMs(status.averageLockWaitMs())
+                .hotSince(status.hotSince())
+                .build();
+    }
+}
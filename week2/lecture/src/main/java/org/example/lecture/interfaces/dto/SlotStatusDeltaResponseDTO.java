@@ -0,0 +1,23 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.lecture.application.stream.SlotStatusDelta;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+
+@Getter
+@Builder
+public class SlotStatusDeltaResponseDTO {
+
+    private Long lectureSlotId;           // 강의 슬롯 ID
+    private int currentApplicants;        // 현재 신청자 수
+    private LectureSlotStatusType status; // 슬롯 상태 (OPEN, FULL, CLOSED)
+
+    public static SlotStatusDeltaResponseDTO from(SlotStatusDelta delta) {
+        return SlotStatusDeltaResponseDTO.builder()
+                .lectureSlotId(delta.slotId())
+                .currentApplicants(delta.currentApplicants())
+                .status(delta.status())
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package org.example.lecture.interfaces.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import org.example.lecture.domain.application.UserApplicationSummary;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,4 +20,17 @@ public class UserApplicationResponseDTO {
     private LocalDate slotDate;               // 강의 진행 날짜
     private LocalDateTime applicationDate;    // 신청 날짜
     private String currentStatus;             // 신청 상태 (APPLIED, WAITING, CANCELED)
+
+    public static UserApplicationResponseDTO from(UserApplicationSummary summary) {
+        return UserApplicationResponseDTO.builder()
+                .applicationId(summary.applicationId())
+                .lectureId(summary.lectureId())
+                .lectureName(summary.lectureName())
+                .instructor(summary.instructor())
+                .description(summary.description())
+                .slotDate(summary.slotDate())
+                .applicationDate(summary.applicationDate())
+                .currentStatus(summary.currentStatus().name())  // 상태 값
+                .build();
+    }
 }
@@ -0,0 +1,26 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.lecture.application.waitingroom.WaitingRoomStatus;
+
+@Getter
+@Builder
+public class WaitingRoomTokenResponseDTO {
+
+    private String token;                 // 대기실 토큰 (신청 시 X-Waiting-Room-Token 헤더로 전달)
+    private Long lectureSlotId;           // 강의 슬롯 ID
+    private Long userId;                  // 사용자 ID
+    private long position;                // 입장까지 남은 순위 (입장 허용 시 0)
+    private boolean admitted;             // 입장 허용 여부
+
+    public static WaitingRoomTokenResponseDTO from(WaitingRoomStatus status) {
+        return WaitingRoomTokenResponseDTO.builder()
+                .token(status.token())
+                .lectureSlotId(status.lectureSlotId())
+                .userId(status.userId())
+                .position(status.position())
+                .admitted(status.admitted())
+                .build();
+    }
+}
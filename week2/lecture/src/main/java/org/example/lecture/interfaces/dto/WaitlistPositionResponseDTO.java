@@ -0,0 +1,14 @@
+package org.example.lecture.interfaces.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WaitlistPositionResponseDTO {
+
+    private Long lectureSlotId;           // 강의 슬롯 ID
+    private Long userId;                  // 사용자 ID
+    private long position;                // 대기 순위 (1부터 시작)
+    private int waitingCount;             // 전체 대기자 수
+}
@@ -13,6 +13,7 @@ CREATE TABLE lecture_slot (
                               lecture_id BIGINT,
                               date DATE NOT NULL,
                               capacity INT DEFAULT 30,
+                              open_at TIMESTAMP,
                               created_at TIMESTAMP,
                               updated_at TIMESTAMP,
                               FOREIGN KEY (lecture_id) REFERENCES lecture(lecture_id)
@@ -23,14 +24,32 @@ CREATE TABLE lecture_slot_status (
                                      status VARCHAR(20),
                                      current_applicants INT DEFAULT 0,
                                      waiting_list INT DEFAULT 0,
+                                     version BIGINT DEFAULT 0,
                                      FOREIGN KEY (slot_id) REFERENCES lecture_slot(slot_id)
 );
 
+CREATE TABLE lecture_slot_shard (
+                                    shard_id BIGINT PRIMARY KEY,
+                                    slot_id BIGINT NOT NULL,
+                                    shard_index INT NOT NULL,
+                                    capacity INT NOT NULL,
+                                    current_applicants INT NOT NULL,
+                                    CONSTRAINT uk_lecture_slot_shard UNIQUE (slot_id, shard_index)
+);
+
+CREATE SEQUENCE application_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE application (
                              application_id BIGINT PRIMARY KEY,
                              slot_id BIGINT,
                              user_id BIGINT,
                              current_status VARCHAR(20),
+                             waiting_seq BIGINT,
                              created_at TIMESTAMP,
-                             FOREIGN KEY (slot_id) REFERENCES lecture_slot(slot_id)
+                             FOREIGN KEY (slot_id) REFERENCES lecture_slot(slot_id),
+                             CONSTRAINT uk_application_user_slot UNIQUE (user_id, slot_id)
 );
+
+CREATE INDEX idx_application_slot_waiting ON application (slot_id, waiting_seq);
+CREATE INDEX idx_application_user_status ON application (user_id, current_status);
+CREATE INDEX idx_lecture_slot_open_at ON lecture_slot (open_at);
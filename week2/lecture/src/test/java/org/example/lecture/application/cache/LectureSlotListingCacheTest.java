@@ -0,0 +1,139 @@
+package org.example.lecture.application.cache;
+
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.application.service.LectureSlotStatusService;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
+import org.example.lecture.domain.lecture.LectureSlotStatusSnapshot;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class LectureSlotListingCacheTest {
+
+    private final LocalDate date = LocalDate.of(2024, 10, 10);
+    private final CatalogSlot catalogSlot = new CatalogSlot(1L,
+            new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", 30), date, 30, LocalDateTime.now());
+
+    private LectureSlotStatusSnapshot status(int currentApplicants, LectureSlotStatusType status) {
+        return new LectureSlotStatusSnapshot(1L, 1L, status, currentApplicants, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("같은 날짜를 다시 조회하면 DB를 조회하지 않고 카탈로그와 캐시된 상태로 목록을 반환한다")
+    public void testGetSlotDetailsByDate_CacheHit() {
+        // Given
+        LectureSlotStatusService lectureSlotStatusService = mock(LectureSlotStatusService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache cache = new LectureSlotListingCache(lectureSlotStatusService, lectureCatalogService, true, 100, 60_000);
+        when(lectureCatalogService.getSlotsByDate(date)).thenReturn(List.of(catalogSlot));
+        when(lectureSlotStatusService.getSlotStatusesByDate(date)).thenReturn(List.of(status(10, LectureSlotStatusType.OPEN)));
+
+        // When
+        cache.getSlotDetailsByDate(date);
+        List<LectureSlotDetail> result = cache.getSlotDetailsByDate(date);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("테스트 특강", result.get(0).name());
+        assertEquals(10, result.get(0).currentApplicants());
+        verify(lectureSlotStatusService, times(1)).getSlotStatusesByDate(date);
+        verify(lectureCatalogService, never()).reloadDate(any());
+    }
+
+    @Test
+    @DisplayName("슬롯 상태 변경 이벤트가 발생하면 DB 조회 없이 캐시된 신청자 수 / 상태가 갱신된다")
+    public void testOnSlotStatusChanged_PatchesStatus() {
+        // Given
+        LectureSlotStatusService lectureSlotStatusService = mock(LectureSlotStatusService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache cache = new LectureSlotListingCache(lectureSlotStatusService, lectureCatalogService, true, 100, 60_000);
+        when(lectureCatalogService.getSlotsByDate(date)).thenReturn(List.of(catalogSlot));
+        when(lectureSlotStatusService.getSlotStatusesByDate(date)).thenReturn(List.of(status(29, LectureSlotStatusType.OPEN)));
+        cache.getSlotDetailsByDate(date);
+
+        // When
+        cache.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 30, LectureSlotStatusType.FULL, LocalDateTime.now()));
+        // 늦게 도착한 이전 변경은 무시된다
+        cache.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 29, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        List<LectureSlotDetail> result = cache.getSlotDetailsByDate(date);
+
+        // Then
+        assertEquals(LectureSlotStatusType.FULL, result.get(0).status());
+        assertEquals(30, result.get(0).currentApplicants());
+        verify(lectureSlotStatusService, times(1)).getSlotStatusesByDate(date);
+    }
+
+    @Test
+    @DisplayName("슬롯 상태가 허용된 지연 시간을 넘기면 DB에서 다시 조회한다")
+    public void testGetSlotDetailsByDate_StatusExpired() throws InterruptedException {
+        // Given
+        LectureSlotStatusService lectureSlotStatusService = mock(LectureSlotStatusService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache cache = new LectureSlotListingCache(lectureSlotStatusService, lectureCatalogService, true, 100, 10);
+        when(lectureCatalogService.getSlotsByDate(date)).thenReturn(List.of(catalogSlot));
+        when(lectureSlotStatusService.getSlotStatusesByDate(date))
+                .thenReturn(List.of(status(10, LectureSlotStatusType.OPEN)))
+                .thenReturn(List.of(status(30, LectureSlotStatusType.FULL)));
+        cache.getSlotDetailsByDate(date);
+
+        // When
+        Thread.sleep(50);
+        List<LectureSlotDetail> result = cache.getSlotDetailsByDate(date);
+
+        // Then
+        assertEquals(LectureSlotStatusType.FULL, result.get(0).status());
+        verify(lectureSlotStatusService, times(2)).getSlotStatusesByDate(date);
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 슬롯의 상태가 조회되면 해당 날짜의 카탈로그를 다시 읽는다")
+    public void testGetSlotDetailsByDate_ReloadsCatalogDate() {
+        // Given
+        LectureSlotStatusService lectureSlotStatusService = mock(LectureSlotStatusService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache cache = new LectureSlotListingCache(lectureSlotStatusService, lectureCatalogService, true, 100, 60_000);
+        when(lectureCatalogService.getSlotsByDate(date)).thenReturn(List.of());
+        when(lectureCatalogService.reloadDate(date)).thenReturn(List.of(catalogSlot));
+        when(lectureSlotStatusService.getSlotStatusesByDate(date)).thenReturn(List.of(status(10, LectureSlotStatusType.OPEN)));
+
+        // When
+        List<LectureSlotDetail> result = cache.getSlotDetailsByDate(date);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).slotId());
+        verify(lectureCatalogService, times(1)).reloadDate(date);
+    }
+
+    @Test
+    @DisplayName("좌석 반납 이벤트는 신청자 수가 줄어드는 변경이어도 캐시에 반영된다")
+    public void testOnSeatReleased_PatchesDecreasedStatus() {
+        // Given
+        LectureSlotStatusService lectureSlotStatusService = mock(LectureSlotStatusService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache cache = new LectureSlotListingCache(lectureSlotStatusService, lectureCatalogService, true, 100, 60_000);
+        when(lectureCatalogService.getSlotsByDate(date)).thenReturn(List.of(catalogSlot));
+        when(lectureSlotStatusService.getSlotStatusesByDate(date)).thenReturn(List.of(status(30, LectureSlotStatusType.FULL)));
+        cache.getSlotDetailsByDate(date);
+
+        // When
+        cache.onSeatReleased(new SeatReleasedEvent(1L, 29, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        List<LectureSlotDetail> result = cache.getSlotDetailsByDate(date);
+
+        // Then
+        assertEquals(LectureSlotStatusType.OPEN, result.get(0).status());
+        assertEquals(29, result.get(0).currentApplicants());
+        verify(lectureSlotStatusService, times(1)).getSlotStatusesByDate(date);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.lecture.application.cache;
+
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.application.ApplicationAppliedEvent;
+import org.example.lecture.domain.application.ApplicationStatusType;
+import org.example.lecture.domain.application.UserApplicationSummary;
+import org.example.lecture.domain.application.UserApplicationsChangedEvent;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class UserApplicationHistoryCacheTest {
+
+    private final LocalDate date = LocalDate.of(2024, 10, 10);
+    private final CatalogSlot catalogSlot = new CatalogSlot(2L,
+            new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", 30), date, 30, LocalDateTime.now());
+
+    private UserApplicationSummary summary(Long applicationId) {
+        return new UserApplicationSummary(applicationId, 1L, "테스트 특강", "테스트 강사", "설명", date,
+                LocalDateTime.now(), ApplicationStatusType.APPLIED);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 신청 내역을 다시 조회하면 DB를 조회하지 않고 캐시된 목록을 반환한다")
+    public void testGetCompletedApplications_CacheHit() {
+        // Given
+        ApplicationService applicationService = mock(ApplicationService.class);
+        UserApplicationHistoryCache cache = new UserApplicationHistoryCache(applicationService, mock(LectureCatalogService.class), true, 100, 60_000);
+        when(applicationService.getCompletedApplicationSummaries(1L)).thenReturn(List.of(summary(10L)));
+
+        // When
+        cache.getCompletedApplications(1L);
+        List<UserApplicationSummary> result = cache.getCompletedApplications(1L);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(applicationService, times(1)).getCompletedApplicationSummaries(1L);
+    }
+
+    @Test
+    @DisplayName("신청 완료 이벤트가 발생하면 DB 조회 없이 캐시된 목록에 카탈로그 정보로 신청이 추가된다")
+    public void testOnApplicationApplied_AppendsToCachedUser() {
+        // Given
+        ApplicationService applicationService = mock(ApplicationService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        UserApplicationHistoryCache cache = new UserApplicationHistoryCache(applicationService, lectureCatalogService, true, 100, 60_000);
+        when(applicationService.getCompletedApplicationSummaries(1L)).thenReturn(List.of(summary(10L)));
+        when(lectureCatalogService.getSlot(2L)).thenReturn(catalogSlot);
+        cache.getCompletedApplications(1L);
+        ApplicationAppliedEvent event = new ApplicationAppliedEvent(1L, 11L, 2L, LocalDateTime.now());
+
+        // When (같은 이벤트가 다시 전달되어도 한 번만 추가)
+        cache.onApplicationApplied(event);
+        cache.onApplicationApplied(event);
+        List<UserApplicationSummary> result = cache.getCompletedApplications(1L);
+
+        // Then
+        assertEquals(List.of(10L, 11L), result.stream().map(UserApplicationSummary::applicationId).toList());
+        assertEquals(date, result.get(1).slotDate());
+        verify(applicationService, times(1)).getCompletedApplicationSummaries(1L);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자의 신청 완료 이벤트는 무시하고, 다음 조회 시 DB에서 읽는다")
+    public void testOnApplicationApplied_IgnoresUncachedUser() {
+        // Given
+        ApplicationService applicationService = mock(ApplicationService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        UserApplicationHistoryCache cache = new UserApplicationHistoryCache(applicationService, lectureCatalogService, true, 100, 60_000);
+
+        // When
+        cache.onApplicationApplied(new ApplicationAppliedEvent(1L, 11L, 2L, LocalDateTime.now()));
+
+        // Then
+        verifyNoInteractions(lectureCatalogService);
+    }
+
+    @Test
+    @DisplayName("신청 내역을 읽는 중에 신청 완료 이벤트가 도착하면 읽기가 끝난 뒤 목록에 추가되어 이전 목록이 캐시에 남지 않는다")
+    public void testOnApplicationApplied_WhileLoading() throws Exception {
+        // Given
+        ApplicationService applicationService = mock(ApplicationService.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        UserApplicationHistoryCache cache = new UserApplicationHistoryCache(applicationService, lectureCatalogService, true, 100, 60_000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch applied = new CountDownLatch(1);
+        when(applicationService.getCompletedApplicationSummaries(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            applied.await(5, TimeUnit.SECONDS);
+            return List.of(summary(10L));    // 신청 커밋 전에 읽은 목록
+        });
+        when(lectureCatalogService.getSlot(2L)).thenReturn(catalogSlot);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<List<UserApplicationSummary>> load = executorService.submit(() -> cache.getCompletedApplications(1L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // When
+        Thread event = Thread.ofVirtual().start(() -> cache.onApplicationApplied(new ApplicationAppliedEvent(1L, 11L, 2L, LocalDateTime.now())));
+        Thread.sleep(100);
+        applied.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        event.join(5_000);
+        executorService.shutdown();
+
+        // Then
+        assertEquals(List.of(10L, 11L), cache.getCompletedApplications(1L).stream().map(UserApplicationSummary::applicationId).toList());
+        verify(applicationService, times(1)).getCompletedApplicationSummaries(1L);
+    }
+
+    @Test
+    @DisplayName("취소 / 승격으로 신청 내역이 바뀌면 해당 사용자의 캐시만 제거된다")
+    public void testOnUserApplicationsChanged_InvalidatesUser() {
+        // Given
+        ApplicationService applicationService = mock(ApplicationService.class);
+        UserApplicationHistoryCache cache = new UserApplicationHistoryCache(applicationService, mock(LectureCatalogService.class), true, 100, 60_000);
+        when(applicationService.getCompletedApplicationSummaries(anyLong())).thenReturn(List.of(summary(10L)));
+        cache.getCompletedApplications(1L);
+        cache.getCompletedApplications(2L);
+
+        // When
+        cache.onUserApplicationsChanged(new UserApplicationsChangedEvent(1L));
+        cache.getCompletedApplications(1L);
+        cache.getCompletedApplications(2L);
+
+        // Then
+        verify(applicationService, times(2)).getCompletedApplicationSummaries(1L);
+        verify(applicationService, times(1)).getCompletedApplicationSummaries(2L);
+    }
+}
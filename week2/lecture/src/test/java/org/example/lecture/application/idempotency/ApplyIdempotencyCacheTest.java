@@ -0,0 +1,89 @@
+package org.example.lecture.application.idempotency;
+
+import org.example.lecture.application.exception.ApplyQueueFullException;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApplyIdempotencyCacheTest {
+
+    @Test
+    @DisplayName("같은 키의 재시도는 처리 중인 신청의 결과를 함께 기다리고, 신청은 한 번만 처리된다")
+    public void testRetryJoinsInFlightApply() {
+        // Given
+        ApplyIdempotencyCache cache = new ApplyIdempotencyCache(true, 100, 60_000);
+        CompletableFuture<LectureApplicationResponseDTO> inFlight = new CompletableFuture<>();
+        AtomicInteger applyCount = new AtomicInteger();
+
+        // When
+        CompletableFuture<LectureApplicationResponseDTO> first = cache.execute(1L, 2L, "key", () -> {
+            applyCount.incrementAndGet();
+            return inFlight;
+        });
+        CompletableFuture<LectureApplicationResponseDTO> retry = cache.execute(1L, 2L, "key", () -> {
+            applyCount.incrementAndGet();
+            return CompletableFuture.completedFuture(response(99L));
+        });
+        inFlight.complete(response(10L));
+
+        // Then
+        assertEquals(1, applyCount.get());
+        assertEquals(10L, first.join().getApplicationId());
+        assertEquals(10L, retry.join().getApplicationId());
+    }
+
+    @Test
+    @DisplayName("다른 사용자 / 슬롯의 같은 키나 키가 없는 신청은 각각 처리한다")
+    public void testKeyScope() {
+        // Given
+        ApplyIdempotencyCache cache = new ApplyIdempotencyCache(true, 100, 60_000);
+        AtomicInteger applyCount = new AtomicInteger();
+
+        // When
+        cache.execute(1L, 2L, "key", () -> completed(applyCount));
+        cache.execute(3L, 2L, "key", () -> completed(applyCount));
+        cache.execute(1L, 4L, "key", () -> completed(applyCount));
+        cache.execute(1L, 2L, null, () -> completed(applyCount));
+        cache.execute(1L, 2L, null, () -> completed(applyCount));
+
+        // Then
+        assertEquals(5, applyCount.get());
+    }
+
+    @Test
+    @DisplayName("실패한 신청은 보관하지 않아 같은 키로 다시 시도하면 새로 처리한다")
+    public void testFailureIsNotCached() {
+        // Given
+        ApplyIdempotencyCache cache = new ApplyIdempotencyCache(true, 100, 60_000);
+        AtomicInteger applyCount = new AtomicInteger();
+        assertThrows(ApplyQueueFullException.class, () -> cache.execute(1L, 2L, "key", () -> {
+            applyCount.incrementAndGet();
+            throw new ApplyQueueFullException(2L, 10);
+        }));
+        CompletableFuture<LectureApplicationResponseDTO> failed = cache.execute(1L, 2L, "key2",
+                () -> CompletableFuture.failedFuture(new ApplyQueueFullException(2L, 10)));
+        assertTrue(failed.isCompletedExceptionally());
+
+        // When
+        LectureApplicationResponseDTO response = cache.execute(1L, 2L, "key", () -> completed(applyCount)).join();
+        cache.execute(1L, 2L, "key2", () -> completed(applyCount)).join();
+
+        // Then
+        assertEquals(3, applyCount.get());
+        assertEquals(1L, response.getApplicationId());
+    }
+
+    private static CompletableFuture<LectureApplicationResponseDTO> completed(AtomicInteger applyCount) {
+        applyCount.incrementAndGet();
+        return CompletableFuture.completedFuture(response(1L));
+    }
+
+    private static LectureApplicationResponseDTO response(Long applicationId) {
+        return LectureApplicationResponseDTO.builder().applicationId(applicationId).build();
+    }
+}
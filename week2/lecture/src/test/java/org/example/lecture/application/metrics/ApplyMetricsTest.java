@@ -0,0 +1,108 @@
+package org.example.lecture.application.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApplyMetricsTest {
+
+    @Test
+    @DisplayName("실패 원인을 결과 태그(full / closed / duplicate / timeout / error)로 분류하고, 래핑된 예외는 원인으로 분류한다")
+    public void testOutcome() {
+        assertEquals("success", ApplyMetrics.outcome(null));
+        assertEquals("full", ApplyMetrics.outcome(new CapacityExceededException("정원 초과")));
+        assertEquals("closed", ApplyMetrics.outcome(new LectureSlotClosedException("마감")));
+        assertEquals("duplicate", ApplyMetrics.outcome(new CompletionException(new DuplicateApplicationException(1L, 1L))));
+        assertEquals("timeout", ApplyMetrics.outcome(new CannotAcquireLockException("lock timeout")));
+        assertEquals("error", ApplyMetrics.outcome(new IllegalStateException()));
+    }
+
+    @Test
+    @DisplayName("슬롯 태그는 최대 개수까지만 슬롯 ID로 기록하고, 이후 슬롯은 other로 묶는다")
+    public void testSlotTagLimit() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplyMetrics applyMetrics = new ApplyMetrics(meterRegistry, 2);
+
+        // When
+        for (long slotId = 1; slotId <= 4; slotId++) {
+            applyMetrics.recordLockWait(applyMetrics.start(), slotId, null);
+        }
+        applyMetrics.recordLockWait(applyMetrics.start(), 1L, new CannotAcquireLockException("lock timeout"));
+
+        // Then
+        assertEquals(1, meterRegistry.get(ApplyMetrics.LOCK_WAIT).tags("slot", "1", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.LOCK_WAIT).tags("slot", "2", "outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get(ApplyMetrics.LOCK_WAIT).tags("slot", ApplyMetrics.OTHER_SLOT, "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.LOCK_WAIT).tags("slot", "1", "outcome", "timeout").timer().count());
+    }
+
+    @Test
+    @DisplayName("기록 제외 구간에서 실행한 구간은 기록하지 않고, 구간이 끝나면 다시 기록한다")
+    public void testRunUnrecorded() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplyMetrics applyMetrics = new ApplyMetrics(meterRegistry, 100);
+
+        // When
+        applyMetrics.runUnrecorded(() -> {
+            applyMetrics.recordInsert(applyMetrics.start(), 1L, null);
+            applyMetrics.recordReservation(applyMetrics.start(), 1L, "PESSIMISTIC", null);
+            applyMetrics.recordApply(applyMetrics.start(), 1L, new IllegalStateException());
+        });
+        applyMetrics.recordInsert(applyMetrics.start(), 2L, null);
+
+        // Then
+        assertNull(meterRegistry.find(ApplyMetrics.INSERT).tag("slot", "1").timer());
+        assertNull(meterRegistry.find(ApplyMetrics.RESERVATION).timer());
+        assertNull(meterRegistry.find(ApplyMetrics.APPLY).timer());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.INSERT).tags("slot", "2", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("좌석 예약 타이머는 결과(outcome) 태그와 함께 기존 result(success / failure) 태그도 기록한다")
+    public void testReservationKeepsResultTag() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplyMetrics applyMetrics = new ApplyMetrics(meterRegistry, 100);
+
+        // When
+        applyMetrics.recordReservation(applyMetrics.start(), 1L, "PESSIMISTIC", null);
+        applyMetrics.recordReservation(applyMetrics.start(), 1L, "PESSIMISTIC", new CapacityExceededException("정원 초과"));
+
+        // Then
+        assertEquals(1, meterRegistry.get(ApplyMetrics.RESERVATION)
+                .tags("strategy", "PESSIMISTIC", "result", "success", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.RESERVATION)
+                .tags("strategy", "PESSIMISTIC", "result", "failure", "outcome", "full").timer().count());
+    }
+
+    @Test
+    @DisplayName("신청 전체 / 락 대기 타이머만 SLO 구간 히스토그램을 내보내고, 좌석 확보 / INSERT 타이머는 히스토그램을 내보내지 않는다")
+    public void testHistogramOnlyOnApplyAndLockWait() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplyMetrics applyMetrics = new ApplyMetrics(meterRegistry, 100);
+
+        // When
+        applyMetrics.recordApply(applyMetrics.start(), 1L, null);
+        applyMetrics.recordLockWait(applyMetrics.start(), 1L, null);
+        applyMetrics.recordReservation(applyMetrics.start(), 1L, "PESSIMISTIC", null);
+        applyMetrics.recordInsert(applyMetrics.start(), 1L, null);
+
+        // Then
+        int buckets = ApplyMetrics.SLO_BUCKETS.length;
+        assertEquals(buckets, meterRegistry.get(ApplyMetrics.APPLY).timer().takeSnapshot().histogramCounts().length);
+        assertEquals(buckets, meterRegistry.get(ApplyMetrics.LOCK_WAIT).timer().takeSnapshot().histogramCounts().length);
+        assertEquals(0, meterRegistry.get(ApplyMetrics.RESERVATION).timer().takeSnapshot().histogramCounts().length);
+        assertEquals(0, meterRegistry.get(ApplyMetrics.INSERT).timer().takeSnapshot().histogramCounts().length);
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter.SlotStatusSnapshot;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class InMemorySeatReservationStrategyTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    /**
+     * 마지막으로 등록된 상태 출처를 지금 읽은 값 (비동기 반영 시점에 읽히는 값)
+     */
+    @SuppressWarnings("unchecked")
+    private static SlotStatusSnapshot lastSubmitted(SlotStatusAsyncWriter writer) {
+        ArgumentCaptor<Supplier<SlotStatusSnapshot>> source = ArgumentCaptor.forClass(Supplier.class);
+        verify(writer, atLeastOnce()).submit(eq(SLOT_ID), source.capture());
+        return source.getValue().get();
+    }
+
+    private final LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+
+    private InMemorySeatReservationStrategy createStrategy(SlotStatusAsyncWriter writer, int capacity,
+                                                           int currentApplicants, LectureSlotStatusType status) {
+        LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
+
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+        CatalogLecture lecture = new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", capacity);
+        when(lectureCatalogService.getSlot(SLOT_ID))
+                .thenReturn(new CatalogSlot(SLOT_ID, lecture, LocalDate.now(), capacity, LocalDateTime.now()));
+        LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
+        when(slotStatus.getCurrentApplicants()).thenReturn(currentApplicants);
+        when(slotStatus.getStatus()).thenReturn(status);
+
+        when(lectureSlotRepository.getReferenceById(SLOT_ID)).thenReturn(lectureSlot);
+        when(lectureSlotStatusRepository.findBySlotId(SLOT_ID)).thenReturn(Optional.of(slotStatus));
+
+        return new InMemorySeatReservationStrategy(lectureSlotRepository, lectureSlotStatusRepository, writer, lectureCatalogService);
+    }
+
+    @Test
+    @DisplayName("동시에 40명이 예약하면 정원 30명만 성공하고 마지막 예약에서 FULL로 전환된다")
+    public void testReserve_ConcurrentRequests() throws InterruptedException {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 0, LectureSlotStatusType.OPEN);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    strategy.reserve(SLOT_ID);
+                    return true;
+                } catch (CapacityExceededException e) {
+                    return false;
+                }
+            }));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        long successCount = futures.stream().filter(future -> {
+            try {
+                return future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                return false;
+            }
+        }).count();
+        assertEquals(30, successCount, "정원 30명만 예약에 성공해야 합니다.");
+        verify(writer, times(30)).submit(eq(SLOT_ID), any());
+        assertEquals(new SlotStatusSnapshot(30, LectureSlotStatusType.FULL), lastSubmitted(writer));
+        verify(lectureSlotStatusRepository, times(1)).findBySlotId(SLOT_ID);
+    }
+
+    @Test
+    @DisplayName("카운터 적재에 실패하면 예외가 그대로 전달되고, 다음 예약에서 다시 적재한다")
+    public void testReserve_RetriesLoadAfterFailure() {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 0, LectureSlotStatusType.OPEN);
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(SLOT_ID).orElseThrow();
+        when(lectureSlotStatusRepository.findBySlotId(SLOT_ID))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(Optional.of(slotStatus));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> strategy.preload(SLOT_ID));
+        assertEquals(1, strategy.reserve(SLOT_ID).currentApplicants());
+    }
+
+    @Test
+    @DisplayName("DB의 현재 신청자 수를 기준으로 잔여 좌석이 초기화된다")
+    public void testReserve_InitializedFromCurrentApplicants() {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 29, LectureSlotStatusType.OPEN);
+
+        // When
+        SeatReservation reservation = strategy.reserve(SLOT_ID);
+
+        // Then
+        assertEquals(30, reservation.currentApplicants());
+        assertEquals(LectureSlotStatusType.FULL, reservation.status());
+        assertThrows(CapacityExceededException.class, () -> strategy.reserve(SLOT_ID));
+    }
+
+    @Test
+    @DisplayName("예약을 롤백하면 좌석이 반납되어 다시 예약할 수 있다")
+    public void testRollback_ReleasesSeat() {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 29, LectureSlotStatusType.OPEN);
+        strategy.reserve(SLOT_ID);
+
+        // When
+        strategy.rollback(SLOT_ID);
+
+        // Then
+        assertEquals(new SlotStatusSnapshot(29, LectureSlotStatusType.OPEN), lastSubmitted(writer));
+        assertEquals(30, strategy.reserve(SLOT_ID).currentApplicants());
+    }
+
+    @Test
+    @DisplayName("마감된 강의 슬롯은 예약할 수 없다")
+    public void testReserve_ClosedSlot() {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 0, LectureSlotStatusType.CLOSED);
+
+        // When & Then
+        assertThrows(LectureSlotClosedException.class, () -> strategy.reserve(SLOT_ID));
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("정원이 찬 슬롯에서 좌석을 반납하면 OPEN으로 전환되고 다시 예약할 수 있다")
+    public void testRelease_FullToOpen() {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 30, LectureSlotStatusType.FULL);
+        assertThrows(CapacityExceededException.class, () -> strategy.reserve(SLOT_ID));
+
+        // When
+        SeatReservation release = strategy.release(SLOT_ID).orElseThrow();
+
+        // Then
+        assertEquals(29, release.currentApplicants());
+        assertEquals(LectureSlotStatusType.OPEN, release.status());
+        assertEquals(new SlotStatusSnapshot(29, LectureSlotStatusType.OPEN), lastSubmitted(writer));
+        assertEquals(LectureSlotStatusType.FULL, strategy.reserve(SLOT_ID).status());
+    }
+
+    @Test
+    @DisplayName("신청자가 없는 슬롯에서 좌석을 반납하면 아무것도 반영하지 않고 빈 값을 반환한다")
+    public void testRelease_NothingToRelease() {
+        // Given
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 0, LectureSlotStatusType.OPEN);
+
+        // When & Then
+        assertTrue(strategy.release(SLOT_ID).isEmpty());
+        verifyNoInteractions(writer);
+        assertEquals(1, strategy.reserve(SLOT_ID).currentApplicants());
+    }
+
+    @Test
+    @DisplayName("정원 전에 FULL로 기록된 슬롯은 DB 신청자 수를 그대로 유지하고, 반납 시 그 수에서 하나 줄어든 OPEN이 된다")
+    public void testLoad_FullBelowCapacity() {
+        // Given: 정원 30명, 신청자 25명인데 FULL로 기록된 슬롯 (수동 마감 / 불일치)
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        InMemorySeatReservationStrategy strategy = createStrategy(writer, 30, 25, LectureSlotStatusType.FULL);
+
+        // When & Then: FULL인 동안은 신청을 받지 않는다
+        assertThrows(CapacityExceededException.class, () -> strategy.reserve(SLOT_ID));
+
+        // When
+        SeatReservation release = strategy.release(SLOT_ID).orElseThrow();
+
+        // Then: 정원 기준(29명)이 아니라 실제 신청자 수 기준으로 반영된다
+        assertEquals(24, release.currentApplicants());
+        assertEquals(LectureSlotStatusType.OPEN, release.status());
+        assertEquals(new SlotStatusSnapshot(24, LectureSlotStatusType.OPEN), lastSubmitted(writer));
+        assertEquals(25, strategy.reserve(SLOT_ID).currentApplicants());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.lecture.application.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lecture.application.exception.SeatReservationConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OptimisticLockRetryExecutorTest {
+
+    @Test
+    @DisplayName("버전 충돌이 발생하면 재시도하여 성공하고, 재시도 횟수를 기록한다")
+    public void testExecute_RetryUntilSuccess() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(meterRegistry, 5, 0, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = executor.execute(1L, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("LectureSlotStatus", 1L);
+            }
+            return "reserved";
+        });
+
+        // Then
+        assertEquals("reserved", result);
+        assertEquals(3, calls.get());
+        assertEquals(2.0, meterRegistry.get("lecture.reservation.retries").counter().count());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 초과하면 SeatReservationConflictException을 발생시킨다")
+    public void testExecute_RetryExhausted() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(meterRegistry, 3, 0, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThrows(SeatReservationConflictException.class, () -> executor.execute(1L, () -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("LectureSlotStatus", 1L);
+        }));
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get("lecture.reservation.retry.exhausted").counter().count());
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 예외는 재시도하지 않는다")
+    public void testExecute_NoRetryForOtherExceptions() {
+        // Given
+        OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(new SimpleMeterRegistry(), 5, 0, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> executor.execute(1L, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("강의 정원이 초과되었습니다.");
+        }));
+        assertEquals(1, calls.get());
+    }
+}
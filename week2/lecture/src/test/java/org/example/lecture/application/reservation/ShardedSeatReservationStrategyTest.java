@@ -0,0 +1,385 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotShard;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReservation;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotShardRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ShardedSeatReservationStrategyTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    private LectureSlotShardRepository lectureSlotShardRepository;
+    private LectureSlotStatus slotStatus;
+
+    /**
+     * 샤드 행의 조건부 UPDATE를 배열로 흉내 내는 저장소 (closed: 슬롯 상태 행의 마감 여부)
+     */
+    private static class FakeShards {
+        private AtomicIntegerArray capacities;
+        private AtomicIntegerArray applicants;
+        private volatile boolean closed;
+
+        private int increment(int shardIndex) {
+            if (closed) {
+                return 0;
+            }
+            while (true) {
+                int current = applicants.get(shardIndex);
+                if (current >= capacities.get(shardIndex)) {
+                    return 0;
+                }
+                if (applicants.compareAndSet(shardIndex, current, current + 1)) {
+                    return 1;
+                }
+            }
+        }
+
+        private int decrement(int shardIndex) {
+            while (true) {
+                int current = applicants.get(shardIndex);
+                if (current <= 0) {
+                    return 0;
+                }
+                if (applicants.compareAndSet(shardIndex, current, current - 1)) {
+                    return 1;
+                }
+            }
+        }
+
+        private int total() {
+            int total = 0;
+            for (int i = 0; i < applicants.length(); i++) {
+                total += applicants.get(i);
+            }
+            return total;
+        }
+
+        /**
+         * 다른 인스턴스가 읽게 될 현재 샤드 행
+         */
+        private List<LectureSlotShard> rows() {
+            List<LectureSlotShard> rows = new ArrayList<>();
+            for (int i = 0; i < applicants.length(); i++) {
+                rows.add(LectureSlotShard.builder()
+                        .slotId(SLOT_ID)
+                        .shardIndex(i)
+                        .capacity(capacities.get(i))
+                        .currentApplicants(applicants.get(i))
+                        .build());
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * lecture_slot_status 행 하나를 흉내 내는 저장소로 비동기 반영을 수행하는 작성기 (주기 반영은 시작하지 않음)
+     * - 샤드 합계 반영은 반영 시점의 샤드 합계를, 값 반영은 전달된 값을 그대로 행에 쓴다.
+     */
+    private static SlotStatusAsyncWriter createWriter(FakeShards shards, AtomicInteger slotStatusRow) {
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        when(lectureSlotStatusRepository.updateApplicantsFromShards(eq(SLOT_ID), any())).thenAnswer(invocation -> {
+            slotStatusRow.set(shards.total());
+            return 1;
+        });
+        when(lectureSlotStatusRepository.updateApplicants(eq(SLOT_ID), anyInt(), any(), any())).thenAnswer(invocation -> {
+            slotStatusRow.set(invocation.getArgument(1));
+            return 1;
+        });
+        return new SlotStatusAsyncWriter(lectureSlotStatusRepository, new SlotStatusJournal(false, "unused", 512),
+                mock(PlatformTransactionManager.class), 100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ShardedSeatReservationStrategy createStrategy(FakeShards shards, SlotStatusAsyncWriter writer, int shardCount,
+                                                          int capacity, int currentApplicants, LectureSlotStatusType status) {
+        LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        lectureSlotShardRepository = mock(LectureSlotShardRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+
+        CatalogLecture lecture = new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", capacity);
+        when(lectureCatalogService.getSlot(SLOT_ID))
+                .thenReturn(new CatalogSlot(SLOT_ID, lecture, LocalDate.now(), capacity, LocalDateTime.now()));
+        shards.closed = status == LectureSlotStatusType.CLOSED;
+        slotStatus = mock(LectureSlotStatus.class);
+        when(slotStatus.getCurrentApplicants()).thenReturn(currentApplicants);
+        when(slotStatus.getStatus()).thenReturn(status);
+        when(lectureSlotRepository.getReferenceById(SLOT_ID)).thenReturn(mock(LectureSlot.class));
+        when(lectureSlotStatusRepository.findBySlotId(SLOT_ID)).thenReturn(Optional.of(slotStatus));
+
+        when(lectureSlotShardRepository.findBySlotIdOrderByShardIndex(SLOT_ID)).thenReturn(List.of());
+        when(lectureSlotShardRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<LectureSlotShard> rows = invocation.getArgument(0);
+            shards.capacities = new AtomicIntegerArray(rows.stream().mapToInt(LectureSlotShard::getCapacity).toArray());
+            shards.applicants = new AtomicIntegerArray(rows.stream().mapToInt(LectureSlotShard::getCurrentApplicants).toArray());
+            return rows;
+        });
+        when(lectureSlotShardRepository.incrementIfAvailable(eq(SLOT_ID), anyInt()))
+                .thenAnswer(invocation -> shards.increment(invocation.getArgument(1)));
+        when(lectureSlotShardRepository.decrementIfPositive(eq(SLOT_ID), anyInt()))
+                .thenAnswer(invocation -> shards.decrement(invocation.getArgument(1)));
+
+        return new ShardedSeatReservationStrategy(lectureSlotRepository, lectureSlotStatusRepository, lectureSlotShardRepository,
+                writer, lectureCatalogService, mock(PlatformTransactionManager.class), shardCount, ReservationStrategyType.SHARDED);
+    }
+
+    @Test
+    @DisplayName("정원은 샤드 수로 고르게 나뉘고, 기존 신청자 수는 앞 샤드부터 채워진다")
+    public void testSplit_DistributesCapacityAndApplicants() {
+        // Given
+        ShardedSeatReservationStrategy strategy = createStrategy(new FakeShards(), mock(SlotStatusAsyncWriter.class),
+                4, 30, 0, LectureSlotStatusType.OPEN);
+
+        // When
+        List<LectureSlotShard> shards = strategy.split(SLOT_ID, 30, 10);
+
+        // Then
+        assertEquals(List.of(8, 8, 7, 7), shards.stream().map(LectureSlotShard::getCapacity).toList());
+        assertEquals(List.of(8, 2, 0, 0), shards.stream().map(LectureSlotShard::getCurrentApplicants).toList());
+        assertEquals(2, strategy.split(SLOT_ID, 2, 0).size(), "샤드 수는 정원을 넘지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("동시에 40명이 예약하면 샤드 합계가 정원 30명을 넘지 않고 30명만 성공한다")
+    public void testReserve_ConcurrentRequestsBoundedByCapacity() throws InterruptedException {
+        // Given
+        FakeShards shards = new FakeShards();
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, writer, 8, 30, 0, LectureSlotStatusType.OPEN);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    strategy.reserve(SLOT_ID);
+                    return true;
+                } catch (CapacityExceededException e) {
+                    return false;
+                }
+            }));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        long successCount = futures.stream().filter(future -> {
+            try {
+                return future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                return false;
+            }
+        }).count();
+        assertEquals(30, successCount, "정원 30명만 예약에 성공해야 합니다.");
+        assertEquals(30, shards.total());
+        verify(lectureSlotShardRepository, times(1)).saveAllAndFlush(anyList());
+        verify(writer, times(30)).submitShardTotal(SLOT_ID);
+        verify(writer, never()).submit(any(), any());
+    }
+
+    @Test
+    @DisplayName("슬롯 적재에 실패하면 예외가 그대로 전달되고, 다음 예약에서 다시 적재한다")
+    public void testReserve_RetriesLoadAfterFailure() {
+        // Given
+        FakeShards shards = new FakeShards();
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, mock(SlotStatusAsyncWriter.class),
+                4, 30, 0, LectureSlotStatusType.OPEN);
+        when(lectureSlotShardRepository.findBySlotIdOrderByShardIndex(SLOT_ID))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(List.of());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> strategy.preload(SLOT_ID));
+        assertEquals(1, strategy.reserve(SLOT_ID).currentApplicants());
+        assertEquals(1, shards.total());
+    }
+
+    @Test
+    @DisplayName("첫 샤드가 가득 차면 남은 샤드에서 좌석을 가져와, 마지막 좌석까지 예약된다")
+    public void testReserve_StealsFromOtherShards() {
+        // Given: 한 스레드에서만 예약하므로 매번 같은 샤드부터 시도
+        FakeShards shards = new FakeShards();
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, mock(SlotStatusAsyncWriter.class),
+                4, 10, 0, LectureSlotStatusType.OPEN);
+
+        // When
+        SeatReservation last = null;
+        for (int i = 0; i < 10; i++) {
+            last = strategy.reserve(SLOT_ID);
+        }
+
+        // Then
+        assertEquals(10, last.currentApplicants());
+        assertEquals(LectureSlotStatusType.FULL, last.status());
+        assertEquals(10, shards.total());
+        assertThrows(CapacityExceededException.class, () -> strategy.reserve(SLOT_ID));
+    }
+
+    @Test
+    @DisplayName("정원이 찬 슬롯에서 좌석을 반납하면 OPEN으로 전환되고, 반납된 샤드에서 다시 예약할 수 있다")
+    public void testRelease_FullToOpen() {
+        // Given
+        FakeShards shards = new FakeShards();
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, writer, 4, 30, 30, LectureSlotStatusType.FULL);
+        assertThrows(CapacityExceededException.class, () -> strategy.reserve(SLOT_ID));
+
+        // When
+        SeatReservation release = strategy.release(SLOT_ID).orElseThrow();
+
+        // Then
+        assertEquals(29, release.currentApplicants());
+        assertEquals(LectureSlotStatusType.OPEN, release.status());
+        verify(writer).submitShardTotal(SLOT_ID);
+        assertEquals(LectureSlotStatusType.FULL, strategy.reserve(SLOT_ID).status());
+        assertEquals(30, shards.total());
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 같은 샤드 행을 나누어 쓰면, 어느 인스턴스가 나중에 반영해도 슬롯 상태에는 전체 신청자 수가 남는다")
+    public void testFlush_TwoInstancesSharingShards() {
+        // Given: 인스턴스 A가 샤드 행을 만들고, 인스턴스 B는 A가 만든 행을 읽는다
+        FakeShards shards = new FakeShards();
+        AtomicInteger slotStatusRow = new AtomicInteger();
+        SlotStatusAsyncWriter writerA = createWriter(shards, slotStatusRow);
+        SlotStatusAsyncWriter writerB = createWriter(shards, slotStatusRow);
+        ShardedSeatReservationStrategy instanceA = createStrategy(shards, writerA, 4, 30, 0, LectureSlotStatusType.OPEN);
+        instanceA.preload(SLOT_ID);
+        ShardedSeatReservationStrategy instanceB = createStrategy(shards, writerB, 4, 30, 0, LectureSlotStatusType.OPEN);
+        when(lectureSlotShardRepository.findBySlotIdOrderByShardIndex(SLOT_ID)).thenAnswer(invocation -> shards.rows());
+
+        // When: A에서 3명, B에서 2명이 예약하고 B, A 순으로 반영
+        for (int i = 0; i < 3; i++) {
+            instanceA.reserve(SLOT_ID);
+        }
+        for (int i = 0; i < 2; i++) {
+            instanceB.reserve(SLOT_ID);
+        }
+        writerB.flush();
+        writerA.flush();
+
+        // Then
+        assertEquals(5, shards.total());
+        assertEquals(5, slotStatusRow.get(), "먼저 반영한 인스턴스의 예약도 남아 있어야 합니다.");
+
+        // When: B에서 반납한 뒤 A가 예약하고 A, B 순으로 반영
+        instanceB.release(SLOT_ID);
+        instanceA.reserve(SLOT_ID);
+        writerA.flush();
+        writerB.flush();
+
+        // Then
+        assertEquals(5, slotStatusRow.get());
+        verify(lectureSlotShardRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("신청자가 있는 샤드가 없으면 반납하지 않고 빈 값을 반환한다")
+    public void testRelease_NothingToRelease() {
+        // Given
+        FakeShards shards = new FakeShards();
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, writer, 4, 30, 0, LectureSlotStatusType.OPEN);
+
+        // When
+        Optional<SeatReservation> release = strategy.release(SLOT_ID);
+
+        // Then
+        assertTrue(release.isEmpty());
+        assertEquals(0, shards.total());
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("마감된 강의 슬롯은 예약할 수 없다")
+    public void testReserve_ClosedSlot() {
+        // Given
+        FakeShards shards = new FakeShards();
+        SlotStatusAsyncWriter writer = mock(SlotStatusAsyncWriter.class);
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, writer, 4, 30, 0, LectureSlotStatusType.CLOSED);
+
+        // When & Then
+        assertThrows(LectureSlotClosedException.class, () -> strategy.reserve(SLOT_ID));
+        assertEquals(0, shards.total());
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("적재 이후에 마감 / 재개된 슬롯은 다음 예약부터 바로 반영된다")
+    public void testReserve_ClosedAfterLoad() {
+        // Given
+        FakeShards shards = new FakeShards();
+        ShardedSeatReservationStrategy strategy = createStrategy(shards, mock(SlotStatusAsyncWriter.class),
+                4, 30, 0, LectureSlotStatusType.OPEN);
+        assertEquals(1, strategy.reserve(SLOT_ID).currentApplicants());
+
+        // When: 적재 이후 슬롯이 마감됨
+        shards.closed = true;
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.CLOSED);
+
+        // Then
+        assertThrows(LectureSlotClosedException.class, () -> strategy.reserve(SLOT_ID));
+        assertEquals(1, shards.total());
+
+        // When: 다시 신청을 받음
+        shards.closed = false;
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.OPEN);
+
+        // Then
+        SeatReservation reservation = strategy.reserve(SLOT_ID);
+        assertEquals(2, reservation.currentApplicants());
+        assertEquals(LectureSlotStatusType.OPEN, reservation.status());
+    }
+
+    @Test
+    @DisplayName("다른 전략으로 기동하면 샤드 행 합계를 슬롯 상태에 반영한 뒤 샤드 행을 지우고, SHARDED로 기동하면 그대로 둔다")
+    public void testRetireShardsUnlessSelected() {
+        // Given
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureSlotShardRepository shardRepository = mock(LectureSlotShardRepository.class);
+        ShardedSeatReservationStrategy pessimistic = new ShardedSeatReservationStrategy(mock(LectureSlotRepository.class),
+                lectureSlotStatusRepository, shardRepository, mock(SlotStatusAsyncWriter.class), mock(LectureCatalogService.class),
+                mock(PlatformTransactionManager.class), 8, ReservationStrategyType.PESSIMISTIC);
+        ShardedSeatReservationStrategy sharded = new ShardedSeatReservationStrategy(mock(LectureSlotRepository.class),
+                lectureSlotStatusRepository, shardRepository, mock(SlotStatusAsyncWriter.class), mock(LectureCatalogService.class),
+                mock(PlatformTransactionManager.class), 8, ReservationStrategyType.SHARDED);
+
+        // When & Then
+        sharded.retireShardsUnlessSelected();
+        verifyNoInteractions(lectureSlotStatusRepository, shardRepository);
+
+        pessimistic.retireShardsUnlessSelected();
+        InOrder inOrder = inOrder(lectureSlotStatusRepository, shardRepository);
+        inOrder.verify(lectureSlotStatusRepository).updateAllApplicantsFromShards(any());
+        inOrder.verify(shardRepository).deleteAllInBatch();
+    }
+}
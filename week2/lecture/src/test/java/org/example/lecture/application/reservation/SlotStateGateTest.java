@@ -0,0 +1,79 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotStateGateTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    @Test
+    @DisplayName("FULL로 전이된 슬롯은 바로 거절하고, 좌석이 반납되어 OPEN이 되면 다시 통과시킨다")
+    public void testRejectFullSlotUntilReleased() {
+        // Given
+        SlotStateGate gate = new SlotStateGate(true, 60_000, false);
+        assertDoesNotThrow(() -> gate.check(SLOT_ID), "상태를 모르는 슬롯은 통과해야 합니다.");
+
+        // When
+        gate.onSlotStatusChanged(new SlotStatusChangedEvent(SLOT_ID, 30, LectureSlotStatusType.FULL, LocalDateTime.now()));
+
+        // Then
+        assertThrows(CapacityExceededException.class, () -> gate.check(SLOT_ID));
+        assertDoesNotThrow(() -> gate.check(2L), "다른 슬롯에는 영향을 주면 안 됩니다.");
+
+        gate.onSeatReleased(new SeatReleasedEvent(SLOT_ID, 29, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        assertDoesNotThrow(() -> gate.check(SLOT_ID));
+    }
+
+    @Test
+    @DisplayName("마감된 슬롯은 항상 거절하고, 대기자 명단이 활성화되면 FULL 슬롯은 대기자 등록을 위해 통과시킨다")
+    public void testClosedAndWaitlist() {
+        // Given
+        SlotStateGate gate = new SlotStateGate(true, 60_000, true);
+
+        // When
+        gate.record(SLOT_ID, LectureSlotStatusType.FULL);
+        gate.record(2L, LectureSlotStatusType.CLOSED);
+
+        // Then
+        assertDoesNotThrow(() -> gate.check(SLOT_ID));
+        assertThrows(LectureSlotClosedException.class, () -> gate.check(2L));
+    }
+
+    @Test
+    @DisplayName("기록된 상태는 ttl이 지나면 잊고 다시 통과시킨다")
+    public void testExpireAfterTtl() throws InterruptedException {
+        // Given
+        SlotStateGate gate = new SlotStateGate(true, 50, false);
+        gate.record(SLOT_ID, LectureSlotStatusType.FULL);
+        assertThrows(CapacityExceededException.class, () -> gate.check(SLOT_ID));
+
+        // When
+        Thread.sleep(100);
+
+        // Then
+        assertDoesNotThrow(() -> gate.check(SLOT_ID));
+    }
+
+    @Test
+    @DisplayName("게이트가 비활성화되면 상태와 관계없이 통과시킨다")
+    public void testDisabled() {
+        // Given
+        SlotStateGate gate = new SlotStateGate(false, 60_000, false);
+
+        // When
+        gate.record(SLOT_ID, LectureSlotStatusType.CLOSED);
+
+        // Then
+        assertDoesNotThrow(() -> gate.check(SLOT_ID));
+    }
+}
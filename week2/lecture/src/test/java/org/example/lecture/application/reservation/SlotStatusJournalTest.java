@@ -0,0 +1,151 @@
+package org.example.lecture.application.reservation;
+
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter.SlotStatusSnapshot;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SlotStatusJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    private SlotStatusJournal openJournal() {
+        return new SlotStatusJournal(true, directory.toString(), 512);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("fsync가 끝난 변경은 재기동 후 재생하면 슬롯별 마지막 값으로 복원된다")
+    public void testReplay_RestoresLatestPerSlot() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        SlotStatusJournal journal = openJournal();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int applicants = 1; applicants <= 30; applicants++) {
+            LectureSlotStatusType status = applicants == 30 ? LectureSlotStatusType.FULL : LectureSlotStatusType.OPEN;
+            futures.add(journal.append(1L, applicants, status, now));
+        }
+        futures.add(journal.append(2L, 7, LectureSlotStatusType.OPEN, now));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // When: 종료 후 같은 디렉터리로 다시 열어서 재생
+        journal.shutdown();
+        Map<Long, SlotStatusJournal.JournalEntry> entries = openJournal().replay();
+
+        // Then
+        assertEquals(2, entries.size());
+        assertEquals(new SlotStatusJournal.JournalEntry(1L, 30, LectureSlotStatusType.FULL, now), entries.get(1L));
+        assertEquals(7, entries.get(2L).currentApplicants());
+    }
+
+    @Test
+    @DisplayName("쓰는 도중 잘린 마지막 레코드는 재생에서 무시된다")
+    public void testReplay_IgnoresTornTail() throws Exception {
+        // Given
+        SlotStatusJournal journal = openJournal();
+        journal.append(1L, 3, LectureSlotStatusType.OPEN, LocalDateTime.now()).join();
+        journal.shutdown();
+        Path segment = segmentFiles().get(0);
+        Files.write(segment, new byte[SlotStatusJournal.RECORD_BYTES - 1], StandardOpenOption.APPEND);
+
+        // When
+        List<SlotStatusJournal.JournalEntry> entries = SlotStatusJournal.read(segment);
+
+        // Then
+        assertEquals(1, entries.size());
+        assertEquals(3, entries.get(0).currentApplicants());
+    }
+
+    @Test
+    @DisplayName("세그먼트를 전환하면 이전 세그먼트만 삭제 대상이 되고, 전환 이후의 기록은 남는다")
+    public void testRotate_SealsPreviousSegments() throws Exception {
+        // Given
+        SlotStatusJournal journal = openJournal();
+        journal.append(1L, 1, LectureSlotStatusType.OPEN, LocalDateTime.now()).join();
+
+        // When
+        List<Path> sealed = journal.rotate();
+        journal.append(1L, 2, LectureSlotStatusType.OPEN, LocalDateTime.now()).join();
+        journal.delete(sealed);
+
+        // Then
+        assertEquals(1, sealed.size());
+        assertEquals(1, segmentFiles().size());
+        assertEquals(2, journal.replay().get(1L).currentApplicants());
+        journal.shutdown();
+    }
+
+    @Test
+    @DisplayName("재기동 시 저널에 남은 변경을 DB에 반영하고, 반영이 끝난 세그먼트는 삭제한다")
+    public void testAsyncWriter_RecoversFromJournal() throws Exception {
+        // Given: DB에 반영되기 전에 종료된 실행
+        SlotStatusJournal previous = openJournal();
+        LectureSlotStatusRepository repository = mock(LectureSlotStatusRepository.class);
+        SlotStatusAsyncWriter crashed = new SlotStatusAsyncWriter(repository, previous, mock(PlatformTransactionManager.class), 60_000);
+        crashed.submit(1L, () -> new SlotStatusSnapshot(29, LectureSlotStatusType.OPEN));
+        crashed.submit(1L, () -> new SlotStatusSnapshot(30, LectureSlotStatusType.FULL));
+        previous.shutdown();
+        verifyNoInteractions(repository);
+
+        // When
+        SlotStatusJournal journal = openJournal();
+        SlotStatusAsyncWriter writer = new SlotStatusAsyncWriter(repository, journal, mock(PlatformTransactionManager.class), 60_000);
+        writer.start();
+
+        // Then
+        verify(repository).updateApplicants(eq(1L), eq(30), eq(LectureSlotStatusType.FULL), any(LocalDateTime.class));
+        verifyNoMoreInteractions(repository);
+        assertTrue(journal.replay().isEmpty(), "반영이 끝난 변경은 다시 재생되지 않아야 합니다.");
+        writer.shutdown();
+        journal.shutdown();
+    }
+
+    @Test
+    @DisplayName("이전 값을 가진 호출이 늦게 등록되어도, DB에는 반영 시점의 최신 신청자 수 / 상태가 기록된다")
+    public void testAsyncWriter_FlushesValueReadAtFlushTime() throws Exception {
+        // Given: 5번째 좌석을 확보한 스레드가 6번째 좌석 확보 이후에야 등록하는 상황
+        SlotStatusJournal journal = openJournal();
+        LectureSlotStatusRepository repository = mock(LectureSlotStatusRepository.class);
+        SlotStatusAsyncWriter writer = new SlotStatusAsyncWriter(repository, journal, mock(PlatformTransactionManager.class), 60_000);
+        AtomicInteger applicants = new AtomicInteger(6);
+        Supplier<SlotStatusSnapshot> counter = () -> new SlotStatusSnapshot(applicants.get(),
+                applicants.get() >= 6 ? LectureSlotStatusType.FULL : LectureSlotStatusType.OPEN);
+        writer.submit(1L, counter);
+        writer.submit(1L, counter);
+
+        // When
+        writer.flush();
+
+        // Then
+        verify(repository).updateApplicants(eq(1L), eq(6), eq(LectureSlotStatusType.FULL), any(LocalDateTime.class));
+        verifyNoMoreInteractions(repository);
+        writer.shutdown();
+        journal.shutdown();
+    }
+}
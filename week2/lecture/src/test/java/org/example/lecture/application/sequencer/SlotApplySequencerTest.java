@@ -0,0 +1,149 @@
+package org.example.lecture.application.sequencer;
+
+import org.example.lecture.application.exception.ApplyQueueFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotApplySequencerTest {
+
+    @Test
+    @DisplayName("같은 슬롯에 등록된 작업은 한 번에 하나씩 등록 순서대로 실행된다")
+    public void testSubmit_SerializedPerSlot() {
+        // Given
+        SlotApplySequencer sequencer = new SlotApplySequencer(1000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> executionOrder = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            final int order = i;
+            futures.add(sequencer.submit(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executionOrder.add(order);
+                running.decrementAndGet();
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(1, maxRunning.get(), "같은 슬롯의 작업은 동시에 실행되면 안 됩니다.");
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, executionOrder.get(i));
+            assertEquals(i, futures.get(i).join());
+        }
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("서로 다른 슬롯의 작업은 병렬로 실행된다")
+    public void testSubmit_ParallelAcrossSlots() throws InterruptedException {
+        // Given
+        SlotApplySequencer sequencer = new SlotApplySequencer(1000);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When: 두 슬롯의 작업이 서로를 기다리므로 병렬로 실행되지 않으면 완료될 수 없음
+        CompletableFuture<Boolean> first = sequencer.submit(1L, () -> awaitLatch(bothStarted));
+        CompletableFuture<Boolean> second = sequencer.submit(2L, () -> awaitLatch(bothStarted));
+
+        // Then
+        assertTrue(first.join());
+        assertTrue(second.join());
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 CompletableFuture로 전달된다")
+    public void testSubmit_ExceptionPropagated() {
+        // Given
+        SlotApplySequencer sequencer = new SlotApplySequencer(1000);
+
+        // When
+        CompletableFuture<Object> future = sequencer.submit(1L, () -> {
+            throw new IllegalStateException("강의 정원이 초과되었습니다.");
+        });
+
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("슬롯의 대기 작업 수가 한도를 넘으면 ApplyQueueFullException을 발생시킨다")
+    public void testSubmit_QueueFull() throws InterruptedException {
+        // Given
+        SlotApplySequencer sequencer = new SlotApplySequencer(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = sequencer.submit(1L, () -> awaitRelease(release));
+
+        // When & Then
+        assertThrows(ApplyQueueFullException.class, () -> sequencer.submit(1L, () -> true));
+        release.countDown();
+        assertTrue(blocking.join());
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 작업을 모두 처리한 슬롯의 대기열은 제거되고, 이후 등록 시 다시 만들어진다")
+    public void testSubmit_DrainedLaneRemoved() throws InterruptedException {
+        // Given
+        SlotApplySequencer sequencer = new SlotApplySequencer(1000);
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+
+        // When
+        for (long slotId = 1; slotId <= 100; slotId++) {
+            final long id = slotId;
+            futures.add(sequencer.submit(slotId, () -> id));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertTrue(awaitNoLanes(sequencer), "처리가 끝난 슬롯의 대기열이 남아 있으면 안 됩니다.");
+        assertEquals(7L, sequencer.submit(7L, () -> 7L).join());
+        assertTrue(awaitNoLanes(sequencer));
+        sequencer.shutdown();
+    }
+
+    private static boolean awaitNoLanes(SlotApplySequencer sequencer) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sequencer.laneCount() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static boolean awaitRelease(CountDownLatch release) {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.lecture.application.sequencer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotContentionTrackerTest {
+
+    // 측정 구간 1초, 초당 50건 이상 또는 평균 락 대기 20ms 이상이면 승격, 초당 10건 미만으로 2구간 연속이면 강등
+    private SlotContentionTracker tracker() {
+        return new SlotContentionTracker(true, 1000, 50, 20, 10, 2);
+    }
+
+    @Test
+    @DisplayName("유입률이 승격 기준을 넘은 슬롯만 인기 슬롯으로 승격된다")
+    public void testPromoteByArrivalRate() {
+        // Given
+        SlotContentionTracker tracker = tracker();
+        for (int i = 0; i < 50; i++) {
+            tracker.recordArrival(1L);
+        }
+        tracker.recordArrival(2L);
+
+        // When
+        tracker.evaluate();
+
+        // Then
+        assertTrue(tracker.isHot(1L));
+        assertFalse(tracker.isHot(2L));
+        assertTrue(tracker.recordArrival(1L));
+        List<SlotContentionStatus> statuses = tracker.getStatuses();
+        assertEquals(1L, statuses.get(0).slotId());
+        assertEquals(50.0, statuses.get(0).arrivalsPerSecond());
+        assertNotNull(statuses.get(0).hotSince());
+    }
+
+    @Test
+    @DisplayName("평균 락 대기 시간이 승격 기준을 넘으면 유입률이 낮아도 인기 슬롯으로 승격된다")
+    public void testPromoteByLockWait() {
+        // Given
+        SlotContentionTracker tracker = tracker();
+        tracker.recordArrival(1L);
+        tracker.recordLockWait(1L, 30_000_000L);
+
+        // When
+        tracker.evaluate();
+
+        // Then
+        assertTrue(tracker.isHot(1L));
+        assertEquals(30.0, tracker.getStatuses().get(0).averageLockWaitMs(), 0.001);
+    }
+
+    @Test
+    @DisplayName("인기 슬롯은 한산한 구간이 연속으로 이어져야 강등되고, 다시 바빠지면 강등 대기가 초기화된다")
+    public void testDemoteAfterCoolDown() {
+        // Given
+        SlotContentionTracker tracker = tracker();
+        for (int i = 0; i < 60; i++) {
+            tracker.recordArrival(1L);
+        }
+        tracker.evaluate();
+
+        // When & Then
+        tracker.evaluate();                         // 한산 1구간
+        assertTrue(tracker.isHot(1L));
+        for (int i = 0; i < 20; i++) {
+            tracker.recordArrival(1L);
+        }
+        tracker.evaluate();                         // 강등 기준 이상 → 초기화
+        tracker.evaluate();                         // 한산 1구간
+        assertTrue(tracker.isHot(1L));
+        tracker.evaluate();                         // 한산 2구간 → 강등
+        assertFalse(tracker.isHot(1L));
+        assertNull(tracker.getStatuses().get(0).hotSince());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 기록하지 않고 어떤 슬롯도 승격하지 않는다")
+    public void testDisabled() {
+        // Given
+        SlotContentionTracker tracker = new SlotContentionTracker(false, 1000, 1, 1, 0, 1);
+
+        // When
+        assertFalse(tracker.recordArrival(1L));
+        tracker.evaluate();
+
+        // Then
+        assertFalse(tracker.isHot(1L));
+        assertTrue(tracker.getStatuses().isEmpty());
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.lecture.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApplicationDuplicateFilterTest {
+
+    @Test
+    @DisplayName("기록한 사용자는 항상 중복 가능성이 있다고 판정하고, 기록하지 않은 슬롯의 사용자는 없다고 판정한다")
+    public void testMightContain() {
+        // Given
+        ApplicationDuplicateFilter filter = new ApplicationDuplicateFilter(true, 1024, 3, 16);
+
+        // When
+        for (long userId = 1; userId <= 100; userId++) {
+            filter.put(1L, userId);
+        }
+
+        // Then
+        for (long userId = 1; userId <= 100; userId++) {
+            assertTrue(filter.mightContain(1L, userId), "기록한 사용자는 누락되면 안 됩니다.");
+        }
+        assertFalse(filter.mightContain(2L, 1L), "다른 슬롯의 신청에는 영향을 주면 안 됩니다.");
+    }
+
+    @Test
+    @DisplayName("기록하지 않은 사용자는 대부분 중복 가능성이 없다고 판정한다 (오탐률 제한)")
+    public void testFalsePositiveRate() {
+        // Given
+        ApplicationDuplicateFilter filter = new ApplicationDuplicateFilter(true, 65536, 3, 16);
+        for (long userId = 1; userId <= 1000; userId++) {
+            filter.put(1L, userId);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (long userId = 1001; userId <= 11000; userId++) {
+            if (filter.mightContain(1L, userId)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 100, "오탐률이 1%를 넘으면 안 됩니다. 오탐 수: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("필터가 비활성화되면 항상 DB 확인이 필요하다고 판정한다")
+    public void testDisabled() {
+        // Given
+        ApplicationDuplicateFilter filter = new ApplicationDuplicateFilter(false, 1024, 3, 16);
+
+        // When & Then
+        assertTrue(filter.mightContain(1L, 1L));
+    }
+}
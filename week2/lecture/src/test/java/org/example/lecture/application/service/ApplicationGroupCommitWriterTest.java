@@ -0,0 +1,82 @@
+package org.example.lecture.application.service;
+
+import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ApplicationGroupCommitWriterTest {
+
+    @Test
+    @DisplayName("대기 시간 안에 들어온 신청들은 한 번의 saveAll로 함께 저장된다")
+    @SuppressWarnings("unchecked")
+    public void testSubmit_GroupedIntoSingleBatch() throws InterruptedException {
+        // Given
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        when(applicationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ApplicationGroupCommitWriter writer = new ApplicationGroupCommitWriter(
+                applicationRepository, mock(PlatformTransactionManager.class), true, 50, 200);
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+
+        // When
+        List<CompletableFuture<Application>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            final long id = userId;
+            futures.add(writer.submit(() -> new Application(id, lectureSlot)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        verify(applicationRepository, times(1)).saveAll(argThat(list -> ((List<Application>) list).size() == 10));
+        verify(applicationRepository, never()).saveAndFlush(any());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1L, futures.get(i).join().getUserId());
+        }
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 건별로 다시 저장하여 실패한 신청만 예외로 완료된다")
+    public void testFlush_FallbackToIndividualInserts() throws InterruptedException {
+        // Given
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        when(applicationRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("uk_application_user_slot"));
+        when(applicationRepository.saveAndFlush(any(Application.class))).thenAnswer(invocation -> {
+            Application application = invocation.getArgument(0);
+            if (application.getUserId() == 2L) {
+                throw new DataIntegrityViolationException("uk_application_user_slot");
+            }
+            return application;
+        });
+        ApplicationGroupCommitWriter writer = new ApplicationGroupCommitWriter(
+                applicationRepository, mock(PlatformTransactionManager.class), false, 50, 5);
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+
+        CompletableFuture<Application> first = new CompletableFuture<>();
+        CompletableFuture<Application> second = new CompletableFuture<>();
+        List<ApplicationGroupCommitWriter.PendingApplication> batch = List.of(
+                new ApplicationGroupCommitWriter.PendingApplication(() -> new Application(1L, lectureSlot), first),
+                new ApplicationGroupCommitWriter.PendingApplication(() -> new Application(2L, lectureSlot), second));
+
+        // When
+        writer.flush(batch);
+
+        // Then
+        assertEquals(1L, first.join().getUserId());
+        CompletionException exception = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+        verify(applicationRepository, times(2)).saveAndFlush(any(Application.class));
+    }
+}
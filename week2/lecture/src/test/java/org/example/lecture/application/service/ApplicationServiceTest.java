@@ -1,13 +1,19 @@
 package org.example.lecture.application.service;
 
 import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.metrics.ApplyMetrics;
 import org.example.lecture.domain.application.Application;
 import org.example.lecture.domain.application.ApplicationStatusType;
 import org.example.lecture.domain.lecture.LectureSlot;
 import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 
@@ -22,7 +28,7 @@ public class ApplicationServiceTest {
         // Given
         Long userId = 1L;
         ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
-        ApplicationService applicationService = new ApplicationService(applicationRepository);
+        ApplicationService applicationService = new ApplicationService(applicationRepository, mock(ApplicationGroupCommitWriter.class), mock(ApplicationDuplicateFilter.class), mock(ApplicationEventPublisher.class), mock(ApplyMetrics.class));
 
         Application application = mock(Application.class);
         List<Application> applications = List.of(application);
@@ -45,7 +51,7 @@ public class ApplicationServiceTest {
         // Given
         Long userId = 1L;
         ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
-        ApplicationService applicationService = new ApplicationService(applicationRepository);
+        ApplicationService applicationService = new ApplicationService(applicationRepository, mock(ApplicationGroupCommitWriter.class), mock(ApplicationDuplicateFilter.class), mock(ApplicationEventPublisher.class), mock(ApplyMetrics.class));
 
         when(applicationRepository.findByUserIdAndCurrentStatus(userId, ApplicationStatusType.APPLIED))
                 .thenReturn(Collections.emptyList());
@@ -65,11 +71,11 @@ public class ApplicationServiceTest {
         Long userId = 1L;
         LectureSlot lectureSlot = mock(LectureSlot.class);
         ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
-        ApplicationService applicationService = new ApplicationService(applicationRepository);
+        ApplicationService applicationService = new ApplicationService(applicationRepository, mock(ApplicationGroupCommitWriter.class), mock(ApplicationDuplicateFilter.class), mock(ApplicationEventPublisher.class), mock(ApplyMetrics.class));
 
         when(applicationRepository.existsByUserIdAndLectureSlot(userId, lectureSlot))
                 .thenReturn(false);
-        when(applicationRepository.save(any(Application.class)))
+        when(applicationRepository.saveAndFlush(any(Application.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -79,6 +85,8 @@ public class ApplicationServiceTest {
         assertNotNull(application);
         assertEquals(userId, application.getUserId());
         assertEquals(lectureSlot, application.getLectureSlot());
+        // 검증: 블룸 필터에 없는 신청은 중복 조회 없이 바로 INSERT
+        verify(applicationRepository, never()).existsByUserIdAndLectureSlot(any(), any());
     }
 
     @Test
@@ -87,18 +95,45 @@ public class ApplicationServiceTest {
         // Given
         Long userId = 1L;
         LectureSlot lectureSlot = mock(LectureSlot.class);
+        when(lectureSlot.getSlotId()).thenReturn(10L);
         ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
-        ApplicationService applicationService = new ApplicationService(applicationRepository);
+        ApplicationDuplicateFilter applicationDuplicateFilter = mock(ApplicationDuplicateFilter.class);
+        ApplicationService applicationService = new ApplicationService(applicationRepository, mock(ApplicationGroupCommitWriter.class), applicationDuplicateFilter, mock(ApplicationEventPublisher.class), mock(ApplyMetrics.class));
 
+        when(applicationDuplicateFilter.mightContain(10L, userId))
+                .thenReturn(true);
         when(applicationRepository.existsByUserIdAndLectureSlot(userId, lectureSlot))
                 .thenReturn(true);
 
         // When & Then
-        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+        DuplicateApplicationException exception = assertThrows(DuplicateApplicationException.class, () -> {
             applicationService.applyToLectureSlot(userId, lectureSlot);
         });
 
-        assertEquals("이미 해당 강의에 신청되었습니다.", exception.getMessage());
+        assertEquals("사용자 ID: " + userId + "가 이미 강의 ID: 10에 신청했습니다.", exception.getMessage());
+        verify(applicationRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("INSERT가 (user_id, slot_id) 유니크 제약을 위반하면 중복 신청 예외로 변환한다")
+    public void testApplyToLectureSlot_UniqueConstraintViolation() {
+        // Given
+        Long userId = 1L;
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+        when(lectureSlot.getSlotId()).thenReturn(10L);
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        ApplicationDuplicateFilter applicationDuplicateFilter = mock(ApplicationDuplicateFilter.class);
+        ApplicationService applicationService = new ApplicationService(applicationRepository, mock(ApplicationGroupCommitWriter.class), applicationDuplicateFilter, mock(ApplicationEventPublisher.class), mock(ApplyMetrics.class));
+
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate key", new SQLException("Unique index or primary key violation"), "PUBLIC.UK_APPLICATION_USER_SLOT_INDEX_C");
+        when(applicationRepository.saveAndFlush(any(Application.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key", violation));
+
+        // When & Then
+        assertThrows(DuplicateApplicationException.class, () -> applicationService.applyToLectureSlot(userId, lectureSlot));
+        // 검증: 다음 반복 신청은 블룸 필터에서 걸러지도록 기록
+        verify(applicationDuplicateFilter, times(1)).put(10L, userId);
     }
 
 }
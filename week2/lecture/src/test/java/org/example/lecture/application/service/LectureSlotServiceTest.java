@@ -1,15 +1,23 @@
 package org.example.lecture.application.service;
 
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotClosedException;
 import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.sequencer.SlotContentionTracker;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
 import org.example.lecture.domain.lecture.LectureSlot;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
 import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReservation;
 import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +33,9 @@ public class LectureSlotServiceTest {
         LocalDate date = LocalDate.now();
         LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
         LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
         LectureSlotService lectureSlotService = new LectureSlotService(
-                lectureSlotRepository, lectureSlotStatusRepository
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
         );
 
         LectureSlot lectureSlot = mock(LectureSlot.class);
@@ -50,8 +59,9 @@ public class LectureSlotServiceTest {
         Long lectureSlotId = 1L;
         LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
         LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
         LectureSlotService lectureSlotService = new LectureSlotService(
-                lectureSlotRepository, lectureSlotStatusRepository
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
         );
 
         LectureSlot lectureSlot = mock(LectureSlot.class);
@@ -59,15 +69,16 @@ public class LectureSlotServiceTest {
 
         when(lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId))
                 .thenReturn(Optional.of(slotStatus));
-        when(lectureSlotRepository.findById(lectureSlotId))
-                .thenReturn(Optional.of(lectureSlot));
+        when(lectureSlotRepository.getReferenceById(lectureSlotId))
+                .thenReturn(lectureSlot);
+        when(lectureCatalogService.getSlot(lectureSlotId))
+                .thenReturn(catalogSlot(lectureSlotId, 10));
 
         when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.OPEN);
-        when(lectureSlot.getCapacity()).thenReturn(10);
         when(slotStatus.getCurrentApplicants()).thenReturn(5);
 
         // 신청자 수 증가 및 상태 변경 메서드 모의
-        doNothing().when(slotStatus).incrementApplicants();
+        doNothing().when(slotStatus).incrementApplicants(10);
         doNothing().when(slotStatus).changeStatus(any(LectureSlotStatusType.class));
 
         // When
@@ -78,7 +89,9 @@ public class LectureSlotServiceTest {
         assertEquals(lectureSlot, result);
 
         // 검증: 신청자 수 증가 메서드가 호출되었는지 확인
-        verify(slotStatus, times(1)).incrementApplicants();
+        verify(slotStatus, times(1)).incrementApplicants(10);
+        // 검증: 강의 슬롯은 조회하지 않고 카탈로그의 정원을 사용
+        verify(lectureSlotRepository, never()).findById(lectureSlotId);
         // 검증: 상태 변경 메서드가 호출되었는지 확인
         verify(slotStatus, times(1)).changeStatus(any(LectureSlotStatusType.class));
         // 검증: 상태 저장 메서드가 호출되었는지 확인
@@ -92,8 +105,9 @@ public class LectureSlotServiceTest {
         Long lectureSlotId = 1L;
         LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
         LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
         LectureSlotService lectureSlotService = new LectureSlotService(
-                lectureSlotRepository, lectureSlotStatusRepository
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
         );
 
         when(lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId))
@@ -114,16 +128,17 @@ public class LectureSlotServiceTest {
         Long lectureSlotId = 1L;
         LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
         LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
         LectureSlotService lectureSlotService = new LectureSlotService(
-                lectureSlotRepository, lectureSlotStatusRepository
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
         );
 
         LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
 
         when(lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId))
                 .thenReturn(Optional.of(slotStatus));
-        when(lectureSlotRepository.findById(lectureSlotId))
-                .thenReturn(Optional.empty());
+        when(lectureCatalogService.getSlot(lectureSlotId))
+                .thenThrow(new LectureSlotNotFoundException(lectureSlotId));
 
         // When & Then
         LectureSlotNotFoundException exception = assertThrows(LectureSlotNotFoundException.class, () -> {
@@ -140,16 +155,19 @@ public class LectureSlotServiceTest {
         Long lectureSlotId = 1L;
         LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
         LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
         LectureSlotService lectureSlotService = new LectureSlotService(
-                lectureSlotRepository, lectureSlotStatusRepository
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
         );
 
         LectureSlot lectureSlot = mock(LectureSlot.class);
         LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
 
         // 모의 객체 설정
-        when(lectureSlotRepository.findById(lectureSlotId))
-                .thenReturn(Optional.of(lectureSlot));
+        when(lectureSlotRepository.getReferenceById(lectureSlotId))
+                .thenReturn(lectureSlot);
+        when(lectureCatalogService.getSlot(lectureSlotId))
+                .thenReturn(catalogSlot(lectureSlotId, 10));
         when(lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId))
                 .thenReturn(Optional.of(slotStatus));
 
@@ -170,8 +188,9 @@ public class LectureSlotServiceTest {
         Long lectureSlotId = 1L;
         LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
         LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
         LectureSlotService lectureSlotService = new LectureSlotService(
-                lectureSlotRepository, lectureSlotStatusRepository
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
         );
 
         LectureSlot lectureSlot = mock(LectureSlot.class);
@@ -180,8 +199,10 @@ public class LectureSlotServiceTest {
         // 모의 객체 설정
         when(lectureSlotStatusRepository.findBySlotIdWithPessimisticLock(lectureSlotId))
                 .thenReturn(Optional.of(slotStatus));
-        when(lectureSlotRepository.findById(lectureSlotId))
-                .thenReturn(Optional.of(lectureSlot));
+        when(lectureSlotRepository.getReferenceById(lectureSlotId))
+                .thenReturn(lectureSlot);
+        when(lectureCatalogService.getSlot(lectureSlotId))
+                .thenReturn(catalogSlot(lectureSlotId, 10));
 
         // 상태 설정
         when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.CLOSED);
@@ -193,4 +214,154 @@ public class LectureSlotServiceTest {
 
         assertEquals("강의 신청이 마감되었습니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 강의 슬롯을 성공적으로 예약한다")
+    public void testReserveSeatWithConditionalUpdate_Success() {
+        // Given
+        Long lectureSlotId = 1L;
+        LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotService lectureSlotService = new LectureSlotService(
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
+        );
+
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+        LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
+
+        when(lectureSlotStatusRepository.incrementApplicantsIfAvailable(lectureSlotId)).thenReturn(1);
+        when(lectureSlotStatusRepository.findBySlotId(lectureSlotId))
+                .thenReturn(Optional.of(slotStatus));
+        when(slotStatus.getLectureSlot()).thenReturn(lectureSlot);
+        when(slotStatus.getCurrentApplicants()).thenReturn(30);
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.FULL);
+
+        // When
+        SeatReservation reservation = lectureSlotService.reserveSeatWithConditionalUpdate(lectureSlotId);
+
+        // Then
+        assertEquals(lectureSlot, reservation.lectureSlot());
+        assertEquals(30, reservation.currentApplicants());
+        assertEquals(LectureSlotStatusType.FULL, reservation.status());
+        // 검증: 락 조회나 엔티티 저장 없이 UPDATE 한 문장으로 처리되었는지 확인
+        verify(lectureSlotStatusRepository, never()).findBySlotIdWithPessimisticLock(any());
+        verify(lectureSlotStatusRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 갱신한 행이 없고 슬롯이 정원 초과 상태이면 예외를 발생시킨다")
+    public void testReserveSeatWithConditionalUpdate_CapacityExceededException() {
+        // Given
+        Long lectureSlotId = 1L;
+        LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotService lectureSlotService = new LectureSlotService(
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
+        );
+
+        LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
+        when(lectureSlotStatusRepository.incrementApplicantsIfAvailable(lectureSlotId)).thenReturn(0);
+        when(lectureSlotStatusRepository.findBySlotId(lectureSlotId))
+                .thenReturn(Optional.of(slotStatus));
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.FULL);
+
+        // When & Then
+        assertThrows(CapacityExceededException.class, () -> lectureSlotService.reserveSeatWithConditionalUpdate(lectureSlotId));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 갱신한 행이 없고 슬롯이 마감 상태이면 예외를 발생시킨다")
+    public void testReserveSeatWithConditionalUpdate_ClosedStatusException() {
+        // Given
+        Long lectureSlotId = 1L;
+        LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotService lectureSlotService = new LectureSlotService(
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
+        );
+
+        LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
+        when(lectureSlotStatusRepository.incrementApplicantsIfAvailable(lectureSlotId)).thenReturn(0);
+        when(lectureSlotStatusRepository.findBySlotId(lectureSlotId))
+                .thenReturn(Optional.of(slotStatus));
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.CLOSED);
+
+        // When & Then
+        assertThrows(LectureSlotClosedException.class, () -> lectureSlotService.reserveSeatWithConditionalUpdate(lectureSlotId));
+    }
+
+    private CatalogSlot catalogSlot(Long slotId, int capacity) {
+        CatalogLecture lecture = new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", capacity);
+        return new CatalogSlot(slotId, lecture, LocalDate.now(), capacity, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("좌석을 반납하면 조건부 UPDATE 한 문장으로 신청자 수를 줄이고 반납 후 상태를 반환한다")
+    public void testReleaseSeat_Success() {
+        // Given
+        Long lectureSlotId = 1L;
+        LectureSlotRepository lectureSlotRepository = mock(LectureSlotRepository.class);
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotService lectureSlotService = new LectureSlotService(
+                lectureSlotRepository, lectureSlotStatusRepository, lectureCatalogService, mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
+        );
+
+        LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
+        when(lectureSlotStatusRepository.decrementApplicantsIfPositive(lectureSlotId)).thenReturn(1);
+        when(lectureSlotStatusRepository.findBySlotId(lectureSlotId)).thenReturn(Optional.of(slotStatus));
+        when(slotStatus.getCurrentApplicants()).thenReturn(9);
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.OPEN);
+
+        // When
+        SeatReservation release = lectureSlotService.releaseSeat(lectureSlotId).orElseThrow();
+
+        // Then
+        assertEquals(9, release.currentApplicants());
+        assertEquals(LectureSlotStatusType.OPEN, release.status());
+        verify(lectureSlotStatusRepository, times(1)).decrementApplicantsIfPositive(lectureSlotId);
+        verify(lectureSlotStatusRepository, never()).findBySlotIdWithPessimisticLock(any());
+    }
+
+    @Test
+    @DisplayName("신청자가 없어 조건부 UPDATE가 갱신한 행이 없으면 반납 결과 없이 빈 값을 반환한다")
+    public void testReleaseSeat_NothingToRelease() {
+        // Given
+        Long lectureSlotId = 1L;
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureSlotService lectureSlotService = new LectureSlotService(
+                mock(LectureSlotRepository.class), lectureSlotStatusRepository, mock(LectureCatalogService.class), mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
+        );
+
+        LectureSlotStatus slotStatus = mock(LectureSlotStatus.class);
+        when(lectureSlotStatusRepository.decrementApplicantsIfPositive(lectureSlotId)).thenReturn(0);
+        when(lectureSlotStatusRepository.findBySlotId(lectureSlotId)).thenReturn(Optional.of(slotStatus));
+        when(slotStatus.getCurrentApplicants()).thenReturn(0);
+        when(slotStatus.getStatus()).thenReturn(LectureSlotStatusType.OPEN);
+
+        // When
+        Optional<SeatReservation> release = lectureSlotService.releaseSeat(lectureSlotId);
+
+        // Then
+        assertTrue(release.isEmpty());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 슬롯의 좌석을 반납하면 LectureSlotNotFoundException이 발생한다")
+    public void testReleaseSeat_SlotNotFound() {
+        // Given
+        Long lectureSlotId = 1L;
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureSlotService lectureSlotService = new LectureSlotService(
+                mock(LectureSlotRepository.class), lectureSlotStatusRepository, mock(LectureCatalogService.class), mock(ApplyMetrics.class), mock(SlotContentionTracker.class)
+        );
+        when(lectureSlotStatusRepository.decrementApplicantsIfPositive(lectureSlotId)).thenReturn(0);
+        when(lectureSlotStatusRepository.findBySlotId(lectureSlotId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(LectureSlotNotFoundException.class, () -> lectureSlotService.releaseSeat(lectureSlotId));
+    }
 }
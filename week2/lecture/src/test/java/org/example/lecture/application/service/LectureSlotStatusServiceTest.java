@@ -1,11 +1,14 @@
 package org.example.lecture.application.service;
 
 import org.example.lecture.application.exception.LectureSlotStatusNotFoundException;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
 import org.example.lecture.domain.lecture.LectureSlotStatus;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,4 +54,24 @@ public class LectureSlotStatusServiceTest {
 
         assertEquals("해당 슬롯의 상태 정보가 존재하지 않습니다. Slot ID: " + slotId, exception.getMessage());
     }
+
+    @Test
+    @DisplayName("특정 날짜의 강의 슬롯 상세 정보를 락 없이 한 번의 조회로 반환한다")
+    public void testGetSlotDetailsByDate_Success() {
+        // Given
+        LocalDate date = LocalDate.now();
+        LectureSlotStatusRepository lectureSlotStatusRepository = mock(LectureSlotStatusRepository.class);
+        LectureSlotStatusService lectureSlotStatusService = new LectureSlotStatusService(lectureSlotStatusRepository);
+
+        List<LectureSlotDetail> details = List.of(mock(LectureSlotDetail.class));
+        when(lectureSlotStatusRepository.findDetailsByDate(date)).thenReturn(details);
+
+        // When
+        List<LectureSlotDetail> result = lectureSlotStatusService.getSlotDetailsByDate(date);
+
+        // Then
+        assertEquals(details, result);
+        verify(lectureSlotStatusRepository, times(1)).findDetailsByDate(date);
+        verify(lectureSlotStatusRepository, never()).findBySlotIdWithPessimisticLock(any());
+    }
 }
@@ -0,0 +1,112 @@
+package org.example.lecture.application.stream;
+
+import org.example.lecture.application.cache.LectureSlotListingCache;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.example.lecture.domain.lecture.LectureSlotDetail;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.domain.lecture.SeatReleasedEvent;
+import org.example.lecture.domain.lecture.SlotStatusChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SlotStatusBroadcasterTest {
+
+    private final LocalDate date = LocalDate.of(2024, 10, 10);
+    private final CatalogLecture lecture = new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", 30);
+
+    @Test
+    @DisplayName("구독하면 현재 슬롯 상태 전체를 받고, 이후 같은 슬롯의 여러 변경은 최신 값 하나로 합쳐서 받는다")
+    public void testSnapshotThenCoalescedDeltas() {
+        // Given
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache lectureSlotListingCache = mock(LectureSlotListingCache.class);
+        when(lectureCatalogService.getSlot(1L)).thenReturn(new CatalogSlot(1L, lecture, date, 30, LocalDateTime.now()));
+        when(lectureSlotListingCache.getSlotDetailsByDate(date)).thenReturn(List.of(detail(1L, 10)));
+        SlotStatusBroadcaster broadcaster = new SlotStatusBroadcaster(lectureCatalogService, lectureSlotListingCache, 3_600_000);
+        List<List<SlotStatusDelta>> received = new ArrayList<>();
+
+        // When
+        broadcaster.subscribe(date, received::add);
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 11, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 12, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.onSeatReleased(new SeatReleasedEvent(1L, 11, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // Then
+        assertEquals(2, received.size(), "스냅샷 한 번과 합쳐진 변경분 한 번만 받아야 합니다.");
+        assertEquals(List.of(new SlotStatusDelta(1L, 10, LectureSlotStatusType.OPEN)), received.get(0));
+        assertEquals(List.of(new SlotStatusDelta(1L, 11, LectureSlotStatusType.OPEN)), received.get(1));
+    }
+
+    @Test
+    @DisplayName("구독한 날짜의 슬롯 변경분만 받고, 전달에 실패한 구독자는 구독이 해지된다")
+    public void testFilterByDateAndDropFailedSubscriber() {
+        // Given
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache lectureSlotListingCache = mock(LectureSlotListingCache.class);
+        when(lectureCatalogService.getSlot(1L)).thenReturn(new CatalogSlot(1L, lecture, date, 30, LocalDateTime.now()));
+        when(lectureCatalogService.getSlot(2L)).thenReturn(new CatalogSlot(2L, lecture, date.plusDays(1), 30, LocalDateTime.now()));
+        SlotStatusBroadcaster broadcaster = new SlotStatusBroadcaster(lectureCatalogService, lectureSlotListingCache, 3_600_000);
+        List<SlotStatusDelta> received = new ArrayList<>();
+        List<SlotStatusDelta> failing = new ArrayList<>();
+        broadcaster.subscribe(date, received::addAll);
+        broadcaster.subscribe(date, deltas -> {
+            if (!deltas.isEmpty()) {
+                failing.addAll(deltas);
+                throw new IllegalStateException("연결 종료");
+            }
+        });
+
+        // When
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 30, LectureSlotStatusType.FULL, LocalDateTime.now()));
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(2L, 5, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.flush();
+        broadcaster.onSeatReleased(new SeatReleasedEvent(1L, 29, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.flush();
+
+        // Then
+        assertEquals(List.of(new SlotStatusDelta(1L, 30, LectureSlotStatusType.FULL),
+                new SlotStatusDelta(1L, 29, LectureSlotStatusType.OPEN)), received);
+        assertEquals(1, failing.size(), "실패한 구독자에게는 더 이상 전달하지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("커밋 순서가 뒤바뀌어 도착한 이전 상태 변경은 모아 둔 변경분을 덮어쓰지 않지만, 좌석 반납은 신청자 수를 줄인다")
+    public void testReorderedStatusChangeDoesNotOverwrite() {
+        // Given
+        LectureCatalogService lectureCatalogService = mock(LectureCatalogService.class);
+        LectureSlotListingCache lectureSlotListingCache = mock(LectureSlotListingCache.class);
+        when(lectureCatalogService.getSlot(1L)).thenReturn(new CatalogSlot(1L, lecture, date, 30, LocalDateTime.now()));
+        SlotStatusBroadcaster broadcaster = new SlotStatusBroadcaster(lectureCatalogService, lectureSlotListingCache, 3_600_000);
+        List<SlotStatusDelta> received = new ArrayList<>();
+        broadcaster.subscribe(date, received::addAll);
+
+        // When
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 30, LectureSlotStatusType.FULL, LocalDateTime.now()));
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 29, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.flush();
+        broadcaster.onSlotStatusChanged(new SlotStatusChangedEvent(1L, 30, LectureSlotStatusType.FULL, LocalDateTime.now()));
+        broadcaster.onSeatReleased(new SeatReleasedEvent(1L, 29, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+        broadcaster.flush();
+
+        // Then
+        assertEquals(List.of(new SlotStatusDelta(1L, 30, LectureSlotStatusType.FULL),
+                new SlotStatusDelta(1L, 29, LectureSlotStatusType.OPEN)), received);
+    }
+
+    private LectureSlotDetail detail(Long slotId, int currentApplicants) {
+        return new LectureSlotDetail(1L, "테스트 특강", "테스트 강사", "설명", 30, slotId, date, 30, LocalDateTime.now(),
+                slotId, LectureSlotStatusType.OPEN, currentApplicants, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.lecture.application.usecase;
+
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.application.service.LectureSlotStatusService;
+import org.example.lecture.application.waitlist.LectureWaitlist;
+import org.example.lecture.application.waitlist.WaitlistEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class WaitlistLectureUsecaseTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    /**
+     * 커밋 성공 여부를 정할 수 있는 트랜잭션 매니저 (트랜잭션 동기화 콜백은 실제와 같이 호출됨)
+     */
+    private static class FakeTransactionManager extends AbstractPlatformTransactionManager {
+        private final boolean failCommit;
+
+        private FakeTransactionManager(boolean failCommit) {
+            this.failCommit = failCommit;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failCommit) {
+                throw new TransactionSystemException("커밋 실패");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private WaitlistLectureUsecase createUsecase(SeatReservationEngine seatReservationEngine, PlatformTransactionManager transactionManager) {
+        ApplicationService applicationService = mock(ApplicationService.class);
+        when(applicationService.promoteWaiting(anyLong(), anyLong())).thenReturn(true);
+
+        LectureWaitlist lectureWaitlist = mock(LectureWaitlist.class);
+        when(lectureWaitlist.promote(eq(SLOT_ID), any())).thenAnswer(invocation -> {
+            Predicate<WaitlistEntry> promoter = invocation.getArgument(1);
+            return promoter.test(new WaitlistEntry(10L, 2L, 1L)) ? 0 : 1;
+        });
+
+        return new WaitlistLectureUsecase(applicationService, seatReservationEngine, mock(LectureSlotService.class),
+                mock(LectureSlotStatusService.class), mock(LectureCatalogService.class), lectureWaitlist, transactionManager);
+    }
+
+    @Test
+    @DisplayName("승격 트랜잭션의 커밋이 실패하면 확보한 좌석을 되돌리고, 대기자는 대기열에 남는다")
+    public void testPromoteWaiting_CommitFailureRollsBackSeat() {
+        // Given
+        SeatReservationEngine seatReservationEngine = mock(SeatReservationEngine.class);
+        WaitlistLectureUsecase usecase = createUsecase(seatReservationEngine, new FakeTransactionManager(true));
+
+        // When
+        int remaining = usecase.promoteWaiting(SLOT_ID);
+
+        // Then
+        assertEquals(1, remaining);
+        verify(seatReservationEngine).reserve(SLOT_ID);
+        verify(seatReservationEngine).rollback(SLOT_ID);
+    }
+
+    @Test
+    @DisplayName("승격 트랜잭션이 커밋되면 확보한 좌석을 그대로 둔다")
+    public void testPromoteWaiting_CommitKeepsSeat() {
+        // Given
+        SeatReservationEngine seatReservationEngine = mock(SeatReservationEngine.class);
+        WaitlistLectureUsecase usecase = createUsecase(seatReservationEngine, new FakeTransactionManager(false));
+
+        // When
+        int remaining = usecase.promoteWaiting(SLOT_ID);
+
+        // Then
+        assertEquals(0, remaining);
+        verify(seatReservationEngine).reserve(SLOT_ID);
+        verify(seatReservationEngine, never()).rollback(any());
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.lecture.application.waitingroom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryWaitingRoomStoreTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    @Test
+    @DisplayName("토큰 유효 시간 동안 접근이 없는 슬롯의 순번 커서는 제거되고, 이후 순번을 처음부터 다시 발급한다")
+    public void testIdleCursorExpires() throws InterruptedException {
+        // Given
+        InMemoryWaitingRoomStore store = new InMemoryWaitingRoomStore(100);
+        assertEquals(1, store.nextSequence(SLOT_ID));
+        assertEquals(2, store.nextSequence(SLOT_ID));
+        assertEquals(Set.of(SLOT_ID), store.waitingSlotIds());
+
+        // When
+        Thread.sleep(300);
+
+        // Then
+        assertTrue(store.waitingSlotIds().isEmpty(), "만료된 슬롯은 입장 허용 대상에 남으면 안 됩니다.");
+        assertEquals(0, store.admittedSequence(SLOT_ID));
+        assertEquals(1, store.nextSequence(SLOT_ID));
+    }
+
+    @Test
+    @DisplayName("토큰 유효 시간 안에 계속 접근되는 슬롯의 순번 커서는 유지된다")
+    public void testActiveCursorKept() throws InterruptedException {
+        // Given
+        InMemoryWaitingRoomStore store = new InMemoryWaitingRoomStore(200);
+        store.nextSequence(SLOT_ID);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(80);
+            store.admittedSequence(SLOT_ID);
+        }
+
+        // Then
+        assertEquals(2, store.nextSequence(SLOT_ID));
+    }
+}
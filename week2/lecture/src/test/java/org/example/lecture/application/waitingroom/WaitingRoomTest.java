@@ -0,0 +1,100 @@
+package org.example.lecture.application.waitingroom;
+
+import org.example.lecture.application.exception.InvalidWaitingRoomTokenException;
+import org.example.lecture.application.exception.WaitingRoomNotAdmittedException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class WaitingRoomTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    @Test
+    @DisplayName("입장 허용 주기마다 슬롯별로 초당 허용 인원을 나눈 만큼만 발급 순서대로 입장시킨다")
+    public void testAdmitInIssueOrder() {
+        // Given: 초당 20명, 100ms 주기 -> 주기당 2명
+        WaitingRoom waitingRoom = waitingRoom(true);
+        List<WaitingRoomStatus> issued = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            issued.add(waitingRoom.issue(userId, SLOT_ID));
+        }
+        assertEquals(5, waitingRoom.getStatus(issued.get(4).token()).position());
+
+        // When
+        waitingRoom.admitWaiting();
+
+        // Then
+        assertTrue(waitingRoom.getStatus(issued.get(0).token()).admitted());
+        assertTrue(waitingRoom.getStatus(issued.get(1).token()).admitted());
+        assertFalse(waitingRoom.getStatus(issued.get(2).token()).admitted());
+        assertEquals(1, waitingRoom.getStatus(issued.get(2).token()).position());
+        assertEquals(3, waitingRoom.getStatus(issued.get(4).token()).position());
+
+        waitingRoom.admitWaiting();
+        waitingRoom.admitWaiting();
+        assertTrue(waitingRoom.getStatus(issued.get(4).token()).admitted(), "발급된 순번을 넘어 입장시키지 않고 남은 인원만 입장해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("입장이 허용된 토큰은 발급받은 사용자 / 슬롯의 신청에 한 번만 사용할 수 있다")
+    public void testEnterConsumesAdmittedToken() {
+        // Given
+        WaitingRoom waitingRoom = waitingRoom(true);
+        String admitted = waitingRoom.issue(1L, SLOT_ID).token();
+        waitingRoom.admitWaiting();
+        String waiting = waitingRoom.issue(2L, SLOT_ID).token();
+
+        // When & Then
+        assertThrows(InvalidWaitingRoomTokenException.class, () -> waitingRoom.enter(admitted, 2L, SLOT_ID));
+        assertThrows(InvalidWaitingRoomTokenException.class, () -> waitingRoom.enter(admitted, 1L, 2L));
+        assertThrows(InvalidWaitingRoomTokenException.class, () -> waitingRoom.enter(null, 1L, SLOT_ID));
+        assertThrows(WaitingRoomNotAdmittedException.class, () -> waitingRoom.enter(waiting, 2L, SLOT_ID));
+
+        waitingRoom.enter(admitted, 1L, SLOT_ID);
+        assertThrows(InvalidWaitingRoomTokenException.class, () -> waitingRoom.enter(admitted, 1L, SLOT_ID),
+                "사용한 토큰으로 다시 신청할 수 없어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("구독자는 입장 허용 주기마다 순위를 전달받고, 입장이 허용되면 구독이 해지된다")
+    public void testSubscribe() {
+        // Given
+        WaitingRoom waitingRoom = waitingRoom(true);
+        for (long userId = 1; userId <= 2; userId++) {
+            waitingRoom.issue(userId, SLOT_ID);
+        }
+        String token = waitingRoom.issue(3L, SLOT_ID).token();
+        List<Long> positions = new ArrayList<>();
+
+        // When
+        waitingRoom.subscribe(token, status -> positions.add(status.position()));
+        waitingRoom.admitWaiting();
+        waitingRoom.admitWaiting();
+        waitingRoom.admitWaiting();
+
+        // Then
+        assertEquals(List.of(3L, 1L, 0L), positions);
+    }
+
+    @Test
+    @DisplayName("대기실이 비활성화되면 토큰 없이도 신청할 수 있다")
+    public void testDisabled() {
+        // Given
+        WaitingRoom waitingRoom = waitingRoom(false);
+
+        // When & Then
+        assertDoesNotThrow(() -> waitingRoom.enter(null, 1L, SLOT_ID));
+        assertTrue(waitingRoom.issue(1L, SLOT_ID).admitted());
+    }
+
+    private static WaitingRoom waitingRoom(boolean enabled) {
+        return new WaitingRoom(new InMemoryWaitingRoomStore(600_000), mock(LectureCatalogService.class), enabled, 20, 100);
+    }
+}
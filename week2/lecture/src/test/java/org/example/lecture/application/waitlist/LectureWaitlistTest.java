@@ -0,0 +1,235 @@
+package org.example.lecture.application.waitlist;
+
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class LectureWaitlistTest {
+
+    private static final Long SLOT_ID = 1L;
+
+    @Test
+    @DisplayName("대기자는 등록 순서대로 대기 순위를 받고, 맨 앞 대기자가 승격되면 뒤 대기자의 순위가 하나씩 당겨진다")
+    public void testEnqueueAndPromoteInOrder() {
+        // Given
+        LectureWaitlist waitlist = new LectureWaitlist(emptyRepository(), catalogService(), true, 100);
+        for (long userId = 1; userId <= 3; userId++) {
+            waitlist.enqueue(SLOT_ID, userId, sequence -> sequence * 10);
+        }
+
+        // When
+        List<Long> promoted = new ArrayList<>();
+        int remaining = waitlist.promote(SLOT_ID, entry -> {
+            promoted.add(entry.userId());
+            return promoted.size() < 2;    // 빈 좌석은 한 개
+        });
+
+        // Then
+        assertEquals(List.of(1L, 2L), promoted, "맨 앞 대기자부터 승격을 시도해야 합니다.");
+        assertEquals(2, remaining);
+        assertEquals(OptionalLong.empty(), waitlist.getPosition(SLOT_ID, 1L));
+        assertEquals(OptionalLong.of(1), waitlist.getPosition(SLOT_ID, 2L));
+        assertEquals(OptionalLong.of(2), waitlist.getPosition(SLOT_ID, 3L));
+    }
+
+    @Test
+    @DisplayName("DB 기록에 실패한 대기자는 대기열에 추가되지 않고 대기 순번도 소비하지 않는다")
+    public void testJournalFailure() {
+        // Given
+        LectureWaitlist waitlist = new LectureWaitlist(emptyRepository(), catalogService(), true, 100);
+        waitlist.enqueue(SLOT_ID, 1L, sequence -> 100L);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> waitlist.enqueue(SLOT_ID, 2L, sequence -> {
+            throw new IllegalStateException("DB 오류");
+        }));
+        WaitlistEntry entry = waitlist.enqueue(SLOT_ID, 3L, sequence -> 300L);
+
+        // Then
+        assertEquals(2L, entry.sequence());
+        assertEquals(OptionalLong.empty(), waitlist.getPosition(SLOT_ID, 2L));
+        assertEquals(OptionalLong.of(2), waitlist.getPosition(SLOT_ID, 3L));
+        assertEquals(2, waitlist.size(SLOT_ID));
+    }
+
+    @Test
+    @DisplayName("슬롯 대기열은 DB의 대기 신청으로 복원되며, 이어지는 대기자는 마지막 순번 다음 순번을 받는다")
+    public void testRestoreFromJournal() {
+        // Given
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+        when(applicationRepository.findWaitingBySlotId(SLOT_ID)).thenReturn(List.of(
+                new Application(7L, lectureSlot, 4),
+                new Application(8L, lectureSlot, 5)));
+        LectureWaitlist waitlist = new LectureWaitlist(applicationRepository, catalogService(), true, 100);
+
+        // When
+        WaitlistEntry entry = waitlist.enqueue(SLOT_ID, 9L, sequence -> 900L);
+
+        // Then
+        assertEquals(3, waitlist.size(SLOT_ID));
+        assertEquals(OptionalLong.of(1), waitlist.getPosition(SLOT_ID, 7L));
+        assertEquals(6L, entry.sequence());
+        assertEquals(OptionalLong.of(3), waitlist.getPosition(SLOT_ID, 9L));
+        verify(applicationRepository, times(1)).findWaitingBySlotId(SLOT_ID);
+    }
+
+    @Test
+    @DisplayName("재기동 전에 취소되어 비어 있는 순번은 복원 후 대기 순위 계산에서 빠진다")
+    public void testRestoreWithCanceledGaps() {
+        // Given
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+        when(applicationRepository.findWaitingBySlotId(SLOT_ID)).thenReturn(List.of(
+                new Application(7L, lectureSlot, 2),
+                new Application(8L, lectureSlot, 5),
+                new Application(9L, lectureSlot, 6)));
+        LectureWaitlist waitlist = new LectureWaitlist(applicationRepository, catalogService(), true, 100);
+
+        // When & Then
+        assertEquals(OptionalLong.of(1), waitlist.getPosition(SLOT_ID, 7L));
+        assertEquals(OptionalLong.of(2), waitlist.getPosition(SLOT_ID, 8L), "취소된 3, 4번 순번은 세지 않아야 합니다.");
+        assertEquals(OptionalLong.of(3), waitlist.getPosition(SLOT_ID, 9L));
+
+        waitlist.promote(SLOT_ID, entry -> entry.userId() == 7L);
+        assertEquals(OptionalLong.of(1), waitlist.getPosition(SLOT_ID, 8L));
+        assertEquals(OptionalLong.of(2), waitlist.getPosition(SLOT_ID, 9L));
+    }
+
+    @Test
+    @DisplayName("동시에 대기자 등록이 몰려도 슬롯의 대기자 수는 한도를 넘지 않는다")
+    public void testMaxWaitingPerSlotUnderConcurrency() throws Exception {
+        // Given
+        int maxWaiting = 5;
+        LectureWaitlist waitlist = new LectureWaitlist(emptyRepository(), catalogService(), true, maxWaiting);
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (long userId = 1; userId <= 20; userId++) {
+            long id = userId;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    waitlist.enqueue(SLOT_ID, id, sequence -> sequence * 10);
+                } catch (CapacityExceededException ex) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // Then
+        assertEquals(maxWaiting, waitlist.size(SLOT_ID));
+        assertEquals(20 - maxWaiting, rejected.get());
+    }
+
+    @Test
+    @DisplayName("슬롯의 대기자 수가 한도에 도달하면 대기자 등록을 거절한다")
+    public void testMaxWaitingPerSlot() {
+        // Given
+        LectureWaitlist waitlist = new LectureWaitlist(emptyRepository(), catalogService(), true, 1);
+        waitlist.enqueue(SLOT_ID, 1L, sequence -> 100L);
+
+        // When & Then
+        assertThrows(CapacityExceededException.class, () -> waitlist.enqueue(SLOT_ID, 2L, sequence -> 200L));
+    }
+
+    @Test
+    @DisplayName("대기 순위 / 대기자 수 조회는 처음 한 번만 DB에서 복원하고, 이후에는 보관된 대기열을 사용한다")
+    public void testReadLoadsWaitlistOnce() {
+        // Given
+        ApplicationRepository applicationRepository = emptyRepository();
+        LectureWaitlist waitlist = new LectureWaitlist(applicationRepository, catalogService(), true, 100);
+
+        // When
+        waitlist.getPosition(SLOT_ID, 1L);
+        waitlist.size(SLOT_ID);
+        waitlist.enqueue(SLOT_ID, 1L, sequence -> 100L);
+        waitlist.getPosition(SLOT_ID, 1L);
+        waitlist.size(SLOT_ID);
+
+        // Then
+        verify(applicationRepository, times(1)).findWaitingBySlotId(SLOT_ID);
+        assertEquals(OptionalLong.of(1), waitlist.getPosition(SLOT_ID, 1L));
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 슬롯에는 대기자를 등록하거나 조회할 수 없고, 대기열도 만들지 않는다")
+    public void testUnknownSlot() {
+        // Given
+        ApplicationRepository applicationRepository = emptyRepository();
+        LectureCatalogService lectureCatalogService = catalogService();
+        when(lectureCatalogService.getSlot(99L)).thenThrow(new LectureSlotNotFoundException(99L));
+        LectureWaitlist waitlist = new LectureWaitlist(applicationRepository, lectureCatalogService, true, 100);
+
+        // When & Then
+        assertThrows(LectureSlotNotFoundException.class, () -> waitlist.enqueue(99L, 1L, sequence -> 100L));
+        assertThrows(LectureSlotNotFoundException.class, () -> waitlist.getPosition(99L, 1L));
+        assertThrows(LectureSlotNotFoundException.class, () -> waitlist.size(99L));
+        verify(applicationRepository, never()).findWaitingBySlotId(99L);
+    }
+
+    private static LectureCatalogService catalogService() {
+        return mock(LectureCatalogService.class);
+    }
+
+    private static ApplicationRepository emptyRepository() {
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        when(applicationRepository.findWaitingBySlotId(any())).thenReturn(List.of());
+        return applicationRepository;
+    }
+
+    @Test
+    @DisplayName("중간 대기자가 취소하면 뒤 대기자의 순위가 당겨지고, 승격 시 취소된 대기자는 건너뛴다")
+    public void testCancelInTheMiddle() {
+        // Given
+        LectureWaitlist waitlist = new LectureWaitlist(emptyRepository(), catalogService(), true, 100);
+        for (long userId = 1; userId <= 4; userId++) {
+            waitlist.enqueue(SLOT_ID, userId, sequence -> sequence * 10);
+        }
+
+        // When
+        assertTrue(waitlist.cancel(SLOT_ID, 2L, () -> true));
+        assertFalse(waitlist.cancel(SLOT_ID, 3L, () -> false), "DB에서 취소되지 않은 대기자는 그대로 남아야 합니다.");
+
+        // Then
+        assertEquals(OptionalLong.of(2), waitlist.getPosition(SLOT_ID, 3L));
+        assertEquals(OptionalLong.of(3), waitlist.getPosition(SLOT_ID, 4L));
+        assertEquals(3, waitlist.size(SLOT_ID));
+
+        List<Long> promoted = new ArrayList<>();
+        int remaining = waitlist.promote(SLOT_ID, entry -> {
+            promoted.add(entry.userId());
+            return promoted.size() <= 2;
+        });
+        assertEquals(List.of(1L, 3L, 4L), promoted, "취소된 대기자에게는 승격을 시도하지 않아야 합니다.");
+        assertEquals(1, remaining);
+        assertEquals(OptionalLong.of(1), waitlist.getPosition(SLOT_ID, 4L));
+    }
+}
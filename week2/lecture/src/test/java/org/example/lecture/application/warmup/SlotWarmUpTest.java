@@ -0,0 +1,178 @@
+package org.example.lecture.application.warmup;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.reservation.SeatReservationEngine;
+import org.example.lecture.application.service.ApplicationService;
+import org.example.lecture.application.service.LectureCatalogService;
+import org.example.lecture.application.usecase.ApplyLectureUsecase;
+import org.example.lecture.application.usecase.QueryLectureDetailsUsecase;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SlotWarmUpTest {
+
+    private static final Long SLOT_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now();
+
+    private LectureSlotRepository lectureSlotRepository;
+    private LectureCatalogService lectureCatalogService;
+    private SeatReservationEngine seatReservationEngine;
+    private ApplyLectureUsecase applyLectureUsecase;
+    private ApplicationService applicationService;
+    private QueryLectureDetailsUsecase queryLectureDetailsUsecase;
+    private PlatformTransactionManager transactionManager;
+    private List<SimpleTransactionStatus> transactions;
+
+    @BeforeEach
+    public void setUp() {
+        lectureSlotRepository = mock(LectureSlotRepository.class);
+        lectureCatalogService = mock(LectureCatalogService.class);
+        seatReservationEngine = mock(SeatReservationEngine.class);
+        applyLectureUsecase = mock(ApplyLectureUsecase.class);
+        applicationService = mock(ApplicationService.class);
+        queryLectureDetailsUsecase = mock(QueryLectureDetailsUsecase.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        transactions = new ArrayList<>();
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            SimpleTransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            return status;
+        });
+
+        LectureSlot slot = LectureSlot.builder().slotId(SLOT_ID).date(DATE).openAt(LocalDateTime.now().plusMinutes(1)).build();
+        when(lectureSlotRepository.findOpeningBetween(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of(slot));
+    }
+
+    private SlotWarmUp createWarmUp(int dryRunIterations) {
+        return createWarmUp(dryRunIterations, mock(DataSource.class));
+    }
+
+    private SlotWarmUp createWarmUp(int dryRunIterations, DataSource dataSource) {
+        return new SlotWarmUp(lectureSlotRepository, lectureCatalogService, seatReservationEngine, applyLectureUsecase,
+                applicationService, queryLectureDetailsUsecase, new ApplyMetrics(new SimpleMeterRegistry(), 100),
+                dataSource, transactionManager,
+                false, 300_000, 30_000, dryRunIterations);
+    }
+
+    @Test
+    @DisplayName("신청 시작이 다가온 슬롯을 한 번만 예열하고, 신청 dry run은 모두 롤백되는 트랜잭션에서 실행된다")
+    public void testWarmUpUpcoming_WarmsOnceWithRolledBackDryRuns() {
+        // Given
+        when(seatReservationEngine.requiresRequestTransaction()).thenReturn(true);
+        SlotWarmUp warmUp = createWarmUp(5);
+
+        // When
+        int first = warmUp.warmUpUpcoming();
+        int second = warmUp.warmUpUpcoming();
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(0, second, "이미 예열한 슬롯은 다시 예열하지 않아야 합니다.");
+        verify(lectureCatalogService).reloadDate(DATE);
+        verify(seatReservationEngine).preload(SLOT_ID);
+        verify(queryLectureDetailsUsecase, times(5)).execute(DATE);
+        verify(applyLectureUsecase, times(5)).execute(SlotWarmUp.DRY_RUN_USER_ID, SLOT_ID);
+        assertEquals(5, transactions.size());
+        assertTrue(transactions.stream().allMatch(SimpleTransactionStatus::isRollbackOnly));
+    }
+
+    @Test
+    @DisplayName("신청 dry run이 거절되면(정원 초과 등) 이후에는 조회 경로만 반복한다")
+    public void testWarmUp_StopsApplyDryRunWhenRejected() {
+        // Given
+        when(seatReservationEngine.requiresRequestTransaction()).thenReturn(true);
+        when(applyLectureUsecase.execute(SlotWarmUp.DRY_RUN_USER_ID, SLOT_ID))
+                .thenThrow(new CapacityExceededException("강의 정원이 초과되었습니다."));
+        SlotWarmUp warmUp = createWarmUp(5);
+
+        // When
+        warmUp.warmUp(SLOT_ID, DATE);
+
+        // Then
+        verify(applyLectureUsecase, times(1)).execute(SlotWarmUp.DRY_RUN_USER_ID, SLOT_ID);
+        verify(queryLectureDetailsUsecase, times(5)).execute(DATE);
+    }
+
+    @Test
+    @DisplayName("좌석 확보가 요청 트랜잭션에 묶이지 않는 전략은 좌석을 건드리지 않고 신청 INSERT만 dry run 한다")
+    public void testDryRunApply_SkipsReservationForNonTransactionalStrategy() {
+        // Given
+        when(seatReservationEngine.requiresRequestTransaction()).thenReturn(false);
+        LectureSlot reference = mock(LectureSlot.class);
+        when(lectureSlotRepository.getReferenceById(SLOT_ID)).thenReturn(reference);
+        SlotWarmUp warmUp = createWarmUp(1);
+
+        // When
+        boolean applied = warmUp.dryRunApply(SLOT_ID);
+
+        // Then
+        assertTrue(applied);
+        verify(applicationService).applyToLectureSlot(SlotWarmUp.DRY_RUN_USER_ID, reference);
+        verifyNoInteractions(applyLectureUsecase);
+        verify(seatReservationEngine, never()).reserve(any());
+        assertTrue(transactions.get(0).isRollbackOnly());
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 예열은 커넥션을 빌리지 않고 최소 유휴 커넥션 수를 최대 크기로 올린다")
+    public void testPrimeConnectionPool_RaisesMinimumIdle() throws SQLException {
+        // Given
+        HikariConfigMXBean pool = mock(HikariConfigMXBean.class);
+        when(pool.getMinimumIdle()).thenReturn(2);
+        when(pool.getMaximumPoolSize()).thenReturn(10);
+        HikariDataSource dataSource = hikariDataSource(pool);
+        SlotWarmUp warmUp = createWarmUp(1, dataSource);
+
+        // When
+        warmUp.primeConnectionPool();
+
+        // Then
+        verify(pool).setMinimumIdle(10);
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("최소 유휴 커넥션 수가 이미 최대 크기이거나 Hikari 풀이 아니면 커넥션 풀 설정을 바꾸지 않는다")
+    public void testPrimeConnectionPool_NoChange() throws SQLException {
+        // Given
+        HikariConfigMXBean pool = mock(HikariConfigMXBean.class);
+        when(pool.getMinimumIdle()).thenReturn(10);
+        when(pool.getMaximumPoolSize()).thenReturn(10);
+        DataSource other = mock(DataSource.class);
+
+        // When
+        createWarmUp(1, hikariDataSource(pool)).primeConnectionPool();
+        createWarmUp(1, other).primeConnectionPool();
+
+        // Then
+        verify(pool, never()).setMinimumIdle(anyInt());
+        verify(other, never()).getConnection();
+    }
+
+    private static HikariDataSource hikariDataSource(HikariConfigMXBean pool) throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariConfigMXBean()).thenReturn(pool);
+        return dataSource;
+    }
+}
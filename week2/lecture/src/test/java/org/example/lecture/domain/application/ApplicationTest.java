@@ -26,4 +26,21 @@ public class ApplicationTest {
         // Then
         assertEquals(ApplicationStatusType.apply(), application.getCurrentStatus(), "apply 호출 후 상태는 apply이어야 합니다.");
     }
+
+    @Test
+    @DisplayName("대기 순번을 가진 신청은 대기 상태로 생성되고, 승격되면 신청 상태가 되며 대기 순번이 비워진다")
+    public void testWaitingApplication() {
+        // Given
+        LectureSlot lectureSlot = mock(LectureSlot.class);
+        Application application = new Application(1L, lectureSlot, 3);
+        assertTrue(application.isWaiting());
+        assertEquals(3L, application.getWaitingSequence());
+
+        // When
+        application.apply();
+
+        // Then
+        assertFalse(application.isWaiting());
+        assertNull(application.getWaitingSequence());
+    }
 }
@@ -0,0 +1,56 @@
+package org.example.lecture.domain.lecture;
+
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogLecture;
+import org.example.lecture.domain.lecture.LectureCatalog.CatalogSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LectureCatalog 불변 스냅샷에 대한 단위 테스트 클래스
+ */
+public class LectureCatalogTest {
+
+    private final LocalDate date = LocalDate.of(2024, 10, 10);
+    private final CatalogLecture lecture = new CatalogLecture(1L, "테스트 특강", "테스트 강사", "설명", 30);
+
+    private CatalogSlot slot(Long slotId, LocalDate slotDate) {
+        return new CatalogSlot(slotId, lecture, slotDate, 30, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("슬롯을 추가하면 기존 스냅샷은 그대로 두고 ID / 날짜로 조회 가능한 새 스냅샷을 반환한다")
+    public void testWithSlots() {
+        // Given
+        LectureCatalog empty = LectureCatalog.empty();
+
+        // When
+        LectureCatalog catalog = empty.withSlots(List.of(slot(2L, date), slot(1L, date), slot(3L, date.plusDays(1))));
+
+        // Then
+        assertEquals(0, empty.slotCount());
+        assertEquals(3, catalog.slotCount());
+        assertEquals(List.of(1L, 2L), catalog.getSlotsByDate(date).stream().map(CatalogSlot::slotId).toList());
+        assertTrue(catalog.findSlot(3L).isPresent());
+    }
+
+    @Test
+    @DisplayName("날짜의 슬롯을 교체하면 해당 날짜의 기존 슬롯은 제거되고 다른 날짜의 슬롯은 유지된다")
+    public void testWithDate() {
+        // Given
+        LectureCatalog catalog = LectureCatalog.empty().withSlots(List.of(slot(1L, date), slot(3L, date.plusDays(1))));
+
+        // When
+        LectureCatalog replaced = catalog.withDate(date, List.of(slot(2L, date)));
+
+        // Then
+        assertTrue(replaced.findSlot(1L).isEmpty());
+        assertEquals(List.of(2L), replaced.getSlotsByDate(date).stream().map(CatalogSlot::slotId).toList());
+        assertTrue(replaced.findSlot(3L).isPresent());
+    }
+}
@@ -0,0 +1,234 @@
+package org.example.lecture.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.lecture.application.exception.CapacityExceededException;
+import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.exception.InvalidBatchApplyRequestException;
+import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter;
+import org.example.lecture.application.usecase.BatchApplyMode;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.example.lecture.interfaces.dto.BatchApplyResponseDTO;
+import org.example.lecture.interfaces.dto.BatchApplySlotResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 강의 슬롯을 한 번에 신청하는 일괄 신청(ALL_OR_NOTHING / BEST_EFFORT)을 검증하는 통합 테스트 클래스
+ */
+@SpringBootTest
+public class BatchApplyIntegrationTest {
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private SlotStatusAsyncWriter slotStatusAsyncWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSlotRepository lectureSlotRepository;
+
+    @Autowired
+    private LectureSlotStatusRepository lectureSlotStatusRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private Lecture lecture;
+
+    @BeforeEach
+    public void setUp() {
+        // 데이터 정리
+        slotStatusAsyncWriter.flush();
+        applicationRepository.deleteAllInBatch();
+        lectureSlotStatusRepository.deleteAllInBatch();
+        lectureSlotRepository.deleteAllInBatch();
+        lectureRepository.deleteAllInBatch();
+
+        lecture = lectureRepository.save(Lecture.builder()
+                .name("일괄 신청 특강")
+                .instructor("테스트 강사")
+                .description("일괄 신청 특강 설명")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Long createSlot(int capacity, int currentApplicants) {
+        LectureSlot slot = lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(lecture)
+                .capacity(capacity)
+                .date(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        lectureSlotStatusRepository.save(LectureSlotStatus.builder()
+                .lectureSlot(slot)
+                .status(currentApplicants >= capacity ? LectureSlotStatusType.FULL : LectureSlotStatusType.OPEN)
+                .currentApplicants(currentApplicants)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build());
+        return slot.getSlotId();
+    }
+
+    private int currentApplicants(Long slotId) {
+        slotStatusAsyncWriter.flush();
+        return lectureSlotStatusRepository.findBySlotId(slotId).orElseThrow().getCurrentApplicants();
+    }
+
+    @Test
+    @DisplayName("ALL_OR_NOTHING: 모든 슬롯에 좌석이 있으면 전부 신청되고, 결과는 슬롯 ID 오름차순으로 반환된다")
+    public void testAllOrNothing_AppliesEverySlot() {
+        Long first = createSlot(30, 0);
+        Long second = createSlot(30, 0);
+        Long third = createSlot(30, 0);
+
+        BatchApplyResponseDTO response = lectureApplicationFacade.applyToLectures(1L, List.of(third, first, second, first),
+                BatchApplyMode.ALL_OR_NOTHING);
+
+        assertEquals(3, response.getAppliedCount());
+        assertEquals(0, response.getFailedCount());
+        assertEquals(List.of(first, second, third),
+                response.getResults().stream().map(BatchApplySlotResultDTO::getLectureSlotId).toList());
+        assertTrue(response.getResults().stream().allMatch(result ->
+                BatchApplySlotResultDTO.APPLIED.equals(result.getStatus()) && result.getApplicationId() != null));
+        assertEquals(3, applicationRepository.count());
+        assertEquals(1, currentApplicants(first));
+        assertEquals(1, currentApplicants(third));
+    }
+
+    @Test
+    @DisplayName("ALL_OR_NOTHING: 한 슬롯이 정원 초과면 예외가 발생하고 다른 슬롯의 신청과 좌석도 남지 않는다")
+    public void testAllOrNothing_RollsBackWhenOneSlotIsFull() {
+        Long open = createSlot(30, 0);
+        Long full = createSlot(1, 1);
+
+        assertThrows(CapacityExceededException.class, () ->
+                lectureApplicationFacade.applyToLectures(1L, List.of(open, full), BatchApplyMode.ALL_OR_NOTHING));
+
+        assertEquals(0, applicationRepository.count());
+        assertEquals(0, currentApplicants(open), "실패한 일괄 신청으로 확보한 좌석은 되돌려져야 합니다.");
+    }
+
+    @Test
+    @DisplayName("BEST_EFFORT: 정원 초과 / 이미 신청한 슬롯만 실패로 표시하고 나머지는 신청한다")
+    public void testBestEffort_AppliesAvailableSlotsOnly() {
+        Long open = createSlot(30, 0);
+        Long full = createSlot(1, 1);
+        Long applied = createSlot(30, 0);
+        lectureApplicationFacade.applyToLecture(1L, applied);
+
+        BatchApplyResponseDTO response = lectureApplicationFacade.applyToLectures(1L, List.of(open, full, applied),
+                BatchApplyMode.BEST_EFFORT);
+
+        assertEquals(1, response.getAppliedCount());
+        assertEquals(2, response.getFailedCount());
+        BatchApplySlotResultDTO openResult = response.getResults().get(0);
+        assertEquals(BatchApplySlotResultDTO.APPLIED, openResult.getStatus());
+        assertEquals("일괄 신청 특강", openResult.getLectureName());
+        assertEquals("full", response.getResults().get(1).getReason());
+        assertEquals("duplicate", response.getResults().get(2).getReason());
+        assertEquals(2, applicationRepository.count());
+        assertEquals(1, currentApplicants(open));
+        assertEquals(1, currentApplicants(applied), "이미 신청한 슬롯의 좌석을 다시 확보하면 안 됩니다.");
+    }
+
+    @Test
+    @DisplayName("BEST_EFFORT: 신청 소요 시간은 슬롯마다 한 번씩 각 슬롯의 결과 태그로 기록된다")
+    public void testBestEffort_RecordsApplyMetricPerSlot() {
+        Long open = createSlot(30, 0);
+        Long full = createSlot(1, 1);
+
+        lectureApplicationFacade.applyToLectures(1L, List.of(open, full), BatchApplyMode.BEST_EFFORT);
+
+        assertEquals(1, meterRegistry.get(ApplyMetrics.APPLY).tags("slot", open.toString(), "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.APPLY).tags("slot", full.toString(), "outcome", "full").timer().count());
+        assertNull(meterRegistry.find(ApplyMetrics.APPLY).tags("slot", open.toString(), "outcome", "full").timer());
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 목록이나 최대 개수를 넘는 일괄 신청은 잘못된 요청 예외로 거절된다")
+    public void testRejectsInvalidRequest() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 21).boxed().toList();
+
+        assertThrows(InvalidBatchApplyRequestException.class, () ->
+                lectureApplicationFacade.applyToLectures(1L, List.of(), BatchApplyMode.ALL_OR_NOTHING));
+        assertThrows(InvalidBatchApplyRequestException.class, () ->
+                lectureApplicationFacade.applyToLectures(1L, tooMany, BatchApplyMode.BEST_EFFORT));
+        assertEquals(0, applicationRepository.count());
+    }
+
+    @Test
+    @DisplayName("ALL_OR_NOTHING: 이미 신청한 슬롯이 포함되면 중복 신청 예외가 발생한다")
+    public void testAllOrNothing_RejectsDuplicate() {
+        Long first = createSlot(30, 0);
+        Long second = createSlot(30, 0);
+        lectureApplicationFacade.applyToLecture(1L, second);
+
+        assertThrows(DuplicateApplicationException.class, () ->
+                lectureApplicationFacade.applyToLectures(1L, List.of(first, second), BatchApplyMode.ALL_OR_NOTHING));
+
+        assertEquals(1, applicationRepository.count());
+        assertEquals(0, currentApplicants(first));
+    }
+
+    @Test
+    @DisplayName("슬롯 순서를 서로 반대로 보낸 동시 일괄 신청도 교착 상태 없이 모두 처리된다")
+    public void testConcurrentBatchesWithOppositeOrder() throws Exception {
+        Long first = createSlot(100, 0);
+        Long second = createSlot(100, 0);
+        int numberOfUsers = 20;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<BatchApplyResponseDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < numberOfUsers; i++) {
+            long userId = i;
+            List<Long> slotIds = i % 2 == 0 ? List.of(first, second) : List.of(second, first);
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return lectureApplicationFacade.applyToLectures(userId, slotIds, BatchApplyMode.ALL_OR_NOTHING);
+            }));
+        }
+        startLatch.countDown();
+
+        for (Future<BatchApplyResponseDTO> future : futures) {
+            assertEquals(2, future.get(30, TimeUnit.SECONDS).getAppliedCount());
+        }
+        executorService.shutdown();
+
+        assertEquals(numberOfUsers * 2, applicationRepository.count());
+        assertEquals(numberOfUsers, currentApplicants(first));
+        assertEquals(numberOfUsers, currentApplicants(second));
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.lecture.integration;
+
+import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CancelApplicationIntegrationTest {
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private SlotStatusAsyncWriter slotStatusAsyncWriter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSlotRepository lectureSlotRepository;
+
+    @Autowired
+    private LectureSlotStatusRepository lectureSlotStatusRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private LectureSlot lectureSlot;
+
+    @BeforeEach
+    public void setUp() {
+        // 데이터 초기화 (이전 테스트의 비동기 상태 반영과 겹치지 않도록 먼저 반영한 뒤 일괄 삭제)
+        slotStatusAsyncWriter.flush();
+        applicationRepository.deleteAllInBatch();
+        lectureSlotStatusRepository.deleteAllInBatch();
+        lectureSlotRepository.deleteAllInBatch();
+        lectureRepository.deleteAllInBatch();
+
+        // 테스트용 Lecture 및 LectureSlot 생성
+        Lecture lecture = Lecture.builder()
+                .name("테스트 강의")
+                .instructor("테스트 강사")
+                .description("테스트 강의 설명")
+                .maxCapacity(30)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        lecture = lectureRepository.save(lecture);
+
+        lectureSlot = LectureSlot.builder()
+                .lecture(lecture)
+                .capacity(30)
+                .date(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        lectureSlot = lectureSlotRepository.save(lectureSlot);
+
+        LectureSlotStatus lectureSlotStatus = LectureSlotStatus.builder()
+                .lectureSlot(lectureSlot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build();
+        lectureSlotStatusRepository.save(lectureSlotStatus);
+    }
+
+    @Test
+    @DisplayName("정원이 찬 강의에서 10명이 동시에 취소하면 신청자 수가 정확히 20명이 되고 다시 신청 가능 상태가 된다")
+    public void testConcurrentCancellations() throws InterruptedException {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        List<Long> applicationIds = new ArrayList<>();
+        for (long userId = 1; userId <= 30; userId++) {
+            applicationIds.add(lectureApplicationFacade.applyToLecture(userId, lectureSlotId).getApplicationId());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        List<Future<LectureApplicationResponseDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            long userId = i + 1;
+            Long applicationId = applicationIds.get(i);
+            futures.add(executorService.submit(() -> lectureApplicationFacade.cancelApplication(userId, applicationId)));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+        for (Future<LectureApplicationResponseDTO> future : futures) {
+            assertDoesNotThrow(() -> future.get());
+        }
+
+        slotStatusAsyncWriter.flush();
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow();
+        assertEquals(20, slotStatus.getCurrentApplicants());
+        assertEquals(LectureSlotStatusType.OPEN, slotStatus.getStatus());
+        assertEquals(20, applicationRepository.count());
+    }
+
+    @Test
+    @DisplayName("신청을 취소한 사용자는 같은 강의에 다시 신청할 수 있다")
+    public void testReapplyAfterCancellation() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        Long applicationId = lectureApplicationFacade.applyToLecture(1L, lectureSlotId).getApplicationId();
+
+        lectureApplicationFacade.cancelApplication(1L, applicationId);
+        LectureApplicationResponseDTO response = lectureApplicationFacade.applyToLecture(1L, lectureSlotId);
+
+        assertEquals("APPLIED", response.getStatus());
+        assertEquals(1, applicationRepository.count());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 신청이나 이미 취소된 신청은 취소할 수 없고 좌석 수도 변하지 않는다")
+    public void testCancelNotOwnedOrAlreadyCanceled() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        Long applicationId = lectureApplicationFacade.applyToLecture(1L, lectureSlotId).getApplicationId();
+        lectureApplicationFacade.applyToLecture(2L, lectureSlotId);
+
+        assertThrows(ApplicationNotFoundException.class, () -> lectureApplicationFacade.cancelApplication(2L, applicationId));
+        lectureApplicationFacade.cancelApplication(1L, applicationId);
+        assertThrows(ApplicationNotFoundException.class, () -> lectureApplicationFacade.cancelApplication(1L, applicationId));
+
+        slotStatusAsyncWriter.flush();
+        assertEquals(1, lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow().getCurrentApplicants());
+    }
+}
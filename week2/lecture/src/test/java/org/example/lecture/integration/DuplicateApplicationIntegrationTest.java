@@ -10,6 +10,7 @@ import org.example.lecture.infrastructure.application.ApplicationRepository;
 import org.example.lecture.infrastructure.lecture.LectureRepository;
 import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
 import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -135,4 +136,32 @@ public class DuplicateApplicationIntegrationTest {
         long applicationCount = applicationRepository.count();
         assertEquals(1, applicationCount, "데이터베이스에 저장된 신청 내역은 1건이어야 합니다.");
     }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 동시에 5번 재시도하면, 신청은 한 번만 처리되고 모든 요청이 같은 응답을 받는다")
+    public void testRetriesWithSameIdempotencyKey() throws InterruptedException {
+        Long lectureSlotId = lectureSlot.getSlotId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        List<Future<LectureApplicationResponseDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(executorService.submit(
+                    () -> lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, null, "retry-key").join()));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+
+        List<Long> applicationIds = new ArrayList<>();
+        for (Future<LectureApplicationResponseDTO> future : futures) {
+            applicationIds.add(assertDoesNotThrow(() -> future.get()).getApplicationId());
+        }
+
+        assertEquals(1, applicationIds.stream().distinct().count(), "모든 재시도는 처음 신청의 응답을 받아야 합니다.");
+        assertEquals(1, applicationRepository.count());
+
+        // 다른 키로 다시 신청하면 새 신청으로 처리되어 중복 신청으로 거절된다
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, null, "another-key").join());
+        assertInstanceOf(DuplicateApplicationException.class, ex.getCause());
+    }
 }
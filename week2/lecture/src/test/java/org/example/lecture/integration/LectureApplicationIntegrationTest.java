@@ -1,8 +1,14 @@
 package org.example.lecture.integration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.lecture.application.exception.CapacityExceededException;
 import org.example.lecture.application.exception.DuplicateApplicationException;
 import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.example.lecture.application.metrics.ApplyMetrics;
+import org.example.lecture.application.reservation.SlotStateGate;
+import org.example.lecture.application.sequencer.SlotContentionTracker;
+import org.example.lecture.application.service.LectureSlotService;
+import org.example.lecture.application.warmup.SlotWarmUp;
 import org.example.lecture.domain.lecture.*;
 import org.example.lecture.infrastructure.application.ApplicationRepository;
 import org.example.lecture.infrastructure.lecture.LectureRepository;
@@ -13,6 +19,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 import java.time.LocalDate;
@@ -33,6 +41,24 @@ public class LectureApplicationIntegrationTest {
     @Autowired
     private LectureApplicationFacade lectureApplicationFacade;
 
+    @Autowired
+    private SlotStateGate slotStateGate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SlotWarmUp slotWarmUp;
+
+    @Autowired
+    private SlotContentionTracker slotContentionTracker;
+
+    @Autowired
+    private LectureSlotService lectureSlotService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private LectureRepository lectureRepository;
 
@@ -142,4 +168,133 @@ public class LectureApplicationIntegrationTest {
         long applicationCount = applicationRepository.count();
         assertEquals(30, applicationCount, "데이터베이스에 저장된 신청 내역은 30건이어야 합니다.");
     }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 슬롯 상태를 먼저 읽었어도, 조건부 UPDATE 예약 / 반납은 갱신된 신청자 수를 반환한다")
+    public void testConditionalUpdate_ReturnsUpdatedStateInSameTransaction() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<SeatReservation> results = transactionTemplate.execute(status -> {
+            // 영속성 컨텍스트에 갱신 전 슬롯 상태를 올려 둔다 (일괄 신청에서 앞선 슬롯을 처리한 경우와 같음)
+            lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow();
+            SeatReservation first = lectureSlotService.reserveSeatWithConditionalUpdate(lectureSlotId);
+            SeatReservation second = lectureSlotService.reserveSeatWithConditionalUpdate(lectureSlotId);
+            SeatReservation release = lectureSlotService.releaseSeat(lectureSlotId).orElseThrow();
+            return List.of(first, second, release);
+        });
+
+        assertEquals(List.of(1, 2, 1), results.stream().map(SeatReservation::currentApplicants).toList());
+        assertEquals(1, lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow().getCurrentApplicants());
+    }
+
+    @Test
+    @DisplayName("상태 ID와 슬롯 ID가 달라도 비관적 락 예약과 반납은 같은 슬롯의 상태 행을 갱신한다")
+    public void testPessimisticReserveAndReleaseUseSameStatusRow() {
+        // Given: 슬롯 생성 순서와 반대로 상태를 저장하여 상태 ID와 슬롯 ID를 어긋나게 만든다
+        LectureSlot decoySlot = lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(lectureSlot.getLecture())
+                .capacity(30)
+                .date(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        LectureSlot targetSlot = lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(lectureSlot.getLecture())
+                .capacity(30)
+                .date(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        LectureSlotStatus targetStatus = lectureSlotStatusRepository.save(openStatus(targetSlot));
+        lectureSlotStatusRepository.save(openStatus(decoySlot));
+        assertNotEquals(targetSlot.getSlotId(), targetStatus.getStatusId());
+        Long targetSlotId = targetSlot.getSlotId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        SeatReservation reserved = transactionTemplate.execute(status -> lectureSlotService.reserveSeatWithLock(targetSlotId));
+
+        // Then
+        assertEquals(1, reserved.currentApplicants());
+        assertEquals(1, lectureSlotStatusRepository.findBySlotId(targetSlotId).orElseThrow().getCurrentApplicants());
+        assertEquals(0, lectureSlotStatusRepository.findBySlotId(decoySlot.getSlotId()).orElseThrow().getCurrentApplicants());
+
+        transactionTemplate.execute(status -> lectureSlotService.releaseSeat(targetSlotId).orElseThrow());
+        assertEquals(0, lectureSlotStatusRepository.findBySlotId(targetSlotId).orElseThrow().getCurrentApplicants());
+        assertEquals(0, lectureSlotStatusRepository.findBySlotId(decoySlot.getSlotId()).orElseThrow().getCurrentApplicants());
+    }
+
+    private static LectureSlotStatus openStatus(LectureSlot slot) {
+        return LectureSlotStatus.builder()
+                .lectureSlot(slot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("정원이 찬 특강은 슬롯 상태 게이트가 기억하여, 이후 신청을 트랜잭션 없이 바로 거절한다")
+    public void testRejectFullSlotAtGate() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        for (long userId = 1; userId <= 30; userId++) {
+            lectureApplicationFacade.applyToLecture(userId, lectureSlotId);
+        }
+
+        // 정원이 찬 상태 전이가 게이트에 반영되어 DB를 거치지 않고 거절된다
+        assertThrows(CapacityExceededException.class, () -> slotStateGate.check(lectureSlotId));
+        assertThrows(CapacityExceededException.class, () -> lectureApplicationFacade.applyToLectureAsync(31L, lectureSlotId, null, null));
+        assertEquals(30, applicationRepository.count());
+    }
+
+    @Test
+    @DisplayName("신청 전체 / 신청 INSERT 소요 시간이 슬롯과 결과(outcome) 태그로 기록된다")
+    public void testApplyLatencyMetricsTaggedBySlotAndOutcome() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        String slot = lectureSlotId.toString();
+
+        lectureApplicationFacade.applyToLecture(1L, lectureSlotId);
+        assertThrows(DuplicateApplicationException.class, () -> lectureApplicationFacade.applyToLecture(1L, lectureSlotId));
+
+        assertEquals(1, meterRegistry.get(ApplyMetrics.APPLY).tags("slot", slot, "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.APPLY).tags("slot", slot, "outcome", "duplicate").timer().count());
+        assertEquals(1, meterRegistry.get(ApplyMetrics.INSERT).tags("slot", slot, "outcome", "duplicate").timer().count());
+        assertEquals(2, meterRegistry.get(ApplyMetrics.RESERVATION).tags("slot", slot, "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("신청 시작 전 예열의 신청 dry run은 신청 내역과 신청자 수를 남기지 않는다")
+    public void testWarmUpDryRunLeavesNoTrace() {
+        // 1분 뒤 신청이 시작되는 슬롯
+        LectureSlot openingSlot = lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(lectureSlot.getLecture())
+                .capacity(30)
+                .date(LocalDate.now())
+                .openAt(LocalDateTime.now().plusMinutes(1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        lectureSlotStatusRepository.save(LectureSlotStatus.builder()
+                .lectureSlot(openingSlot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build());
+        Long lectureSlotId = openingSlot.getSlotId();
+        String slot = lectureSlotId.toString();
+
+        assertEquals(1, slotWarmUp.warmUpUpcoming());
+
+        assertEquals(0, applicationRepository.count());
+        assertEquals(0, lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow().getCurrentApplicants());
+        // dry run은 실제 슬롯의 신청 경로 메트릭 / 경합 추적에 남지 않는다
+        for (String name : List.of(ApplyMetrics.APPLY, ApplyMetrics.RESERVATION, ApplyMetrics.LOCK_WAIT, ApplyMetrics.INSERT)) {
+            assertNull(meterRegistry.find(name).tag("slot", slot).timer(), name + " 메트릭이 기록되면 안 됩니다.");
+        }
+        assertTrue(slotContentionTracker.getStatuses().stream().noneMatch(status -> status.slotId().equals(lectureSlotId)));
+        // 예열 후 실제 신청은 정상 처리된다
+        lectureApplicationFacade.applyToLecture(1L, lectureSlotId);
+        assertEquals(1, applicationRepository.count());
+    }
 }
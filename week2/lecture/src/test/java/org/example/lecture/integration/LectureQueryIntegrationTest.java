@@ -0,0 +1,204 @@
+package org.example.lecture.integration;
+
+import org.example.lecture.application.cache.LectureSlotListingCache;
+import org.example.lecture.application.cache.UserApplicationHistoryCache;
+import org.example.lecture.application.exception.ApplicationNotFoundException;
+import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.example.lecture.application.facade.LectureQueryFacade;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.example.lecture.interfaces.dto.LectureResponseDTO;
+import org.example.lecture.interfaces.dto.LectureSlotPageResponseDTO;
+import org.example.lecture.interfaces.dto.UserApplicationResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 강의 / 슬롯 / 슬롯 상태 조인 조회가 올바른 정보를 반환하는지 검증하는 통합 테스트 클래스
+ */
+@SpringBootTest
+public class LectureQueryIntegrationTest {
+
+    @Autowired
+    private LectureQueryFacade lectureQueryFacade;
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private LectureSlotListingCache lectureSlotListingCache;
+
+    @Autowired
+    private UserApplicationHistoryCache userApplicationHistoryCache;
+
+    @Autowired
+    private SlotStatusAsyncWriter slotStatusAsyncWriter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSlotRepository lectureSlotRepository;
+
+    @Autowired
+    private LectureSlotStatusRepository lectureSlotStatusRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private final LocalDate date = LocalDate.of(2024, 10, 10);
+    private Long openSlotId;
+    private Long nextDaySlotId;
+
+    @BeforeEach
+    public void setUp() {
+        // 데이터 정리 (이전 테스트의 비동기 상태 반영을 먼저 마친 뒤 삭제)
+        slotStatusAsyncWriter.flush();
+        applicationRepository.deleteAll();
+        lectureSlotStatusRepository.deleteAll();
+        lectureSlotRepository.deleteAll();
+        lectureRepository.deleteAll();
+        lectureSlotListingCache.invalidateAll();
+        userApplicationHistoryCache.invalidateAll();
+
+        Lecture lecture = lectureRepository.save(Lecture.builder()
+                .name("테스트 특강")
+                .instructor("테스트 강사")
+                .description("테스트 특강 설명")
+                .maxCapacity(30)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        // 조회 날짜의 슬롯 2개와 다른 날짜의 슬롯 1개 생성
+        openSlotId = createSlot(lecture, date, 10, LectureSlotStatusType.OPEN);
+        createSlot(lecture, date, 30, LectureSlotStatusType.FULL);
+        nextDaySlotId = createSlot(lecture, date.plusDays(1), 0, LectureSlotStatusType.OPEN);
+    }
+
+    private Long createSlot(Lecture lecture, LocalDate slotDate, int currentApplicants, LectureSlotStatusType status) {
+        LectureSlot lectureSlot = lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(lecture)
+                .capacity(30)
+                .date(slotDate)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        lectureSlotStatusRepository.save(LectureSlotStatus.builder()
+                .lectureSlot(lectureSlot)
+                .status(status)
+                .currentApplicants(currentApplicants)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build());
+        return lectureSlot.getSlotId();
+    }
+
+    @Test
+    @DisplayName("특정 날짜의 강의 슬롯 목록을 강의 정보와 상태 정보와 함께 조회한다")
+    public void testGetAvailableLectureSlotsWithStatusByDate() {
+        // When
+        List<LectureResponseDTO> result = lectureQueryFacade.getAvailableLectureSlotsWithStatusByDate(date);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("테스트 특강", result.get(0).getName());
+        assertEquals(date, result.get(0).getSlotDate());
+        assertEquals(LectureSlotStatusType.OPEN, result.get(0).getStatus());
+        assertEquals(10, result.get(0).getCurrentApplicants());
+        assertEquals(LectureSlotStatusType.FULL, result.get(1).getStatus());
+        assertEquals(30, result.get(1).getCurrentApplicants());
+    }
+
+    @Test
+    @DisplayName("모든 강의 슬롯 목록을 상태 정보와 함께 조회한다")
+    public void testGetAllLectures() {
+        // When
+        List<LectureResponseDTO> result = lectureQueryFacade.getAllLectures();
+
+        // Then
+        assertEquals(3, result.size());
+        assertTrue(result.stream().allMatch(dto -> dto.getStatusId() != null));
+        assertEquals(date.plusDays(1), result.get(2).getSlotDate());
+    }
+
+    @Test
+    @DisplayName("커서를 이어 가며 페이지를 조회하면 모든 강의 슬롯을 슬롯 ID 순으로 중복 / 누락 없이 조회한다")
+    public void testGetLecturesPage() {
+        // When
+        LectureSlotPageResponseDTO first = lectureQueryFacade.getLecturesPage(null, 2);
+        LectureSlotPageResponseDTO second = lectureQueryFacade.getLecturesPage(first.getNextCursor(), 2);
+
+        // Then
+        assertEquals(2, first.getItems().size());
+        assertTrue(first.isHasNext());
+        assertEquals(first.getItems().get(1).getLectureSlotId(), first.getNextCursor());
+        assertEquals(1, second.getItems().size());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+
+        List<Long> pagedSlotIds = new ArrayList<>();
+        first.getItems().forEach(dto -> pagedSlotIds.add(dto.getLectureSlotId()));
+        second.getItems().forEach(dto -> pagedSlotIds.add(dto.getLectureSlotId()));
+        assertEquals(lectureQueryFacade.getAllLectures().stream().map(LectureResponseDTO::getLectureSlotId).toList(), pagedSlotIds);
+    }
+
+    @Test
+    @DisplayName("모든 강의 슬롯을 DB 커서에서 읽는 대로 한 건씩 전달한다")
+    public void testStreamAllLectures() {
+        // When
+        List<LectureResponseDTO> streamed = new ArrayList<>();
+        lectureQueryFacade.streamAllLectures(streamed::add);
+
+        // Then
+        assertEquals(3, streamed.size());
+        assertEquals(lectureQueryFacade.getAllLectures().stream().map(LectureResponseDTO::getLectureSlotId).toList(),
+                streamed.stream().map(LectureResponseDTO::getLectureSlotId).toList());
+    }
+
+    @Test
+    @DisplayName("사용자의 신청 완료 내역을 강의 정보와 함께 조회하고, 이후 신청 / 취소가 다음 조회에 반영된다")
+    public void testGetCompletedApplicationsByUserId() {
+        // Given
+        Long userId = 7L;
+        assertThrows(ApplicationNotFoundException.class, () -> lectureQueryFacade.getCompletedApplicationsByUserId(userId));
+        Long firstApplicationId = lectureApplicationFacade.applyToLecture(userId, openSlotId).getApplicationId();
+
+        // When
+        List<UserApplicationResponseDTO> first = lectureQueryFacade.getCompletedApplicationsByUserId(userId);
+        lectureApplicationFacade.applyToLecture(userId, nextDaySlotId);
+        List<UserApplicationResponseDTO> afterApply = lectureQueryFacade.getCompletedApplicationsByUserId(userId);
+        lectureApplicationFacade.cancelApplication(userId, firstApplicationId);
+        List<UserApplicationResponseDTO> afterCancel = lectureQueryFacade.getCompletedApplicationsByUserId(userId);
+
+        // Then
+        assertEquals(1, first.size());
+        assertEquals(firstApplicationId, first.get(0).getApplicationId());
+        assertEquals("테스트 특강", first.get(0).getLectureName());
+        assertEquals("테스트 강사", first.get(0).getInstructor());
+        assertEquals(date, first.get(0).getSlotDate());
+        assertEquals("APPLIED", first.get(0).getCurrentStatus());
+
+        assertEquals(2, afterApply.size());
+        assertEquals(date.plusDays(1), afterApply.get(1).getSlotDate());
+
+        assertEquals(1, afterCancel.size());
+        assertEquals(date.plusDays(1), afterCancel.get(0).getSlotDate());
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.lecture.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lecture / LectureSlot 2차 캐시와 날짜별 슬롯 조회의 쿼리 캐시를 검증하는 통합 테스트 클래스
+ */
+@SpringBootTest
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SlotStatusAsyncWriter slotStatusAsyncWriter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSlotRepository lectureSlotRepository;
+
+    @Autowired
+    private LectureSlotStatusRepository lectureSlotStatusRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private final LocalDate date = LocalDate.of(2024, 11, 11);
+    private Long slotId;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        // 데이터 정리
+        slotStatusAsyncWriter.flush();
+        applicationRepository.deleteAllInBatch();
+        lectureSlotStatusRepository.deleteAllInBatch();
+        lectureSlotRepository.deleteAllInBatch();
+        lectureRepository.deleteAllInBatch();
+
+        Lecture lecture = lectureRepository.save(Lecture.builder()
+                .name("캐시 특강")
+                .instructor("캐시 강사")
+                .description("캐시 특강 설명")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        LectureSlot slot = lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(lecture)
+                .capacity(30)
+                .date(date)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        lectureSlotStatusRepository.save(LectureSlotStatus.builder()
+                .lectureSlot(slot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build());
+        slotId = slot.getSlotId();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("강의 슬롯과 강의는 한 번 조회한 뒤 다음 트랜잭션부터 DB 대신 2차 캐시에서 읽는다")
+    public void testLectureSlotAndLectureServedFromSecondLevelCache() {
+        // 첫 조회: DB에서 읽어 캐시에 적재
+        transactionTemplate.executeWithoutResult(tx ->
+                lectureSlotRepository.findById(slotId).orElseThrow().getLecture().getName());
+        long loadsAfterFirst = statistics.getEntityLoadCount();
+
+        // 두 번째 조회: 다른 영속성 컨텍스트에서도 캐시 적중
+        String name = transactionTemplate.execute(tx ->
+                lectureSlotRepository.findById(slotId).orElseThrow().getLecture().getName());
+
+        assertEquals("캐시 특강", name);
+        assertEquals(loadsAfterFirst, statistics.getEntityLoadCount(), "두 번째 조회는 DB에서 엔티티를 읽지 않아야 합니다.");
+        assertTrue(statistics.getDomainDataRegionStatistics("lecture-slot").getHitCount() >= 1);
+        assertTrue(statistics.getDomainDataRegionStatistics("lecture").getHitCount() >= 1);
+    }
+
+    @Test
+    @DisplayName("날짜별 슬롯 조회는 쿼리 캐시를 거치고, 슬롯이 추가되면 캐시된 결과가 무효화된다")
+    public void testFindByDateUsesQueryCache() {
+        transactionTemplate.executeWithoutResult(tx -> lectureSlotRepository.findByDate(date));
+        transactionTemplate.executeWithoutResult(tx -> lectureSlotRepository.findByDate(date));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+
+        // 같은 날짜에 슬롯 추가 → lecture_slot 변경으로 쿼리 결과 무효화
+        LectureSlot existing = transactionTemplate.execute(tx -> lectureSlotRepository.findById(slotId).orElseThrow());
+        lectureSlotRepository.save(LectureSlot.builder()
+                .lecture(existing.getLecture())
+                .capacity(10)
+                .date(date)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        assertEquals(2, transactionTemplate.execute(tx -> lectureSlotRepository.findByDate(date)).size());
+    }
+
+    @Test
+    @DisplayName("자주 바뀌는 슬롯 상태(LectureSlotStatus)는 2차 캐시에 보관하지 않는다")
+    public void testLectureSlotStatusIsNotCached() {
+        Long statusId = transactionTemplate.execute(tx ->
+                lectureSlotStatusRepository.findBySlotId(slotId).orElseThrow().getStatusId());
+
+        assertFalse(entityManagerFactory.getCache().contains(LectureSlotStatus.class, statusId));
+        assertTrue(entityManagerFactory.getCache().contains(LectureSlot.class, slotId));
+    }
+}
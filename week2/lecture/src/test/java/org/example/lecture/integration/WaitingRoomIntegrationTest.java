@@ -0,0 +1,154 @@
+package org.example.lecture.integration;
+
+import org.example.lecture.application.exception.InvalidWaitingRoomTokenException;
+import org.example.lecture.application.exception.LectureSlotNotFoundException;
+import org.example.lecture.application.exception.WaitingRoomNotAdmittedException;
+import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter;
+import org.example.lecture.application.waitingroom.WaitingRoom;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.example.lecture.interfaces.dto.WaitingRoomTokenResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 입장 허용 주기를 길게 두어 스케줄러 대신 테스트에서 직접 입장을 처리한다
+@SpringBootTest(properties = {"lecture.waiting-room.enabled=true", "lecture.waiting-room.admission-interval-ms=3600000"})
+public class WaitingRoomIntegrationTest {
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private WaitingRoom waitingRoom;
+
+    @Autowired
+    private SlotStatusAsyncWriter slotStatusAsyncWriter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSlotRepository lectureSlotRepository;
+
+    @Autowired
+    private LectureSlotStatusRepository lectureSlotStatusRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private LectureSlot lectureSlot;
+
+    private LectureSlotStatus lectureSlotStatus;
+
+    @BeforeEach
+    public void setUp() {
+        // 데이터 초기화 (이전 테스트의 비동기 상태 반영과 겹치지 않도록 먼저 반영한 뒤 일괄 삭제)
+        slotStatusAsyncWriter.flush();
+        applicationRepository.deleteAllInBatch();
+        lectureSlotStatusRepository.deleteAllInBatch();
+        lectureSlotRepository.deleteAllInBatch();
+        lectureRepository.deleteAllInBatch();
+
+        Lecture lecture = Lecture.builder()
+                .name("테스트 강의")
+                .instructor("테스트 강사")
+                .description("테스트 강의 설명")
+                .maxCapacity(30)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        lecture = lectureRepository.save(lecture);
+
+        lectureSlot = LectureSlot.builder()
+                .lecture(lecture)
+                .capacity(30)
+                .date(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        lectureSlot = lectureSlotRepository.save(lectureSlot);
+
+        lectureSlotStatus = LectureSlotStatus.builder()
+                .lectureSlot(lectureSlot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build();
+        lectureSlotStatus = lectureSlotStatusRepository.save(lectureSlotStatus);
+    }
+
+    @Test
+    @DisplayName("대기실 토큰이 없거나 입장 순서가 되지 않은 신청은 신청 유스케이스에 도달하지 않고 거절된다")
+    public void testRejectBeforeAdmission() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        WaitingRoomTokenResponseDTO token = lectureApplicationFacade.enterWaitingRoom(1L, lectureSlotId);
+        assertFalse(token.isAdmitted());
+
+        assertThrows(InvalidWaitingRoomTokenException.class,
+                () -> lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, null, null));
+        assertThrows(WaitingRoomNotAdmittedException.class,
+                () -> lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, token.getToken(), null));
+        assertEquals(0, applicationRepository.count());
+    }
+
+    @Test
+    @DisplayName("입장이 허용된 토큰으로 한 번 신청할 수 있고, 같은 토큰으로 다시 신청할 수 없다")
+    public void testApplyWithAdmittedToken() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        WaitingRoomTokenResponseDTO token = lectureApplicationFacade.enterWaitingRoom(1L, lectureSlotId);
+
+        waitingRoom.admitWaiting();
+        assertTrue(lectureApplicationFacade.getWaitingRoomStatus(token.getToken()).isAdmitted());
+
+        LectureApplicationResponseDTO response = lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, token.getToken(), null).join();
+        assertEquals(1L, response.getUserId());
+        assertThrows(InvalidWaitingRoomTokenException.class,
+                () -> lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, token.getToken(), null));
+        assertEquals(1, applicationRepository.count());
+    }
+
+    @Test
+    @DisplayName("입장이 허용된 토큰으로 한 신청이 실패하면 토큰이 되돌려져, 다시 줄을 서지 않고 같은 토큰으로 신청할 수 있다")
+    public void testFailedApplyRestoresToken() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        WaitingRoomTokenResponseDTO token = lectureApplicationFacade.enterWaitingRoom(1L, lectureSlotId);
+        waitingRoom.admitWaiting();
+
+        // 슬롯 상태 행이 없어 좌석 확보 단계에서 신청이 실패한다
+        lectureSlotStatusRepository.delete(lectureSlotStatus);
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, token.getToken(), null).join());
+        assertInstanceOf(LectureSlotNotFoundException.class, failure.getCause());
+        assertTrue(lectureApplicationFacade.getWaitingRoomStatus(token.getToken()).isAdmitted());
+
+        // 같은 토큰으로 재시도하면 신청되고, 그 뒤에는 토큰이 소모된다
+        lectureSlotStatusRepository.save(LectureSlotStatus.builder()
+                .lectureSlot(lectureSlot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build());
+        LectureApplicationResponseDTO response = lectureApplicationFacade.applyToLectureAsync(1L, lectureSlotId, token.getToken(), null).join();
+        assertEquals(1L, response.getUserId());
+        assertThrows(InvalidWaitingRoomTokenException.class,
+                () -> lectureApplicationFacade.getWaitingRoomStatus(token.getToken()));
+        assertEquals(1, applicationRepository.count());
+    }
+}
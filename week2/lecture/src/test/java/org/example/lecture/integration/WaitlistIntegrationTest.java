@@ -0,0 +1,250 @@
+package org.example.lecture.integration;
+
+import org.example.lecture.application.facade.LectureApplicationFacade;
+import org.example.lecture.application.reservation.InMemorySeatReservationStrategy;
+import org.example.lecture.application.reservation.ShardedSeatReservationStrategy;
+import org.example.lecture.application.reservation.SlotStatusAsyncWriter;
+import org.example.lecture.application.usecase.WaitlistLectureUsecase;
+import org.example.lecture.application.waitlist.LectureWaitlist;
+import org.example.lecture.domain.application.Application;
+import org.example.lecture.domain.application.ApplicationStatusType;
+import org.example.lecture.domain.lecture.Lecture;
+import org.example.lecture.domain.lecture.LectureSlot;
+import org.example.lecture.domain.lecture.LectureSlotStatus;
+import org.example.lecture.domain.lecture.LectureSlotStatusType;
+import org.example.lecture.infrastructure.application.ApplicationRepository;
+import org.example.lecture.infrastructure.lecture.LectureRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotShardRepository;
+import org.example.lecture.infrastructure.lecture.LectureSlotStatusRepository;
+import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "lecture.waitlist.enabled=true")
+public class WaitlistIntegrationTest {
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private WaitlistLectureUsecase waitlistLectureUsecase;
+
+    @Autowired
+    private LectureWaitlist lectureWaitlist;
+
+    @Autowired
+    private InMemorySeatReservationStrategy inMemorySeatReservationStrategy;
+
+    @Autowired
+    private ShardedSeatReservationStrategy shardedSeatReservationStrategy;
+
+    @Autowired
+    private SlotStatusAsyncWriter slotStatusAsyncWriter;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureSlotRepository lectureSlotRepository;
+
+    @Autowired
+    private LectureSlotStatusRepository lectureSlotStatusRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LectureSlotShardRepository lectureSlotShardRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private LectureSlot lectureSlot;
+
+    @BeforeEach
+    public void setUp() {
+        // 데이터 초기화 (이전 테스트의 비동기 상태 반영과 겹치지 않도록 먼저 반영한 뒤 일괄 삭제)
+        slotStatusAsyncWriter.flush();
+        applicationRepository.deleteAllInBatch();
+        lectureSlotStatusRepository.deleteAllInBatch();
+        lectureSlotRepository.deleteAllInBatch();
+        lectureRepository.deleteAllInBatch();
+
+        // 정원이 2명인 테스트용 Lecture 및 LectureSlot 생성
+        Lecture lecture = Lecture.builder()
+                .name("테스트 강의")
+                .instructor("테스트 강사")
+                .description("테스트 강의 설명")
+                .maxCapacity(2)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        lecture = lectureRepository.save(lecture);
+
+        lectureSlot = LectureSlot.builder()
+                .lecture(lecture)
+                .capacity(2)
+                .date(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        lectureSlot = lectureSlotRepository.save(lectureSlot);
+
+        LectureSlotStatus lectureSlotStatus = LectureSlotStatus.builder()
+                .lectureSlot(lectureSlot)
+                .status(LectureSlotStatusType.OPEN)
+                .currentApplicants(0)
+                .lastUpdatedAt(LocalDateTime.now())
+                .build();
+        lectureSlotStatusRepository.save(lectureSlotStatus);
+    }
+
+    @Test
+    @DisplayName("정원이 2명인 강의에 5명이 동시에 신청하면, 2명은 신청 완료되고 3명은 1~3위 대기자로 등록된다")
+    public void testConcurrentApplicationsBeyondCapacity() throws InterruptedException {
+        Long lectureSlotId = lectureSlot.getSlotId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        List<Future<LectureApplicationResponseDTO>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            long applicant = userId;
+            futures.add(executorService.submit(() -> lectureApplicationFacade.applyToLecture(applicant, lectureSlotId)));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+
+        List<Long> positions = new ArrayList<>();
+        int applied = 0;
+        for (Future<LectureApplicationResponseDTO> future : futures) {
+            LectureApplicationResponseDTO response = assertDoesNotThrow(() -> future.get());
+            if (ApplicationStatusType.WAITING.name().equals(response.getStatus())) {
+                positions.add(response.getWaitingPosition());
+            } else {
+                applied++;
+            }
+        }
+
+        // 신청 완료 2명, 대기자 3명 (대기 순위 1, 2, 3)
+        assertEquals(2, applied);
+        assertEquals(List.of(1L, 2L, 3L), positions.stream().sorted().toList());
+        assertEquals(3, applicationRepository.findWaitingBySlotId(lectureSlotId).size());
+        assertEquals(3, lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow().getWaitingList());
+    }
+
+    @Test
+    @DisplayName("좌석이 생기면 맨 앞 대기자가 신청 완료로 승격되고, 재기동 후에도 남은 대기자의 순위가 유지된다")
+    public void testPromoteWaitingInOrder() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        for (long userId = 1; userId <= 4; userId++) {
+            lectureApplicationFacade.applyToLecture(userId, lectureSlotId);
+        }
+        assertEquals(1, lectureApplicationFacade.getWaitlistPosition(3L, lectureSlotId).getPosition());
+        assertEquals(2, lectureApplicationFacade.getWaitlistPosition(4L, lectureSlotId).getPosition());
+
+        // 좌석 한 개 반납
+        freeSeat(lectureSlotId);
+
+        // 대기자 승격
+        int remaining = waitlistLectureUsecase.promoteWaiting(lectureSlotId);
+
+        assertEquals(1, remaining);
+        Application promoted = applicationRepository.findAll().stream()
+                .filter(application -> application.getUserId().equals(3L))
+                .findFirst().orElseThrow();
+        assertEquals(ApplicationStatusType.APPLIED, promoted.getCurrentStatus());
+        assertNull(promoted.getWaitingSequence());
+        slotStatusAsyncWriter.flush();
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow();
+        assertEquals(2, slotStatus.getCurrentApplicants());
+        assertEquals(1, slotStatus.getWaitingList());
+
+        // 메모리 대기열을 비운 뒤에도 DB 기록으로 복원되어 대기 순위가 유지된다
+        lectureWaitlist.evict(lectureSlotId);
+        assertEquals(1, lectureApplicationFacade.getWaitlistPosition(4L, lectureSlotId).getPosition());
+        assertEquals(1, lectureApplicationFacade.getWaitlistPosition(4L, lectureSlotId).getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("대기자가 있는 동안 좌석이 생기면, 새 신청보다 먼저 기다린 대기자가 좌석을 받는다")
+    public void testNewApplicationDoesNotJumpQueue() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        for (long userId = 1; userId <= 3; userId++) {
+            lectureApplicationFacade.applyToLecture(userId, lectureSlotId);
+        }
+
+        freeSeat(lectureSlotId);
+        LectureApplicationResponseDTO response = lectureApplicationFacade.applyToLecture(4L, lectureSlotId);
+
+        assertEquals(ApplicationStatusType.WAITING.name(), response.getStatus());
+        assertEquals(1L, response.getWaitingPosition());
+        assertTrue(applicationRepository.findByUserIdAndCurrentStatus(3L, ApplicationStatusType.APPLIED).size() == 1);
+    }
+
+    @Test
+    @DisplayName("신청 완료를 취소하면 반납된 좌석이 맨 앞 대기자에게 바로 넘어가고, 대기 취소 시 뒤 대기자의 순위가 당겨진다")
+    public void testCancellationPromotesNextWaiter() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        List<LectureApplicationResponseDTO> responses = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            responses.add(lectureApplicationFacade.applyToLecture(userId, lectureSlotId));
+        }
+
+        // 대기 2위(사용자 4) 취소 → 사용자 5가 2위로
+        lectureApplicationFacade.cancelApplication(4L, responses.get(3).getApplicationId());
+        assertEquals(2, lectureApplicationFacade.getWaitlistPosition(5L, lectureSlotId).getPosition());
+
+        // 신청 완료(사용자 1) 취소 → 대기 1위(사용자 3) 승격, 사용자 5가 1위로
+        lectureApplicationFacade.cancelApplication(1L, responses.get(0).getApplicationId());
+
+        assertEquals(1, applicationRepository.findByUserIdAndCurrentStatus(3L, ApplicationStatusType.APPLIED).size());
+        assertEquals(1, lectureApplicationFacade.getWaitlistPosition(5L, lectureSlotId).getPosition());
+        slotStatusAsyncWriter.flush();
+        LectureSlotStatus slotStatus = lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow();
+        assertEquals(2, slotStatus.getCurrentApplicants());
+        assertEquals(LectureSlotStatusType.FULL, slotStatus.getStatus());
+        assertEquals(1, slotStatus.getWaitingList());
+    }
+
+    @Test
+    @DisplayName("취소한 신청의 좌석이 슬롯 신청자 수에 남아 있지 않으면, 반납하지 않고 대기자도 승격하지 않는다")
+    public void testCancellationWithoutReleasedSeatDoesNotPromote() {
+        Long lectureSlotId = lectureSlot.getSlotId();
+        List<LectureApplicationResponseDTO> responses = new ArrayList<>();
+        for (long userId = 1; userId <= 3; userId++) {
+            responses.add(lectureApplicationFacade.applyToLecture(userId, lectureSlotId));
+        }
+        // 신청자 수가 실제 신청보다 적게 기록된 상태 (수동 수정 / 불일치)
+        transactionTemplate.executeWithoutResult(tx -> lectureSlotStatusRepository.updateApplicants(
+                lectureSlotId, 0, LectureSlotStatusType.OPEN, LocalDateTime.now()));
+
+        lectureApplicationFacade.cancelApplication(1L, responses.get(0).getApplicationId());
+
+        assertTrue(applicationRepository.findByUserIdAndCurrentStatus(3L, ApplicationStatusType.APPLIED).isEmpty());
+        assertEquals(1, lectureApplicationFacade.getWaitlistPosition(3L, lectureSlotId).getPosition());
+        assertEquals(0, lectureSlotStatusRepository.findBySlotId(lectureSlotId).orElseThrow().getCurrentApplicants());
+    }
+
+    private void freeSeat(Long lectureSlotId) {
+        // 비동기로 반영 대기 중인 신청자 수를 먼저 DB에 반영 (IN_MEMORY 전략)
+        slotStatusAsyncWriter.flush();
+        transactionTemplate.executeWithoutResult(tx -> lectureSlotStatusRepository.decrementApplicantsIfPositive(lectureSlotId));
+        // 인메모리 카운터가 DB 상태로 다시 초기화되도록 제거 (IN_MEMORY 전략)
+        inMemorySeatReservationStrategy.evict(lectureSlotId);
+        // 샤드 행도 DB 상태로 다시 나누어지도록 제거 (SHARDED 전략)
+        lectureSlotShardRepository.deleteAllInBatch(lectureSlotShardRepository.findBySlotIdOrderByShardIndex(lectureSlotId));
+        shardedSeatReservationStrategy.evict(lectureSlotId);
+    }
+}
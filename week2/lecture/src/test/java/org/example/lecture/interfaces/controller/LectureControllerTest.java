@@ -1,18 +1,32 @@
 package org.example.lecture.interfaces.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.lecture.application.exception.ApplicationNotFoundException;
 import org.example.lecture.application.exception.CapacityExceededException;
 import org.example.lecture.application.exception.DuplicateApplicationException;
+import org.example.lecture.application.exception.InvalidBatchApplyRequestException;
+import org.example.lecture.application.exception.InvalidWaitingRoomTokenException;
+import org.example.lecture.application.exception.WaitingRoomNotAdmittedException;
 import org.example.lecture.application.facade.LectureApplicationFacade;
 import org.example.lecture.application.facade.LectureQueryFacade;
+import org.example.lecture.application.usecase.BatchApplyMode;
+import org.example.lecture.interfaces.dto.BatchApplyRequestDTO;
+import org.example.lecture.interfaces.dto.BatchApplyResponseDTO;
 import org.example.lecture.interfaces.dto.LectureApplicationResponseDTO;
 import org.example.lecture.interfaces.dto.LectureResponseDTO;
+import org.example.lecture.interfaces.dto.SlotContentionResponseDTO;
 import org.example.lecture.interfaces.dto.UserApplicationResponseDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,13 +41,14 @@ public class LectureControllerTest {
         Long lectureSlotId = 2L;
         LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
         LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
-        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
 
         LectureApplicationResponseDTO responseDTO = mock(LectureApplicationResponseDTO.class);
-        when(lectureApplicationFacade.applyToLecture(userId, lectureSlotId)).thenReturn(responseDTO);
+        when(lectureApplicationFacade.applyToLectureAsync(userId, lectureSlotId, null, null))
+                .thenReturn(CompletableFuture.completedFuture(responseDTO));
 
         // When
-        ResponseEntity<LectureApplicationResponseDTO> response = lectureController.applyToLecture(userId, lectureSlotId);
+        ResponseEntity<LectureApplicationResponseDTO> response = lectureController.applyToLecture(userId, lectureSlotId, null, null).join();
 
         // Then
         assertNotNull(response);
@@ -49,7 +64,7 @@ public class LectureControllerTest {
         Long lectureSlotId = 2L;
         LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
         LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
-        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
 
         DuplicateApplicationException exception = new DuplicateApplicationException(userId, lectureSlotId);
         doThrow(exception).when(lectureApplicationFacade).applyToLecture(userId, lectureSlotId);
@@ -71,7 +86,7 @@ public class LectureControllerTest {
         Long lectureSlotId = 2L;
         LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
         LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
-        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
 
         CapacityExceededException exception = new CapacityExceededException("정원이 초과되었습니다.");
         doThrow(exception).when(lectureApplicationFacade).applyToLecture(userId, lectureSlotId);
@@ -92,7 +107,7 @@ public class LectureControllerTest {
         LocalDate date = LocalDate.now();
         LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
         LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
-        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
 
         LectureResponseDTO lectureResponseDTO = mock(LectureResponseDTO.class);
         List<LectureResponseDTO> lectureResponseDTOList = List.of(lectureResponseDTO);
@@ -114,7 +129,7 @@ public class LectureControllerTest {
         Long userId = 1L;
         LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
         LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
-        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
 
         UserApplicationResponseDTO userApplicationResponseDTO = mock(UserApplicationResponseDTO.class);
         List<UserApplicationResponseDTO> userApplicationResponseDTOList = List.of(userApplicationResponseDTO);
@@ -135,7 +150,7 @@ public class LectureControllerTest {
         // Given
         LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
         LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
-        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
 
         LectureResponseDTO lectureResponseDTO = mock(LectureResponseDTO.class);
         List<LectureResponseDTO> lectureResponseDTOList = List.of(lectureResponseDTO);
@@ -149,4 +164,141 @@ public class LectureControllerTest {
         assertEquals(200, response.getStatusCode().value());
         assertEquals(lectureResponseDTOList, response.getBody());
     }
+
+    @Test
+    @DisplayName("특정 사용자가 자신의 강의 신청을 취소한다")
+    public void testCancelApplication_Success() {
+        // Given
+        Long userId = 1L;
+        Long applicationId = 3L;
+        LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
+        LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
+        LectureController lectureController = new LectureController(lectureQueryFacade, lectureApplicationFacade, new ObjectMapper());
+
+        LectureApplicationResponseDTO responseDTO = mock(LectureApplicationResponseDTO.class);
+        when(lectureApplicationFacade.cancelApplication(userId, applicationId)).thenReturn(responseDTO);
+
+        // When
+        ResponseEntity<LectureApplicationResponseDTO> response = lectureController.cancelApplication(userId, applicationId);
+
+        // Then
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(responseDTO, response.getBody());
+    }
+
+    @Test
+    @DisplayName("취소할 신청 내역이 없으면 404 응답을 반환한다")
+    public void testCancelApplication_NotFound() {
+        // Given
+        LectureController lectureController = new LectureController(mock(LectureQueryFacade.class), mock(LectureApplicationFacade.class), new ObjectMapper());
+        ApplicationNotFoundException exception = new ApplicationNotFoundException("신청 내역이 존재하지 않습니다.");
+
+        // When
+        ResponseEntity<String> response = lectureController.handleApplicationNotFoundException(exception);
+
+        // Then
+        assertEquals(404, response.getStatusCode().value());
+        assertEquals(exception.getMessage(), response.getBody());
+    }
+
+    @Test
+    @DisplayName("여러 강의 슬롯을 일괄 신청하고, 방식을 지정하지 않으면 ALL_OR_NOTHING으로 처리한다")
+    public void testApplyToLectures_Success() {
+        // Given
+        Long userId = 1L;
+        List<Long> slotIds = List.of(3L, 2L);
+        LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
+        LectureController lectureController = new LectureController(mock(LectureQueryFacade.class), lectureApplicationFacade, new ObjectMapper());
+
+        BatchApplyResponseDTO responseDTO = mock(BatchApplyResponseDTO.class);
+        when(lectureApplicationFacade.applyToLectures(userId, slotIds, BatchApplyMode.ALL_OR_NOTHING)).thenReturn(responseDTO);
+
+        // When
+        ResponseEntity<BatchApplyResponseDTO> response = lectureController.applyToLectures(userId,
+                BatchApplyRequestDTO.builder().slotIds(slotIds).build());
+
+        // Then
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(responseDTO, response.getBody());
+    }
+
+    @Test
+    @DisplayName("잘못된 일괄 신청 요청(빈 슬롯 목록, 최대 개수 초과)은 400 응답을 반환한다")
+    public void testApplyToLectures_BadRequest() {
+        // Given
+        LectureController lectureController = new LectureController(mock(LectureQueryFacade.class), mock(LectureApplicationFacade.class), new ObjectMapper());
+        InvalidBatchApplyRequestException exception = new InvalidBatchApplyRequestException("신청할 강의 슬롯을 하나 이상 지정해야 합니다.");
+
+        // When
+        ResponseEntity<String> response = lectureController.handleInvalidBatchApplyRequestException(exception);
+
+        // Then
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals(exception.getMessage(), response.getBody());
+    }
+
+    @Test
+    @DisplayName("대기실 입장 순서가 되지 않은 신청은 429, 유효하지 않은 토큰의 신청은 403 응답을 반환한다")
+    public void testApplyToLecture_WaitingRoomRejected() {
+        // Given
+        LectureController lectureController = new LectureController(mock(LectureQueryFacade.class), mock(LectureApplicationFacade.class), new ObjectMapper());
+        WaitingRoomNotAdmittedException notAdmitted = new WaitingRoomNotAdmittedException(2L, 5);
+        InvalidWaitingRoomTokenException invalid = new InvalidWaitingRoomTokenException("token");
+
+        // When
+        ResponseEntity<String> notAdmittedResponse = lectureController.handleWaitingRoomNotAdmittedException(notAdmitted);
+        ResponseEntity<String> invalidResponse = lectureController.handleInvalidWaitingRoomTokenException(invalid);
+
+        // Then
+        assertEquals(429, notAdmittedResponse.getStatusCode().value());
+        assertEquals(notAdmitted.getMessage(), notAdmittedResponse.getBody());
+        assertEquals(403, invalidResponse.getStatusCode().value());
+        assertEquals(invalid.getMessage(), invalidResponse.getBody());
+    }
+
+    @Test
+    @DisplayName("모든 강의 정보 스트리밍 조회는 전달받은 강의를 하나의 JSON 배열로 응답에 쓴다")
+    @SuppressWarnings("unchecked")
+    public void testStreamAllLectures() throws IOException {
+        // Given
+        LectureQueryFacade lectureQueryFacade = mock(LectureQueryFacade.class);
+        LectureController lectureController = new LectureController(lectureQueryFacade, mock(LectureApplicationFacade.class), new ObjectMapper());
+        doAnswer(invocation -> {
+            Consumer<LectureResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(LectureResponseDTO.builder().lectureSlotId(1L).name("특강 1").build());
+            consumer.accept(LectureResponseDTO.builder().lectureSlotId(2L).name("특강 2").build());
+            return null;
+        }).when(lectureQueryFacade).streamAllLectures(any(Consumer.class));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = lectureController.streamAllLectures();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        // Then
+        String json = outputStream.toString();
+        assertTrue(json.startsWith("[{") && json.endsWith("}]"), json);
+        assertTrue(json.contains("\"lectureSlotId\":1") && json.contains("\"lectureSlotId\":2"), json);
+    }
+
+    @Test
+    @DisplayName("슬롯 경합 상태를 조회한다")
+    public void testGetSlotContention() {
+        // Given
+        LectureApplicationFacade lectureApplicationFacade = mock(LectureApplicationFacade.class);
+        LectureController lectureController = new LectureController(mock(LectureQueryFacade.class), lectureApplicationFacade, new ObjectMapper());
+        List<SlotContentionResponseDTO> contention = List.of(SlotContentionResponseDTO.builder()
+                .lectureSlotId(1L)
+                .hot(true)
+                .arrivalsPerSecond(120)
+                .build());
+        when(lectureApplicationFacade.getSlotContention()).thenReturn(contention);
+
+        // When
+        ResponseEntity<List<SlotContentionResponseDTO>> response = lectureController.getSlotContention();
+
+        // Then
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(contention, response.getBody());
+    }
 }